@@ -0,0 +1,152 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import engine.actions.ActionDTO;
+import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.model.bodies.core.BodyStateStore;
+import engine.model.impl.Model;
+import engine.model.impl.SimulationClock;
+import engine.model.ports.DomainEventProcessor;
+import engine.model.ports.TickExecutionMode;
+import engine.utils.helpers.DoubleVector;
+import gamerules.LimitRebound;
+
+/**
+ * AllocationRateBenchmark
+ * -----------------------
+ *
+ * Heap bytes allocated per simulation tick in a steady world: N dynamic
+ * bodies plus N/10 static walls, with the LimitRebound rules (rebound at the
+ * world limits, collisions detected but ignored), so nothing dies and the
+ * population stays constant. Every tick produces limit and collision
+ * events, rule actions and the default MOVE actions.
+ *
+ * Allocation is the sum of the per-thread allocation counters of the JVM
+ * (com.sun.management.ThreadMXBean) over the measured window, every thread
+ * included (clock, runners or ForkJoin workers, this main thread sleeping).
+ *
+ * The PHASED integration kernel is printed: on runtimes where the Vector API
+ * boxes its vectors, the SIMD kernel allocates by itself; run with
+ * -Dengine.physics.vector=false to measure the rest of the tick alone.
+ *
+ * Usage: AllocationRateBenchmark [bodies=3000] [seconds=5]
+ * [modes=RUNNERS,PHASED]
+ */
+public final class AllocationRateBenchmark {
+
+    // region Constants
+    private static final int WARMUP_SECONDS = 3;
+    private static final double WORLD_SIZE = 4000.0d;
+    // endregion
+
+    // region Constructors
+    private AllocationRateBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int bodies = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        String modes = args.length > 2 ? args[2] : "RUNNERS,PHASED";
+
+        if (modes.contains(",")) {
+            System.out.printf("bodies=%d seconds=%d tickRate=%dHz cores=%d%n",
+                    bodies, seconds, SimulationClock.DEFAULT_TICK_RATE_HZ,
+                    Runtime.getRuntime().availableProcessors());
+
+            // One JVM per mode (AbstractBody counters are static)
+            for (String mode : modes.split(",")) {
+                BenchmarkSupport.runIsolated(AllocationRateBenchmark.class,
+                        String.valueOf(bodies), String.valueOf(seconds), mode.trim());
+            }
+            return;
+        }
+
+        run(TickExecutionMode.valueOf(modes.trim()), bodies, seconds);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+
+        long total = 0L;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * LimitRebound rules behind the DomainEventProcessor port (what the
+     * Controller does), notifications ignored.
+     */
+    private static DomainEventProcessor rulesProcessor() {
+        LimitRebound rules = new LimitRebound();
+        DomainEventProcessor notifications = BenchmarkSupport.nullEventProcessor();
+        return new DomainEventProcessor() {
+            @Override
+            public void provideActions(List<DomainEvent> domainEvents, List<ActionDTO> actions) {
+                rules.provideActions(domainEvents, actions);
+            }
+
+            @Override
+            public void notifyNewDynamic(String entityId, String assetId) {
+                notifications.notifyNewDynamic(entityId, assetId);
+            }
+
+            @Override
+            public void notifyNewStatic(String entityId, String assetId) {
+                notifications.notifyNewStatic(entityId, assetId);
+            }
+
+            @Override
+            public void notifyDynamicIsDead(String entityId) {
+                notifications.notifyDynamicIsDead(entityId);
+            }
+
+            @Override
+            public void notifyPlayerIsDead(String entityId) {
+                notifications.notifyPlayerIsDead(entityId);
+            }
+
+            @Override
+            public void notifyStaticIsDead(String entityId) {
+                notifications.notifyStaticIsDead(entityId);
+            }
+        };
+    }
+
+    private static void run(TickExecutionMode mode, int bodies, int seconds) {
+        int statics = bodies / 10;
+        Model model = new Model(new DoubleVector(WORLD_SIZE, WORLD_SIZE), bodies + statics,
+                SimulationClock.DEFAULT_TICK_RATE_HZ, mode);
+        model.setDomainEventProcessor(rulesProcessor());
+        model.activate();
+        BenchmarkSupport.populate(model, bodies, statics, 42L);
+
+        BenchmarkSupport.sleepMillis(WARMUP_SECONDS * 1000L);
+
+        long ticksStart = model.getTickCount();
+        long bytesStart = allocatedBytes();
+        BenchmarkSupport.sleepMillis(seconds * 1000L);
+        long bytes = allocatedBytes() - bytesStart;
+        long ticks = model.getTickCount() - ticksStart;
+        int alive = model.getAliveQuantity();
+        BodyStateStore stateStore = model.getStateStore(); // null in RUNNERS mode
+        String kernelName = stateStore != null ? stateStore.getKernelName() : "none";
+        model.shutdown();
+
+        System.out.printf("[%s] kernel=%s alive=%d ticks=%d allocated=%dKB bytes/tick=%d bytes/body/tick=%.1f%n",
+                mode, kernelName, alive, ticks, bytes / 1024L,
+                ticks > 0 ? bytes / ticks : 0L,
+                ticks > 0 ? bytes / (double) ticks / bodies : 0.0d);
+    }
+}
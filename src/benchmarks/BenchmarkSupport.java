@@ -0,0 +1,159 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import engine.actions.ActionDTO;
+import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.model.impl.Model;
+import engine.model.ports.DomainEventProcessor;
+
+/**
+ * Shared helpers for the benchmark mains in this package: a no-op
+ * DomainEventProcessor, world population, percentiles and memory probes.
+ *
+ * Benchmarks are plain Java programs (no harness dependency). Body counters
+ * in AbstractBody are static, so every configuration must run in a fresh
+ * JVM; runIsolated() relaunches the benchmark once per configuration.
+ * Run them from the compiled classes:
+ *
+ * java -cp target/classes benchmarks.ThreadingStrategyBenchmark 3000 10
+ */
+public final class BenchmarkSupport {
+
+    // region Constructors
+    private BenchmarkSupport() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * DomainEventProcessor that decides nothing and ignores notifications, so
+     * bodies only move (MOVE is always added by the Model).
+     */
+    public static DomainEventProcessor nullEventProcessor() {
+        return new DomainEventProcessor() {
+            @Override
+            public void provideActions(List<DomainEvent> domainEvents, List<ActionDTO> actions) {
+            }
+
+            @Override
+            public void notifyNewDynamic(String entityId, String assetId) {
+            }
+
+            @Override
+            public void notifyNewStatic(String entityId, String assetId) {
+            }
+
+            @Override
+            public void notifyDynamicIsDead(String entityId) {
+            }
+
+            @Override
+            public void notifyPlayerIsDead(String entityId) {
+            }
+
+            @Override
+            public void notifyStaticIsDead(String entityId) {
+            }
+        };
+    }
+
+    /**
+     * Add bodies with pseudo-random (seeded) positions and speeds.
+     */
+    public static void populate(Model model, int dynamicBodies, int staticBodies, long seed) {
+        Random random = new Random(seed);
+        double width = model.getWorldDimension().x;
+        double height = model.getWorldDimension().y;
+
+        for (int i = 0; i < staticBodies; i++) {
+            model.addStatic(40, random.nextDouble() * width, random.nextDouble() * height, 0, -1);
+        }
+        for (int i = 0; i < dynamicBodies; i++) {
+            model.addDynamic(20,
+                    random.nextDouble() * width, random.nextDouble() * height,
+                    random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100,
+                    0, 0, random.nextDouble() * 360, 0, 0, 0, -1);
+        }
+    }
+
+    /**
+     * Run mainClass with args in a child JVM (same classpath and JVM flags)
+     * and forward its output. Returns the child exit code.
+     */
+    public static int runIsolated(Class<?> mainClass, String... args) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(Arrays.asList(args));
+
+        try {
+            Process process = new ProcessBuilder(command).inheritIO().start();
+            return process.waitFor();
+        } catch (IOException ex) {
+            throw new IllegalStateException("runIsolated() -> cannot start child JVM", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    public static long percentile(long[] sortedValues, int count, double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile / 100.0d * count) - 1;
+        return sortedValues[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    public static long[] sortedCopy(long[] values, int count) {
+        long[] copy = Arrays.copyOf(values, count);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    public static int liveThreadCount() {
+        return ManagementFactory.getThreadMXBean().getThreadCount();
+    }
+
+    /**
+     * Resident set size in KB (Linux only, -1 elsewhere).
+     */
+    public static long residentSetKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException ex) {
+            // Not available on this platform
+        }
+        return -1L;
+    }
+
+    public static long usedHeapKb() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return (runtime.totalMemory() - runtime.freeMemory()) / 1024L;
+    }
+
+    public static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import java.util.Random;
+
+import engine.model.bodies.ports.BodyType;
+import engine.model.impl.Model;
+import engine.model.impl.SimulationClock;
+import engine.model.ports.TickExecutionMode;
+import engine.utils.helpers.DoubleVector;
+
+/**
+ * BodyFootprintBenchmark
+ * ----------------------
+ *
+ * Retained heap per body, by body type: a paused Model (PHASED mode, so no
+ * runner threads are created) receives N bodies of one type and the used
+ * heap is compared before and after (full GC on both sides). Includes
+ * everything a body pins: the body itself, its physics engine and pooled
+ * DTOs, spatial index membership and the Model maps.
+ *
+ * Each type runs in its own JVM (static body counters, clean heap).
+ *
+ * Usage: BodyFootprintBenchmark [bodies=10000]
+ * [types=DECORATOR,GRAVITY,DYNAMIC,PLAYER,PROJECTILE]
+ */
+public final class BodyFootprintBenchmark {
+
+    // region Constants
+    private static final double WORLD_SIZE = 20_000.0d;
+    // endregion
+
+    // region Constructors
+    private BodyFootprintBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int bodies = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        String types = args.length > 1 ? args[1] : "DECORATOR,GRAVITY,DYNAMIC,PLAYER,PROJECTILE";
+
+        if (types.contains(",")) {
+            System.out.printf("bodies=%d world=%.0fx%.0f%n", bodies, WORLD_SIZE, WORLD_SIZE);
+
+            for (String type : types.split(",")) {
+                BenchmarkSupport.runIsolated(BodyFootprintBenchmark.class,
+                        String.valueOf(bodies), type.trim());
+            }
+            return;
+        }
+
+        footprint(BodyType.valueOf(types.trim()), bodies);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static void footprint(BodyType type, int bodies) {
+        Model model = new Model(new DoubleVector(WORLD_SIZE, WORLD_SIZE), bodies + 1,
+                SimulationClock.DEFAULT_TICK_RATE_HZ, TickExecutionMode.PHASED);
+        model.setDomainEventProcessor(BenchmarkSupport.nullEventProcessor());
+        model.activate();
+        model.pause();
+
+        // Warm up class loading and lazy structures with one body
+        addBody(model, type, new Random(7L));
+
+        long heapBefore = BenchmarkSupport.usedHeapKb();
+        Random random = new Random(42L);
+        int added = 0;
+        for (int i = 0; i < bodies; i++) {
+            if (addBody(model, type, random) != null) {
+                added++;
+            }
+        }
+        long heapAfter = BenchmarkSupport.usedHeapKb();
+        model.shutdown();
+
+        System.out.printf("type=%-10s bodies=%6d heap=+%7dKB bytes/body=%6d%n",
+                type, added, heapAfter - heapBefore,
+                added == 0 ? 0L : (heapAfter - heapBefore) * 1024L / added);
+    }
+
+    private static String addBody(Model model, BodyType type, Random random) {
+        boolean moving = type != BodyType.DECORATOR && type != BodyType.GRAVITY;
+        return model.addBody(type, 20,
+                random.nextDouble() * WORLD_SIZE, random.nextDouble() * WORLD_SIZE,
+                moving ? random.nextDouble() * 200 - 100 : 0,
+                moving ? random.nextDouble() * 200 - 100 : 0,
+                0, 0, random.nextDouble() * 360, 0, 0,
+                0, -1, type == BodyType.PROJECTILE ? "footprint" : null);
+    }
+}
@@ -0,0 +1,336 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.core.Cells;
+import engine.utils.spatial.ports.Broadphase;
+import engine.utils.spatial.ports.BroadphaseFactory;
+import engine.utils.spatial.ports.BroadphaseType;
+
+/**
+ * BroadphaseReplayBenchmark
+ * -------------------------
+ *
+ * Replays the same recorded body trajectories through every Broadphase
+ * implementation, so the only variable is the broadphase. Trajectories are
+ * generated from a fixed seed per scenario before the clock starts:
+ *
+ * - DENSE_MAZE: small world (2400x2400) tiled with 48px wall boxes (~30% of
+ * the tiles, static, never query) and slow small movers walking through it.
+ * Many neighbours per body, uniform sizes.
+ * - SPARSE_ASTEROIDS: huge world (60000x60000) with fast small asteroids and
+ * a few static planets (radius 300..1500). Few neighbours per body, very
+ * mixed sizes, most of the world empty.
+ *
+ * Every tick: all movers upsert their recorded AABB, the broadphase is
+ * rebuilt (no-op for incremental grids) and every mover queries its
+ * collision candidates - the same sequence PHASED mode runs. Statics are
+ * upserted once, like static bodies in the Model.
+ *
+ * overlaps = candidate pairs whose AABBs really overlap, counted in an
+ * untimed pass. It must be identical for every broadphase of a scenario
+ * (correctness check); candidates - overlaps is the narrow-phase work the
+ * broadphase failed to prune.
+ *
+ * Usage: BroadphaseReplayBenchmark [ticks=600] [scenario=ALL] [type=ALL]
+ * [movers=2000]
+ */
+public final class BroadphaseReplayBenchmark {
+
+    // region Constants
+    private static final int CELL_SIZE = 128;
+    private static final int MAX_CELLS_PER_BODY = 1512;
+    private static final int WARMUP_TICKS = 200;
+
+    private static final double MAZE_WORLD = 2400.0d;
+    private static final double MAZE_TILE = 48.0d;
+    private static final double MAZE_WALL_RATIO = 0.3d;
+    private static final double MAZE_MAX_SPEED = 2.0d; // px per tick
+    private static final double MAZE_MIN_RADIUS = 6.0d;
+    private static final double MAZE_MAX_RADIUS = 14.0d;
+
+    private static final double ASTEROIDS_WORLD = 60000.0d;
+    private static final int ASTEROIDS_PLANETS = 24;
+    private static final double ASTEROIDS_MAX_SPEED = 8.0d; // px per tick
+    private static final double ASTEROIDS_MIN_RADIUS = 6.0d;
+    private static final double ASTEROIDS_MAX_RADIUS = 30.0d;
+    private static final double PLANET_MIN_RADIUS = 300.0d;
+    private static final double PLANET_MAX_RADIUS = 1500.0d;
+    // endregion
+
+    // region Constructors
+    private BroadphaseReplayBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+        String scenario = args.length > 1 ? args[1] : "ALL";
+        String type = args.length > 2 ? args[2] : "ALL";
+        int movers = args.length > 3 ? Integer.parseInt(args[3]) : 2000;
+
+        if (scenario.equals("ALL") || type.equals("ALL")) {
+            System.out.printf("ticks=%d movers=%d cell=%d cores=%d%n",
+                    ticks, movers, CELL_SIZE, Runtime.getRuntime().availableProcessors());
+
+            // One JVM per configuration (no JIT profile shared between broadphases)
+            for (Scenario sc : Scenario.values()) {
+                if (!scenario.equals("ALL") && !scenario.equals(sc.name())) {
+                    continue;
+                }
+                for (BroadphaseType broadphaseType : BroadphaseType.values()) {
+                    if (type.equals("ALL") || type.equals(broadphaseType.name())) {
+                        BenchmarkSupport.runIsolated(BroadphaseReplayBenchmark.class,
+                                String.valueOf(ticks), sc.name(), broadphaseType.name(), String.valueOf(movers));
+                    }
+                }
+            }
+            return;
+        }
+
+        Replay replay = Replay.record(Scenario.valueOf(scenario), movers, WARMUP_TICKS + ticks);
+        run(replay, BroadphaseType.valueOf(type), ticks);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static long countOverlaps(Replay replay, int frame, int moverIdx, IntArrayList candidates) {
+        final double r = replay.radius[moverIdx];
+        final double x = replay.posX[frame + moverIdx];
+        final double y = replay.posY[frame + moverIdx];
+
+        long overlaps = 0L;
+        for (int c = 0; c < candidates.size(); c++) {
+            final int id = candidates.get(c);
+            final double minX;
+            final double maxX;
+            final double minY;
+            final double maxY;
+            if (id < replay.movers) {
+                final double or = replay.radius[id];
+                final double ox = replay.posX[frame + id];
+                final double oy = replay.posY[frame + id];
+                minX = ox - or;
+                maxX = ox + or;
+                minY = oy - or;
+                maxY = oy + or;
+            } else {
+                final int b = (id - replay.movers) * 4;
+                minX = replay.staticBounds[b];
+                maxX = replay.staticBounds[b + 1];
+                minY = replay.staticBounds[b + 2];
+                maxY = replay.staticBounds[b + 3];
+            }
+
+            if (minX <= x + r && maxX >= x - r && minY <= y + r && maxY >= y - r) {
+                overlaps++;
+            }
+        }
+        return overlaps;
+    }
+
+    private static void run(Replay replay, BroadphaseType type, int ticks) {
+        final int movers = replay.movers;
+        final int bodies = movers + replay.statics;
+
+        Broadphase broadphase = BroadphaseFactory.create(
+                type, replay.world, replay.world, CELL_SIZE, MAX_CELLS_PER_BODY);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        Cells[] cells = new Cells[bodies];
+        for (int i = 0; i < bodies; i++) {
+            cells[i] = broadphase.newCells();
+        }
+
+        int[] scratchIdxs = new int[broadphase.getMaxCellsPerBody()];
+        IntArrayList candidates = new IntArrayList(256);
+
+        // Statics: upserted once
+        for (int s = 0; s < replay.statics; s++) {
+            final int b = s * 4;
+            broadphase.upsert(movers + s, cells[movers + s],
+                    replay.staticBounds[b], replay.staticBounds[b + 1],
+                    replay.staticBounds[b + 2], replay.staticBounds[b + 3], scratchIdxs);
+        }
+
+        long[] tickNanos = new long[ticks];
+        long upsertNanos = 0L;
+        long rebuildNanos = 0L;
+        long queryNanos = 0L;
+        long candidateCount = 0L;
+        long overlapCount = 0L;
+
+        for (int t = -WARMUP_TICKS; t < ticks; t++) {
+            final int frame = (t + WARMUP_TICKS) * movers;
+            long start = System.nanoTime();
+
+            for (int i = 0; i < movers; i++) {
+                final double r = replay.radius[i];
+                final double x = replay.posX[frame + i];
+                final double y = replay.posY[frame + i];
+                broadphase.upsert(i, cells[i], x - r, x + r, y - r, y + r, scratchIdxs);
+            }
+            long upserted = System.nanoTime();
+
+            broadphase.rebuild(pool);
+            long rebuilt = System.nanoTime();
+
+            long tickCandidates = 0L;
+            for (int i = 0; i < movers; i++) {
+                IntArrayList result = broadphase.queryCollisionCandidates(i, cells[i], candidates);
+                if (result != null) {
+                    tickCandidates += result.size();
+                }
+            }
+            long end = System.nanoTime();
+
+            if (t < 0) {
+                continue; // ===== Warmup =====>
+            }
+
+            tickNanos[t] = end - start;
+            upsertNanos += upserted - start;
+            rebuildNanos += rebuilt - upserted;
+            queryNanos += end - rebuilt;
+            candidateCount += tickCandidates;
+
+            // Untimed correctness pass (duplicates from grids are deduped first)
+            for (int i = 0; i < movers; i++) {
+                IntArrayList result = broadphase.queryCollisionCandidates(i, cells[i], candidates);
+                if (result != null) {
+                    result.sortUnique();
+                    overlapCount += countOverlaps(replay, frame, i, result);
+                }
+            }
+        }
+
+        long[] sorted = BenchmarkSupport.sortedCopy(tickNanos, ticks);
+        System.out.printf(
+                "%-16s %-17s upsert=%7.1fus rebuild=%7.1fus query=%7.1fus tick p50=%7.1fus p99=%7.1fus"
+                        + " candidates=%d overlaps=%d%n",
+                replay.scenario, type,
+                upsertNanos / 1e3 / ticks, rebuildNanos / 1e3 / ticks, queryNanos / 1e3 / ticks,
+                BenchmarkSupport.percentile(sorted, ticks, 50) / 1e3,
+                BenchmarkSupport.percentile(sorted, ticks, 99) / 1e3,
+                candidateCount, overlapCount);
+
+        pool.shutdown();
+    }
+
+    // *** PRIVATE STATIC CLASSES ***
+
+    private enum Scenario {
+        DENSE_MAZE,
+        SPARSE_ASTEROIDS
+    }
+
+    /**
+     * Recorded world: static boxes plus the position of every mover at every
+     * tick (posX[tick * movers + i]). Entity ids: movers 0..movers-1, statics
+     * after them.
+     */
+    private static final class Replay {
+        private final Scenario scenario;
+        private final double world;
+        private final int movers;
+        private final int statics;
+        private final double[] radius;
+        private final float[] posX;
+        private final float[] posY;
+        private final double[] staticBounds; // minX, maxX, minY, maxY
+
+        private Replay(Scenario scenario, double world, int movers, int totalTicks, double[] staticBounds) {
+            this.scenario = scenario;
+            this.world = world;
+            this.movers = movers;
+            this.statics = staticBounds.length / 4;
+            this.radius = new double[movers];
+            this.posX = new float[movers * totalTicks];
+            this.posY = new float[movers * totalTicks];
+            this.staticBounds = staticBounds;
+        }
+
+        private static Replay record(Scenario scenario, int movers, int totalTicks) {
+            final boolean maze = scenario == Scenario.DENSE_MAZE;
+            final double world = maze ? MAZE_WORLD : ASTEROIDS_WORLD;
+            final double maxSpeed = maze ? MAZE_MAX_SPEED : ASTEROIDS_MAX_SPEED;
+            final double minRadius = maze ? MAZE_MIN_RADIUS : ASTEROIDS_MIN_RADIUS;
+            final double maxRadius = maze ? MAZE_MAX_RADIUS : ASTEROIDS_MAX_RADIUS;
+            Random random = new Random(maze ? 7L : 11L);
+
+            Replay replay = new Replay(scenario, world, movers, totalTicks,
+                    maze ? mazeWalls(random) : planets(random));
+
+            double[] x = new double[movers];
+            double[] y = new double[movers];
+            double[] speedX = new double[movers];
+            double[] speedY = new double[movers];
+            for (int i = 0; i < movers; i++) {
+                x[i] = random.nextDouble() * world;
+                y[i] = random.nextDouble() * world;
+                speedX[i] = (random.nextDouble() * 2 - 1) * maxSpeed;
+                speedY[i] = (random.nextDouble() * 2 - 1) * maxSpeed;
+                replay.radius[i] = minRadius + random.nextDouble() * (maxRadius - minRadius);
+            }
+
+            for (int t = 0; t < totalTicks; t++) {
+                final int frame = t * movers;
+                for (int i = 0; i < movers; i++) {
+                    x[i] += speedX[i];
+                    y[i] += speedY[i];
+                    if (x[i] < 0 || x[i] > world) {
+                        speedX[i] = -speedX[i];
+                    }
+                    if (y[i] < 0 || y[i] > world) {
+                        speedY[i] = -speedY[i];
+                    }
+                    replay.posX[frame + i] = (float) x[i];
+                    replay.posY[frame + i] = (float) y[i];
+                }
+            }
+            return replay;
+        }
+
+        private static double[] mazeWalls(Random random) {
+            final int tiles = (int) (MAZE_WORLD / MAZE_TILE);
+            IntArrayList walls = new IntArrayList(tiles * tiles);
+            for (int ty = 0; ty < tiles; ty++) {
+                for (int tx = 0; tx < tiles; tx++) {
+                    boolean border = tx == 0 || ty == 0 || tx == tiles - 1 || ty == tiles - 1;
+                    if (border || random.nextDouble() < MAZE_WALL_RATIO) {
+                        walls.add(ty * tiles + tx);
+                    }
+                }
+            }
+
+            double[] bounds = new double[walls.size() * 4];
+            for (int w = 0; w < walls.size(); w++) {
+                final int tx = walls.get(w) % tiles;
+                final int ty = walls.get(w) / tiles;
+                bounds[w * 4] = tx * MAZE_TILE;
+                bounds[w * 4 + 1] = (tx + 1) * MAZE_TILE;
+                bounds[w * 4 + 2] = ty * MAZE_TILE;
+                bounds[w * 4 + 3] = (ty + 1) * MAZE_TILE;
+            }
+            return bounds;
+        }
+
+        private static double[] planets(Random random) {
+            double[] bounds = new double[ASTEROIDS_PLANETS * 4];
+            for (int p = 0; p < ASTEROIDS_PLANETS; p++) {
+                final double r = PLANET_MIN_RADIUS + random.nextDouble() * (PLANET_MAX_RADIUS - PLANET_MIN_RADIUS);
+                final double x = random.nextDouble() * ASTEROIDS_WORLD;
+                final double y = random.nextDouble() * ASTEROIDS_WORLD;
+                bounds[p * 4] = x - r;
+                bounds[p * 4 + 1] = x + r;
+                bounds[p * 4 + 2] = y - r;
+                bounds[p * 4 + 3] = y + r;
+            }
+            return bounds;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package benchmarks;
+
+import java.util.Random;
+
+import engine.model.bodies.core.WorkerScratch;
+import engine.utils.helpers.IntArrayList;
+
+/**
+ * CollisionDedupeBenchmark
+ * ------------------------
+ *
+ * Cost of deduping the collision candidates of one query, the step between
+ * the broadphase query and the narrow phase:
+ * - sort: IntArrayList.sortUnique() then one pass (previous Model code).
+ * - stamp: one pass with WorkerScratch.beginDedupe() / firstSeen() (epoch
+ * stamps indexed by body handle).
+ *
+ * Candidate lists mimic projectile spam in a narrow corridor: `unique`
+ * bodies, each one found in `cells` grid cells, in cell order. Handles are
+ * spread over `bodies` registry slots.
+ *
+ * Usage: CollisionDedupeBenchmark [seconds=3] [unique=8,32,128] [cells=4]
+ * [bodies=10000]
+ */
+public final class CollisionDedupeBenchmark {
+
+    // region Constants
+    private static final int LISTS = 1024;
+    private static final int WARMUP_SECONDS = 1;
+    // endregion
+
+    // region Constructors
+    private CollisionDedupeBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        String uniques = args.length > 1 ? args[1] : "8,32,128";
+        int cells = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int bodies = args.length > 3 ? Integer.parseInt(args[3]) : 10_000;
+
+        System.out.printf("seconds=%d cells=%d bodies=%d%n", seconds, cells, bodies);
+        for (String unique : uniques.split(",")) {
+            int uniqueCount = Integer.parseInt(unique.trim());
+            int[][] lists = candidateLists(uniqueCount, cells, bodies);
+            run("sort", uniqueCount, lists, seconds);
+            run("stamp", uniqueCount, lists, seconds);
+        }
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static int[][] candidateLists(int unique, int cells, int bodies) {
+        Random random = new Random(42L);
+        int[][] lists = new int[LISTS][];
+        for (int l = 0; l < LISTS; l++) {
+            int[] handles = new int[unique];
+            for (int u = 0; u < unique; u++) {
+                handles[u] = random.nextInt(bodies);
+            }
+
+            // Cell by cell: every body shows up once per cell it overlaps
+            int[] list = new int[unique * cells];
+            for (int c = 0; c < cells; c++) {
+                for (int u = 0; u < unique; u++) {
+                    list[c * unique + u] = handles[(u + c) % unique];
+                }
+            }
+            lists[l] = list;
+        }
+        return lists;
+    }
+
+    /**
+     * @return number of unique candidates seen (keeps the JIT honest)
+     */
+    private static long dedupe(String mode, int[] list, IntArrayList candidates, WorkerScratch scratch) {
+        candidates.clear();
+        for (int handle : list) {
+            candidates.add(handle);
+        }
+
+        long seen = 0L;
+        if (mode.equals("sort")) {
+            candidates.sortUnique();
+            for (int i = 0; i < candidates.size(); i++) {
+                seen += candidates.get(i);
+            }
+            return seen;
+        }
+
+        scratch.beginDedupe();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (scratch.firstSeen(candidates.get(i))) {
+                seen += candidates.get(i);
+            }
+        }
+        return seen;
+    }
+
+    private static void run(String mode, int unique, int[][] lists, int seconds) {
+        IntArrayList candidates = new IntArrayList(64);
+        WorkerScratch scratch = new WorkerScratch();
+        long checksum = 0L;
+
+        long warmupEnd = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+        for (int l = 0; System.nanoTime() < warmupEnd; l = (l + 1) % LISTS) {
+            checksum += dedupe(mode, lists[l], candidates, scratch);
+        }
+
+        long queries = 0L;
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        while (System.nanoTime() < end) {
+            for (int l = 0; l < LISTS; l++) {
+                checksum += dedupe(mode, lists[l], candidates, scratch);
+            }
+            queries += LISTS;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("unique=%4d mode=%-5s candidates=%5d ns/query=%8.1f (checksum %d)%n",
+                unique, mode, lists[0].length,
+                elapsed / (double) queries, checksum);
+    }
+}
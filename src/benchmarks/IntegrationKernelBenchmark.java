@@ -0,0 +1,137 @@
+package benchmarks;
+
+import java.util.Random;
+
+import engine.model.bodies.core.BodyStateStore;
+import engine.model.bodies.ports.BodyType;
+import engine.model.physics.implementations.BasicPhysicsEngine;
+import engine.model.physics.ports.PhysicsValuesDTO;
+import engine.utils.profiling.impl.BodyProfiler;
+
+/**
+ * IntegrationKernelBenchmark
+ * --------------------------
+ *
+ * Cost of one integration step per body, without the rest of the tick:
+ * - object: every BasicPhysicsEngine integrates its own DTO (runners path).
+ * - scalar: BodyStateStore pass with the scalar kernel, engines take the
+ * results (phased path).
+ * - vector: same with the SIMD kernel. Needs
+ * --add-modules jdk.incubator.vector; without it the store falls back to
+ * the scalar kernel (the kernel name is printed).
+ *
+ * Every step also commits the new values (write-through included), so the
+ * state keeps moving. Half of the bodies thrust along their angle. The
+ * store pass runs on the caller thread: the comparison is per core.
+ *
+ * Usage: IntegrationKernelBenchmark [seconds=3] [bodies=1000,10000,100000]
+ * [kernels=object,scalar,vector]
+ */
+public final class IntegrationKernelBenchmark {
+
+    // region Constants
+    private static final double DT = 1.0d / 120.0d;
+    private static final int WARMUP_SECONDS = 1;
+    private static final double WORLD_SIZE = 1_000_000.0d;
+    // endregion
+
+    // region Constructors
+    private IntegrationKernelBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        String sizes = args.length > 1 ? args[1] : "1000,10000,100000";
+        String kernels = args.length > 2 ? args[2] : "object,scalar,vector";
+
+        if (sizes.contains(",") || kernels.contains(",")) {
+            System.out.printf("seconds=%d dt=%.4f cores=%d%n",
+                    seconds, DT, Runtime.getRuntime().availableProcessors());
+
+            // One JVM per configuration (clean JIT profile)
+            for (String size : sizes.split(",")) {
+                for (String kernel : kernels.split(",")) {
+                    BenchmarkSupport.runIsolated(IntegrationKernelBenchmark.class,
+                            String.valueOf(seconds), size.trim(), kernel.trim());
+                }
+            }
+            return;
+        }
+
+        run(Integer.parseInt(sizes.trim()), kernels.trim(), seconds);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static void run(int bodies, String kernel, int seconds) {
+        boolean bulk = !kernel.equals("object");
+        BodyStateStore store = new BodyStateStore(kernel.equals("vector"));
+        BodyProfiler profiler = new BodyProfiler();
+        BasicPhysicsEngine[] engines = new BasicPhysicsEngine[bodies];
+
+        Random random = new Random(42L);
+        for (int i = 0; i < bodies; i++) {
+            BodyType type = i % 4 == 0 ? BodyType.PROJECTILE : BodyType.DYNAMIC;
+            PhysicsValuesDTO phyValues = new PhysicsValuesDTO(0L,
+                    random.nextDouble() * WORLD_SIZE, random.nextDouble() * WORLD_SIZE,
+                    random.nextDouble() * 360, 20,
+                    random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100,
+                    0, 0,
+                    random.nextDouble() * 20 - 10, 0,
+                    i % 2 == 0 ? 150 : 0);
+            engines[i] = new BasicPhysicsEngine(phyValues,
+                    new PhysicsValuesDTO(0, 0, 0, 0, 0), new PhysicsValuesDTO(0, 0, 0, 0, 0),
+                    type, profiler, () -> 0L); // No clock: commits stamped with tick 0
+
+            if (bulk) {
+                // Registry handles of generation 0 are the slot indexes
+                store.bind(i, type, phyValues);
+                engines[i].bindStateStore(store, i);
+                store.enroll(i);
+            }
+        }
+
+        long warmupEnd = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+        while (System.nanoTime() < warmupEnd) {
+            step(engines, bulk ? store : null);
+        }
+
+        long steps = 0L;
+        long passNanos = 0L;
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        while (System.nanoTime() < end) {
+            passNanos += step(engines, bulk ? store : null);
+            steps++;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double bodySteps = (double) steps * bodies;
+        System.out.printf("bodies=%7d kernel=%-12s steps=%7d ns/body=%6.2f pass ns/body=%6.2f%n",
+                bodies, bulk ? store.getKernelName() : "object", steps,
+                elapsed / bodySteps,
+                bulk ? passNanos / bodySteps : 0.0d);
+    }
+
+    /**
+     * One step for every body: bulk pass (if any), then integrate + commit.
+     *
+     * @return nanos spent in the bulk pass
+     */
+    private static long step(BasicPhysicsEngine[] engines, BodyStateStore store) {
+        long passNanos = 0L;
+        if (store != null) {
+            long passStart = System.nanoTime();
+            store.integrate(null, DT, WORLD_SIZE, WORLD_SIZE);
+            passNanos = System.nanoTime() - passStart;
+        }
+
+        for (BasicPhysicsEngine engine : engines) {
+            engine.setPhysicsValues(engine.calcNewPhysicsValues(DT));
+        }
+        return passNanos;
+    }
+}
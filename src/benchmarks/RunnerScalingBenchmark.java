@@ -0,0 +1,77 @@
+package benchmarks;
+
+import engine.model.impl.Model;
+import engine.model.ports.TickExecutionMode;
+import engine.utils.helpers.DoubleVector;
+import engine.utils.profiling.core.LatencyHistogram;
+import engine.utils.threading.ThreadingStrategy;
+
+/**
+ * RunnerScalingBenchmark
+ * ----------------------
+ *
+ * Tick lag of the runner scheduler (RUNNERS mode) as the body count grows.
+ * Tick lag = time from tick publication by the SimulationClock to the end of
+ * that tick in each runner (Model.getRunnerTickLag()). With adaptive batching
+ * p99 should stay flat while the body count climbs.
+ *
+ * Also reports the runner count and batch size the scheduler converged to.
+ *
+ * Usage: RunnerScalingBenchmark [seconds=10] [counts=100,500,1000,2000,5000]
+ */
+public final class RunnerScalingBenchmark {
+
+    // region Constants
+    private static final int TICK_RATE_HZ = 120;
+    private static final int WARMUP_SECONDS = 3;
+    // endregion
+
+    // region Constructors
+    private RunnerScalingBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        String counts = args.length > 1 ? args[1] : "100,500,1000,2000,5000";
+
+        if (counts.contains(",")) {
+            System.out.printf("seconds=%d tickRate=%dHz cores=%d%n",
+                    seconds, TICK_RATE_HZ, Runtime.getRuntime().availableProcessors());
+
+            // One JVM per body count (AbstractBody counters are static)
+            for (String count : counts.split(",")) {
+                BenchmarkSupport.runIsolated(RunnerScalingBenchmark.class, String.valueOf(seconds), count.trim());
+            }
+            return;
+        }
+
+        run(Integer.parseInt(counts.trim()), seconds);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static void run(int bodies, int seconds) {
+        Model model = new Model(new DoubleVector(4000, 4000), bodies, TICK_RATE_HZ,
+                TickExecutionMode.RUNNERS, ThreadingStrategy.PLATFORM_THREADS);
+        model.setDomainEventProcessor(BenchmarkSupport.nullEventProcessor());
+        model.activate();
+        BenchmarkSupport.populate(model, bodies, 0, 42L);
+
+        BenchmarkSupport.sleepMillis(WARMUP_SECONDS * 1000L);
+        LatencyHistogram lag = model.getRunnerTickLag();
+        lag.reset();
+        long ticksStart = model.getTickCount();
+        BenchmarkSupport.sleepMillis(seconds * 1000L);
+        long ticks = model.getTickCount() - ticksStart;
+
+        System.out.printf("bodies=%5d runners=%4d batch=%3d ticks/s=%6.1f lag p50=%5.1fms p99=%5.1fms p999=%5.1fms%n",
+                bodies, model.getRunnerCount(), model.getRunnerBatchSize(), ticks / (double) seconds,
+                lag.getPercentileNanos(50) / 1e6, lag.getPercentileNanos(99) / 1e6,
+                lag.getPercentileNanos(99.9) / 1e6);
+
+        model.shutdown();
+    }
+}
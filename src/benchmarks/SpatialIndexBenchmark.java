@@ -0,0 +1,192 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.core.Cells;
+import engine.utils.spatial.ports.Broadphase;
+import engine.utils.spatial.ports.BroadphaseFactory;
+import engine.utils.spatial.ports.BroadphaseType;
+
+/**
+ * SpatialIndexBenchmark
+ * ---------------------
+ *
+ * Broad-phase cost of each Broadphase implementation, without a Model.
+ * Every tick all bodies move (bouncing random walk), upsert their AABB, the
+ * index is rebuilt (no-op for BUCKET_GRID) and every body queries its
+ * collision candidates - the same sequence PHASED mode runs.
+ *
+ * Upserts and queries run on the main thread so their cost and allocations
+ * (bytes/tick) are measured directly; the FLAT_GRID rebuild uses a ForkJoin
+ * pool with one worker per core. The candidate checksum must match between
+ * BUCKET_GRID and FLAT_GRID for the same body count. SPARSE_GRID also keeps
+ * cells outside the world, and HIERARCHICAL_GRID, SORT_AND_SWEEP and
+ * AABB_TREE only return candidates whose AABB overlaps, so their counts
+ * differ (much lower). BroadphaseReplayBenchmark compares them on identical
+ * trajectories and scenario shapes.
+ *
+ * heap = retained heap of the index and bodies after warmup; with large
+ * worlds it shows which indexes scale with world area (BUCKET_GRID,
+ * FLAT_GRID) and which with body count (SPARSE_GRID).
+ *
+ * large = number of extra static bodies with radius 200..800 (planets among
+ * asteroids); they upsert every tick but do not query.
+ *
+ * Usage: SpatialIndexBenchmark [ticks=600] [counts=1000,5000,20000] [type=ALL]
+ * [world=8000] [large=0]
+ */
+public final class SpatialIndexBenchmark {
+
+    // region Constants
+    private static final int CELL_SIZE = 128;
+    private static final int MAX_CELLS_PER_BODY = 1512;
+    private static final double MAX_LARGE_RADIUS = 800.0d;
+    private static final double MAX_RADIUS = 24.0d;
+    private static final double MIN_LARGE_RADIUS = 200.0d;
+    private static final double MAX_SPEED = 6.0d; // px per tick
+    private static final double MIN_RADIUS = 6.0d;
+    private static final int WARMUP_TICKS = 200;
+    // endregion
+
+    // region Constructors
+    private SpatialIndexBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+        String counts = args.length > 1 ? args[1] : "1000,5000,20000";
+        String type = args.length > 2 ? args[2] : "ALL";
+        double world = args.length > 3 ? Double.parseDouble(args[3]) : 8000.0d;
+        int large = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+
+        if (counts.contains(",") || type.equals("ALL")) {
+            System.out.printf("ticks=%d world=%.0fx%.0f cell=%d large=%d cores=%d%n",
+                    ticks, world, world, CELL_SIZE, large, Runtime.getRuntime().availableProcessors());
+
+            // One JVM per configuration (no JIT profile shared between indexes)
+            for (String count : counts.split(",")) {
+                for (BroadphaseType indexType : BroadphaseType.values()) {
+                    if (type.equals("ALL") || type.equals(indexType.name())) {
+                        BenchmarkSupport.runIsolated(SpatialIndexBenchmark.class,
+                                String.valueOf(ticks), count.trim(), indexType.name(), String.valueOf(world),
+                                String.valueOf(large));
+                    }
+                }
+            }
+            return;
+        }
+
+        run(BroadphaseType.valueOf(type), Integer.parseInt(counts.trim()), ticks, world, large);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private static void run(BroadphaseType type, int queryingBodies, int ticks, double world, int large) {
+        int bodies = queryingBodies + large;
+        long heapStart = BenchmarkSupport.usedHeapKb();
+        Broadphase index = BroadphaseFactory.create(type, world, world, CELL_SIZE, MAX_CELLS_PER_BODY);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        Random random = new Random(42L);
+
+        double[] posX = new double[bodies];
+        double[] posY = new double[bodies];
+        double[] speedX = new double[bodies];
+        double[] speedY = new double[bodies];
+        double[] radius = new double[bodies];
+        Cells[] cells = new Cells[bodies];
+        for (int i = 0; i < bodies; i++) {
+            posX[i] = random.nextDouble() * world;
+            posY[i] = random.nextDouble() * world;
+            speedX[i] = (random.nextDouble() * 2 - 1) * MAX_SPEED;
+            speedY[i] = (random.nextDouble() * 2 - 1) * MAX_SPEED;
+            radius[i] = MIN_RADIUS + random.nextDouble() * (MAX_RADIUS - MIN_RADIUS);
+            if (i >= queryingBodies) {
+                speedX[i] = 0.0d;
+                speedY[i] = 0.0d;
+                radius[i] = MIN_LARGE_RADIUS + random.nextDouble() * (MAX_LARGE_RADIUS - MIN_LARGE_RADIUS);
+            }
+            cells[i] = index.newCells();
+        }
+
+        int[] scratchIdxs = new int[index.getMaxCellsPerBody()];
+        IntArrayList candidates = new IntArrayList(256);
+
+        long[] tickNanos = new long[ticks];
+        long upsertNanos = 0L;
+        long rebuildNanos = 0L;
+        long queryNanos = 0L;
+        long allocated = 0L;
+        long checksum = 0L;
+        long heapKb = 0L;
+
+        for (int t = -WARMUP_TICKS; t < ticks; t++) {
+            long allocStart = allocatedBytes();
+            long start = System.nanoTime();
+
+            for (int i = 0; i < bodies; i++) {
+                posX[i] += speedX[i];
+                posY[i] += speedY[i];
+                if (posX[i] < 0 || posX[i] > world) {
+                    speedX[i] = -speedX[i];
+                }
+                if (posY[i] < 0 || posY[i] > world) {
+                    speedY[i] = -speedY[i];
+                }
+
+                double r = radius[i];
+                index.upsert(i, cells[i], posX[i] - r, posX[i] + r, posY[i] - r, posY[i] + r, scratchIdxs);
+            }
+            long upserted = System.nanoTime();
+
+            index.rebuild(pool);
+            long rebuilt = System.nanoTime();
+
+            long tickCandidates = 0L;
+            for (int i = 0; i < queryingBodies; i++) {
+                IntArrayList result = index.queryCollisionCandidates(i, cells[i], candidates);
+                if (result != null) {
+                    tickCandidates += result.size();
+                }
+            }
+            long end = System.nanoTime();
+            long allocEnd = allocatedBytes();
+
+            if (t < 0) {
+                continue; // ===== Warmup =====>
+            }
+            if (t == 0) {
+                heapKb = BenchmarkSupport.usedHeapKb() - heapStart;
+            }
+
+            tickNanos[t] = end - start;
+            upsertNanos += upserted - start;
+            rebuildNanos += rebuilt - upserted;
+            queryNanos += end - rebuilt;
+            allocated += allocEnd - allocStart;
+            checksum += tickCandidates;
+        }
+
+        long[] sorted = BenchmarkSupport.sortedCopy(tickNanos, ticks);
+        System.out.printf(
+                "%-17s bodies=%6d upsert=%7.1fus rebuild=%7.1fus query=%7.1fus tick p50=%7.1fus p99=%7.1fus"
+                        + " alloc=%6.0fB/tick heap=%7dKB candidates=%d%n",
+                type, queryingBodies,
+                upsertNanos / 1e3 / ticks, rebuildNanos / 1e3 / ticks, queryNanos / 1e3 / ticks,
+                BenchmarkSupport.percentile(sorted, ticks, 50) / 1e3,
+                BenchmarkSupport.percentile(sorted, ticks, 99) / 1e3,
+                allocated / (double) ticks, heapKb, checksum);
+
+        pool.shutdown();
+    }
+}
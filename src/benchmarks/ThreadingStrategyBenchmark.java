@@ -0,0 +1,154 @@
+package benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import engine.model.impl.Model;
+import engine.model.impl.SimulationClock;
+import engine.model.ports.TickExecutionMode;
+import engine.utils.helpers.DoubleVector;
+import engine.utils.threading.ThreadPoolManager;
+import engine.utils.threading.ThreadingStrategy;
+
+/**
+ * ThreadingStrategyBenchmark
+ * --------------------------
+ *
+ * Compares platform-thread and virtual-thread runners:
+ *
+ * 1) Footprint: a Model in RUNNERS mode with N dynamic bodies. Reports live
+ * threads, used heap, process RSS and achieved tick rate.
+ *
+ * 2) Scheduling latency: N/10 probe tasks (one per runner a Model of N
+ * bodies would create) wait on a SimulationClock exactly like
+ * MultiBodyRunner. Latency = wake-up time - tick publication time.
+ *
+ * Usage: ThreadingStrategyBenchmark [bodies=3000] [seconds=10] [strategy=ALL]
+ * ALL runs each strategy in its own JVM, so RSS figures are comparable.
+ */
+public final class ThreadingStrategyBenchmark {
+
+    // region Constants
+    private static final int BATCH_SIZE = 10;
+    private static final int SAMPLES_PER_PROBE = 4096;
+    private static final int TICK_RATE_HZ = SimulationClock.DEFAULT_TICK_RATE_HZ;
+    private static final int WARMUP_SECONDS = 2;
+    // endregion
+
+    // region Constructors
+    private ThreadingStrategyBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) throws Exception {
+        int bodies = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String which = args.length > 2 ? args[2] : "ALL";
+
+        if (which.equals("ALL")) {
+            System.out.printf("bodies=%d seconds=%d tickRate=%dHz cores=%d%n",
+                    bodies, seconds, TICK_RATE_HZ, Runtime.getRuntime().availableProcessors());
+
+            for (ThreadingStrategy strategy : ThreadingStrategy.values()) {
+                BenchmarkSupport.runIsolated(ThreadingStrategyBenchmark.class,
+                        String.valueOf(bodies), String.valueOf(seconds), strategy.name());
+            }
+            return;
+        }
+
+        ThreadingStrategy strategy = ThreadingStrategy.valueOf(which);
+        footprint(strategy, bodies, seconds);
+        schedulingLatency(strategy, bodies, seconds);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static void footprint(ThreadingStrategy strategy, int bodies, int seconds) {
+        int threadsBefore = BenchmarkSupport.liveThreadCount();
+
+        Model model = new Model(new DoubleVector(4000, 4000), bodies, TICK_RATE_HZ,
+                TickExecutionMode.RUNNERS, strategy);
+        model.setDomainEventProcessor(BenchmarkSupport.nullEventProcessor());
+        model.activate();
+        BenchmarkSupport.populate(model, bodies, 0, 42L);
+
+        BenchmarkSupport.sleepMillis(WARMUP_SECONDS * 1000L);
+        long ticksStart = model.getTickCount();
+        long start = System.nanoTime();
+        BenchmarkSupport.sleepMillis(seconds * 1000L);
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0d;
+        long ticks = model.getTickCount() - ticksStart;
+
+        int threads = BenchmarkSupport.liveThreadCount() - threadsBefore;
+        long heapKb = BenchmarkSupport.usedHeapKb();
+        long rssKb = BenchmarkSupport.residentSetKb();
+        model.shutdown();
+
+        System.out.printf("[%s] footprint: osThreads=+%d heap=%dKB rss=%dKB ticks/s=%.1f%n",
+                strategy, threads, heapKb, rssKb, ticks / elapsed);
+    }
+
+    private static void schedulingLatency(ThreadingStrategy strategy, int bodies, int seconds)
+            throws InterruptedException {
+
+        int probes = (int) Math.ceil(bodies / (double) BATCH_SIZE);
+        SimulationClock clock = new SimulationClock(TICK_RATE_HZ);
+        ThreadPoolManager pool = new ThreadPoolManager(probes + 1, strategy);
+        long[][] samples = new long[probes][SAMPLES_PER_PROBE];
+        int[] counts = new int[probes];
+        CountDownLatch done = new CountDownLatch(probes);
+        AtomicInteger probeIds = new AtomicInteger();
+
+        clock.start();
+        long deadline = System.nanoTime() + (WARMUP_SECONDS + seconds) * 1_000_000_000L;
+        long warmupEnd = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+
+        for (int p = 0; p < probes; p++) {
+            pool.submit(() -> {
+                int id = probeIds.getAndIncrement();
+                long lastTick = clock.getTickCount();
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long tick = clock.awaitTick(lastTick);
+                        long now = System.nanoTime();
+                        if (tick <= lastTick) {
+                            break;
+                        }
+                        lastTick = tick;
+                        if (now > warmupEnd && counts[id] < SAMPLES_PER_PROBE) {
+                            samples[id][counts[id]++] = now - clock.getLastTickNanos();
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        clock.stop();
+        pool.shutdown();
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (int p = 0; p < probes; p++) {
+            System.arraycopy(samples[p], 0, all, offset, counts[p]);
+            offset += counts[p];
+        }
+        long[] sorted = BenchmarkSupport.sortedCopy(all, total);
+
+        System.out.printf("[%s] wake latency (us): probes=%d samples=%d p50=%.1f p99=%.1f max=%.1f%n",
+                strategy, probes, total,
+                BenchmarkSupport.percentile(sorted, total, 50) / 1000.0d,
+                BenchmarkSupport.percentile(sorted, total, 99) / 1000.0d,
+                BenchmarkSupport.percentile(sorted, total, 100) / 1000.0d);
+    }
+}
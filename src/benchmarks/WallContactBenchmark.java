@@ -0,0 +1,190 @@
+package benchmarks;
+
+import java.util.List;
+import java.util.Random;
+
+import engine.actions.ActionDTO;
+import engine.actions.ActionPool;
+import engine.actions.ActionType;
+import engine.events.domain.ports.BodyRefDTO;
+import engine.events.domain.ports.eventtype.CollisionEvent;
+import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.model.bodies.ports.BodyType;
+import engine.model.impl.Model;
+import engine.model.ports.DomainEventProcessor;
+import engine.utils.helpers.DoubleVector;
+import engine.utils.profiling.core.ProfileMetricsDTO;
+
+/**
+ * WallContactBenchmark
+ * --------------------
+ *
+ * Cost of one wall contact (WALL_STOP action: wall-normal response, overlap
+ * check and free position search) as the maze grows. The maze is made of
+ * GRAVITY wall bodies on a lattice (one wall every CORRIDOR cells in both
+ * axes, closed by an outer wall); the number of dynamic bodies bouncing
+ * inside stays fixed, so only the wall count changes between configurations.
+ * WALL_STOP reflects the speed, so contacts go on for the whole run (NO_MOVE
+ * would soon bring every body to a stop).
+ *
+ * The WALL_CONTACT profiler metric is a per-second period metric: it is read
+ * once per second and the period averages are averaged.
+ * Wall resolution only looks at the walls near the contact, so the cost per
+ * contact should stay flat whatever the wall count.
+ *
+ * Usage: WallContactBenchmark [seconds=5] [mazeSizes=16,32,64,128]
+ */
+public final class WallContactBenchmark {
+
+    // region Constants
+    private static final int CELL_SIZE = 40;
+    private static final int CORRIDOR = 4;
+    private static final int DYNAMIC_BODIES = 300;
+    private static final double DYNAMIC_SPEED = 2000;
+    private static final int TICK_RATE_HZ = 120;
+    private static final int WARMUP_SECONDS = 2;
+    // endregion
+
+    // region Constructors
+    private WallContactBenchmark() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public static void main(String[] args) {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String sizes = args.length > 1 ? args[1] : "16,32,64,128";
+
+        if (sizes.contains(",")) {
+            System.out.printf("seconds=%d dynamics=%d cell=%dpx cores=%d%n",
+                    seconds, DYNAMIC_BODIES, CELL_SIZE, Runtime.getRuntime().availableProcessors());
+
+            // One JVM per maze size (AbstractBody counters are static)
+            for (String size : sizes.split(",")) {
+                BenchmarkSupport.runIsolated(WallContactBenchmark.class, String.valueOf(seconds), size.trim());
+            }
+            return;
+        }
+
+        run(Integer.parseInt(sizes.trim()), seconds);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static void run(int mazeSize, int seconds) {
+        int cells = mazeSize + 1; // closing outer wall
+
+        int walls = 0;
+        for (int row = 0; row < cells; row++) {
+            for (int col = 0; col < cells; col++) {
+                walls += isWall(row, col) ? 1 : 0;
+            }
+        }
+
+        // The body limit counts every alive body, walls included
+        double worldSize = cells * (double) CELL_SIZE;
+        Model model = new Model(new DoubleVector(worldSize, worldSize), walls + DYNAMIC_BODIES, TICK_RATE_HZ);
+        model.setDomainEventProcessor(wallStopProcessor(BenchmarkSupport.nullEventProcessor()));
+        model.activate();
+
+        for (int row = 0; row < cells; row++) {
+            for (int col = 0; col < cells; col++) {
+                if (isWall(row, col)) {
+                    model.addStatic(CELL_SIZE, (col + 0.5) * CELL_SIZE, (row + 0.5) * CELL_SIZE, 0, -1);
+                }
+            }
+        }
+
+        // Dynamics start in the free cells, heading anywhere
+        Random random = new Random(42L);
+        for (int i = 0; i < DYNAMIC_BODIES; i++) {
+            int row;
+            int col;
+            do {
+                row = random.nextInt(mazeSize);
+                col = random.nextInt(mazeSize);
+            } while (isWall(row, col));
+
+            double angle = random.nextDouble() * 2 * Math.PI;
+            model.addDynamic(CELL_SIZE * 0.5,
+                    (col + 0.5) * CELL_SIZE, (row + 0.5) * CELL_SIZE,
+                    Math.cos(angle) * DYNAMIC_SPEED, Math.sin(angle) * DYNAMIC_SPEED,
+                    0, 0, 0, 0, 0, 0, -1);
+        }
+
+        BenchmarkSupport.sleepMillis(WARMUP_SECONDS * 1000L);
+
+        double sumAvgMs = 0.0d;
+        long sumSamples = 0L;
+        int periods = 0;
+        for (int i = 0; i < seconds; i++) {
+            BenchmarkSupport.sleepMillis(1000L);
+            ProfileMetricsDTO metric = model.getProfilingStatistics().getMetric("WALL_CONTACT");
+            if (metric != null && metric.samples > 0) {
+                sumAvgMs += metric.avgMs;
+                sumSamples += metric.samples;
+                periods++;
+            }
+        }
+
+        System.out.printf("maze=%4dx%-4d walls=%6d contacts/period=%8.0f us/contact=%7.2f%n",
+                mazeSize, mazeSize, walls,
+                periods > 0 ? sumSamples / (double) periods : 0.0d,
+                periods > 0 ? sumAvgMs * 1000.0d / periods : 0.0d);
+
+        model.shutdown();
+    }
+
+    private static boolean isWall(int row, int col) {
+        return row % CORRIDOR == 0 || col % CORRIDOR == 0;
+    }
+
+    /**
+     * WALL_STOP for every dynamic body touching a wall; everything else is
+     * left to the delegate.
+     */
+    private static DomainEventProcessor wallStopProcessor(DomainEventProcessor delegate) {
+        return new DomainEventProcessor() {
+            @Override
+            public void provideActions(List<DomainEvent> domainEvents, List<ActionDTO> actions) {
+                for (DomainEvent event : domainEvents) {
+                    if (!(event instanceof CollisionEvent collision)) {
+                        continue;
+                    }
+
+                    BodyRefDTO primary = collision.primaryBodyRef;
+                    BodyRefDTO secondary = collision.secondaryBodyRef;
+                    if (primary.type() == BodyType.DYNAMIC && secondary.type() == BodyType.GRAVITY) {
+                        actions.add(ActionPool.acquire(primary.handle(), primary.type(), ActionType.WALL_STOP, event));
+                    }
+                }
+            }
+
+            @Override
+            public void notifyNewDynamic(String entityId, String assetId) {
+                delegate.notifyNewDynamic(entityId, assetId);
+            }
+
+            @Override
+            public void notifyNewStatic(String entityId, String assetId) {
+                delegate.notifyNewStatic(entityId, assetId);
+            }
+
+            @Override
+            public void notifyDynamicIsDead(String entityId) {
+                delegate.notifyDynamicIsDead(entityId);
+            }
+
+            @Override
+            public void notifyPlayerIsDead(String entityId) {
+                delegate.notifyPlayerIsDead(entityId);
+            }
+
+            @Override
+            public void notifyStaticIsDead(String entityId) {
+                delegate.notifyStaticIsDead(entityId);
+            }
+        };
+    }
+}
@@ -2,17 +2,50 @@ package engine.actions;
 
 import engine.events.domain.ports.eventtype.DomainEvent;
 import engine.model.bodies.ports.BodyType;
+import engine.utils.pooling.PoolableMDTO;
 
-public class ActionDTO {
-    final public String bodyId;
-    final public BodyType bodyType;
-    final public ActionType type;
-    final public DomainEvent relatedEvent;
+/**
+ * Action decided by the game rules for one body.
+ *
+ * Pooled: rules get them from ActionPool.acquire() and the Model releases
+ * them once executed, so rules must not keep actions (or their related
+ * events) after provideActions() returns. Actions created with new are
+ * accepted too and join the pool when released.
+ */
+public class ActionDTO implements PoolableMDTO {
+    public int bodyHandle;
+    public BodyType bodyType;
+    public ActionType type;
+    public DomainEvent relatedEvent;
+    private volatile boolean pooled = false; // PoolMDTO bookkeeping
 
-    public ActionDTO(String bodyId, BodyType bodyType, ActionType type, DomainEvent relatedEvent) {
-        this.bodyId = bodyId;
+    public ActionDTO(int bodyHandle, BodyType bodyType, ActionType type, DomainEvent relatedEvent) {
+        this.set(bodyHandle, bodyType, type, relatedEvent);
+    }
+
+    // Pool factory (ActionPool)
+    ActionDTO() {
+    }
+
+    public boolean isPooled() {
+        return this.pooled;
+    }
+
+    public void reset() {
+        this.bodyHandle = 0;
+        this.bodyType = null;
+        this.type = null;
+        this.relatedEvent = null;
+    }
+
+    public void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    void set(int bodyHandle, BodyType bodyType, ActionType type, DomainEvent relatedEvent) {
+        this.bodyHandle = bodyHandle;
         this.bodyType = bodyType;
         this.type = type;
         this.relatedEvent = relatedEvent;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package engine.actions;
+
+import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.model.bodies.ports.BodyType;
+import engine.utils.pooling.PoolMDTO;
+
+/**
+ * ActionPool
+ * ----------
+ *
+ * Shared pool of ActionDTOs, so deciding and executing actions does not
+ * allocate: rules acquire, the Model releases after execution (or, for
+ * actions relayed to another body, after that body executed them).
+ *
+ * Thread-safe (PoolMDTO): rules run on every runner / ForkJoin worker.
+ */
+public final class ActionPool {
+
+    // region Constants
+    private static final PoolMDTO<ActionDTO> pool = new PoolMDTO<>(ActionDTO::new);
+    // endregion
+
+    // region Constructors
+    private ActionPool() {
+    }
+    // endregion
+
+    // *** STATICS ***
+
+    public static ActionDTO acquire(int bodyHandle, BodyType bodyType, ActionType type, DomainEvent relatedEvent) {
+        ActionDTO action = ActionPool.pool.acquire();
+        action.set(bodyHandle, bodyType, type, relatedEvent);
+        return action;
+    }
+
+    public static PoolMDTO<ActionDTO> getPool() {
+        return ActionPool.pool;
+    }
+
+    public static void release(ActionDTO action) {
+        ActionPool.pool.release(action);
+    }
+}
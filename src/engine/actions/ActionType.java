@@ -2,16 +2,31 @@ package engine.actions;
 
 
 public enum ActionType {
-    DIE,
-    EXPLODE_IN_FRAGMENTS,
-    GO_INSIDE,
-    MOVE,
-    NO_MOVE,
-    WALL_STOP,
-    MOVE_REBOUND_IN_EAST,
-    MOVE_REBOUND_IN_WEST,
-    MOVE_REBOUND_IN_NORTH,
-    MOVE_REBOUND_IN_SOUTH,
-    SPAWN_BODY,
-    SPAWN_PROJECTILE, MOVE_TO_CENTER,
+    DIE(false),
+    EXPLODE_IN_FRAGMENTS(false),
+    GO_INSIDE(false),
+    MOVE(true),
+    NO_MOVE(true),
+    WALL_STOP(false),
+    MOVE_REBOUND_IN_EAST(true),
+    MOVE_REBOUND_IN_WEST(true),
+    MOVE_REBOUND_IN_NORTH(true),
+    MOVE_REBOUND_IN_SOUTH(true),
+    SPAWN_BODY(false),
+    SPAWN_PROJECTILE(false),
+    MOVE_TO_CENTER(true);
+
+    private final boolean movement;
+
+    ActionType(boolean movement) {
+        this.movement = movement;
+    }
+
+    /**
+     * True if the action decides the movement of the body this tick, so the
+     * Model must not add the default MOVE action.
+     */
+    public boolean isMovement() {
+        return this.movement;
+    }
 }
@@ -18,6 +18,8 @@ import engine.events.domain.ports.eventtype.DomainEvent;
 import engine.model.bodies.ports.BodyData;
 import engine.model.emitter.ports.EmitterConfigDto;
 import engine.model.impl.Model;
+import engine.model.impl.WorldSnapshot;
+import engine.model.ports.CollisionLayers;
 import engine.model.ports.DomainEventProcessor;
 import engine.utils.helpers.DoubleVector;
 import engine.view.core.View;
@@ -387,6 +389,10 @@ public class Controller implements WorldManager, DomainEventProcessor {
     // endregion
 
     // region setters
+    public void setCollisionLayers(CollisionLayers collisionLayers) {
+        this.model.setCollisionLayers(collisionLayers);
+    }
+
     public void setLocalPlayer(String playerId) {
         this.view.setLocalPlayer(playerId);
     }
@@ -394,6 +400,10 @@ public class Controller implements WorldManager, DomainEventProcessor {
     public void setModel(Model model) {
         this.model = model;
         this.model.setDomainEventProcessor(this);
+
+        CollisionLayers collisionLayers = new CollisionLayers();
+        this.gameRulesEngine.configureCollisionLayers(collisionLayers);
+        this.model.setCollisionLayers(collisionLayers);
     }
 
     public void setView(View view) {
@@ -426,21 +436,18 @@ public class Controller implements WorldManager, DomainEventProcessor {
     }
     // endregion setters
 
+    /**
+     * Dynamic bodies interpolated between the last two simulation states, at
+     * the alpha of the current time (render runs faster than the tick rate).
+     */
     public ArrayList<DynamicRenderDTO> snapshotRenderData() {
-        ArrayList<BodyData> snapshot = this.model.snapshotRenderData();
-        ArrayList<DynamicRenderDTO> renderables = new ArrayList<>();
-
-        for (BodyData bodyData : snapshot) {
-            DynamicRenderDTO renderable = DynamicRenderableMapper.fromBodyDTO(bodyData);
-            renderables.add(renderable);
-        }
-
-        return renderables;
+        WorldSnapshot snapshot = this.model.getWorldSnapshot();
+        return DynamicRenderableMapper.fromWorldSnapshot(snapshot, snapshot.getAlpha(System.nanoTime()));
     }
 
     public ArrayList<DynamicRenderDTO> snapshotRenderData(DynamicRenderableMapper mapper) {
-        ArrayList<BodyData> snapshot = this.model.snapshotRenderData();
-        return mapper.fromBodyDTOPooled(snapshot);
+        WorldSnapshot snapshot = this.model.getWorldSnapshot();
+        return mapper.fromWorldSnapshotPooled(snapshot, snapshot.getAlpha(System.nanoTime()));
     }
 
     // *** INTERFACE IMPLEMENTATIONS (one region per interface) ***
@@ -546,6 +553,17 @@ public class Controller implements WorldManager, DomainEventProcessor {
         this.updateStaticRenderablesView();
     }
 
+    @Override
+    public void addSolidTiles(String assetId, int[][] grid, int solidValue,
+            double offsetX, double offsetY, int tileSize) {
+
+        ArrayList<String> tileIds = this.model.setSolidTiles(grid, solidValue, offsetX, offsetY, tileSize);
+        for (String tileId : tileIds) {
+            this.view.addStaticRenderable(tileId, assetId);
+        }
+        this.updateStaticRenderablesView();
+    }
+
     @Override
     public void equipTrail(String playerId, DefEmitterDTO bodyEmitterDef) {
         EmitterConfigDto bodyEmitter = EmitterMapper.fromWorldDef(bodyEmitterDef);
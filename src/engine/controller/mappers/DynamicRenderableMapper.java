@@ -5,6 +5,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import engine.model.bodies.ports.BodyData;
+import engine.model.impl.WorldSnapshot;
 import engine.model.physics.ports.PhysicsValuesDTO;
 import engine.utils.pooling.PoolMDTO;
 import engine.view.renderables.ports.DynamicRenderDTO;
@@ -46,6 +47,29 @@ public class DynamicRenderableMapper extends DTOPooledMapper<DynamicRenderDTO> {
         return renderableValues;
     }
 
+    /**
+     * Render DTOs of the world snapshot, position and angle interpolated
+     * with alpha (WorldSnapshot.getAlpha()).
+     */
+    public static ArrayList<DynamicRenderDTO> fromWorldSnapshot(WorldSnapshot snapshot, double alpha) {
+        final int count = snapshot.getCount();
+        ArrayList<DynamicRenderDTO> renderableValues = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            renderableValues.add(new DynamicRenderDTO(
+                    snapshot.getEntityId(i),
+                    snapshot.getInterpolatedPosX(i, alpha), snapshot.getInterpolatedPosY(i, alpha),
+                    snapshot.getInterpolatedAngle(i, alpha),
+                    snapshot.getSize(i),
+                    snapshot.getTimeStamp(i),
+                    snapshot.getSpeedX(i), snapshot.getSpeedY(i),
+                    snapshot.getAccX(i), snapshot.getAccY(i),
+                    snapshot.getTimeStamp(i)));
+        }
+
+        return renderableValues;
+    }
+
     // region Pooled mapper
 
     public DynamicRenderableMapper(PoolMDTO<DynamicRenderDTO> pool) {
@@ -69,6 +93,43 @@ public class DynamicRenderableMapper extends DTOPooledMapper<DynamicRenderDTO> {
         return renderables;
     }
 
+    /**
+     * Pooled DTOs straight from the world snapshot arrays (no BodyData in
+     * between), position and angle interpolated with alpha. Bodies without a
+     * valid size are skipped before acquiring.
+     */
+    public ArrayList<DynamicRenderDTO> fromWorldSnapshotPooled(WorldSnapshot snapshot, double alpha) {
+        final int count = snapshot.getCount();
+        ArrayList<DynamicRenderDTO> renderables = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String entityId = snapshot.getEntityId(i);
+            double size = snapshot.getSize(i);
+            if (entityId == null || size <= 0) {
+                if (entityId != null && WARNED_ENTITIES.add(entityId)) {
+                    System.err.println("WARNING: DynamicRenderableMapper detected invalid size! " +
+                        "entityId=" + entityId + ", size=" + size +
+                        ", pos=(" + snapshot.getPosX(i) + "," + snapshot.getPosY(i) + ")");
+                }
+                continue;
+            }
+
+            DynamicRenderDTO dto = this.pool.acquire();
+            dto.updateFrom(
+                    entityId,
+                    snapshot.getInterpolatedPosX(i, alpha), snapshot.getInterpolatedPosY(i, alpha),
+                    snapshot.getInterpolatedAngle(i, alpha),
+                    size,
+                    snapshot.getTimeStamp(i),
+                    snapshot.getSpeedX(i), snapshot.getSpeedY(i),
+                    snapshot.getAccX(i), snapshot.getAccY(i),
+                    snapshot.getTimeStamp(i));
+            renderables.add(dto);
+        }
+
+        return renderables;
+    }
+
     @Override
     protected boolean mapToDTO(Object source, DynamicRenderDTO target) {
         if (!(source instanceof BodyData)) {
@@ -28,9 +28,8 @@ public class ProfilingStatisticsMapper {
             return values;
         }
 
-        // Calculations (DT + THRUST + LINEAR + ANGULAR combined)
+        // Calculations (THRUST + LINEAR + ANGULAR combined)
         double calcTotal = 0;
-        calcTotal += getMetricTotalMs(statistics, "PHYSICS_DT");
         calcTotal += getMetricTotalMs(statistics, "PHYSICS_THRUST");
         calcTotal += getMetricTotalMs(statistics, "PHYSICS_LINEAR");
         calcTotal += getMetricTotalMs(statistics, "PHYSICS_ANGULAR");
@@ -4,6 +4,7 @@ import java.util.List;
 
 import engine.actions.ActionDTO;
 import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.model.ports.CollisionLayers;
 
 /**
  * GameRulesEngine
@@ -27,8 +28,21 @@ public interface ActionsGenerator {
     // *** CONSTRUCTORS ***
 
     // *** PUBLICS ***
+    /**
+     * Events and actions are pooled: take actions from ActionPool.acquire()
+     * and do not keep events or actions once this call returns.
+     */
     void provideActions(List<DomainEvent> domainEvents, List<ActionDTO> actions);
 
+    /**
+     * Switch off the body type pairs whose collisions the rules ignore: they
+     * are dropped right after the broadphase (no narrowphase test, no
+     * CollisionEvent). Called once when the Controller gets its Model.
+     * Default: every pair collides.
+     */
+    default void configureCollisionLayers(CollisionLayers collisionLayers) {
+    }
+
     // *** INTERFACE IMPLEMENTATIONS ***
 
     // *** PRIVATE ***
@@ -1,6 +1,7 @@
 package engine.controller.ports;
 
 import engine.assets.core.AssetCatalog;
+import engine.model.ports.CollisionLayers;
 import engine.utils.helpers.DoubleVector;
 import engine.world.ports.DefEmitterDTO;
 
@@ -22,6 +23,14 @@ public interface WorldManager {
 
         public void addStaticBody(String assetId, double size, double posX, double posY, double angle);
 
+        /**
+         * Static tile collision layer (maze walls): every grid[row][col] equal
+         * to solidValue becomes a solid tile of tileSize, rendered with assetId.
+         * Replaces the previous tile layer.
+         */
+        public void addSolidTiles(String assetId, int[][] grid, int solidValue,
+                        double offsetX, double offsetY, int tileSize);
+
         public void equipTrail(
                         String playerId, DefEmitterDTO bodyEmitterDef);
 
@@ -31,6 +40,12 @@ public interface WorldManager {
 
         public EngineState getEngineState();
 
+        /**
+         * Replace the collision layers set up by the game rules (e.g. a level
+         * with its own pair filtering).
+         */
+        public void setCollisionLayers(CollisionLayers collisionLayers);
+
         public void setLocalPlayer(String playerId);
 
         public void loadAssets(AssetCatalog assets);
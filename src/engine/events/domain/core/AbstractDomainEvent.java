@@ -4,12 +4,18 @@ import engine.events.domain.ports.BodyRefDTO;
 import engine.events.domain.ports.DomainEventType;
 import engine.events.domain.ports.payloads.DomainEventPayload;
 
+/**
+ * Base of the domain events. The Model gets them from a DomainEventPool and
+ * recycles them, so an event (and its payload) is only valid while the
+ * rules decide the actions: do not keep references to it after
+ * provideActions() returns. Fields are only written by the pool.
+ */
 public abstract class AbstractDomainEvent <P extends DomainEventPayload>{
 
-    public final DomainEventType type;
-    public final BodyRefDTO primaryBodyRef;
-    public final BodyRefDTO secondaryBodyRef; // nullable
-    public final P payload; // nullable
+    public DomainEventType type;
+    public BodyRefDTO primaryBodyRef;
+    public BodyRefDTO secondaryBodyRef; // nullable
+    public P payload; // nullable
 
     public AbstractDomainEvent(
             DomainEventType type,
@@ -17,15 +23,7 @@ public abstract class AbstractDomainEvent <P extends DomainEventPayload>{
             BodyRefDTO secondaryBodyRef,
             P payload) {
 
-        if (type == null)
-            throw new IllegalArgumentException("Event: type is required!");
-        if (primaryBodyRef == null)
-            throw new IllegalArgumentException("Event: primaryBody is required!");
-
-        this.type = type;
-        this.primaryBodyRef = primaryBodyRef;
-        this.secondaryBodyRef = secondaryBodyRef;
-        this.payload = payload;
+        this.set(type, primaryBodyRef, secondaryBodyRef, payload);
     }
 
     protected AbstractDomainEvent(
@@ -36,5 +34,26 @@ public abstract class AbstractDomainEvent <P extends DomainEventPayload>{
         this(type, primaryBody, null, payload);
     }
 
-}
+    // Pool factory (DomainEventPool): fields are set on acquire
+    protected AbstractDomainEvent() {
+    }
+
+    void reset() {
+        this.type = null;
+        this.primaryBodyRef = null;
+        this.secondaryBodyRef = null;
+        this.payload = null;
+    }
+
+    void set(DomainEventType type, BodyRefDTO primaryBodyRef, BodyRefDTO secondaryBodyRef, P payload) {
+        if (type == null)
+            throw new IllegalArgumentException("Event: type is required!");
+        if (primaryBodyRef == null)
+            throw new IllegalArgumentException("Event: primaryBody is required!");
 
+        this.type = type;
+        this.primaryBodyRef = primaryBodyRef;
+        this.secondaryBodyRef = secondaryBodyRef;
+        this.payload = payload;
+    }
+}
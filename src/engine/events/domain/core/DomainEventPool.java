@@ -0,0 +1,191 @@
+package engine.events.domain.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import engine.events.domain.ports.BodyRefDTO;
+import engine.events.domain.ports.BodyToEmitDTO;
+import engine.events.domain.ports.DomainEventType;
+import engine.events.domain.ports.eventtype.CollisionEvent;
+import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.events.domain.ports.eventtype.EmitEvent;
+import engine.events.domain.ports.eventtype.LifeOver;
+import engine.events.domain.ports.eventtype.LimitEvent;
+import engine.events.domain.ports.payloads.CollisionPayload;
+import engine.events.domain.ports.payloads.DomainEventPayload;
+import engine.events.domain.ports.payloads.EmitPayloadDTO;
+
+/**
+ * DomainEventPool
+ * ---------------
+ *
+ * Free lists of domain events, one per event type, so event detection does
+ * not allocate once the pool is warm. Emit events keep their payload and
+ * reuse it; collision payloads are the shared immutable instances.
+ *
+ * Lifecycle
+ * ---------
+ * Each worker owns one pool next to its event list (WorkerScratch): events
+ * are acquired while detecting and released all together when the worker
+ * clears its event list (next body in a runner, next NARROWPHASE in the
+ * phased tick). An event must therefore not outlive the processing of its
+ * body: actions relayed to another body carry a detachedCopy() instead.
+ *
+ * Not thread-safe: only the owner of the WorkerScratch (or the tick thread,
+ * while the workers are idle) uses it.
+ */
+public final class DomainEventPool {
+
+    // region Constants
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_IDLE_PER_TYPE = 16_384;
+    // endregion
+
+    // region Fields
+    private final ArrayList<CollisionEvent> collisions = new ArrayList<>(INITIAL_CAPACITY);
+    private final ArrayList<EmitEvent> emits = new ArrayList<>(INITIAL_CAPACITY);
+    private final ArrayList<LifeOver> lifeOvers = new ArrayList<>(INITIAL_CAPACITY);
+    private final ArrayList<LimitEvent> limits = new ArrayList<>(INITIAL_CAPACITY);
+    private long misses = 0L;
+    // endregion
+
+    // *** PUBLICS ***
+
+    public CollisionEvent collision(BodyRefDTO primaryBodyRef, BodyRefDTO secondaryBodyRef, boolean haveImmunity) {
+        if (secondaryBodyRef == null)
+            throw new IllegalArgumentException("CollisionEvent requires secondaryBody");
+
+        CollisionEvent event = this.collisions.isEmpty()
+                ? this.miss(new CollisionEvent())
+                : this.collisions.remove(this.collisions.size() - 1);
+
+        setEvent(event, DomainEventType.COLLISION, primaryBodyRef, secondaryBodyRef,
+                CollisionPayload.of(haveImmunity));
+        return event;
+    }
+
+    public EmitEvent emit(DomainEventType type, BodyRefDTO primaryBodyRef, BodyToEmitDTO bodyConfig) {
+        EmitEvent event = this.emits.isEmpty()
+                ? this.miss(new EmitEvent())
+                : this.emits.remove(this.emits.size() - 1);
+
+        // The payload stays with the event between uses
+        EmitPayloadDTO payload = event.payload;
+        if (payload == null) {
+            payload = new EmitPayloadDTO(primaryBodyRef, bodyConfig);
+        } else {
+            payload.set(primaryBodyRef, bodyConfig);
+        }
+
+        setEvent(event, type, primaryBodyRef, null, payload);
+        return event;
+    }
+
+    public LifeOver lifeOver(BodyRefDTO primaryBodyRef) {
+        LifeOver event = this.lifeOvers.isEmpty()
+                ? this.miss(new LifeOver())
+                : this.lifeOvers.remove(this.lifeOvers.size() - 1);
+
+        setEvent(event, DomainEventType.LIFE_OVER, primaryBodyRef, null, null);
+        return event;
+    }
+
+    public LimitEvent limit(DomainEventType type, BodyRefDTO primaryBodyRef) {
+        if (!LimitEvent.isLimitType(type))
+            throw new IllegalArgumentException("LimitEvent requires a limit event type");
+
+        LimitEvent event = this.limits.isEmpty()
+                ? this.miss(new LimitEvent())
+                : this.limits.remove(this.limits.size() - 1);
+
+        setEvent(event, type, primaryBodyRef, null, null);
+        return event;
+    }
+
+    // region getters (get***)
+    /**
+     * Events created because the free list was empty (pool warm-up).
+     */
+    public long getMissCount() {
+        return this.misses;
+    }
+
+    public int getPoolSize() {
+        return this.collisions.size() + this.emits.size() + this.lifeOvers.size() + this.limits.size();
+    }
+    // endregion
+
+    /**
+     * Give the event back. It is reset (no body refs); the caller must not
+     * use it anymore. Events beyond MAX_IDLE_PER_TYPE are left to the GC.
+     */
+    public void release(DomainEvent event) {
+        switch (event) {
+            case CollisionEvent e -> recycle(this.collisions, e);
+            case EmitEvent e -> {
+                EmitPayloadDTO payload = e.payload;
+                recycle(this.emits, e);
+                e.payload = payload; // Kept: reused by the next emit()
+            }
+            case LifeOver e -> recycle(this.lifeOvers, e);
+            case LimitEvent e -> recycle(this.limits, e);
+        }
+    }
+
+    public void releaseAll(List<DomainEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            DomainEvent event = events.get(i);
+            if (event != null) {
+                this.release(event);
+            }
+        }
+    }
+
+    // *** PRIVATE ***
+
+    private <E> E miss(E event) {
+        this.misses++;
+        return event;
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static <E extends AbstractDomainEvent<?>> void recycle(ArrayList<E> freeList, E event) {
+        resetEvent(event);
+        if (freeList.size() < MAX_IDLE_PER_TYPE) {
+            freeList.add(event);
+        }
+    }
+
+    private static void resetEvent(AbstractDomainEvent<?> event) {
+        event.reset();
+    }
+
+    private static <P extends DomainEventPayload> void setEvent(
+            AbstractDomainEvent<P> event, DomainEventType type,
+            BodyRefDTO primaryBodyRef, BodyRefDTO secondaryBodyRef, P payload) {
+
+        event.set(type, primaryBodyRef, secondaryBodyRef, payload);
+    }
+
+    // *** STATICS ***
+
+    /**
+     * Copy of the event that does not belong to any pool (new objects), for
+     * references that outlive the processing of the body: actions relayed to
+     * another body.
+     */
+    public static DomainEvent detachedCopy(DomainEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return switch (event) {
+            case CollisionEvent e -> new CollisionEvent(e.primaryBodyRef, e.secondaryBodyRef, e.payload);
+            case EmitEvent e -> new EmitEvent(e.type, e.primaryBodyRef,
+                    e.payload == null ? null : new EmitPayloadDTO(e.payload.emitterRef, e.payload.bodyConfig));
+            case LifeOver e -> new LifeOver(e.primaryBodyRef);
+            case LimitEvent e -> new LimitEvent(e.type, e.primaryBodyRef);
+        };
+    }
+}
@@ -2,9 +2,13 @@ package engine.events.domain.ports;
 
 import engine.model.bodies.ports.BodyType;
 
-public record BodyRefDTO(String id, BodyType type) {
+/**
+ * Reference to a body in a domain event. Negative handles are only valid for
+ * GRAVITY walls of the tile collision layer (they are not bodies).
+ */
+public record BodyRefDTO(int handle, BodyType type) {
     public BodyRefDTO {
-        if (id == null || id.isBlank()) throw new IllegalArgumentException("EntityRef.id is required");
         if (type == null) throw new IllegalArgumentException("EntityRef.type is required");
+        if (handle < 0 && type != BodyType.GRAVITY) throw new IllegalArgumentException("EntityRef.handle is required");
     }
-}
\ No newline at end of file
+}
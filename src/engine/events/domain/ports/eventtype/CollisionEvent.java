@@ -16,4 +16,8 @@ public final class CollisionEvent extends AbstractDomainEvent<CollisionPayload>
         if (secondaryBodyRef == null)
             throw new IllegalArgumentException("CollisionEvent requires secondaryBody");
     }
-}
\ No newline at end of file
+
+    // Pool factory (DomainEventPool)
+    public CollisionEvent() {
+    }
+}
@@ -15,4 +15,8 @@ public final class EmitEvent extends AbstractDomainEvent<EmitPayloadDTO> impleme
         super(eventType, primaryBodyRef, null, payload);
     }
 
+    // Pool factory (DomainEventPool)
+    public EmitEvent() {
+    }
+
 }
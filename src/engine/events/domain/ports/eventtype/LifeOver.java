@@ -13,4 +13,8 @@ public final class LifeOver extends AbstractDomainEvent<NoPayload> implements Do
 
     }
 
+    // Pool factory (DomainEventPool)
+    public LifeOver() {
+    }
+
 }
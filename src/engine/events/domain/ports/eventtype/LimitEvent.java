@@ -13,13 +13,20 @@ public final class LimitEvent extends AbstractDomainEvent <NoPayload> implements
 
         super(type, primaryBodyRef, null);
 
-        if (type != DomainEventType.REACHED_EAST_LIMIT &&
-                type != DomainEventType.REACHED_WEST_LIMIT &&
-                type != DomainEventType.REACHED_NORTH_LIMIT &&
-                type != DomainEventType.REACHED_SOUTH_LIMIT) {
-
+        if (!isLimitType(type)) {
             throw new IllegalArgumentException("LimitEvent requires a limit event type");
         }
     }
 
+    // Pool factory (DomainEventPool)
+    public LimitEvent() {
+    }
+
+    public static boolean isLimitType(DomainEventType type) {
+        return type == DomainEventType.REACHED_EAST_LIMIT ||
+                type == DomainEventType.REACHED_WEST_LIMIT ||
+                type == DomainEventType.REACHED_NORTH_LIMIT ||
+                type == DomainEventType.REACHED_SOUTH_LIMIT;
+    }
+
 }
@@ -1,10 +1,19 @@
 package engine.events.domain.ports.payloads;
 
+/**
+ * Immutable: the Model shares one instance per value (of()).
+ */
 public final class CollisionPayload implements DomainEventPayload {
+    public static final CollisionPayload IMMUNE = new CollisionPayload(true);
+    public static final CollisionPayload NOT_IMMUNE = new CollisionPayload(false);
+
     public final boolean haveImmunity;
 
     public CollisionPayload(boolean playerHaveImmunity) {
         this.haveImmunity = playerHaveImmunity;
     }
+
+    public static CollisionPayload of(boolean haveImmunity) {
+        return haveImmunity ? IMMUNE : NOT_IMMUNE;
+    }
 }
-    
\ No newline at end of file
@@ -3,12 +3,20 @@ package engine.events.domain.ports.payloads;
 import engine.events.domain.ports.BodyRefDTO;
 import engine.events.domain.ports.BodyToEmitDTO;
 
+/**
+ * Owned by its EmitEvent and reused with it (DomainEventPool): only valid
+ * while the event is.
+ */
 public final class EmitPayloadDTO implements DomainEventPayload {
 
-    public final BodyRefDTO emitterRef;
-    public final BodyToEmitDTO bodyConfig;
+    public BodyRefDTO emitterRef;
+    public BodyToEmitDTO bodyConfig;
 
     public EmitPayloadDTO(BodyRefDTO bodyEmitterRef, BodyToEmitDTO bodyConfig) {
+        this.set(bodyEmitterRef, bodyConfig);
+    }
+
+    public void set(BodyRefDTO bodyEmitterRef, BodyToEmitDTO bodyConfig) {
         if (bodyEmitterRef == null)
             throw new IllegalArgumentException("EmitPayloadDTO.emitterRef is required");
         if (bodyConfig == null)
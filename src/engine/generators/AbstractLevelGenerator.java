@@ -94,6 +94,12 @@ public abstract class AbstractLevelGenerator {
                 bodyDef.posX, bodyDef.posY,
                 bodyDef.angle);
     }
+
+    protected void addSolidTilesIntoTheGame(String assetId, int[][] grid, int solidValue,
+            double offsetX, double offsetY, int tileSize) {
+
+        this.worldManager.addSolidTiles(assetId, grid, solidValue, offsetX, offsetY, tileSize);
+    }
     // endregion
 
     // region equippers (equip***)
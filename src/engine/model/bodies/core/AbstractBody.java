@@ -2,15 +2,14 @@ package engine.model.bodies.core;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import engine.actions.ActionDTO;
 import engine.events.domain.ports.BodyRefDTO;
-import engine.events.domain.ports.eventtype.DomainEvent;
 import engine.model.bodies.ports.BodyData;
 import engine.model.bodies.ports.BodyEventProcessor;
 import engine.model.bodies.ports.BodyState;
@@ -21,7 +20,9 @@ import engine.model.physics.core.AbstractPhysicsEngine;
 import engine.model.physics.ports.PhysicsEngine;
 import engine.model.physics.ports.PhysicsValuesDTO;
 import engine.utils.pooling.PoolMDTO;
-import engine.utils.spatial.core.SpatialGrid;
+import engine.utils.spatial.core.Cells;
+import engine.utils.spatial.ports.Broadphase;
+import engine.utils.timing.TimerWheel;
 
 /**
  * AbstractBody
@@ -39,13 +40,11 @@ import engine.utils.spatial.core.SpatialGrid;
  * ---------------------
  * - Lifecycle management: STARTING → ALIVE → DEAD state transitions
  * - Physics integration: owns and delegates to PhysicsEngine instance
- * - Spatial indexing: manages registration in SpatialGrid for collision
+ * - Spatial indexing: manages registration in the Broadphase for collision
  * detection
  * - Event processing: delegates to BodyEventProcessor (typically the Model)
  * - Emitter management: supports multiple particle/trail emitters per body
  * - Entity statistics: tracks global alive/created/dead counts
- * - Scratch buffer allocation: provides pre-allocated buffers to avoid GC
- * pressure
  *
  * Architecture Pattern
  * --------------------
@@ -63,9 +62,10 @@ import engine.utils.spatial.core.SpatialGrid;
  * ----------------
  * 1) Construction:
  * - State = STARTING
- * - Unique bodyId (UUID) generated
- * - PhysicsEngine, BodyEventProcessor, SpatialGrid injected
- * - Scratch buffers pre-allocated
+ * - Unique int bodyHandle issued by the static BodyRegistry (index +
+ * generation); bodyId is its decimal string, kept only for the
+ * Controller/View boundary
+ * - PhysicsEngine, BodyStateStore, BodyEventProcessor, SpatialGrid injected
  * - bornTime recorded for lifetime tracking
  * - createdQuantity++ (static counter)
  *
@@ -80,6 +80,8 @@ import engine.utils.spatial.core.SpatialGrid;
  * - State → DEAD
  * - deadQuantity++, aliveQuantity-- (static counters)
  * - Idempotent: multiple die() calls are safe
+ * - The handle and its BodyStateStore slot are released: stale handles
+ * resolve to null from then on
  * - Dead bodies are removed from SpatialGrid by the Model
  *
  * State Machine
@@ -101,8 +103,12 @@ import engine.utils.spatial.core.SpatialGrid;
  * -------------------
  * AbstractBody owns a PhysicsEngine instance that handles all physics
  * calculations:
- * - getPhysicsValues(): returns immutable PhysicsValuesDTO snapshot
+ * - getPhysicsValues(): live committed PhysicsValuesDTO (owner thread only)
+ * - getPhysicsSnapshot(out): consistent copy for any other thread (seqlock,
+ * see AbstractPhysicsEngine)
  * - doMovement(phyValues): commits new physics state to engine
+ * - doMovement(timeStamp, posX, ...): same, through the engine's next DTO
+ * (no allocation per commit)
  * - reboundIn[East|West|North|South](): delegates boundary rebound to engine
  * - isThrusting(): queries engine for thrust state
  *
@@ -110,23 +116,30 @@ import engine.utils.spatial.core.SpatialGrid;
  * PhysicsEngine. This allows swapping physics implementations without touching
  * entity code.
  *
+ * Every commit of the engine is mirrored into the BodyStateStore of the
+ * body's Model (one primitive array per field, indexed by the handle slot). The phased
+ * tick integrates the whole store in one linear pass and each engine just
+ * picks up its result; the body and its DTOs are the facade over it.
+ *
  * Spatial Grid Integration
  * -------------------------
  * Bodies with spatial grid support (dynamic bodies) maintain their position
  * in the grid for efficient collision detection:
  * - spatialGridUpsert(): updates grid cells occupied by this body
  * - Uses body's bounding circle (posX, posY, size/2) to determine cells
- * - scratchIdxs buffer stores cell indices to avoid allocation
+ * - the cell index buffer comes from the WorkerScratch of the caller
+ * - spatialCells holds the body's current cells (grid reverse mapping owned
+ * by the body, so the grid needs no id -> cells map)
  * - Decorator bodies have spatialGrid == null (no collision detection)
  *
  * Event Processing Pipeline
  * --------------------------
- * processBodyEvents(body, newPhyValues, oldPhyValues):
+ * processBodyEvents(body, newPhyValues, oldPhyValues, scratch):
  * - Delegates to BodyEventProcessor (typically the Model)
  * - Model detects events (collisions, limits, emissions, life over)
  * - Model decides actions based on events
  * - Model executes actions (movement, spawning, death)
- * - Uses scratch buffers to avoid allocation during event processing
+ * - Uses the WorkerScratch of the processing worker to avoid allocation
  *
  * Emitter System
  * --------------
@@ -153,20 +166,21 @@ import engine.utils.spatial.core.SpatialGrid;
  *
  * Lifetime is checked during event processing and triggers LifeOver event.
  *
+ * Once startTimers(timerWheel, ...) is called, life over and emitter
+ * immunity are one-shot TimerWheel timers that flip volatile flags:
+ * isLifeOver() and isEmitterImmune() become plain reads instead of a
+ * System.nanoTime() call per check. Both timers are cancelled on die().
+ *
  * Scratch Buffers (Zero-Allocation Design)
  * -----------------------------------------
- * To minimize garbage collection pressure during physics updates, AbstractBody
- * pre-allocates scratch buffers that are reused across frames:
- *
- * - scratchIdxs: int[] for SpatialGrid cell indices
- * - scratchCandidateIds: ArrayList<String> for collision candidates
- * - scratchSeenCandidateIds: HashSet<String> for collision deduplication
- * - scratchEvents: ArrayList<DomainEvent> for event accumulation
- * - scratchActions: List<ActionDTO> for action accumulation
+ * Cell indices, collision candidates, domain events and the wall contact
+ * output are only needed while a body is being processed, so they live in
+ * a WorkerScratch owned by the worker thread (runner or phased tick worker)
+ * and handed to onTick() / processBodyEvents(), not in every body. The body
+ * only keeps what must outlive processing:
  *
- * All getScratch***() methods clear their buffer before returning, ensuring
- * fresh state for each physics update. This pattern enables 60+ Hz physics
- * updates with minimal GC pauses.
+ * - actionsQueue: List<ActionDTO> for action accumulation (other bodies
+ * relay actions into it)
  *
  * Threading Model
  * ---------------
@@ -214,59 +228,74 @@ public abstract class AbstractBody {
     private static volatile int aliveQuantity = 0;
     private static volatile int createdQuantity = 0;
     private static volatile int deadQuantity = 0;
+    private static final BodyRegistry registry = new BodyRegistry();
     // endregion
 
     // region Fields
     private final List<ActionDTO> actionsQueue = new ArrayList<>(64);
     private final String bodyEmitterId; // ID of the body that emit this body (or null)
     private final BodyEventProcessor bodyEventProcessor;
-    private final String bodyId;
+    private final int bodyHandle;
+    private final String bodyId; // Boundary id (Controller/View): String.valueOf(bodyHandle)
     private final long bornTime = System.nanoTime();
     private final Map<String, BasicEmitter> emitters = new ConcurrentHashMap<>();
+    private final Queue<ActionDTO> externalActions = new ConcurrentLinkedQueue<>();
+    private volatile PhysicsValuesDTO integratedPhyValues; // Last integrate() result (not committed)
     private final double maxLifeInSeconds; // Infinite life by default
     private final PhysicsEngine phyEngine;
+    private final BodyStateStore stateStore; // SoA mirror of the engine (null: none)
     private volatile BodyState state;
     private Thread thread;
     private final BodyType type;
     // endregion
+
+    // region Timers (TimerWheel)
+    private volatile TimerWheel timerWheel = null;
+    private volatile boolean lifeOver = false;
+    private volatile boolean emitterImmune = false;
+    private long lifeTimer = TimerWheel.NO_TIMER;
+    private long immunityTimer = TimerWheel.NO_TIMER;
+    // endregion
     
-    // region Scratch buffers
+    // region Spatial index and cached refs
     private final BodyRefDTO bodyRef;
-    private final BodyData bodyData;
-    private final SpatialGrid spatialGrid;
-    private final int[] scratchIdxs;
-    private final ArrayList<String> scratchCandidateIds;
-    private final HashSet<String> scratchSeenCandidateIds = new HashSet<>(64);
-
-    private final ArrayList<DomainEvent> scratchEvents = new ArrayList<>(64);
+    private final Broadphase spatialGrid;
+    private final Cells spatialCells;
     // endregion
 
     // region Constructors
-    public AbstractBody(BodyEventProcessor bodyEventProcessor, SpatialGrid spatialGrid,
-            PhysicsEngine phyEngine, BodyType type,
+    public AbstractBody(BodyEventProcessor bodyEventProcessor, Broadphase spatialGrid,
+            PhysicsEngine phyEngine, BodyStateStore stateStore, BodyType type,
             double maxLifeInSeconds, String emitterId) {
 
         this.bodyEventProcessor = bodyEventProcessor;
         this.phyEngine = phyEngine;
+        this.stateStore = stateStore;
         this.type = type;
         this.maxLifeInSeconds = maxLifeInSeconds;
         this.bodyEmitterId = emitterId;
 
         if (spatialGrid != null) {
             this.spatialGrid = spatialGrid;
-            this.scratchIdxs = new int[spatialGrid.getMaxCellsPerBody()];
-            this.scratchCandidateIds = new ArrayList<String>(64);
+            this.spatialCells = spatialGrid.newCells();
 
         } else {
             this.spatialGrid = null;
-            this.scratchIdxs = null;
-            this.scratchCandidateIds = null;
+            this.spatialCells = null;
         }
 
-        this.bodyId = UUID.randomUUID().toString();
+        this.bodyHandle = AbstractBody.registry.reserve();
+        this.bodyId = String.valueOf(this.bodyHandle);
         this.state = BodyState.STARTING;
-        this.bodyRef = new BodyRefDTO(this.bodyId, this.type);
-        this.bodyData = new BodyData(this.bodyId, this.type, null);
+        this.bodyRef = new BodyRefDTO(this.bodyHandle, this.type);
+
+        if (stateStore != null && phyEngine instanceof AbstractPhysicsEngine engine) {
+            // SoA mirror of the physics values (bulk integration)
+            stateStore.bind(this.bodyHandle, this.type, engine.getPhysicsValues());
+            engine.bindStateStore(stateStore, this.bodyHandle);
+        }
+
+        AbstractBody.registry.bind(this); // Resolvable from now on
     }
     // endregion
 
@@ -283,30 +312,60 @@ public abstract class AbstractBody {
     /**
      * Execute one physics/logic tick for this body.
      * 
-     * This method contains the core logic that should be executed once per frame.
-     * It is called either:
-     * - From the body's own run() loop (when using individual threads)
-     * - From MultiBodyRunner.executeBodyStep() (when using batched execution)
+     * This method contains the core logic that should be executed once per
+     * simulation tick. It is called from MultiBodyRunner each time the shared
+     * SimulationClock publishes a new tick.
      * 
      * Subclasses must implement this to define their per-tick behavior.
+     * 
+     * @param dtSeconds fixed step length of the simulation clock
+     * @param scratch   scratch buffers of the worker running the tick
      */
-    public abstract void onTick();
+    public abstract void onTick(double dtSeconds, WorkerScratch scratch);
 
+    /**
+     * Relay an action decided while processing another body. Safe to call
+     * from any thread: actions are parked in a concurrent inbox and moved to
+     * the actions queue by the owner thread in getActionsQueue().
+     */
     public void enqueueExternalAction(ActionDTO action) {
         if (action == null) {
             throw new IllegalArgumentException("Action cannot be null");
         }
 
-        this.actionsQueue.add(action);
+        this.externalActions.add(action);
     }
 
-    public synchronized void die() {
+    /**
+     * Compute (without committing) the physics values of the next tick.
+     * Bodies without physics keep their current values.
+     */
+    public PhysicsValuesDTO integrate(double dtSeconds) {
+        PhysicsValuesDTO phyValues = this.getPhysicsValues();
+        this.integratedPhyValues = phyValues;
+        return phyValues;
+    }
+
+    /**
+     * @return false if the body was already dead (nothing done)
+     */
+    public synchronized boolean die() {
         if (this.state == BodyState.DEAD) {
-            return;
+            return false;
         }
 
         this.state = BodyState.DEAD;
         AbstractBody.deadQuantity++;
+        if (this.stateStore != null) {
+            this.stateStore.unbind(this.bodyHandle);
+        }
+        AbstractBody.registry.release(this.bodyHandle);
+
+        TimerWheel wheel = this.timerWheel;
+        if (wheel != null) {
+            wheel.cancel(this.lifeTimer);
+            wheel.cancel(this.immunityTimer);
+        }
 
         if (AbstractBody.aliveQuantity > 0) {
             AbstractBody.aliveQuantity--;
@@ -323,6 +382,7 @@ public abstract class AbstractBody {
             pool.release(engine.getNextPhyValues());
             pool.release(engine.getSnapshotDTO());
         }
+        return true;
     }
 
     public void doMovement(PhysicsValuesDTO phyValues) {
@@ -330,6 +390,28 @@ public abstract class AbstractBody {
         engine.setPhysicsValues(phyValues);
     }
 
+    /**
+     * Commit values computed field by field (wall resolution) without
+     * allocating a DTO: the engine fills its own next one.
+     */
+    public void doMovement(long timeStamp,
+            double posX, double posY, double angle,
+            double size,
+            double speedX, double speedY,
+            double accX, double accY,
+            double angularSpeed, double angularAcc,
+            double thrust) {
+
+        PhysicsEngine engine = this.getPhysicsEngine();
+        engine.setPhysicsValues(timeStamp,
+                posX, posY, angle,
+                size,
+                speedX, speedY,
+                accX, accY,
+                angularSpeed, angularAcc,
+                thrust);
+    }
+
     // region Emitter management (emitter***())
     public List<BasicEmitter> emitterActiveList(double dtSeconds) {
         List<BasicEmitter> active = new ArrayList<>();
@@ -380,15 +462,23 @@ public abstract class AbstractBody {
     // endregion
 
     // region Body getters (getBody***())
+    /**
+     * New BodyData holding a consistent copy of the physics values (safe
+     * from any thread).
+     */
     public BodyData getBodyData() {
-        this.bodyData.setPhysicsValues(this.getPhysicsValues());
-        return this.bodyData;
+        PhysicsValuesDTO snapshot = new PhysicsValuesDTO(0L, 0.0d, 0.0d, 0.0d, 0.0d);
+        return new BodyData(this.bodyId, this.type, this.phyEngine.snapshot(snapshot));
     }
 
     public String getBodyEmitterId() {
         return this.bodyEmitterId; // Body that emitted this body (emissor body)
     }
 
+    public int getBodyHandle() {
+        return this.bodyHandle;
+    }
+
     public String getBodyId() {
         return this.bodyId;
     }
@@ -443,41 +533,48 @@ public abstract class AbstractBody {
         return this.phyEngine;
     }
 
+    /**
+     * Values produced by the last integrate() call, or the committed values
+     * if the body was never integrated.
+     */
+    public PhysicsValuesDTO getPhysicsIntegratedValues() {
+        PhysicsValuesDTO integrated = this.integratedPhyValues;
+        return integrated != null ? integrated : this.phyEngine.getPhysicsValues();
+    }
+
+    /**
+     * Consistent copy of the committed values into out, for threads that do
+     * not own the body.
+     */
+    public PhysicsValuesDTO getPhysicsSnapshot(PhysicsValuesDTO out) {
+        return this.phyEngine.snapshot(out);
+    }
+
     public PhysicsValuesDTO getPhysicsValues() {
         return this.phyEngine.getPhysicsValues();
     }
     // endregion
 
-    // region Scratch getters (getScratch***())
+    // region Action queue
     public List<ActionDTO> getActionsQueue() {
         // Do NOT clear here - external actions may have been enqueued
         // The queue will be cleared after actions are executed in
         // Model.executeActionList()
+        ActionDTO external;
+        while ((external = this.externalActions.poll()) != null) {
+            this.actionsQueue.add(external);
+        }
         return this.actionsQueue;
     }
 
-    public ArrayList<String> getScratchClearCandidateIds() {
-        this.scratchCandidateIds.clear();
-        return scratchCandidateIds;
-    }
-
-    public HashSet<String> getScratchClearSeenCandidateIds() {
-        this.scratchSeenCandidateIds.clear();
-        return this.scratchSeenCandidateIds;
-    }
+    // endregion
 
-    public ArrayList<DomainEvent> getScratchClearEvents() {
-        this.scratchEvents.clear();
-        return this.scratchEvents;
+    // region SpatialGrid getters
+    public Cells getSpatialCells() {
+        return this.spatialCells;
     }
 
-    public int[] getScratchIdxs() {
-        return this.scratchIdxs;
-    }
-    // endregion
-
-    // region SpatialGrid getter
-    public SpatialGrid getSpatialGrid() {
+    public Broadphase getSpatialGrid() {
         return this.spatialGrid;
     }
     // endregion
@@ -488,6 +585,10 @@ public abstract class AbstractBody {
             return false;
         }
 
+        if (this.timerWheel != null) {
+            return this.emitterImmune;
+        }
+
         return this.getLifeInSeconds() < EMITTER_IMMUNITY_TIME;
     }
 
@@ -496,6 +597,10 @@ public abstract class AbstractBody {
             return false;
         }
 
+        if (this.timerWheel != null) {
+            return this.lifeOver;
+        }
+
         boolean lifeOver = this.getLifeInSeconds() >= this.maxLifeInSeconds;
         return lifeOver;
     }
@@ -505,8 +610,50 @@ public abstract class AbstractBody {
     }
     // endregion
 
-    public void processBodyEvents(AbstractBody body, PhysicsValuesDTO newPhyValues, PhysicsValuesDTO oldPhyValues) {
-        this.bodyEventProcessor.processBodyEvents(body, newPhyValues, oldPhyValues);
+    /**
+     * Drive life over and emitter immunity with one-shot timers instead of
+     * polling the body age. Call once, right after activate().
+     *
+     * @param onLifeOver optional task run by the wheel when the life is over
+     *                   (on the clock thread: must be short)
+     */
+    public synchronized void startTimers(TimerWheel timerWheel, Runnable onLifeOver) {
+        if (timerWheel == null) {
+            throw new IllegalArgumentException("timerWheel is null");
+        }
+        if (this.timerWheel != null) {
+            throw new IllegalStateException("Body timers already started");
+        }
+
+        this.emitterImmune = this.bodyEmitterId != null;
+        this.timerWheel = timerWheel;
+
+        if (this.maxLifeInSeconds >= 0) {
+            this.lifeTimer = timerWheel.scheduleSeconds(this.maxLifeInSeconds, () -> {
+                this.lifeOver = true;
+                if (onLifeOver != null) {
+                    onLifeOver.run();
+                }
+            });
+        }
+
+        if (this.bodyEmitterId != null) {
+            this.immunityTimer = timerWheel.scheduleSeconds(
+                    EMITTER_IMMUNITY_TIME, () -> this.emitterImmune = false);
+        }
+    }
+
+    public void processBodyEvents(AbstractBody body, PhysicsValuesDTO newPhyValues, PhysicsValuesDTO oldPhyValues,
+            WorkerScratch scratch) {
+        this.bodyEventProcessor.processBodyEvents(body, newPhyValues, oldPhyValues, scratch);
+    }
+
+    /**
+     * Report that the tick of this body threw (see
+     * BodyEventProcessor.processBodyFailure()).
+     */
+    public void processBodyFailure(Exception failure, WorkerScratch scratch) {
+        this.bodyEventProcessor.processBodyFailure(this, failure, scratch);
     }
 
     // region Rebound methods
@@ -535,6 +682,10 @@ public abstract class AbstractBody {
     // endregion
 
     // region Setters
+    protected void setPhysicsIntegratedValues(PhysicsValuesDTO phyValues) {
+        this.integratedPhyValues = phyValues;
+    }
+
     public void setState(BodyState state) {
         this.state = state;
     }
@@ -544,20 +695,23 @@ public abstract class AbstractBody {
     }
     // endregion
 
-    public void spatialGridUpsert() {
+    public void spatialGridUpsert(WorkerScratch scratch) {
+        this.spatialGridUpsert(this.getPhysicsValues(), scratch);
+    }
+
+    public void spatialGridUpsert(PhysicsValuesDTO phyValues, WorkerScratch scratch) {
         if (this.spatialGrid == null) {
             return;
         }
 
-        final PhysicsValuesDTO phyValues = this.getPhysicsValues();
-
         final double r = phyValues.size * 0.5; // si size es radio, r = committed.size
         final double minX = phyValues.posX - r;
         final double maxX = phyValues.posX + r;
         final double minY = phyValues.posY - r;
         final double maxY = phyValues.posY + r;
 
-        this.spatialGrid.upsert(this.getBodyId(), minX, maxX, minY, maxY, this.getScratchIdxs());
+        this.spatialGrid.upsert(this.bodyHandle, this.spatialCells, minX, maxX, minY, maxY,
+                scratch.getIdxs(this.spatialGrid.getMaxCellsPerBody()));
     }
 
     // *** STATICS ***
@@ -574,6 +728,10 @@ public abstract class AbstractBody {
     static public int getDeadQuantity() {
         return AbstractBody.deadQuantity;
     }
+
+    static public BodyRegistry getRegistry() {
+        return AbstractBody.registry;
+    }
     // endregion
 
     // region PROTECTED setters for static counters
@@ -0,0 +1,139 @@
+package engine.model.bodies.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * BodyRegistry
+ * ------------
+ *
+ * Issues dense int handles for bodies and resolves them back in O(1).
+ *
+ * Handle layout (always >= 0):
+ *
+ * [ 0 | generation (11 bits) | index (20 bits) ]
+ *
+ * - index: slot in a chunked array, reused after the body dies
+ * - generation: incremented on every release of the slot, so a stale handle
+ * (body already dead) never resolves to the body that reused the slot
+ *
+ * Lookups are lock-free (volatile array reads). Reserve/bind/release are
+ * infrequent (spawn and death) and serialized by the registry monitor.
+ */
+public final class BodyRegistry {
+
+    // region Constants
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int GENERATION_BITS = 11;
+    private static final int GENERATION_MASK = (1 << GENERATION_BITS) - 1;
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    static final int MAX_SLOTS = 1 << INDEX_BITS;
+    // endregion
+
+    // region Fields
+    private final AtomicReferenceArray<AtomicReferenceArray<AbstractBody>> chunks = new AtomicReferenceArray<>(
+            MAX_SLOTS / CHUNK_SIZE);
+    private int[] freeIndexes = new int[CHUNK_SIZE];
+    private int freeCount = 0;
+    private final int[][] generations = new int[MAX_SLOTS / CHUNK_SIZE][];
+    private int nextIndex = 0;
+    private volatile int registeredCount = 0;
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Resolve a handle. Returns null if the handle is unknown, not yet bound
+     * or stale (its body was released).
+     */
+    public AbstractBody get(int handle) {
+        if (handle < 0) {
+            return null;
+        }
+
+        int index = handle & INDEX_MASK;
+        AtomicReferenceArray<AbstractBody> chunk = this.chunks.get(index >>> CHUNK_BITS);
+        if (chunk == null) {
+            return null;
+        }
+
+        AbstractBody body = chunk.get(index & CHUNK_MASK);
+        return body != null && body.getBodyHandle() == handle ? body : null;
+    }
+
+    public int getRegisteredCount() {
+        return this.registeredCount;
+    }
+
+    /**
+     * Slot of the handle (stable for the whole life of the body), for
+     * per-body arrays indexed by slot.
+     */
+    public static int indexOf(int handle) {
+        return handle & INDEX_MASK;
+    }
+
+    // *** PRIVATE ***
+
+    /**
+     * Publish the body under the handle it got from reserve(). Must be called
+     * once the body's handle field is set.
+     */
+    synchronized void bind(AbstractBody body) {
+        int index = body.getBodyHandle() & INDEX_MASK;
+        this.chunks.get(index >>> CHUNK_BITS).set(index & CHUNK_MASK, body);
+        this.registeredCount++;
+    }
+
+    /**
+     * Free the slot of a dead body and bump its generation. Stale or unknown
+     * handles are ignored.
+     */
+    synchronized void release(int handle) {
+        if (this.get(handle) == null) {
+            return;
+        }
+
+        int index = handle & INDEX_MASK;
+        int chunkIndex = index >>> CHUNK_BITS;
+        this.chunks.get(chunkIndex).set(index & CHUNK_MASK, null);
+        int[] chunkGenerations = this.generations[chunkIndex];
+        chunkGenerations[index & CHUNK_MASK] = (chunkGenerations[index & CHUNK_MASK] + 1) & GENERATION_MASK;
+
+        if (this.freeCount == this.freeIndexes.length) {
+            this.freeIndexes = Arrays.copyOf(this.freeIndexes, this.freeCount * 2);
+        }
+        this.freeIndexes[this.freeCount++] = index;
+        this.registeredCount--;
+    }
+
+    /**
+     * Allocate a slot and return its handle. The body is not resolvable
+     * until bind() is called.
+     *
+     * @throws IllegalStateException if all slots are in use
+     */
+    synchronized int reserve() {
+        int index;
+        if (this.freeCount > 0) {
+            index = this.freeIndexes[--this.freeCount];
+        } else {
+            if (this.nextIndex >= MAX_SLOTS) {
+                throw new IllegalStateException("BodyRegistry.reserve() -> no free slots (" + MAX_SLOTS + ")");
+            }
+            index = this.nextIndex++;
+        }
+
+        int chunkIndex = index >>> CHUNK_BITS;
+        if (this.generations[chunkIndex] == null) {
+            this.generations[chunkIndex] = new int[CHUNK_SIZE];
+            this.chunks.set(chunkIndex, new AtomicReferenceArray<>(CHUNK_SIZE));
+        }
+
+        int generation = this.generations[chunkIndex][index & CHUNK_MASK];
+        return (generation << INDEX_BITS) | index;
+    }
+}
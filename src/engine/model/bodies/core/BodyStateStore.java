@@ -0,0 +1,517 @@
+package engine.model.bodies.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import engine.model.bodies.ports.BodyType;
+import engine.model.physics.ports.PhysicsValuesDTO;
+
+/**
+ * BodyStateStore
+ * --------------
+ *
+ * Structure-of-arrays copy of the physics state of every body, indexed by
+ * the slot of its handle in the BodyRegistry. One primitive array per field
+ * (posX, posY, speedX, ...) instead of one PhysicsValuesDTO per body, so the
+ * integration of the whole world is a linear pass over a few arrays.
+ *
+ * Write-through
+ * -------------
+ * The physics engines stay the owners of the committed values: every commit
+ * (AbstractPhysicsEngine.setPhysicsValues()) is copied into the store. Readers
+ * outside the integration keep using the engine DTOs; AbstractBody and the
+ * engines are the facade over the store.
+ *
+ * Bulk integration
+ * ----------------
+ * integrate() advances every enrolled slot (MRUA, same math as
+ * BasicPhysicsEngine) into the "next" arrays, flags the world limits the new
+ * position is beyond and marks the slot as integrated. The engine of the
+ * body then picks its values up with takeIntegrated() instead of integrating
+ * on its own. Damping factors are computed once per pass, not once per body.
+ * Only the phased tick enrolls its bodies: bodies ticked by runners keep
+ * integrating one by one, so a Model in RUNNERS mode has no store at all
+ * and its commits are not copied.
+ *
+ * The pass runs on an IntegrationKernel: VectorIntegrationKernel (SIMD lanes,
+ * jdk.incubator.vector) when the module is present at runtime
+ * (--add-modules jdk.incubator.vector) and not disabled with
+ * -Dengine.physics.vector=false; ScalarIntegrationKernel otherwise.
+ *
+ * Layout
+ * ------
+ * Slots are grouped in chunks of CHUNK_SIZE, allocated on first use and never
+ * moved, so a growing world never copies arrays under the feet of a reader
+ * (same scheme as BodyRegistry).
+ *
+ * Thread-safety
+ * -------------
+ * A slot is written by the thread that owns its body (commit) and read by the
+ * integration pass, which runs between the barriers of the phased tick. The
+ * slot owner handle is checked on every write, so a late commit of a dead
+ * body never lands on the body that reused its slot.
+ */
+public final class BodyStateStore {
+
+    // region Constants
+    public static final int LIMIT_EAST = 1; // posX < 0
+    public static final int LIMIT_WEST = 2; // posX >= worldWidth
+    public static final int LIMIT_NORTH = 4; // posY < 0
+    public static final int LIMIT_SOUTH = 8; // posY >= worldHeight
+    public static final int NO_LIMIT_FLAGS = -1;
+
+    static final int CHUNK_BITS = 12;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MIN_LEAF_SLOTS = 1024;
+    private static final int NO_HANDLE = -1;
+    private static final String VECTOR_KERNEL = "engine.model.bodies.core.VectorIntegrationKernel";
+    // endregion
+
+    // region Fields
+    private final AtomicReferenceArray<Chunk> chunks = new AtomicReferenceArray<>(
+            BodyRegistry.MAX_SLOTS / CHUNK_SIZE);
+    private final IntegrationKernel kernel;
+    private int pass = 0; // integrate() passes (single driver)
+    private volatile int slotLimit = 0; // highest bound slot + 1
+    // endregion
+
+    // region Constructors
+    public BodyStateStore() {
+        this(!"false".equals(System.getProperty("engine.physics.vector")));
+    }
+
+    /**
+     * @param vectorized use the SIMD kernel if jdk.incubator.vector is
+     *                   available (scalar kernel otherwise)
+     */
+    public BodyStateStore(boolean vectorized) {
+        this.kernel = vectorized ? newVectorKernel() : new ScalarIntegrationKernel();
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Bind the slot of the handle to a body and copy its initial values.
+     */
+    public void bind(int handle, BodyType type, PhysicsValuesDTO phyValues) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+
+        final int slot = BodyRegistry.indexOf(handle);
+        final Chunk chunk = this.chunkFor(slot);
+        final int i = slot & CHUNK_MASK;
+
+        chunk.enrolled[i] = false;
+        chunk.integrated[i] = false;
+        chunk.integrable[i] = type == BodyType.DYNAMIC || type == BodyType.PLAYER || type == BodyType.PROJECTILE;
+        chunk.projectile[i] = type == BodyType.PROJECTILE;
+        chunk.handles[i] = handle;
+        this.write(handle, phyValues);
+    }
+
+    /**
+     * Include the slot in the integrate() passes. Ignored for static bodies
+     * and stale handles.
+     */
+    public void enroll(int handle) {
+        final Chunk chunk = this.chunkOf(handle);
+        if (chunk == null) {
+            return;
+        }
+
+        final int i = BodyRegistry.indexOf(handle) & CHUNK_MASK;
+        if (chunk.handles[i] == handle && chunk.integrable[i]) {
+            chunk.enrolled[i] = true;
+        }
+    }
+
+    // region getters (get***)
+    public String getKernelName() {
+        return this.kernel.getName();
+    }
+
+    /**
+     * World limits (LIMIT_*) the position integrated for the handle by the
+     * last integrate() pass is beyond, or NO_LIMIT_FLAGS if that pass did
+     * not integrate it.
+     */
+    public int getLimitFlags(int handle) {
+        final Chunk chunk = this.chunkOf(handle);
+        if (chunk == null) {
+            return NO_LIMIT_FLAGS;
+        }
+
+        final int i = BodyRegistry.indexOf(handle) & CHUNK_MASK;
+        if (chunk.handles[i] != handle || chunk.integratedPass[i] != this.pass) {
+            return NO_LIMIT_FLAGS;
+        }
+        return chunk.limitFlags[i];
+    }
+
+    public int getSlotLimit() {
+        return this.slotLimit;
+    }
+    // endregion
+
+    /**
+     * Advance every enrolled slot by dt. Results are kept in the "next"
+     * arrays until the engine of each body takes them.
+     *
+     * @param pool pool used to split the slots (null = caller thread)
+     * @param worldWidth  world width for the limit flags
+     * @param worldHeight world height for the limit flags
+     * @return number of slots integrated
+     */
+    public int integrate(ForkJoinPool pool, double dt, double worldWidth, double worldHeight) {
+        if (dt <= 0.0d) {
+            throw new IllegalArgumentException("dt must be > 0");
+        }
+
+        final int limit = this.slotLimit;
+        final Step step = new Step(dt, worldWidth, worldHeight, ++this.pass);
+
+        if (pool == null || limit <= MIN_LEAF_SLOTS) {
+            return this.integrateRange(0, limit, step);
+        }
+
+        IntegrateTask task = new IntegrateTask(0, limit, step);
+        pool.invoke(task);
+        return task.integrated;
+    }
+
+    public boolean isVectorized() {
+        return !(this.kernel instanceof ScalarIntegrationKernel);
+    }
+
+    /**
+     * Copy the values produced by the last integrate() pass into out and
+     * clear the mark, so they are taken once.
+     *
+     * @return false if the slot was not integrated since the last take (the
+     *         caller must integrate on its own)
+     */
+    public boolean takeIntegrated(int handle, PhysicsValuesDTO out) {
+        final Chunk chunk = this.chunkOf(handle);
+        if (chunk == null) {
+            return false;
+        }
+
+        final int i = BodyRegistry.indexOf(handle) & CHUNK_MASK;
+        if (!chunk.integrated[i] || chunk.handles[i] != handle) {
+            return false;
+        }
+
+        chunk.integrated[i] = false;
+        out.update(
+                chunk.nextTimeStamp[i],
+                chunk.nextPosX[i], chunk.nextPosY[i], chunk.nextAngle[i],
+                chunk.size[i],
+                chunk.nextSpeedX[i], chunk.nextSpeedY[i],
+                chunk.nextAccX[i], chunk.nextAccY[i],
+                chunk.nextAngularSpeed[i],
+                chunk.angularAcc[i],
+                chunk.thrust[i]);
+        return true;
+    }
+
+    /**
+     * Release the slot: it leaves the integration until bound again.
+     */
+    public void unbind(int handle) {
+        final Chunk chunk = this.chunkOf(handle);
+        if (chunk == null) {
+            return;
+        }
+
+        final int i = BodyRegistry.indexOf(handle) & CHUNK_MASK;
+        if (chunk.handles[i] != handle) {
+            return; // ===== Slot already reused =====>
+        }
+
+        chunk.enrolled[i] = false;
+        chunk.integrable[i] = false;
+        chunk.integrated[i] = false;
+        chunk.handles[i] = NO_HANDLE;
+    }
+
+    /**
+     * Copy committed values into the slot. Ignored if the slot is not bound
+     * to this handle.
+     */
+    public void write(int handle, PhysicsValuesDTO phyValues) {
+        final Chunk chunk = this.chunkOf(handle);
+        if (chunk == null) {
+            return;
+        }
+
+        final int i = BodyRegistry.indexOf(handle) & CHUNK_MASK;
+        if (chunk.handles[i] != handle) {
+            return; // ===== Stale handle =====>
+        }
+
+        chunk.timeStamp[i] = phyValues.timeStamp;
+        chunk.posX[i] = phyValues.posX;
+        chunk.posY[i] = phyValues.posY;
+        chunk.angle[i] = phyValues.angle;
+        chunk.size[i] = phyValues.size;
+        chunk.speedX[i] = phyValues.speedX;
+        chunk.speedY[i] = phyValues.speedY;
+        chunk.accX[i] = phyValues.accX;
+        chunk.accY[i] = phyValues.accY;
+        chunk.angularSpeed[i] = phyValues.angularSpeed;
+        chunk.angularAcc[i] = phyValues.angularAcc;
+        chunk.thrust[i] = phyValues.thrust;
+    }
+
+    // *** PRIVATE ***
+
+    private Chunk chunkFor(int slot) {
+        final int chunkIndex = slot >>> CHUNK_BITS;
+        Chunk chunk = this.chunks.get(chunkIndex);
+        if (chunk != null) {
+            this.raiseSlotLimit(slot);
+            return chunk;
+        }
+
+        synchronized (this) {
+            chunk = this.chunks.get(chunkIndex);
+            if (chunk == null) {
+                chunk = new Chunk();
+                this.chunks.set(chunkIndex, chunk);
+            }
+        }
+
+        this.raiseSlotLimit(slot);
+        return chunk;
+    }
+
+    private Chunk chunkOf(int handle) {
+        if (handle < 0) {
+            return null; // Tiles and unknown handles
+        }
+        return this.chunks.get(BodyRegistry.indexOf(handle) >>> CHUNK_BITS);
+    }
+
+    /**
+     * MRUA step of the slots in [from, to), chunk by chunk.
+     */
+    private int integrateRange(int from, int to, Step step) {
+        int integrated = 0;
+        int slot = from;
+
+        while (slot < to) {
+            final int chunkIndex = slot >>> CHUNK_BITS;
+            final int chunkEnd = Math.min(to, (chunkIndex + 1) << CHUNK_BITS);
+            final Chunk chunk = this.chunks.get(chunkIndex);
+
+            if (chunk != null) {
+                final int chunkFrom = slot & CHUNK_MASK;
+                final int chunkTo = chunkEnd - (chunkIndex << CHUNK_BITS);
+                this.kernel.integrate(chunk, chunkFrom, chunkTo, step);
+                integrated += chunk.finish(chunkFrom, chunkTo, step);
+            }
+            slot = chunkEnd;
+        }
+
+        return integrated;
+    }
+
+    private synchronized void raiseSlotLimit(int slot) {
+        if (slot >= this.slotLimit) {
+            this.slotLimit = slot + 1;
+        }
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static IntegrationKernel newVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarIntegrationKernel(); // ===== Module not added =====>
+        }
+
+        try {
+            return (IntegrationKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return new ScalarIntegrationKernel();
+        }
+    }
+
+    /**
+     * Parameters of one integrate() pass (damping as in
+     * BasicPhysicsEngine.integrateMRUA()).
+     */
+    static final class Step {
+        final double dt;
+        final double projectileDamping;
+        final double acceleratingDamping;
+        final double idleDamping;
+        final long dtNanos;
+        final double worldWidth;
+        final double worldHeight;
+        final int pass;
+
+        Step(double dt, double worldWidth, double worldHeight, int pass) {
+            this.dt = dt;
+            this.projectileDamping = Math.pow(0.98, dt);
+            this.acceleratingDamping = Math.pow(0.35, dt);
+            this.idleDamping = Math.pow(0.0001, dt);
+            this.dtNanos = (long) (dt * 1_000_000_000.0d);
+            this.worldWidth = worldWidth;
+            this.worldHeight = worldHeight;
+            this.pass = pass;
+        }
+    }
+
+    /**
+     * CHUNK_SIZE slots. Kernels read the committed arrays and write the
+     * linear part of the step (position, speed, acceleration, angular speed,
+     * raw angle) into the next arrays of the enrolled slots; finish() does
+     * the rest.
+     */
+    static final class Chunk {
+        final int[] handles = new int[CHUNK_SIZE];
+        final boolean[] integrable = new boolean[CHUNK_SIZE]; // has physics (dynamic types)
+        final boolean[] enrolled = new boolean[CHUNK_SIZE];
+        final boolean[] projectile = new boolean[CHUNK_SIZE];
+        final boolean[] integrated = new boolean[CHUNK_SIZE];
+        final int[] integratedPass = new int[CHUNK_SIZE];
+        final byte[] limitFlags = new byte[CHUNK_SIZE];
+
+        // Committed values
+        final long[] timeStamp = new long[CHUNK_SIZE];
+        final double[] posX = new double[CHUNK_SIZE];
+        final double[] posY = new double[CHUNK_SIZE];
+        final double[] angle = new double[CHUNK_SIZE];
+        final double[] size = new double[CHUNK_SIZE];
+        final double[] speedX = new double[CHUNK_SIZE];
+        final double[] speedY = new double[CHUNK_SIZE];
+        final double[] accX = new double[CHUNK_SIZE];
+        final double[] accY = new double[CHUNK_SIZE];
+        final double[] angularSpeed = new double[CHUNK_SIZE];
+        final double[] angularAcc = new double[CHUNK_SIZE];
+        final double[] thrust = new double[CHUNK_SIZE];
+
+        // Integrated values (not committed)
+        final long[] nextTimeStamp = new long[CHUNK_SIZE];
+        final double[] nextPosX = new double[CHUNK_SIZE];
+        final double[] nextPosY = new double[CHUNK_SIZE];
+        final double[] nextAngle = new double[CHUNK_SIZE];
+        final double[] nextSpeedX = new double[CHUNK_SIZE];
+        final double[] nextSpeedY = new double[CHUNK_SIZE];
+        final double[] nextAccX = new double[CHUNK_SIZE];
+        final double[] nextAccY = new double[CHUNK_SIZE];
+        final double[] nextAngularSpeed = new double[CHUNK_SIZE];
+
+        private Chunk() {
+            Arrays.fill(this.handles, NO_HANDLE);
+        }
+
+        /**
+         * Linear part of the step for one slot (scalar path and SIMD tails).
+         */
+        void integrateSlot(int i, Step step) {
+            final double dt = step.dt;
+
+            // Direct acceleration plus thrust along the current angle
+            double ax = this.accX[i];
+            double ay = this.accY[i];
+            if (this.thrust[i] != 0.0d) {
+                final double angleRad = Math.toRadians(this.angle[i]);
+                ax += Math.cos(angleRad) * this.thrust[i];
+                ay += Math.sin(angleRad) * this.thrust[i];
+            }
+
+            final double dampingFactor = this.projectile[i] ? step.projectileDamping
+                    : (ax != 0.0d || ay != 0.0d) ? step.acceleratingDamping : step.idleDamping;
+
+            // v1 = v0 + a*dt ; x1 = x0 + avg(v0, v1)*dt
+            final double oldSpeedX = this.speedX[i] * dampingFactor;
+            final double oldSpeedY = this.speedY[i] * dampingFactor;
+            final double newSpeedX = oldSpeedX + ax * dt;
+            final double newSpeedY = oldSpeedY + ay * dt;
+
+            this.nextPosX[i] = this.posX[i] + (oldSpeedX + newSpeedX) * 0.5 * dt;
+            this.nextPosY[i] = this.posY[i] + (oldSpeedY + newSpeedY) * 0.5 * dt;
+            this.nextSpeedX[i] = newSpeedX;
+            this.nextSpeedY[i] = newSpeedY;
+            this.nextAccX[i] = ax;
+            this.nextAccY[i] = ay;
+
+            // w1 = w0 + α*dt ; θ1 = θ0 + w0*dt + 0.5*w1*dt^2 (wrapped in finish())
+            final double newAngularSpeed = this.angularSpeed[i] + this.angularAcc[i] * dt;
+            this.nextAngularSpeed[i] = newAngularSpeed;
+            this.nextAngle[i] = this.angle[i]
+                    + this.angularSpeed[i] * dt
+                    + 0.5d * newAngularSpeed * dt * dt;
+        }
+
+        /**
+         * Per-slot tail of the step for the enrolled slots: angle wrap,
+         * timestamp, world limit flags and the integrated mark.
+         *
+         * @return number of slots integrated
+         */
+        int finish(int from, int to, Step step) {
+            int integrated = 0;
+
+            for (int i = from; i < to; i++) {
+                if (!this.enrolled[i]) {
+                    continue;
+                }
+
+                // % is a libm call; it only changes angles past a full turn
+                final double angle = this.nextAngle[i];
+                if (angle >= 360 || angle <= -360) {
+                    this.nextAngle[i] = angle % 360;
+                }
+                this.nextTimeStamp[i] = this.timeStamp[i] + step.dtNanos;
+
+                final double x = this.nextPosX[i];
+                final double y = this.nextPosY[i];
+                this.limitFlags[i] = (byte) ((x < 0 ? LIMIT_EAST : 0)
+                        | (x >= step.worldWidth ? LIMIT_WEST : 0)
+                        | (y < 0 ? LIMIT_NORTH : 0)
+                        | (y >= step.worldHeight ? LIMIT_SOUTH : 0));
+
+                this.integratedPass[i] = step.pass;
+                this.integrated[i] = true;
+                integrated++;
+            }
+
+            return integrated;
+        }
+    }
+
+    private final class IntegrateTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final Step step;
+        private int integrated = 0;
+
+        private IntegrateTask(int from, int to, Step step) {
+            this.from = from;
+            this.to = to;
+            this.step = step;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= MIN_LEAF_SLOTS) {
+                this.integrated = integrateRange(this.from, this.to, this.step);
+                return;
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            IntegrateTask left = new IntegrateTask(this.from, mid, this.step);
+            IntegrateTask right = new IntegrateTask(mid, this.to, this.step);
+            invokeAll(left, right);
+            this.integrated = left.integrated + right.integrated;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package engine.model.bodies.core;
+
+/**
+ * Linear part of the MRUA step over a range of slots of a BodyStateStore
+ * chunk. Only enrolled slots must be written; the rest of the chunk arrays
+ * must be left untouched.
+ */
+interface IntegrationKernel {
+
+    String getName();
+
+    void integrate(BodyStateStore.Chunk chunk, int from, int to, BodyStateStore.Step step);
+}
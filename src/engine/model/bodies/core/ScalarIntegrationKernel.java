@@ -0,0 +1,22 @@
+package engine.model.bodies.core;
+
+/**
+ * One slot at a time. Fallback when jdk.incubator.vector is not available,
+ * and the reference for VectorIntegrationKernel.
+ */
+final class ScalarIntegrationKernel implements IntegrationKernel {
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public void integrate(BodyStateStore.Chunk chunk, int from, int to, BodyStateStore.Step step) {
+        for (int i = from; i < to; i++) {
+            if (chunk.enrolled[i]) {
+                chunk.integrateSlot(i, step);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package engine.model.bodies.core;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorIntegrationKernel
+ * -----------------------
+ *
+ * SIMD version of Chunk.integrateSlot(): SPECIES_PREFERRED lanes per step
+ * (4 doubles with AVX2, 8 with AVX-512). The thrust vector (cos/sin of the
+ * angle) is computed by a scalar pre-pass into nextAccX/nextAccY; the rest
+ * of the step runs on lanes, in the scalar order of operations, so results
+ * are bit-identical to ScalarIntegrationKernel. The remainder of the range
+ * goes through the scalar path.
+ *
+ * Only loaded (reflectively, by BodyStateStore) when jdk.incubator.vector is
+ * present at runtime.
+ */
+final class VectorIntegrationKernel implements IntegrationKernel {
+
+    // region Constants
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    // endregion
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+
+    @Override
+    public void integrate(BodyStateStore.Chunk chunk, int from, int to, BodyStateStore.Step step) {
+        final double dt = step.dt;
+        final int bound = from + SPECIES.loopBound(to - from);
+        int i = from;
+
+        // Trig stays scalar: lanewise COS/SIN are not intrinsified on most
+        // platforms and are slower than Math.cos/sin
+        for (int j = from; j < bound; j++) {
+            if (chunk.enrolled[j]) {
+                double ax = chunk.accX[j];
+                double ay = chunk.accY[j];
+                if (chunk.thrust[j] != 0.0d) {
+                    final double angleRad = Math.toRadians(chunk.angle[j]);
+                    ax += Math.cos(angleRad) * chunk.thrust[j];
+                    ay += Math.sin(angleRad) * chunk.thrust[j];
+                }
+                chunk.nextAccX[j] = ax;
+                chunk.nextAccY[j] = ay;
+            }
+        }
+
+        for (; i < bound; i += SPECIES.length()) {
+            final VectorMask<Double> enrolled = VectorMask.fromArray(SPECIES, chunk.enrolled, i);
+            if (!enrolled.anyTrue()) {
+                continue;
+            }
+
+            // Direct acceleration plus thrust (from the pre-pass)
+            final DoubleVector ax = DoubleVector.fromArray(SPECIES, chunk.nextAccX, i);
+            final DoubleVector ay = DoubleVector.fromArray(SPECIES, chunk.nextAccY, i);
+            final DoubleVector angle = DoubleVector.fromArray(SPECIES, chunk.angle, i);
+
+            // projectile ? projectile : accelerating ? accelerating : idle
+            final VectorMask<Double> accelerating = ax.compare(VectorOperators.NE, 0.0d)
+                    .or(ay.compare(VectorOperators.NE, 0.0d));
+            final VectorMask<Double> projectile = VectorMask.fromArray(SPECIES, chunk.projectile, i);
+            final DoubleVector damping = DoubleVector.broadcast(SPECIES, step.idleDamping)
+                    .blend(step.acceleratingDamping, accelerating)
+                    .blend(step.projectileDamping, projectile);
+
+            // v1 = v0 + a*dt ; x1 = x0 + avg(v0, v1)*dt
+            final DoubleVector oldSpeedX = DoubleVector.fromArray(SPECIES, chunk.speedX, i).mul(damping);
+            final DoubleVector oldSpeedY = DoubleVector.fromArray(SPECIES, chunk.speedY, i).mul(damping);
+            final DoubleVector newSpeedX = oldSpeedX.add(ax.mul(dt));
+            final DoubleVector newSpeedY = oldSpeedY.add(ay.mul(dt));
+
+            DoubleVector.fromArray(SPECIES, chunk.posX, i)
+                    .add(oldSpeedX.add(newSpeedX).mul(0.5d).mul(dt))
+                    .intoArray(chunk.nextPosX, i, enrolled);
+            DoubleVector.fromArray(SPECIES, chunk.posY, i)
+                    .add(oldSpeedY.add(newSpeedY).mul(0.5d).mul(dt))
+                    .intoArray(chunk.nextPosY, i, enrolled);
+            newSpeedX.intoArray(chunk.nextSpeedX, i, enrolled);
+            newSpeedY.intoArray(chunk.nextSpeedY, i, enrolled);
+
+            // w1 = w0 + α*dt ; θ1 = θ0 + w0*dt + 0.5*w1*dt^2 (wrapped in finish())
+            final DoubleVector angularSpeed = DoubleVector.fromArray(SPECIES, chunk.angularSpeed, i);
+            final DoubleVector newAngularSpeed = angularSpeed
+                    .add(DoubleVector.fromArray(SPECIES, chunk.angularAcc, i).mul(dt));
+            newAngularSpeed.intoArray(chunk.nextAngularSpeed, i, enrolled);
+            angle.add(angularSpeed.mul(dt))
+                    .add(newAngularSpeed.mul(0.5d).mul(dt).mul(dt))
+                    .intoArray(chunk.nextAngle, i, enrolled);
+        }
+
+        for (; i < to; i++) {
+            if (chunk.enrolled[i]) {
+                chunk.integrateSlot(i, step);
+            }
+        }
+    }
+}
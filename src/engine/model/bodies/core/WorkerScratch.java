@@ -0,0 +1,173 @@
+package engine.model.bodies.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import engine.events.domain.core.DomainEventPool;
+import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.model.impl.StructuralCommandBuffer;
+import engine.model.physics.ports.PhysicsValuesDTO;
+import engine.utils.helpers.IntArrayList;
+
+/**
+ * WorkerScratch
+ * -------------
+ *
+ * Scratch buffers used while a body is being processed: spatial index cell
+ * indices, collision / wall candidates, domain events and the wall contact
+ * output. They are only needed during processing, so they belong to the
+ * worker that processes the body (MultiBodyRunner, phased tick ForkJoin
+ * worker) instead of to every body: one set per worker thread, passed down
+ * through onTick() and processBodyEvents().
+ *
+ * The domain events of the list come from the worker's own DomainEventPool
+ * and go back to it when the list is cleared (getClearEvents()), so events
+ * are only valid until the worker starts detecting again.
+ *
+ * Spawns, despawns and equips requested by the worker are recorded in its
+ * StructuralCommandBuffer and applied by the Model at the tick boundary.
+ *
+ * It also holds the collision dedupe stamps: one int per registry slot with
+ * the number of the query that last saw the body. A new query only bumps the
+ * number, so deduping candidates found in several cells costs one array
+ * read per candidate (no sort, no hashing, no clearing).
+ *
+ * Not thread-safe: a worker keeps its own instance and only the owner
+ * writes it. Code paths that run outside any worker (body creation from the
+ * controller or generators) use forCurrentThread().
+ */
+public final class WorkerScratch {
+
+    // region Constants
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_SEEN_SLOTS = 1024;
+    private static final ThreadLocal<WorkerScratch> threadScratch = ThreadLocal.withInitial(WorkerScratch::new);
+    // endregion
+
+    // region Fields
+    private final IntArrayList candidateHandles = new IntArrayList(INITIAL_CAPACITY);
+    private final StructuralCommandBuffer commandBuffer = new StructuralCommandBuffer();
+    private final double[] contact = new double[4];
+    private final ArrayList<DomainEvent> events = new ArrayList<>(INITIAL_CAPACITY);
+    private final DomainEventPool eventPool = new DomainEventPool();
+    private final ArrayList<DomainEvent> eventSlice = new ArrayList<>(INITIAL_CAPACITY);
+    private int[] idxs = new int[0];
+    private final PhysicsValuesDTO peerPhyValues = new PhysicsValuesDTO(0L, 0.0d, 0.0d, 0.0d, 0.0d);
+    private int dedupeStamp = 0;
+    private int[] seenStamps = new int[INITIAL_SEEN_SLOTS]; // by registry slot
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Start a dedupe pass: every body is unseen again. O(1); the stamps are
+     * only wiped when the counter wraps around.
+     */
+    public void beginDedupe() {
+        this.dedupeStamp++;
+        if (this.dedupeStamp == 0) {
+            Arrays.fill(this.seenStamps, 0);
+            this.dedupeStamp = 1;
+        }
+    }
+
+    /**
+     * True the first time the body is seen in the current dedupe pass.
+     * Keyed by registry slot, so only pass handles of live (resolved)
+     * bodies: a stale handle shares the slot of the body that reused it.
+     */
+    public boolean firstSeen(int bodyHandle) {
+        final int slot = BodyRegistry.indexOf(bodyHandle);
+        if (slot >= this.seenStamps.length) {
+            this.seenStamps = Arrays.copyOf(this.seenStamps,
+                    Math.min(BodyRegistry.MAX_SLOTS, Math.max(slot + 1, this.seenStamps.length * 2)));
+        }
+
+        if (this.seenStamps[slot] == this.dedupeStamp) {
+            return false;
+        }
+        this.seenStamps[slot] = this.dedupeStamp;
+        return true;
+    }
+
+    // region getters (get***)
+    public IntArrayList getCandidateHandles() {
+        return this.candidateHandles;
+    }
+
+    public IntArrayList getClearCandidateHandles() {
+        this.candidateHandles.clear();
+        return this.candidateHandles;
+    }
+
+    /**
+     * Event list, emptied: its events are released to the event pool.
+     */
+    public ArrayList<DomainEvent> getClearEvents() {
+        this.eventPool.releaseAll(this.events);
+        this.events.clear();
+        return this.events;
+    }
+
+    public StructuralCommandBuffer getCommandBuffer() {
+        return this.commandBuffer;
+    }
+
+    /**
+     * double[4] for wall contact resolution (position and normal).
+     */
+    public double[] getContact() {
+        return this.contact;
+    }
+
+    /**
+     * Reusable copy of events[from, to), for events detected by another
+     * worker (phased RULES). The events stay owned by the source list.
+     */
+    public ArrayList<DomainEvent> getEventSlice(List<DomainEvent> events, int from, int to) {
+        this.eventSlice.clear();
+        for (int i = from; i < to; i++) {
+            this.eventSlice.add(events.get(i));
+        }
+        return this.eventSlice;
+    }
+
+    public DomainEventPool getEventPool() {
+        return this.eventPool;
+    }
+
+    public ArrayList<DomainEvent> getEvents() {
+        return this.events;
+    }
+
+    /**
+     * Cell index buffer of at least minLength ints (grown on demand: the
+     * spatial index may be replaced by a bigger one).
+     */
+    public int[] getIdxs(int minLength) {
+        if (this.idxs.length < minLength) {
+            this.idxs = new int[minLength];
+        }
+        return this.idxs;
+    }
+
+    /**
+     * Buffer for a snapshot of the values of a body this worker does not own
+     * (AbstractBody.getPhysicsSnapshot()). Valid until the next snapshot.
+     */
+    public PhysicsValuesDTO getPeerPhyValues() {
+        return this.peerPhyValues;
+    }
+    // endregion
+
+    // *** STATICS ***
+
+    /**
+     * Scratch of the calling thread, for code paths that are not handed a
+     * worker scratch.
+     */
+    static public WorkerScratch forCurrentThread() {
+        return WorkerScratch.threadScratch.get();
+    }
+}
@@ -1,6 +1,8 @@
 package engine.model.bodies.impl;
 
 import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.BodyStateStore;
+import engine.model.bodies.core.WorkerScratch;
 import engine.model.bodies.ports.BodyEventProcessor;
 import engine.model.bodies.ports.BodyState;
 import engine.model.bodies.ports.BodyType;
@@ -8,11 +10,15 @@ import engine.model.emitter.impl.BasicEmitter;
 import engine.model.physics.ports.PhysicsEngine;
 import engine.model.physics.ports.PhysicsValuesDTO;
 import engine.utils.profiling.impl.BodyProfiler;
-import engine.utils.spatial.core.SpatialGrid;
+import engine.utils.spatial.ports.Broadphase;
 
 /**
  * Dynamic body with its own physics engine.
  * Processed by MultiBodyRunner instances from the shared thread pool.
+ *
+ * Velocity changes decided by other threads (game AI) are submitted with
+ * submitVelocity() and applied by applySteering() at the start of the
+ * body's tick, on the thread that owns the body (see SteeringMailbox).
  */
 public class DynamicBody extends AbstractBody {
 
@@ -24,16 +30,17 @@ public class DynamicBody extends AbstractBody {
     private String trailId;
     private int spatialCellRadius = -1;
     private double spatialCellSize = -1.0d;
+    private final SteeringMailbox steering = new SteeringMailbox();
     // endregion
 
 
     // region Constructors
-    public DynamicBody(BodyEventProcessor bodyEventProcessor, SpatialGrid spatialGrid,
-            PhysicsEngine phyEngine, BodyType bodyType, double maxLifeInSeconds, String emitterId, 
-            BodyProfiler profiler) {
+    public DynamicBody(BodyEventProcessor bodyEventProcessor, Broadphase spatialGrid,
+            PhysicsEngine phyEngine, BodyStateStore stateStore, BodyType bodyType,
+            double maxLifeInSeconds, String emitterId, BodyProfiler profiler) {
 
         super(bodyEventProcessor, spatialGrid,
-                phyEngine,
+                phyEngine, stateStore,
                 bodyType,
                 maxLifeInSeconds, 
                 emitterId);
@@ -61,6 +68,25 @@ public class DynamicBody extends AbstractBody {
     }
     // endregion
 
+    /**
+     * Apply the pending steering velocity, if any. Owner thread only, at the
+     * start of the body's tick.
+     */
+    public void applySteering() {
+        if (this.steering.poll()) {
+            this.getPhysicsEngine().setVelocity(
+                    this.steering.getPolledSpeedX(), this.steering.getPolledSpeedY());
+        }
+    }
+
+    /**
+     * Steer the body (any thread). Only the latest velocity before the next
+     * tick is applied.
+     */
+    public void submitVelocity(double speedX, double speedY) {
+        this.steering.offer(speedX, speedY);
+    }
+
     // region Trail management (trail***)
     public String trailEquip(BasicEmitter trailEmitter) {
         this.trailId = this.emitterEquip(trailEmitter);
@@ -125,19 +151,10 @@ public class DynamicBody extends AbstractBody {
 
     // region AbstractBody
     @Override
-    public void onTick() {
+    public PhysicsValuesDTO integrate(double dtSeconds) {
         // Physics calculation (already profiled in BasicPhysicsEngine)
-        PhysicsValuesDTO newPhyValues = this.getPhysicsEngine().calcNewPhysicsValues();
-
-        // Spatial grid update
-        long spatialStart = this.profiler.startInterval();
-        double r = newPhyValues.size * 0.5;
-        this.getSpatialGrid().upsert(
-                this.getBodyId(), 
-                newPhyValues.posX - r, newPhyValues.posX + r,
-                newPhyValues.posY - r, newPhyValues.posY + r,
-                this.getScratchIdxs());
-        this.profiler.stopInterval("SPATIAL_GRID", spatialStart);
+        PhysicsValuesDTO newPhyValues = this.getPhysicsEngine().calcNewPhysicsValues(dtSeconds);
+        this.setPhysicsIntegratedValues(newPhyValues);
 
         // Trail emitter
         if (this.isThrusting() && this.trailId != null) {
@@ -146,8 +163,21 @@ public class DynamicBody extends AbstractBody {
             this.profiler.stopInterval("EMITTERS", emitterStart);
         }
 
+        return newPhyValues;
+    }
+
+    @Override
+    public void onTick(double dtSeconds, WorkerScratch scratch) {
+        this.applySteering();
+        PhysicsValuesDTO newPhyValues = this.integrate(dtSeconds);
+
+        // Spatial grid update
+        long spatialStart = this.profiler.startInterval();
+        this.spatialGridUpsert(newPhyValues, scratch);
+        this.profiler.stopInterval("SPATIAL_GRID", spatialStart);
+
         // Event processing (already profiled in Model.processBodyEvents)
-        this.processBodyEvents(this, newPhyValues, this.getPhysicsEngine().getPhysicsValues());
+        this.processBodyEvents(this, newPhyValues, this.getPhysicsEngine().getPhysicsValues(), scratch);
     }
     // endregion
 
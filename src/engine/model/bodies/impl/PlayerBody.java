@@ -3,22 +3,39 @@ package engine.model.bodies.impl;
 import java.util.List;
 
 import engine.events.domain.ports.BodyToEmitDTO;
+import engine.model.bodies.core.BodyStateStore;
+import engine.model.bodies.core.WorkerScratch;
 import engine.model.bodies.ports.BodyEventProcessor;
 import engine.model.bodies.ports.BodyType;
 import engine.model.bodies.ports.PlayerDTO;
+import engine.model.bodies.ports.PlayerInput;
 import engine.model.emitter.impl.BasicEmitter;
 import engine.model.emitter.ports.EmitterConfigDto;
 import engine.model.physics.ports.PhysicsEngine;
 import engine.model.physics.ports.PhysicsValuesDTO;
+import engine.utils.profiling.core.LatencyHistogram;
 import engine.utils.profiling.impl.BodyProfiler;
-import engine.utils.spatial.core.SpatialGrid;
-
+import engine.utils.spatial.ports.Broadphase;
+
+/**
+ * Player controlled body.
+ *
+ * Input commands (thrust, rotation, directional movement, fire, weapon
+ * selection, mouse angle) are not applied by the input thread: they are
+ * submitted to the player's PlayerInputQueue and applied by applyInput() at
+ * the start of the player's tick, on the thread that owns the body (its
+ * runner in RUNNERS mode, the phased tick thread in PHASED mode). The time
+ * from submit to apply is recorded in the input latency histogram of the
+ * player's Model.
+ */
 public class PlayerBody extends DynamicBody {
 
     private static final boolean PLAYERS_EXCLUSIVE = true;
 
     // region Fields
     private final List<String> weaponIds = new java.util.ArrayList<>(4);
+    private final PlayerInputQueue inputQueue = new PlayerInputQueue();
+    private final LatencyHistogram inputLatency;
     private int currentWeaponIndex = -1; // -1 = sin arma
     private double damage = 0D;
     private double energye = 1D;
@@ -35,20 +52,28 @@ public class PlayerBody extends DynamicBody {
     // endregion
 
     public PlayerBody(BodyEventProcessor bodyEventProcessor,
-            SpatialGrid spatialGrid,
+            Broadphase spatialGrid,
             PhysicsEngine physicsEngine,
+            BodyStateStore stateStore,
             double maxLifeInSeconds,
             String emitterId,
-            BodyProfiler profiler) {
+            BodyProfiler profiler,
+            LatencyHistogram inputLatency) {
 
         super(bodyEventProcessor,
                 spatialGrid,
                 physicsEngine,
+                stateStore,
                 BodyType.PLAYER,
                 maxLifeInSeconds,
                 emitterId,
                 profiler);
 
+        if (inputLatency == null) {
+            throw new IllegalArgumentException("inputLatency is null");
+        }
+        this.inputLatency = inputLatency;
+
         this.setMaxThrustForce(500); // Increased for more responsive movement
         this.setMaxAngularAcceleration(500);
         this.setAngularSpeed(30);
@@ -63,6 +88,26 @@ public class PlayerBody extends DynamicBody {
         // Players will be assigned to batch size 1 (exclusive) by Model
     }
 
+    /**
+     * Apply the pending input: queued commands in order, then the latest
+     * angle. Owner thread only, at the start of the player's tick.
+     */
+    public void applyInput() {
+        final long now = System.nanoTime();
+
+        PlayerInput input;
+        while ((input = this.inputQueue.poll()) != null) {
+            this.inputLatency.record(now - this.inputQueue.getPolledNanos());
+            this.applyInput(input);
+        }
+
+        double angle = this.inputQueue.pollAngle();
+        if (!Double.isNaN(angle)) {
+            this.inputLatency.record(now - this.inputQueue.getPolledNanos());
+            this.setAngle(angle);
+        }
+    }
+
     public void addWeapon(String emitterId) {
         this.weaponIds.add(emitterId);
 
@@ -175,6 +220,10 @@ public class PlayerBody extends DynamicBody {
         return emitter.getBodyToEmitConfig();
     }
 
+    public PlayerInputQueue getInputQueue() {
+        return this.inputQueue;
+    }
+
     public double getShield() {
         return shield;
     }
@@ -393,6 +442,23 @@ public class PlayerBody extends DynamicBody {
         this.temperature = temperature;
     }
 
+    /**
+     * Queue an input command (any thread). Applied on the next tick.
+     *
+     * @return false if the queue was full and the command was dropped
+     */
+    public boolean submitInput(PlayerInput input) {
+        return this.inputQueue.offer(input);
+    }
+
+    /**
+     * Aim the ship (any thread). Only the latest angle before the next tick
+     * is applied.
+     */
+    public void submitAngle(double angleDegrees) {
+        this.inputQueue.offerAngle(angleDegrees);
+    }
+
     public boolean mustFireNow(PhysicsValuesDTO newPhyValues) {
         if (this.currentWeaponIndex < 0 || this.currentWeaponIndex >= this.weaponIds.size()) {
             return false;
@@ -408,4 +474,38 @@ public class PlayerBody extends DynamicBody {
 
         return emitter.mustEmitNow(dtSeconds);
     }
-}
\ No newline at end of file
+
+    // *** INTERFACE IMPLEMENTATIONS ***
+
+    // region AbstractBody
+    @Override
+    public void onTick(double dtSeconds, WorkerScratch scratch) {
+        this.applyInput();
+        super.onTick(dtSeconds, scratch);
+    }
+    // endregion
+
+    // *** PRIVATE ***
+
+    private void applyInput(PlayerInput input) {
+        switch (input) {
+            case FIRE -> this.registerFireRequest();
+            case MOVE_DOWN_OFF -> this.moveDownOff();
+            case MOVE_DOWN_ON -> this.moveDownOn();
+            case MOVE_LEFT_OFF -> this.moveLeftOff();
+            case MOVE_LEFT_ON -> this.moveLeftOn();
+            case MOVE_OFF -> this.moveOff();
+            case MOVE_RIGHT_OFF -> this.moveRightOff();
+            case MOVE_RIGHT_ON -> this.moveRightOn();
+            case MOVE_UP_OFF -> this.moveUpOff();
+            case MOVE_UP_ON -> this.moveUpOn();
+            case REVERSE_THRUST -> this.reverseThrust();
+            case ROTATE_LEFT_ON -> this.rotateLeftOn();
+            case ROTATE_OFF -> this.rotateOff();
+            case ROTATE_RIGHT_ON -> this.rotateRightOn();
+            case SELECT_NEXT_WEAPON -> this.selectNextWeapon();
+            case THRUST_OFF -> this.thrustOff();
+            case THRUST_ON -> this.thrustMaxOn();
+        }
+    }
+}
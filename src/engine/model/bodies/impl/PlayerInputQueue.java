@@ -0,0 +1,163 @@
+package engine.model.bodies.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import engine.model.bodies.ports.PlayerInput;
+
+/**
+ * PlayerInputQueue
+ * ----------------
+ *
+ * Input commands of one player, from the input threads (View / Controller,
+ * any number of them) to the thread that ticks the player (its runner, or
+ * the phased tick thread), which drains the queue at the start of the
+ * player's tick. The physics engine of the player is then only written by
+ * its owner thread.
+ *
+ * Bounded multi-producer / single-consumer ring: one sequence number per
+ * slot tells whether it is free for the producer of a given position or
+ * ready for the consumer. A producer claims a position with one CAS on the
+ * tail and publishes the slot with a volatile write of its sequence; the
+ * consumer reads slots in order without any CAS. No locks and no allocation
+ * per command. When the ring is full the command is dropped and counted
+ * (the owner drains every tick, so this needs thousands of key events in a
+ * single tick).
+ *
+ * The ship angle is coalesced instead: mouse moves only overwrite the
+ * pending angle (one volatile write, wait-free) and the consumer takes the
+ * latest one.
+ *
+ * Every command and angle is stamped with System.nanoTime() when offered,
+ * so the consumer can measure the input latency (offer -> applied).
+ */
+public final class PlayerInputQueue {
+
+    // region Constants
+    private static final int CAPACITY = 64; // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final long NO_ANGLE = Double.doubleToRawLongBits(Double.NaN);
+    // endregion
+
+    // region Fields
+    private final PlayerInput[] inputs = new PlayerInput[CAPACITY];
+    private final long[] offerNanos = new long[CAPACITY];
+    private final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private final AtomicLong tail = new AtomicLong(0L); // producers
+    private long head = 0L; // consumer only
+    private long polledNanos = 0L; // consumer only
+
+    private final AtomicLong angleBits = new AtomicLong(NO_ANGLE);
+    private volatile long angleNanos = 0L;
+
+    private final AtomicLong drops = new AtomicLong(0L);
+    // endregion
+
+    // region Constructors
+    public PlayerInputQueue() {
+        for (int i = 0; i < CAPACITY; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Producer side (any thread).
+     *
+     * @return false if the ring is full (the command is dropped)
+     */
+    public boolean offer(PlayerInput input) {
+        if (input == null) {
+            throw new IllegalArgumentException("input is null");
+        }
+
+        final long nanos = System.nanoTime();
+        long position = this.tail.get();
+        while (true) {
+            final int index = (int) (position & MASK);
+            final long available = this.sequences.get(index) - position;
+
+            if (available == 0L) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.inputs[index] = input;
+                    this.offerNanos[index] = nanos;
+                    this.sequences.set(index, position + 1); // Publish
+                    return true;
+                }
+                position = this.tail.get(); // Lost the slot to another producer
+
+            } else if (available < 0L) {
+                this.drops.incrementAndGet();
+                return false; // ===== Full: consumer one lap behind =====>
+
+            } else {
+                position = this.tail.get(); // Stale tail
+            }
+        }
+    }
+
+    /**
+     * Producer side (any thread): overwrite the pending ship angle.
+     */
+    public void offerAngle(double angleDegrees) {
+        if (Double.isNaN(angleDegrees)) {
+            return;
+        }
+
+        this.angleNanos = System.nanoTime();
+        this.angleBits.set(Double.doubleToRawLongBits(angleDegrees));
+    }
+
+    /**
+     * Consumer side (owner thread only).
+     *
+     * @return next command, or null if there is none
+     */
+    public PlayerInput poll() {
+        final int index = (int) (this.head & MASK);
+        if (this.sequences.get(index) != this.head + 1) {
+            return null; // ===== Empty (or the next slot not published yet) =====>
+        }
+
+        PlayerInput input = this.inputs[index];
+        this.polledNanos = this.offerNanos[index];
+        this.inputs[index] = null;
+        this.sequences.set(index, this.head + CAPACITY); // Free for the next lap
+        this.head++;
+        return input;
+    }
+
+    /**
+     * Consumer side (owner thread only): take the pending ship angle.
+     *
+     * @return latest angle offered since the last call, NaN if none
+     */
+    public double pollAngle() {
+        long bits = this.angleBits.getAndSet(NO_ANGLE);
+        if (bits == NO_ANGLE) {
+            return Double.NaN;
+        }
+
+        this.polledNanos = this.angleNanos;
+        return Double.longBitsToDouble(bits);
+    }
+
+    // region getters (get***)
+    /**
+     * Commands dropped because the ring was full.
+     */
+    public long getDropCount() {
+        return this.drops.get();
+    }
+
+    /**
+     * Offer time (System.nanoTime()) of what the last poll() / pollAngle()
+     * returned.
+     */
+    public long getPolledNanos() {
+        return this.polledNanos;
+    }
+    // endregion
+}
@@ -1,12 +1,14 @@
 package engine.model.bodies.impl;
 
 import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.BodyStateStore;
+import engine.model.bodies.core.WorkerScratch;
 import engine.model.bodies.ports.BodyEventProcessor;
 import engine.model.bodies.ports.BodyState;
 import engine.model.bodies.ports.BodyType;
 import engine.model.physics.ports.PhysicsEngine;
 import engine.model.physics.ports.PhysicsValuesDTO;
-import engine.utils.spatial.core.SpatialGrid;
+import engine.utils.spatial.ports.Broadphase;
 
 /**
  * StaticBody 
@@ -44,18 +46,24 @@ import engine.utils.spatial.core.SpatialGrid;
  */
 public class StaticBody extends AbstractBody implements Runnable {
 
+    //
+    // CONSTANTS
+    //
+
+    private static final long SLEEP_TIME_MS = 30;
+
     //
     // CONSTRUCTORS
     //
 
     public StaticBody(
-            BodyEventProcessor bodyEventProcessor, SpatialGrid spatialGrid,
-            PhysicsEngine phyEngine, BodyType bodyType,
+            BodyEventProcessor bodyEventProcessor, Broadphase spatialGrid,
+            PhysicsEngine phyEngine, BodyStateStore stateStore, BodyType bodyType,
             double maxLifeInSeconds, String emitterId) {
 
         super(
                 bodyEventProcessor, spatialGrid,
-                phyEngine,
+                phyEngine, stateStore,
                 bodyType,
                 maxLifeInSeconds, emitterId);
     }
@@ -74,10 +82,10 @@ public class StaticBody extends AbstractBody implements Runnable {
 
     // region AbstractBody
     @Override
-    public void onTick() {
+    public void onTick(double dtSeconds, WorkerScratch scratch) {
         if (this.isLifeOver()) {
             PhysicsValuesDTO phyValues = this.getPhysicsValues();
-            this.processBodyEvents(this, phyValues, phyValues);
+            this.processBodyEvents(this, phyValues, phyValues, scratch);
         }
     }
     // endregionexit
@@ -86,13 +94,14 @@ public class StaticBody extends AbstractBody implements Runnable {
     // region Runnable
     @Override
     public void run() {
+        WorkerScratch scratch = new WorkerScratch(); // This thread is its own worker
         while (this.getBodyState() != BodyState.DEAD) {
             if (this.getBodyState() == BodyState.ALIVE) {
-                onTick();
+                onTick(SLEEP_TIME_MS / 1000.0d, scratch);
             }
 
             try {
-                Thread.sleep(30);
+                Thread.sleep(SLEEP_TIME_MS);
             } catch (InterruptedException ex) {
                 Thread.currentThread().interrupt();
                 throw new RuntimeException("StaticBody: Thread interrupted", ex);
@@ -0,0 +1,91 @@
+package engine.model.bodies.impl;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SteeringMailbox
+ * ---------------
+ *
+ * Velocity requested for one dynamic body by a foreign thread (game AI),
+ * applied by the thread that ticks the body (its runner, or the phased tick
+ * thread) at the start of the body's tick. The physics engine of the body is
+ * then only written by its owner thread, as with PlayerInputQueue for
+ * players.
+ *
+ * Coalesced single slot: a new request overwrites the pending one, the
+ * consumer takes the latest. The slot is guarded by a sequence number, odd
+ * while a producer writes it: producers claim it with one CAS from even to
+ * odd (so several of them never interleave) and release it with a volatile
+ * write. The consumer never waits: if the slot is being written, or changes
+ * while it is read, the request is left for the next tick. No locks and no
+ * allocation per request.
+ */
+public final class SteeringMailbox {
+
+    // region Fields
+    private final AtomicLong sequence = new AtomicLong(0L); // odd: being written
+    private double speedX = 0.0d;
+    private double speedY = 0.0d;
+    private long consumed = 0L; // consumer only
+    private double polledSpeedX = 0.0d; // consumer only
+    private double polledSpeedY = 0.0d; // consumer only
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Producer side (any thread): overwrite the pending velocity.
+     */
+    public void offer(double speedX, double speedY) {
+        long seq;
+        while (true) {
+            seq = this.sequence.get();
+            if ((seq & 1L) == 0L && this.sequence.compareAndSet(seq, seq + 1L)) {
+                break;
+            }
+            Thread.onSpinWait(); // Another producer is writing
+        }
+
+        this.speedX = speedX;
+        this.speedY = speedY;
+        this.sequence.set(seq + 2L); // Publish
+    }
+
+    /**
+     * Consumer side (owner thread only). On true the velocity is read with
+     * getPolledSpeedX() / getPolledSpeedY().
+     *
+     * @return false if there is no new request (or it is still being
+     *         written: taken on the next call)
+     */
+    public boolean poll() {
+        final long seq = this.sequence.get();
+        if (seq == this.consumed || (seq & 1L) != 0L) {
+            return false; // ===== Nothing new, or a producer is writing =====>
+        }
+
+        final double speedX = this.speedX;
+        final double speedY = this.speedY;
+
+        VarHandle.acquireFence(); // Reads done before validating
+        if (this.sequence.get() != seq) {
+            return false; // ===== Overwritten while reading =====>
+        }
+
+        this.consumed = seq;
+        this.polledSpeedX = speedX;
+        this.polledSpeedY = speedY;
+        return true;
+    }
+
+    // region getters (get***)
+    public double getPolledSpeedX() {
+        return this.polledSpeedX;
+    }
+
+    public double getPolledSpeedY() {
+        return this.polledSpeedY;
+    }
+    // endregion
+}
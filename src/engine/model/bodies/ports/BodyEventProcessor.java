@@ -1,10 +1,24 @@
 package engine.model.bodies.ports;
 
 import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.WorkerScratch;
 import engine.model.physics.ports.PhysicsValuesDTO;
 
 public interface BodyEventProcessor {
 
-    public void processBodyEvents(AbstractBody body, PhysicsValuesDTO newPhyValues, PhysicsValuesDTO oldPhyValues);
+    /**
+     * @param scratch scratch buffers of the calling worker (candidates,
+     *                events, contact output)
+     */
+    public void processBodyEvents(AbstractBody body, PhysicsValuesDTO newPhyValues, PhysicsValuesDTO oldPhyValues,
+            WorkerScratch scratch);
+
+    /**
+     * The tick of the body threw: the body is taken out of the world at the
+     * next tick boundary, the rest of the world keeps running.
+     *
+     * @param scratch scratch buffers of the calling worker
+     */
+    public void processBodyFailure(AbstractBody body, Exception failure, WorkerScratch scratch);
 
 }
@@ -1,6 +1,9 @@
 package engine.model.bodies.ports;
 
+import java.util.function.LongSupplier;
+
 import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.BodyStateStore;
 import engine.model.bodies.impl.DynamicBody;
 import engine.model.bodies.impl.PlayerBody;
 import engine.model.bodies.impl.StaticBody;
@@ -8,20 +11,49 @@ import engine.model.physics.implementations.BasicPhysicsEngine;
 import engine.model.physics.implementations.NullPhysicsEngine;
 import engine.model.physics.ports.PhysicsEngine;
 import engine.model.physics.ports.PhysicsValuesDTO;
+import engine.utils.profiling.core.LatencyHistogram;
 import engine.utils.profiling.impl.BodyProfiler;
-import engine.utils.spatial.core.SpatialGrid;
+import engine.utils.spatial.ports.Broadphase;
 
 /**
  * Factory for creating bodies without threading concerns.
  * 
  * Responsible ONLY for body instantiation and physics engine setup.
  * Threading assignment is handled by BodyBatchManager and Model.
+ *
+ * One factory per Model: it injects the Model's own BodyStateStore, tick
+ * source (SimulationClock) and player input latency histogram, so several
+ * Models never share them. The store is null when the Model does not
+ * integrate in bulk (RUNNERS mode): bodies are then not mirrored.
  */
 public class BodyFactory {
 
-    public static AbstractBody create(
+    // region Fields
+    private final BodyStateStore stateStore; // null: no SoA mirror
+    private final LongSupplier tickSource;
+    private final LatencyHistogram inputLatency;
+    // endregion
+
+    // region Constructors
+    public BodyFactory(BodyStateStore stateStore, LongSupplier tickSource, LatencyHistogram inputLatency) {
+        if (tickSource == null) {
+            throw new IllegalArgumentException("tickSource is null");
+        }
+        if (inputLatency == null) {
+            throw new IllegalArgumentException("inputLatency is null");
+        }
+
+        this.stateStore = stateStore;
+        this.tickSource = tickSource;
+        this.inputLatency = inputLatency;
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public AbstractBody create(
             BodyEventProcessor bodyEventProcessor,
-            SpatialGrid spatialGrid,
+            Broadphase spatialGrid,
             PhysicsValuesDTO dto1,
             PhysicsValuesDTO dto2,
             PhysicsValuesDTO dto3,
@@ -35,26 +67,27 @@ public class BodyFactory {
 
         switch (bodyType) {
             case DYNAMIC:
-                phyEngine = new BasicPhysicsEngine(dto1, dto2, dto3, BodyType.DYNAMIC, profiler);
+                phyEngine = new BasicPhysicsEngine(dto1, dto2, dto3, BodyType.DYNAMIC, profiler, this.tickSource);
                 body = new DynamicBody(
-                        bodyEventProcessor, spatialGrid, phyEngine,
+                        bodyEventProcessor, spatialGrid, phyEngine, this.stateStore,
                         BodyType.DYNAMIC,
                         maxLifeTime, null, profiler);
                 break;
 
             case PLAYER:
-                phyEngine = new BasicPhysicsEngine(dto1, dto2, dto3, BodyType.PLAYER, profiler);
+                phyEngine = new BasicPhysicsEngine(dto1, dto2, dto3, BodyType.PLAYER, profiler, this.tickSource);
                 body = new PlayerBody(
-                        bodyEventProcessor, spatialGrid, phyEngine,
-                        maxLifeTime, null, profiler);
+                        bodyEventProcessor, spatialGrid, phyEngine, this.stateStore,
+                        maxLifeTime, null, profiler, this.inputLatency);
                 break;
 
             case PROJECTILE:
-                phyEngine = new BasicPhysicsEngine(dto1, dto2, dto3, BodyType.PROJECTILE, profiler);
+                phyEngine = new BasicPhysicsEngine(dto1, dto2, dto3, BodyType.PROJECTILE, profiler, this.tickSource);
                 body = new DynamicBody(
                         bodyEventProcessor, 
                         spatialGrid, 
                         phyEngine,
+                        this.stateStore,
                         BodyType.PROJECTILE,
                         maxLifeTime,
                         emitterId,
@@ -62,16 +95,16 @@ public class BodyFactory {
                 break;
 
             case DECORATOR:
-                phyEngine = new NullPhysicsEngine(dto1, dto2, dto3);
+                phyEngine = new NullPhysicsEngine(dto1, dto2, dto3, this.tickSource);
                 body = new StaticBody(
-                        bodyEventProcessor, null, phyEngine, bodyType,
+                        bodyEventProcessor, null, phyEngine, this.stateStore, bodyType,
                         maxLifeTime, null);
                 break;
 
             case GRAVITY:
-                phyEngine = new NullPhysicsEngine(dto1, dto2, dto3);
+                phyEngine = new NullPhysicsEngine(dto1, dto2, dto3, this.tickSource);
                 body = new StaticBody(
-                        bodyEventProcessor, spatialGrid, phyEngine, bodyType,
+                        bodyEventProcessor, spatialGrid, phyEngine, this.stateStore, bodyType,
                         maxLifeTime, null);
 
                 break;
@@ -0,0 +1,27 @@
+package engine.model.bodies.ports;
+
+/**
+ * Player commands coming from the input devices (View -> Controller ->
+ * Model). They are queued in the PlayerInputQueue of the player and applied
+ * by the thread that ticks the player. The ship angle (mouse aiming) is not
+ * a command: it is coalesced apart, the latest angle wins.
+ */
+public enum PlayerInput {
+    FIRE,
+    MOVE_DOWN_OFF,
+    MOVE_DOWN_ON,
+    MOVE_LEFT_OFF,
+    MOVE_LEFT_ON,
+    MOVE_OFF,
+    MOVE_RIGHT_OFF,
+    MOVE_RIGHT_ON,
+    MOVE_UP_OFF,
+    MOVE_UP_ON,
+    REVERSE_THRUST,
+    ROTATE_LEFT_ON,
+    ROTATE_OFF,
+    ROTATE_RIGHT_ON,
+    SELECT_NEXT_WEAPON,
+    THRUST_OFF,
+    THRUST_ON
+}
@@ -3,11 +3,20 @@ package engine.model.emitter.impl;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import engine.events.domain.ports.BodyToEmitDTO;
 import engine.model.emitter.ports.EmitterConfigDto;
 import engine.model.emitter.ports.EmitterState;
 
+/**
+ * Cooldown (time between emissions, bursts and reload) counts down by dt on
+ * every mustEmitNow() call. With a tick source (setTickSource()) it is a
+ * deadline instead: setting a cooldown stores the simulation tick it ends
+ * on, and mustEmitNow() only compares it with the current tick. No timer is
+ * scheduled, so emitting never touches the TimerWheel (nor its lock) from
+ * the threads that tick the bodies.
+ */
 public class BasicEmitter {
 
     // region Fields
@@ -16,6 +25,9 @@ public class BasicEmitter {
     private AtomicInteger bodiesRemainingInBursts = new AtomicInteger(0);
     private final EmitterConfigDto config;
     private volatile double cooldown = 0.0; // seconds
+    private volatile long cooldownEndTick = 0L; // first tick past the cooldown
+    private volatile LongSupplier tickSource = null; // simulation tick
+    private volatile int tickRateHz = 0;
     private final AtomicLong lastRequest = new AtomicLong(0L);
     private final AtomicLong lastHandledRequest = new AtomicLong(0L);
     private volatile EmitterState state;
@@ -87,13 +99,12 @@ public class BasicEmitter {
         EmitterConfigDto emitterConfig = this.getConfig();
 
         // IF COOL DOWN -> NO EMISSION
-        if (this.getCooldown() > 0) {
+        if (this.isCoolingDown(dtSeconds)) {
             // Cool down time. Any pending requests are discarded.
             // Cool down time can be due to:
             // - time between emissions
             // - time to reload when ammo is exhausted
             // - timen between emission when burst mode is active
-            this.decCooldown(dtSeconds);
             this.markAllRequestsHandled();
             return false; // ======== Trail Emiter is overheated =========>
         }
@@ -161,6 +172,21 @@ public class BasicEmitter {
     // region Setters (set***)
     public void setCooldown(double cooldown) {
         this.cooldown = cooldown;
+
+        LongSupplier ticks = this.tickSource;
+        if (ticks == null) {
+            return; // ===== Cooldown counted down by mustEmitNow() =====>
+        }
+
+        if (cooldown > 0) {
+            // Whole ticks covering the cooldown, +1: same pacing as the
+            // per-call countdown (first emission on the call after the
+            // cooldown has run out)
+            long cooldownTicks = Math.max(1L, (long) Math.ceil(cooldown * this.tickRateHz));
+            this.cooldownEndTick = ticks.getAsLong() + cooldownTicks + 1;
+        } else {
+            this.cooldownEndTick = 0L;
+        }
     }
 
     public void setBodiesRemaining(int numBodies) {
@@ -174,10 +200,40 @@ public class BasicEmitter {
     public void setState(EmitterState state) {
         this.state = state;
     }
+
+    /**
+     * Measure the cooldown in simulation ticks of the given source (ticking
+     * at tickRateHz) instead of the per-call countdown. Set it before the
+     * first emission.
+     */
+    public void setTickSource(LongSupplier tickSource, int tickRateHz) {
+        if (tickSource == null) {
+            throw new IllegalArgumentException("tickSource is null");
+        }
+        if (tickRateHz <= 0) {
+            throw new IllegalArgumentException("tickRateHz must be > 0");
+        }
+
+        this.tickRateHz = tickRateHz;
+        this.tickSource = tickSource;
+    }
     // endregion
 
     // *** PRIVATES ***
 
+    private boolean isCoolingDown(double dtSeconds) {
+        LongSupplier ticks = this.tickSource;
+        if (ticks != null) {
+            return ticks.getAsLong() < this.cooldownEndTick;
+        }
+
+        if (this.getCooldown() > 0) {
+            this.decCooldown(dtSeconds);
+            return true;
+        }
+        return false;
+    }
+
     private boolean hasRequest() {
         return this.lastRequest.get() > this.lastHandledRequest.get();
     }
@@ -2,36 +2,99 @@ package engine.model.impl;
 
 import engine.model.bodies.core.AbstractBody;
 import engine.model.bodies.impl.PlayerBody;
+import engine.model.ports.TickExecutionMode;
+import engine.utils.profiling.core.LatencyHistogram;
+import engine.utils.profiling.impl.BodyProfiler;
 import engine.utils.threading.ThreadPoolManager;
+import engine.utils.threading.ThreadingStrategy;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Manages batching of bodies into MultiBodyRunners for efficient thread execution.
  * 
  * Owns:
  * - ThreadPoolManager: generic thread pool for executing runners
- * - MultiBodyRunner instances: each runs on a dedicated thread
+ * - MultiBodyRunner instances: each runs on a dedicated thread, paced by the
+ *   shared SimulationClock
  * 
  * Responsibilities:
- * - Determine optimal batch size per body (PlayerBody=1, others=10)
- * - Assign bodies to runners or create new ones
+ * - Determine optimal batch size per body (PlayerBody=1, others adaptive)
+ * - Assign bodies to the least loaded runner or create new ones
+ * - Rebalance runners from their measured tick cost
  * - Manage runner lifecycle and thread acquisition
  * 
+ * Adaptive batching
+ * -----------------
+ * Every runner keeps an EWMA of its tick cost. Periodically (driven by the
+ * runners themselves, no extra thread) the manager derives the average cost
+ * per body and resizes shared batches so one runner tick fits in
+ * RUNNER_BUDGET_PERCENT of the clock step, clamped to
+ * [MIN_BATCH_SIZE, MAX_BATCH_SIZE]. Cheap bodies end up in few large
+ * batches (few threads, little contention); collision-heavy bodies are
+ * spread over more runners.
+ * 
+ * Runners above the new size, or whose cost exceeds the budget and is
+ * IMBALANCE_FACTOR times the mean, are asked to shed bodies. Shed bodies
+ * migrate to the least loaded runner between ticks. When batches grow, the
+ * lightest surplus runners are drained into the others and retired, so the
+ * thread count follows the load in both directions. At most
+ * MAX_MIGRATIONS_PER_REBALANCE bodies move per pass: moving many bodies at
+ * once costs more than the imbalance it fixes. The runner count never
+ * exceeds the pool size, so platform-thread runners never wait in the
+ * executor queue.
+ * 
+ * Tick barrier
+ * ------------
+ * Runners have no common barrier of their own: a late runner may still be
+ * processing tick N when the clock wants to publish N+1. awaitRunnersTick()
+ * lets the clock tick boundary hook wait until every runner has reported N
+ * (MultiBodyRunner.getCompletedTick()), so the structural commands, the
+ * world snapshot and the broadphase rebuild never run alongside a tick.
+ * In PHASED mode the same wait is on the PhasedWorldTick
+ * (getCompletedTick()), which bounds its catch-up to one clock batch.
+ * 
  * Architecture: Model → BodyBatchManager → ThreadPoolManager
+ * 
+ * Only bodies that move reach this manager: the Model keeps static bodies
+ * (DECORATOR, GRAVITY) out of the runners, so RUNNER_TICK measures physics
+ * work only.
+ * 
+ * In TickExecutionMode.PHASED no runner is created: bodies are handed to a
+ * PhasedWorldTick, which processes the whole world phase by phase on a
+ * ForkJoinPool sized to the number of cores.
  */
 public class BodyBatchManager {
 
     // region Constants
     private static final int DEFAULT_BATCH_SIZE = 20;
+    private static final int IMBALANCE_FACTOR = 4;
+    private static final int LAG_BUCKET_COUNT = 1000;
+    private static final long LAG_BUCKET_NANOS = 100_000L; // 0.1 ms, up to 100 ms
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int MAX_MIGRATIONS_PER_REBALANCE = 64;
+    private static final int MIN_BATCH_SIZE = 8;
     private static final int PLAYER_BATCH_SIZE = 1;
+    private static final int RETIRE_HYSTERESIS_DIVISOR = 4;
+    private static final int RUNNER_BUDGET_PERCENT = 2;
+    private static final long BARRIER_PARK_NANOS = 20_000L; // 0.02 ms
     // endregion
 
     // region Fields
+    private final List<MultiBodyRunner> activeRunners = new ArrayList<>();
+    private volatile int adaptiveBatchSize = DEFAULT_BATCH_SIZE;
+    private final SimulationClock clock;
+    private long lastRebalanceTick = -1L;
+    private final int maxRunners;
+    private final PhasedWorldTick phasedWorldTick;
+    private final BodyProfiler profiler;
+    private final ReentrantLock runnersLock = new ReentrantLock();
+    private final LatencyHistogram tickLagHistogram = new LatencyHistogram(LAG_BUCKET_NANOS, LAG_BUCKET_COUNT);
     private final ThreadPoolManager threadPoolManager;
-    private final List<MultiBodyRunner> activeRunners = new CopyOnWriteArrayList<>();
-    private final Object runnersLock = new Object();
     // endregion
 
     // region Constructors
@@ -39,13 +102,43 @@ public class BodyBatchManager {
      * Create a BodyBatchManager with its own thread pool.
      * 
      * @param threadPoolSize number of core threads in pool (must be > 0)
+     * @param clock shared simulation clock handed to every runner
      * @throws IllegalArgumentException if threadPoolSize <= 0
+     * @throws NullPointerException if clock is null
      */
-    public BodyBatchManager(int threadPoolSize) {
+    public BodyBatchManager(int threadPoolSize, SimulationClock clock) {
+        this(threadPoolSize, clock, new BodyProfiler(), null, ThreadingStrategy.PLATFORM_THREADS);
+    }
+
+    /**
+     * Create a BodyBatchManager that delegates to a PhasedWorldTick when one
+     * is given (TickExecutionMode.PHASED) or batches into runners otherwise.
+     * 
+     * @param threadPoolSize number of core threads in pool (must be > 0)
+     * @param clock shared simulation clock handed to every runner
+     * @param profiler profiler receiving the RUNNER_TICK metric
+     * @param phasedWorldTick phased executor, or null for runner batching
+     * @param threadingStrategy platform or virtual threads backing the runners
+     * @throws IllegalArgumentException if threadPoolSize <= 0
+     * @throws NullPointerException if clock, profiler or threadingStrategy is null
+     */
+    public BodyBatchManager(int threadPoolSize, SimulationClock clock, BodyProfiler profiler,
+            PhasedWorldTick phasedWorldTick, ThreadingStrategy threadingStrategy) {
+
         if (threadPoolSize <= 0) {
             throw new IllegalArgumentException("threadPoolSize must be > 0, got: " + threadPoolSize);
         }
-        this.threadPoolManager = new ThreadPoolManager(threadPoolSize);
+        if (clock == null) {
+            throw new NullPointerException("clock cannot be null");
+        }
+        if (profiler == null) {
+            throw new NullPointerException("profiler cannot be null");
+        }
+        this.clock = clock;
+        this.maxRunners = threadPoolSize;
+        this.phasedWorldTick = phasedWorldTick;
+        this.profiler = profiler;
+        this.threadPoolManager = new ThreadPoolManager(threadPoolSize, threadingStrategy);
     }
     // endregion
 
@@ -54,8 +147,8 @@ public class BodyBatchManager {
     /**
      * Assign body to thread pool.
      * 
-     * Determines batch size based on body type (PlayerBody=1, others=10).
-     * Reuses compatible runner if available; creates new runner and thread if needed.
+     * PlayerBody gets a dedicated runner; other bodies go to the least loaded
+     * shared runner with room, or to a new runner if none has room.
      * 
      * @param body the body to activate (cannot be null)
      * @throws NullPointerException if body is null
@@ -64,29 +157,183 @@ public class BodyBatchManager {
         if (body == null) {
             throw new NullPointerException("Body cannot be null");
         }
+
+        if (this.phasedWorldTick != null) {
+            this.phasedWorldTick.addBody(body);
+            return; // ===== Phased mode: no runners =====>
+        }
         
-        int batchSize = (body instanceof PlayerBody) ? PLAYER_BATCH_SIZE : DEFAULT_BATCH_SIZE;
-        submitBatched(body, batchSize);
+        if (body instanceof PlayerBody) {
+            this.submitDedicated(body);
+            return;
+        }
+
+        this.submitShared(body, -1L, null);
+    }
+
+    /**
+     * Block until every live runner has finished the given tick (clock tick
+     * boundary hook, RUNNERS mode): the world can then be changed without
+     * any body being processed. Returns at once if the clock stops.
+     */
+    public void awaitRunnersTick(long tick) {
+        long waitStart = 0L;
+        while (this.clock.isRunning() && !this.areRunnersDone(tick)) {
+            if (waitStart == 0L) {
+                waitStart = this.profiler.startInterval();
+            }
+            LockSupport.parkNanos(BARRIER_PARK_NANOS);
+        }
+
+        if (waitStart != 0L) {
+            this.profiler.stopInterval("RUNNER_BARRIER", waitStart);
+        }
     }
 
     public void activate() {
+        if (this.phasedWorldTick != null) {
+            this.phasedWorldTick.start();
+            return;
+        }
+
         this.threadPoolManager.prestartAllCoreThreads();
     }
 
+    public int getAdaptiveBatchSize() {
+        return this.adaptiveBatchSize;
+    }
+
+    public int getRunnerCount() {
+        this.runnersLock.lock();
+        try {
+            return this.activeRunners.size();
+        } finally {
+            this.runnersLock.unlock();
+        }
+    }
+
+    /**
+     * Lag from tick publication to completion, one sample per body and tick
+     * (each runner records its lag weighted by its body count).
+     */
+    public LatencyHistogram getTickLagHistogram() {
+        return this.tickLagHistogram;
+    }
+
+    public ThreadingStrategy getThreadingStrategy() {
+        return this.threadPoolManager.getStrategy();
+    }
+
+    public TickExecutionMode getExecutionMode() {
+        return this.phasedWorldTick != null ? TickExecutionMode.PHASED : TickExecutionMode.RUNNERS;
+    }
+
     /**
      * Graceful shutdown: stop all runners and thread pool.
      */
     public boolean shutdown() {
-        synchronized (this.runnersLock) {
+        this.runnersLock.lock();
+        try {
             for (MultiBodyRunner runner : this.activeRunners) {
                 runner.requestStop();
             }
+        } finally {
+            this.runnersLock.unlock();
         }
-        return this.threadPoolManager.shutdown();
+
+        boolean phasedStopped = this.phasedWorldTick == null || this.phasedWorldTick.shutdown();
+        return this.threadPoolManager.shutdown() && phasedStopped;
     }
 
     // *** PRIVATE ***
 
+    /**
+     * Re-home a body shed by a runner. Called by the source runner between
+     * ticks; lastTick prevents the target from advancing it twice.
+     */
+    void migrateBody(AbstractBody body, long lastTick, MultiBodyRunner source) {
+        this.submitShared(body, lastTick, source);
+    }
+
+    /**
+     * Resize shared batches and shed load from overloaded runners. Called by
+     * runners every few ticks; only one caller per tick does the work and
+     * the others return immediately.
+     */
+    void rebalance() {
+        if (!this.runnersLock.tryLock()) {
+            return; // ===== Another runner is rebalancing =====>
+        }
+
+        try {
+            long tick = this.clock.getTickCount();
+            if (tick == this.lastRebalanceTick) {
+                return; // ===== Already done for this tick =====>
+            }
+            this.lastRebalanceTick = tick;
+
+            List<MultiBodyRunner> shared = new ArrayList<>(this.activeRunners.size());
+            long totalCost = 0L;
+            int totalBodies = 0;
+            for (MultiBodyRunner runner : this.activeRunners) {
+                if (this.isSharedTarget(runner)) {
+                    shared.add(runner);
+                    totalCost += runner.getTickCostNanos();
+                    totalBodies += runner.getBodyCount();
+                }
+            }
+
+            if (totalBodies == 0 || totalCost == 0L) {
+                return; // ===== Nothing measured yet =====>
+            }
+
+            long budgetNanos = this.clock.getStepNanos() * RUNNER_BUDGET_PERCENT / 100;
+            double costPerBody = Math.max(1.0d, totalCost / (double) totalBodies);
+            int batchSize = (int) Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, budgetNanos / costPerBody));
+            this.adaptiveBatchSize = batchSize;
+
+            // Retire the lightest runners the new batch size makes redundant
+            // (with hysteresis; drained bodies count against the migration cap)
+            int migrations = 0;
+            int neededRunners = (totalBodies + batchSize - 1) / batchSize;
+            int surplus = shared.size() - neededRunners - neededRunners / RETIRE_HYSTERESIS_DIVISOR;
+            if (surplus > 0) {
+                shared.sort(Comparator.comparingInt(MultiBodyRunner::getBodyCount));
+                int retired = 0;
+                while (retired < surplus
+                        && migrations + shared.get(retired).getBodyCount() <= MAX_MIGRATIONS_PER_REBALANCE) {
+                    migrations += shared.get(retired).getBodyCount();
+                    shared.get(retired).requestDrain();
+                    retired++;
+                }
+                shared = shared.subList(retired, shared.size());
+            }
+
+            long meanCost = totalCost / shared.size();
+            for (MultiBodyRunner runner : shared) {
+                runner.setBatchSize(batchSize);
+                int count = runner.getBodyCount();
+                int excess = count - batchSize;
+
+                long cost = runner.getTickCostNanos();
+                if (cost > budgetNanos && cost > meanCost * IMBALANCE_FACTOR) {
+                    // Shed the share of bodies above the mean cost (at most half)
+                    int overload = (int) (count * (cost - meanCost) / cost);
+                    excess = Math.max(excess, Math.min(overload, count / 2));
+                }
+
+                // Bounded churn: the rest is handled by the next rebalance
+                excess = Math.min(excess, MAX_MIGRATIONS_PER_REBALANCE - migrations);
+                if (excess > 0) {
+                    runner.requestShed(excess);
+                    migrations += excess;
+                }
+            }
+        } finally {
+            this.runnersLock.unlock();
+        }
+    }
+
     /**
      * Deregister a runner when it terminates.
      * Called by MultiBodyRunner when run() loop ends.
@@ -95,42 +342,114 @@ public class BodyBatchManager {
         if (runner == null) {
             return;
         }
-        synchronized (this.runnersLock) {
+        this.runnersLock.lock();
+        try {
             this.activeRunners.remove(runner);
+        } finally {
+            this.runnersLock.unlock();
         }
     }
 
-    /**
-     * Internal: assign body to runner with specific batch size.
-     * 
-     * @param body the body to assign (early fail validates at method start)
-     * @param batchSize the batch size for grouping (early fail validates at method start)
-     * @throws IllegalArgumentException if batchSize <= 0
-     */
-    private void submitBatched(AbstractBody body, int batchSize) {
-        if (batchSize <= 0) {
-            throw new IllegalArgumentException("batchSize must be > 0, got: " + batchSize);
+    private boolean areRunnersDone(long tick) {
+        if (this.phasedWorldTick != null) {
+            return this.phasedWorldTick.getCompletedTick() >= tick; // ===== Phased: one tick thread =====>
         }
 
-        synchronized (this.runnersLock) {
-            // Try reuse compatible runner
+        // Checked without holding the lock between attempts: a runner may
+        // need it to hand shed bodies over before it completes the tick
+        this.runnersLock.lock();
+        try {
+            for (int i = 0; i < this.activeRunners.size(); i++) {
+                MultiBodyRunner runner = this.activeRunners.get(i);
+                if (!runner.isTerminated() && runner.getCompletedTick() < tick) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            this.runnersLock.unlock();
+        }
+    }
+
+    private boolean isSharedTarget(MultiBodyRunner runner) {
+        return !runner.isDedicated() && !runner.isDraining() && !runner.isTerminated();
+    }
+
+    private MultiBodyRunner newRunner(int batchSize, boolean dedicated) {
+        MultiBodyRunner runner = new MultiBodyRunner(batchSize, dedicated, this, this.clock, this.profiler);
+        this.activeRunners.add(runner);
+        this.threadPoolManager.submit(runner);
+        return runner;
+    }
+
+    /**
+     * Internal: give a player its own runner (reusing an empty dedicated one).
+     */
+    private void submitDedicated(AbstractBody body) {
+        this.runnersLock.lock();
+        try {
             for (MultiBodyRunner runner : this.activeRunners) {
-                if (runner.getBatchSize() == batchSize
-                        && !runner.isTerminated()
-                        && !runner.isFull()
-                        && runner.addBody(body)) {
+                if (runner.isDedicated() && !runner.isTerminated() && runner.addBody(body)) {
                     return;
                 }
             }
 
-            // Create new runner
-            MultiBodyRunner newRunner = new MultiBodyRunner(batchSize, this);
-            if (!newRunner.addBody(body)) {
+            if (!this.newRunner(PLAYER_BATCH_SIZE, true).addBody(body)) {
                 throw new IllegalStateException("Failed to add body to new runner");
             }
+        } finally {
+            this.runnersLock.unlock();
+        }
+    }
 
-            this.activeRunners.add(newRunner);
-            this.threadPoolManager.submit(newRunner);
+    /**
+     * Internal: assign body to a shared runner.
+     *
+     * New bodies fill the fullest runner with room (keeps batches packed so
+     * surplus runners can retire); migrated bodies go to the runner with the
+     * lowest tick cost.
+     *
+     * @param body the body to assign
+     * @param lastTick last tick the body was advanced (-1 for new bodies)
+     * @param source runner the body is migrating from, or null
+     */
+    private void submitShared(AbstractBody body, long lastTick, MultiBodyRunner source) {
+        this.runnersLock.lock();
+        try {
+            MultiBodyRunner target = null;
+            MultiBodyRunner leastLoaded = null;
+            for (MultiBodyRunner runner : this.activeRunners) {
+                if (runner == source || !this.isSharedTarget(runner)) {
+                    continue;
+                }
+                if (leastLoaded == null || runner.getBodyCount() < leastLoaded.getBodyCount()) {
+                    leastLoaded = runner;
+                }
+                if (runner.isFull()) {
+                    continue;
+                }
+                if (target == null
+                        || (source == null && runner.getBodyCount() > target.getBodyCount())
+                        || (source != null && runner.getTickCostNanos() < target.getTickCostNanos())) {
+                    target = runner;
+                }
+            }
+
+            if (target == null) {
+                if (this.activeRunners.size() < this.maxRunners) {
+                    target = this.newRunner(this.adaptiveBatchSize, false);
+                } else if (leastLoaded != null) {
+                    target = leastLoaded; // Pool exhausted: overfill rather than starve
+                } else {
+                    target = source; // Only the source is left: keep the body there
+                }
+            }
+
+            if (target == null || !target.acceptMigrated(body, lastTick)) {
+                throw new IllegalStateException("Failed to add body to runner");
+            }
+        } finally {
+            this.runnersLock.unlock();
         }
     }
 }
@@ -4,23 +4,27 @@ package engine.model.impl;
 import static java.lang.System.nanoTime;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.HashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 import engine.actions.ActionType;
 import engine.actions.ActionDTO;
+import engine.actions.ActionPool;
+import engine.events.domain.core.DomainEventPool;
 import engine.events.domain.ports.BodyRefDTO;
 import engine.events.domain.ports.BodyToEmitDTO;
 import engine.events.domain.ports.DomainEventType;
 import engine.events.domain.ports.eventtype.CollisionEvent;
 import engine.events.domain.ports.eventtype.DomainEvent;
 import engine.events.domain.ports.eventtype.EmitEvent;
-import engine.events.domain.ports.eventtype.LifeOver;
-import engine.events.domain.ports.eventtype.LimitEvent;
-import engine.events.domain.ports.payloads.CollisionPayload;
 import engine.events.domain.ports.payloads.EmitPayloadDTO;
 import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.BodyStateStore;
+import engine.model.bodies.core.WorkerScratch;
 import engine.model.bodies.impl.DynamicBody;
 import engine.model.bodies.impl.PlayerBody;
 import engine.model.bodies.ports.BodyData;
@@ -29,17 +33,28 @@ import engine.model.bodies.ports.BodyFactory;
 import engine.model.bodies.ports.BodyState;
 import engine.model.bodies.ports.BodyType;
 import engine.model.bodies.ports.PlayerDTO;
+import engine.model.bodies.ports.PlayerInput;
 import engine.model.emitter.impl.BasicEmitter;
 import engine.model.emitter.ports.EmitterConfigDto;
 import engine.model.physics.ports.PhysicsValuesDTO;
+import engine.model.ports.CollisionLayers;
 import engine.model.ports.DomainEventProcessor;
 import engine.model.ports.ModelState;
 import engine.model.ports.ProfilingStatisticsDTO;
+import engine.model.ports.TickExecutionMode;
 import engine.utils.helpers.DoubleVector;
+import engine.utils.helpers.IntArrayList;
 import engine.utils.pooling.PoolMDTO;
+import engine.utils.profiling.core.LatencyHistogram;
 import engine.utils.profiling.impl.BodyProfiler;
-import engine.utils.spatial.core.SpatialGrid;
+import engine.utils.spatial.core.SparseSpatialGrid;
+import engine.utils.spatial.ports.Broadphase;
+import engine.utils.spatial.ports.BroadphaseFactory;
+import engine.utils.spatial.ports.BroadphaseType;
 import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
+import engine.utils.spatial.ports.SpatialIndex;
+import engine.utils.threading.ThreadingStrategy;
+import engine.utils.timing.TimerWheel;
 // endregion
 
 /**
@@ -92,12 +107,55 @@ import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
  * - Requires worldWidth, worldHeight, and maxDynamicBodies parameters
  * - Entity maps are pre-allocated with expected capacities
  * - SpatialGrid is initialized with cell size 48 and max entities per cell 24
+ * - BroadphaseType selects the collision broadphase (BUCKET_GRID by default).
+ * BUCKET_GRID switches to SPARSE_GRID when the world would need more than
+ * DENSE_GRID_MAX_CELLS preallocated buckets (see setWorldDimension)
+ * FLAT_GRID, SORT_AND_SWEEP and AABB_TREE are rebuilt once per tick: between
+ * GRID and NARROWPHASE in PHASED mode, on the clock thread before each tick is
+ * published in RUNNERS mode
+ *
+ * Static bodies
+ * -------------
+ * DECORATOR and GRAVITY bodies are never handed to the BodyBatchManager:
+ * the decorators and gravityBodies maps are a passive registry nobody polls.
+ * When the life timer of a finite-life static fires, the body is queued and
+ * expireStaticBodies() runs its life over events on the next tick, in the
+ * same place as the per-tick broadphase rebuild.
+ *
+ * Timers
+ * ------
+ * Body life and projectile immunity run on the SimulationClock's TimerWheel
+ * (getTimerWheel()), so they are measured in simulation ticks and freeze
+ * while the model is paused. Emitter cooldowns are measured in the same
+ * ticks without a timer: each emitter keeps the tick its cooldown ends on
+ * and compares it with the simulated tick (BasicEmitter.setTickSource()).
  *
  * Activation (activate()):
  * - Validates that DomainEventProcessor is set
- * - Transitions to ALIVE state
+ * - Starts the SimulationClock and transitions to ALIVE state
  * - After activation, entities can be created and activated
  *
+ * Simulation clock
+ * ----------------
+ * All body runners are paced by a single fixed-timestep SimulationClock
+ * (DEFAULT_TICK_RATE_HZ unless another rate is given at construction). Every
+ * tick advances all bodies with the same dt, and pause()/resume() simply
+ * stop and restart tick production. getTickCount() exposes the shared tick
+ * index for diagnostics and deterministic benchmarking.
+ *
+ * Tick execution modes
+ * --------------------
+ * - RUNNERS (default): bodies are batched into MultiBodyRunners; each body
+ * integrates, updates the grid and processes its events in one go.
+ * - PHASED: PhasedWorldTick runs integrate → grid → broadphase → narrowphase
+ * → rules as parallel ForkJoin passes over all bodies with barriers between
+ * them (see the phase***() methods). Per-phase timings are reported by the
+ * BodyProfiler as PHASE_* metrics.
+ *
+ * Runners are backed by platform threads by default; ThreadingStrategy
+ * VIRTUAL_THREADS runs each runner on a virtual thread instead (carrier
+ * parallelism bounded to the core count).
+ *
  * Snapshot generation
  * -------------------
  * The Model provides snapshot methods that return DTO lists:
@@ -132,13 +190,43 @@ import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
  * - BODY executor: movement and rebounds delegated to entity
  * - MODEL executor: spawning, projectile emission, death handling
  *
+ * Structural commands
+ * -------------------
+ * Spawns, deaths (DIE) and emitter equips never change the world in the
+ * middle of a tick: they are recorded in the StructuralCommandBuffer of the
+ * worker and applied together by applyStructuralCommands() at the tick
+ * boundary: deaths first, then spawns, then equips. Map and spatial index
+ * mutations, physics DTO pool traffic and view notifications are batched on
+ * one thread, and a body killed twice in the same tick dies once.
+ *
+ * The tick boundary is a real barrier in both modes: the end of the phased
+ * tick, or in RUNNERS mode the clock tick boundary hook once every runner
+ * has finished the last published tick (BodyBatchManager.awaitRunnersTick()).
+ * No body is being integrated or committed while the commands run, so the
+ * DTOs a dying body releases to the pool are no longer in use.
+ *
+ * World snapshot
+ * --------------
+ * Right after the structural commands, publishWorldSnapshot() copies the
+ * dynamic bodies into one of three WorldSnapshot frames (primitive arrays)
+ * and publishes it with a volatile write. Renderer, AI and HUD read the
+ * latest frame (getWorldSnapshot()) instead of walking the live body maps.
+ * In RUNNERS mode it runs behind the runner barrier of the tick boundary
+ * hook, so frames are tick-consistent in both modes (each body also carries
+ * the tick of its last commit). Frames carry the previous position and
+ * angle of each body, so the render path interpolates between the last two
+ * simulation states.
+ *
  * Collision Detection
  * -------------------
  * - SpatialGrid provides O(1) broad-phase collision detection
  * - Only nearby entities are tested for collision
  * - Circle-circle intersection test for precise collision
  * - Projectile immunity system prevents self-collision after firing
- * - Collision deduplication via symmetry check (A-B = B-A)
+ * - Candidates found in several cells are deduped with per-worker epoch
+ * stamps indexed by body handle (no sort, no hashing)
+ * - Collision deduplication via symmetry check (A-B = B-A): only the body
+ * with the lower handle reports the pair (GRAVITY walls never check)
  *
  * Concurrency strategy
  * --------------------
@@ -146,8 +234,8 @@ import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
  * - Individual entities manage their own thread synchronization
  * - Body state machine prevents concurrent event processing (HANDS_OFF state)
  * - Model state transitions are protected by volatile fields
- * - Snapshot methods create independent DTO lists to avoid concurrent
- * modification during rendering
+ * - Readers get the per-tick WorldSnapshot; the snapshot methods that
+ * still return DTO lists build them from it
  * - Scratch buffers reduce allocation pressure during snapshot generation
  *
  * Design goals
@@ -166,21 +254,54 @@ public class Model implements BodyEventProcessor {
     private static final int DEFAULT_MAX_BODIES = 5000;
     private static final int SPATIAL_GRID_CELL_SIZE = 128;
     private static final int MAX_CELLS_PER_BODY = 1512;
+    private static final int RING_SAMPLES = 16; // free position search
+    private static final double[] RING_COS = new double[RING_SAMPLES];
+    private static final double[] RING_SIN = new double[RING_SAMPLES];
+    private static final long DENSE_GRID_MAX_CELLS = 1L << 18; // above -> sparse grid
     private static final int DEFAULT_BATCH_SIZE = 10;
+    private static final int DTOS_PER_BODY = 3; // engine double buffer + snapshot
+    private static final double POOL_SHRINK_SECONDS = 5.0d;
+    private static final int INPUT_LATENCY_BUCKET_COUNT = 1000;
+    private static final long INPUT_LATENCY_BUCKET_NANOS = 100_000L; // 0.1 ms, up to 100 ms
     // endregion
 
+    static {
+        for (int i = 0; i < RING_SAMPLES; i++) {
+            double ang = (2.0 * Math.PI * i) / RING_SAMPLES;
+            RING_COS[i] = Math.cos(ang);
+            RING_SIN[i] = Math.sin(ang);
+        }
+    }
+
     // region Fields
     private int maxBodies;
     private DomainEventProcessor domainEventProcessor = null;
     private volatile ModelState state = ModelState.STARTING;
     private double worldWidth;
     private double worldHeight;
-    private SpatialGrid spatialGrid;
+    private Broadphase broadphase;
+    private final BroadphaseType broadphaseType;
     private final Map<String, AbstractBody> decorators = new ConcurrentHashMap<>(200);
     private final Map<String, AbstractBody> dynamicBodies = new ConcurrentHashMap<>(DEFAULT_MAX_BODIES);
     private final Map<String, AbstractBody> gravityBodies = new ConcurrentHashMap<>(200);
+    private volatile TileCollisionLayer tileLayer = null;
+    private volatile int[] collidingTypes = collidingTypesOf(new CollisionLayers()); // by BodyType ordinal
+    private volatile double maxWallRadius = 0.0d; // pads wall region queries
+    private volatile ArrayList<BodyData> tileStaticsData = new ArrayList<>();
     private final BodyProfiler bodyProfiler;
+    private final BodyFactory bodyFactory;
+    private final LongSupplier tickSource; // Simulated tick (commit stamps, snapshot frames)
+    private final BodyStateStore stateStore; // SoA mirror of this model's bodies (PHASED only)
+    private final LatencyHistogram playerInputLatency = new LatencyHistogram(
+            INPUT_LATENCY_BUCKET_NANOS, INPUT_LATENCY_BUCKET_COUNT);
     private final BodyBatchManager bodyBatchManager;
+    private final SimulationClock simulationClock;
+    private final Queue<AbstractBody> expiredStatics = new ConcurrentLinkedQueue<>();
+    private final WorkerScratch expireScratch = new WorkerScratch(); // expireStaticBodies() only (one caller per mode)
+    private final Queue<StructuralCommandBuffer> pendingCommandBuffers = new ConcurrentLinkedQueue<>();
+    private final ArrayList<StructuralCommandBuffer> applyingCommandBuffers = new ArrayList<>();
+    private int[] applyingCommandCountsBuffer = new int[8];
+    private final WorldSnapshotPublisher worldSnapshotPublisher = new WorldSnapshotPublisher();
     // endregion
 
     // region Buffer (for zero-allocation snapshot generation)
@@ -190,6 +311,39 @@ public class Model implements BodyEventProcessor {
 
     // region Constructors
     public Model(DoubleVector worldDimension, int maxDynamicBodies) {
+        this(worldDimension, maxDynamicBodies, SimulationClock.DEFAULT_TICK_RATE_HZ);
+    }
+
+    public Model(DoubleVector worldDimension, int maxDynamicBodies, int tickRateHz) {
+        this(worldDimension, maxDynamicBodies, tickRateHz, TickExecutionMode.RUNNERS);
+    }
+
+    public Model(DoubleVector worldDimension, int maxDynamicBodies, int tickRateHz,
+            TickExecutionMode tickExecutionMode) {
+
+        this(worldDimension, maxDynamicBodies, tickRateHz, tickExecutionMode, ThreadingStrategy.PLATFORM_THREADS);
+    }
+
+    public Model(DoubleVector worldDimension, int maxDynamicBodies, int tickRateHz,
+            TickExecutionMode tickExecutionMode, ThreadingStrategy threadingStrategy) {
+
+        this(worldDimension, maxDynamicBodies, tickRateHz, tickExecutionMode, threadingStrategy,
+                BroadphaseType.BUCKET_GRID);
+    }
+
+    public Model(DoubleVector worldDimension, int maxDynamicBodies, int tickRateHz,
+            TickExecutionMode tickExecutionMode, ThreadingStrategy threadingStrategy,
+            BroadphaseType broadphaseType) {
+
+        if (tickExecutionMode == null)
+            throw new IllegalArgumentException("Tick execution mode is null");
+
+        if (threadingStrategy == null)
+            throw new IllegalArgumentException("Threading strategy is null");
+
+        if (broadphaseType == null)
+            throw new IllegalArgumentException("Broadphase type is null");
+
         if (worldDimension == null || worldDimension.x <= 0 || worldDimension.y <= 0)
             throw new IllegalArgumentException("Invalid world dimension");
 
@@ -200,19 +354,57 @@ public class Model implements BodyEventProcessor {
         this.worldWidth = worldDimension.x;
         this.worldHeight = worldDimension.y;
 
-        // Create scratch buffer and preallocate physics DTO pool
+        // Create scratch buffer and physics DTO pool (filled on demand by
+        // released DTOs, bounded to the DTOs of maxBodies bodies)
         scratchDynamicsBuffer = new ArrayList<>(maxDynamicBodies);
-        this.physicsValuesPool = new PoolMDTO<>(() -> new PhysicsValuesDTO(0L, 0, 0, 0, 0));
-        this.physicsValuesPool.preallocate(4 * this.maxBodies);
-        
+        this.physicsValuesPool = new PoolMDTO<>(
+                () -> new PhysicsValuesDTO(0L, 0, 0, 0, 0), DTOS_PER_BODY * this.maxBodies);
+
         // Calculate thread pool size based on expected batching (maxBodies/batchSize + margin for players)
         int threadPoolSize = (int) Math.ceil(maxDynamicBodies / (double) DEFAULT_BATCH_SIZE) + 50;
-        this.bodyBatchManager = new BodyBatchManager(threadPoolSize);
-
+        this.simulationClock = new SimulationClock(tickRateHz);
         this.bodyProfiler = new BodyProfiler();
-
-        this.spatialGrid = new SpatialGrid(worldDimension.x, worldDimension.y,
-                SPATIAL_GRID_CELL_SIZE, MAX_CELLS_PER_BODY);
+        this.physicsValuesPool.setProfiler(this.bodyProfiler, "DTO_POOL");
+
+        PhasedWorldTick phasedWorldTick = tickExecutionMode == TickExecutionMode.PHASED
+                ? new PhasedWorldTick(this, this.simulationClock, this.bodyProfiler, 0)
+                : null;
+
+        // Only the phased tick integrates in bulk and reads the mirror:
+        // runners integrate body by body, so their commits are not copied
+        this.stateStore = phasedWorldTick != null ? new BodyStateStore() : null;
+
+        // Commits are stamped with the tick being simulated: the clock tick
+        // count in RUNNERS mode (it waits for the runners), the phased tick's
+        // own one in PHASED mode (it replays a batch of ticks one by one)
+        this.tickSource = phasedWorldTick != null
+                ? phasedWorldTick::getSimulatedTick
+                : this.simulationClock::getTickCount;
+        this.bodyFactory = new BodyFactory(this.stateStore, this.tickSource, this.playerInputLatency);
+        this.bodyBatchManager = new BodyBatchManager(
+                threadPoolSize, this.simulationClock, this.bodyProfiler, phasedWorldTick, threadingStrategy);
+
+        this.broadphaseType = broadphaseType;
+        this.broadphase = this.newBroadphase(worldDimension.x, worldDimension.y);
+
+        if (tickExecutionMode == TickExecutionMode.RUNNERS) {
+            // Runners have no common barrier: wait until all of them are done
+            // with the last tick, then expire static bodies, apply the
+            // structural commands, publish the world snapshot and the staged
+            // broadphase right before the next one (no-op for incremental grids)
+            this.simulationClock.setTickBoundaryHook(() -> {
+                this.bodyBatchManager.awaitRunnersTick(this.simulationClock.getTickCount());
+                this.expireStaticBodies();
+                this.applyStructuralCommands();
+                this.publishWorldSnapshot();
+                this.broadphase.rebuild(null);
+            });
+        } else {
+            // The phased tick does all of that itself: only keep it from
+            // falling more than one batch behind, so it never skips a tick
+            this.simulationClock.setTickBoundaryHook(
+                    () -> this.bodyBatchManager.awaitRunnersTick(this.simulationClock.getTickCount()));
+        }
     }
     // endregion
 
@@ -222,7 +414,7 @@ public class Model implements BodyEventProcessor {
         if (this.domainEventProcessor == null) {
             throw new IllegalArgumentException("Controller is not set");
         }
-        if (this.spatialGrid == null) {
+        if (this.broadphase == null) {
             throw new IllegalArgumentException("World dimension is not set");
         }
         if (this.worldHeight <= 0 || this.worldWidth <= 0) {
@@ -230,18 +422,23 @@ public class Model implements BodyEventProcessor {
         }
 
         // Silent: Model activated
+        // Clock first: tick loops treat a stopped clock as a shutdown signal
+        this.simulationClock.start();
         this.bodyBatchManager.activate();
+        this.schedulePoolShrink();
         this.state = ModelState.ALIVE;
     }
 
     public void pause() {
         if (this.state == ModelState.ALIVE) {
             this.state = ModelState.PAUSED;
+            this.simulationClock.pause();
         }
     }
 
     public void resume() {
         if (this.state == ModelState.PAUSED || this.state == ModelState.STARTING) {
+            this.simulationClock.resume();
             this.state = ModelState.ALIVE;
         }
     }
@@ -279,8 +476,8 @@ public class Model implements BodyEventProcessor {
                 speedX, speedY, accX, accY, angularSpeed, angularAcc, thrust);
 
         // Create body (WITHOUT threading concerns)
-        AbstractBody body = BodyFactory.create(
-                this, this.spatialGrid, 
+        AbstractBody body = this.bodyFactory.create(
+                this, this.broadphase, 
                 phyValues1, phyValues2, phyValues3, // Three for thread-safety
                 bodyType, 
                 maxLifeTime, 
@@ -290,13 +487,26 @@ public class Model implements BodyEventProcessor {
         // Prepare body state
         body.activate();
 
-        // Assign body to thread pool (BodyBatchManager decides batch size based on type)
-        this.bodyBatchManager.activateBody(body);
+        if (bodyType == BodyType.DECORATOR || bodyType == BodyType.GRAVITY) {
+            // Static: passive, never ticked. Its life timer queues it for expiry
+            body.startTimers(this.simulationClock.getTimerWheel(), () -> this.expiredStatics.add(body));
+        } else {
+            body.startTimers(this.simulationClock.getTimerWheel(), null);
+
+            // Assign body to thread pool (BodyBatchManager decides batch size based on type)
+            this.bodyBatchManager.activateBody(body);
+        }
+
+        if (bodyType == BodyType.GRAVITY) {
+            this.trackWallRadius(size * 0.5);
+        }
 
         Map<String, AbstractBody> bodyMap = this.getBodyMap(bodyType);
         bodyMap.put(body.getBodyId(), body);
 
-        this.spatialGridUpsert(body);
+        // Public entry point (controller, generators, spawns): no worker
+        // scratch at hand, use the one of the calling thread
+        this.spatialGridUpsert(body, WorkerScratch.forCurrentThread());
 
         return body.getBodyId();
     }
@@ -378,10 +588,10 @@ public class Model implements BodyEventProcessor {
             return ""; // ========= Body not found =========>
         }
 
-        BasicEmitter emitter = new BasicEmitter(emitterConfig);
-        String emitterId = body.emitterEquip(emitter);
+        BasicEmitter emitter = this.newEmitter(emitterConfig);
+        this.submitEquip(StructuralCommandBuffer.Kind.EQUIP_EMITTER, body, emitter);
 
-        return emitterId;
+        return emitter.getId();
     }
 
     public String bodyEquipTrail(String bodyId, EmitterConfigDto trailConfig) {
@@ -400,12 +610,34 @@ public class Model implements BodyEventProcessor {
         if (!(body instanceof DynamicBody)) {
             throw new IllegalArgumentException("bodyEquipTrail() -> body is not DynamicBody");
         }
-        DynamicBody dBody = (DynamicBody) body;
 
-        BasicEmitter trailEmitter = new BasicEmitter(trailConfig);
-        String emitterId = dBody.trailEquip(trailEmitter);
+        BasicEmitter trailEmitter = this.newEmitter(trailConfig);
+        this.submitEquip(StructuralCommandBuffer.Kind.EQUIP_TRAIL, body, trailEmitter);
+
+        return trailEmitter.getId();
+    }
+    // endregion
+
+    // region Body steering (bodySteer***)
+    /**
+     * Queue a new velocity for a dynamic body (any thread, e.g. game AI). It
+     * is applied by the thread that ticks the body, at the start of its next
+     * tick; only the latest one before that tick counts.
+     *
+     * @return false if the body is not a live dynamic body
+     */
+    public boolean bodySteerVelocity(String bodyId, double speedX, double speedY) {
+        if (bodyId == null || bodyId.isEmpty()) {
+            throw new IllegalArgumentException("BodyId cannot be null or empty");
+        }
+
+        if (!(this.dynamicBodies.get(bodyId) instanceof DynamicBody body)
+                || body.getBodyState() == BodyState.DEAD) {
+            return false; // ========= Body not found =========>
+        }
 
-        return emitterId;
+        body.submitVelocity(speedX, speedY);
+        return true;
     }
     // endregion
 
@@ -451,42 +683,20 @@ public class Model implements BodyEventProcessor {
         return AbstractBody.getDeadQuantity();
     }
 
+    /**
+     * Dynamic bodies of the latest world snapshot, as new BodyData. Prefer
+     * getWorldSnapshot(): this one allocates a DTO per body.
+     */
     public ArrayList<BodyData> snapshotRenderData() {
-        ArrayList<BodyData> renderSnapshot = new ArrayList<>(this.dynamicBodies.size());
-
-        this.dynamicBodies.forEach((entityId, body) -> {
-            PhysicsValuesDTO phyValues = body.getPhysicsValues();
-            if (phyValues == null) {
-                return;
-            }
-
-            BodyData bodyInfo = body.getBodyData();
-            if (bodyInfo != null) {
-                renderSnapshot.add(bodyInfo);
-            }
-        });
-
-        return renderSnapshot;
+        return this.getSnapshotBodiesData(this.worldSnapshotPublisher.getLatest(), null);
     }
 
     /**
-     * Thread-safe snapshot for AI threads: uses its own buffer so it never
-     * corrupts scratchDynamicsBuffer used by the Renderer path.
+     * Thread-safe snapshot for AI threads, from the latest world snapshot.
      * Only returns DYNAMIC bodies (not PLAYER / PROJECTILE).
      */
     public ArrayList<BodyData> snapshotDynamicEnemies() {
-        ArrayList<BodyData> result = new ArrayList<>();
-        this.dynamicBodies.forEach((entityId, body) -> {
-            if (body.getBodyType() != BodyType.DYNAMIC) {
-                return;
-            }
-            PhysicsValuesDTO phyValues = body.getPhysicsValues();
-            if (phyValues == null) {
-                return;
-            }
-            result.add(body.getBodyData());
-        });
-        return result;
+        return this.getSnapshotBodiesData(this.worldSnapshotPublisher.getLatest(), BodyType.DYNAMIC);
     }
 
     public int getDefaultMaxBodies() {
@@ -501,6 +711,26 @@ public class Model implements BodyEventProcessor {
         return new ProfilingStatisticsDTO(this.bodyProfiler.getAllMetrics());
     }
 
+    /**
+     * Input latency of the players: command submitted (input thread) ->
+     * applied at the start of the player's tick.
+     */
+    public LatencyHistogram getPlayerInputLatency() {
+        return this.playerInputLatency;
+    }
+
+    public int getRunnerBatchSize() {
+        return this.bodyBatchManager.getAdaptiveBatchSize();
+    }
+
+    public int getRunnerCount() {
+        return this.bodyBatchManager.getRunnerCount();
+    }
+
+    public LatencyHistogram getRunnerTickLag() {
+        return this.bodyBatchManager.getTickLagHistogram();
+    }
+
     public PlayerDTO getPlayerData(String playerId) {
         PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
         if (pBody == null) {
@@ -516,6 +746,7 @@ public class Model implements BodyEventProcessor {
 
         staticsInfo = this.getBodiesData(this.decorators);
         staticsInfo.addAll(this.getBodiesData(this.gravityBodies));
+        staticsInfo.addAll(this.tileStaticsData);
 
         return staticsInfo;
     }
@@ -524,13 +755,69 @@ public class Model implements BodyEventProcessor {
         return this.state;
     }
 
+    /**
+     * SoA mirror of the physics values of this model's bodies, or null in
+     * RUNNERS mode (nothing integrates in bulk there).
+     */
+    public BodyStateStore getStateStore() {
+        return this.stateStore;
+    }
+
+    public BroadphaseType getBroadphaseType() {
+        return this.broadphaseType;
+    }
+
+    /**
+     * Grid statistics, or null if the broadphase is not a grid
+     * (SORT_AND_SWEEP, AABB_TREE).
+     */
     public SpatialGridStatisticsDTO getSpatialGridStatistics() {
-        return this.spatialGrid.getStatistics();
+        if (!(this.broadphase instanceof SpatialIndex)) {
+            return null;
+        }
+        return ((SpatialIndex) this.broadphase).getStatistics();
+    }
+
+    public long getTickCount() {
+        return this.simulationClock.getTickCount();
+    }
+
+    /**
+     * Timer wheel driven by the simulation clock (one-shot timers measured in
+     * ticks, paused with the model).
+     */
+    public TimerWheel getTimerWheel() {
+        return this.simulationClock.getTimerWheel();
+    }
+
+    public TickExecutionMode getTickExecutionMode() {
+        return this.bodyBatchManager.getExecutionMode();
+    }
+
+    public ThreadingStrategy getThreadingStrategy() {
+        return this.bodyBatchManager.getThreadingStrategy();
+    }
+
+    public double getTickDtSeconds() {
+        return this.simulationClock.getDtSeconds();
+    }
+
+    public int getTickRateHz() {
+        return this.simulationClock.getTickRateHz();
     }
 
     public DoubleVector getWorldDimension() {
         return new DoubleVector(this.worldWidth, this.worldHeight);
     }
+
+    /**
+     * Latest published world snapshot (one volatile read). Valid for reading
+     * during at least one tick after a newer one is published; check
+     * WorldSnapshot.isIntact() when holding it longer.
+     */
+    public WorldSnapshot getWorldSnapshot() {
+        return this.worldSnapshotPublisher.getLatest();
+    }
     // endregion Getters
 
     // region Boolean getters (is***)
@@ -545,131 +832,86 @@ public class Model implements BodyEventProcessor {
         if (pBody == null) {
             throw new IllegalArgumentException("Equip weapon: Player not found");
         }
+        if (emitterConfig == null) {
+            throw new IllegalArgumentException("EmitterConfig cannot be null");
+        }
 
-        String emitterId = this.bodyEquipEmitter(playerId, emitterConfig);
-
-        pBody.addWeapon(emitterId);
+        // Emitter and weapon slot in one command: never half equipped
+        this.submitEquip(StructuralCommandBuffer.Kind.EQUIP_WEAPON, pBody, this.newEmitter(emitterConfig));
     }
     // endregion
 
     // region Player Actions (player***)
+    // Input commands are queued in the player's PlayerInputQueue and applied
+    // by the thread that ticks the player, at the start of its next tick
     public void playerFire(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.registerFireRequest();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.FIRE);
     }
 
     public void playerThrustOn(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.thrustMaxOn();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.THRUST_ON);
     }
 
     public void playerThrustOff(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.thrustOff();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.THRUST_OFF);
     }
 
     public void playerReverseThrust(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.reverseThrust();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.REVERSE_THRUST);
     }
 
     public void playerRotateLeftOn(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.rotateLeftOn();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.ROTATE_LEFT_ON);
     }
 
     public void playerRotateOff(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.rotateOff();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.ROTATE_OFF);
     }
 
     public void playerRotateRightOn(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.rotateRightOn();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.ROTATE_RIGHT_ON);
     }
 
     // region Directional Movement (playerMove***)
     public void playerMoveUpOn(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveUpOn();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_UP_ON);
     }
     
     public void playerMoveUpOff(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveUpOff();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_UP_OFF);
     }
 
     public void playerMoveDownOn(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveDownOn();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_DOWN_ON);
     }
     
     public void playerMoveDownOff(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveDownOff();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_DOWN_OFF);
     }
 
     public void playerMoveLeftOn(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveLeftOn();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_LEFT_ON);
     }
     
     public void playerMoveLeftOff(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveLeftOff();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_LEFT_OFF);
     }
 
     public void playerMoveRightOn(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveRightOn();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_RIGHT_ON);
     }
     
     public void playerMoveRightOff(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveRightOff();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_RIGHT_OFF);
     }
 
     public void playerMoveOff(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.moveOff();
-        }
+        this.submitPlayerInput(playerId, PlayerInput.MOVE_OFF);
     }
     
     public void playerSetAngle(String playerId, double angleDegrees) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody != null) {
-            pBody.setAngle(angleDegrees);
+        if (this.dynamicBodies.get(playerId) instanceof PlayerBody pBody) {
+            pBody.submitAngle(angleDegrees); // Coalesced: latest angle wins
         }
     }
     
@@ -678,18 +920,14 @@ public class Model implements BodyEventProcessor {
         if (pBody == null) {
             return null;
         }
-        PhysicsValuesDTO phyValues = pBody.getPhysicsValues();
+        PhysicsValuesDTO phyValues = pBody.getPhysicsSnapshot(
+                WorkerScratch.forCurrentThread().getPeerPhyValues());
         return new DoubleVector(phyValues.posX, phyValues.posY);
     }
     // endregion
 
     public void playerSelectNextWeapon(String playerId) {
-        PlayerBody pBody = (PlayerBody) this.dynamicBodies.get(playerId);
-        if (pBody == null) {
-            return;
-        }
-
-        pBody.selectNextWeapon();
+        this.submitPlayerInput(playerId, PlayerInput.SELECT_NEXT_WEAPON);
     }
 
     public void playerAddScoreToAll(int points) {
@@ -706,34 +944,48 @@ public class Model implements BodyEventProcessor {
             double minX, double maxX, double minY, double maxY,
             int[] scratchCellIdxs, ArrayList<String> outEntityIds) {
 
-        if (this.spatialGrid == null) {
+        if (this.broadphase == null) {
             outEntityIds.clear();
             return outEntityIds;
         }
 
-        this.spatialGrid.queryRegion(
+        // Grid works with int handles; boundary ids are the bodies' cached strings
+        IntArrayList handles = this.broadphase.queryRegion(
                 minX, maxX, minY, maxY,
-                scratchCellIdxs, outEntityIds);
+                scratchCellIdxs, new IntArrayList(Math.max(16, outEntityIds.size())));
 
+        outEntityIds.clear();
+        for (int i = 0; i < handles.size(); i++) {
+            AbstractBody body = this.getBody(handles.get(i));
+            if (body != null) {
+                outEntityIds.add(body.getBodyId());
+            }
+        }
         return outEntityIds;
     }
     // endregion
 
     // region Remove and destroy (remove***)
+    /**
+     * Immediate removal. Inside a tick use the DIE action instead (deferred
+     * to the tick boundary). A body already dead is ignored.
+     */
     public void removeBody(AbstractBody body) {
-        body.die();
+        if (!body.die()) {
+            return; // ===== Already dead: removed and notified once =====>
+        }
 
         switch (body.getBodyType()) {
             case PLAYER:
                 this.domainEventProcessor.notifyPlayerIsDead(body.getBodyId());
-                this.spatialGrid.remove(body.getBodyId());
+                this.broadphase.remove(body.getBodyHandle(), body.getSpatialCells());
                 this.dynamicBodies.remove(body.getBodyId());
                 break;
 
             case DYNAMIC:
             case PROJECTILE:
                 this.domainEventProcessor.notifyDynamicIsDead(body.getBodyId());
-                this.spatialGrid.remove(body.getBodyId());
+                this.broadphase.remove(body.getBodyHandle(), body.getSpatialCells());
                 this.dynamicBodies.remove(body.getBodyId());
                 break;
 
@@ -753,6 +1005,14 @@ public class Model implements BodyEventProcessor {
     // endregion
 
     // region Setters
+    /**
+     * Body type pairs that can collide (null = every pair). Pairs switched
+     * off are dropped right after the broadphase query.
+     */
+    public void setCollisionLayers(CollisionLayers collisionLayers) {
+        this.collidingTypes = collidingTypesOf(collisionLayers == null ? new CollisionLayers() : collisionLayers);
+    }
+
     public void setDomainEventProcessor(DomainEventProcessor domainEventProcessor) {
         this.domainEventProcessor = domainEventProcessor;
     }
@@ -767,11 +1027,43 @@ public class Model implements BodyEventProcessor {
         if (this.maxBodies != maxBodies) {
             this.maxBodies = maxBodies;
 
-            this.physicsValuesPool = new PoolMDTO<>(() -> new PhysicsValuesDTO(0L, 0, 0, 0, 0));
-            this.physicsValuesPool.preallocate(Math.max(5000, 5 * this.maxBodies));
+            this.physicsValuesPool.setMaxIdle(DTOS_PER_BODY * this.maxBodies);
+            this.physicsValuesPool.shrink();
         }
     }
 
+    /**
+     * Replaces the static tile collision layer (maze walls) with the solid
+     * tiles of the grid. Solid tiles collide with every collidable body as
+     * GRAVITY walls without being bodies.
+     *
+     * @return entity ids of the solid tiles, in the same order as
+     *         getStaticsData() reports them (for static renderables)
+     */
+    public ArrayList<String> setSolidTiles(int[][] grid, int solidValue,
+            double offsetX, double offsetY, double tileSize) {
+
+        TileCollisionLayer layer = new TileCollisionLayer(grid, solidValue, offsetX, offsetY, tileSize);
+
+        ArrayList<String> tileIds = new ArrayList<>(layer.getSolidTileCount());
+        ArrayList<BodyData> tilesData = new ArrayList<>(layer.getSolidTileCount());
+        for (int i = 0; i < layer.getSolidTileCount(); i++) {
+            int tileHandle = layer.getSolidTileHandle(i);
+            String tileId = "tile_" + (-tileHandle);
+            tileIds.add(tileId);
+            tilesData.add(new BodyData(tileId, BodyType.GRAVITY, new PhysicsValuesDTO(
+                    0L, tileSize, layer.getTileCenterX(tileHandle), layer.getTileCenterY(tileHandle), 0.0d)));
+        }
+
+        this.tileStaticsData = tilesData;
+        this.tileLayer = layer;
+        return tileIds;
+    }
+
+    /**
+     * Recreates the broadphase for the new world size. With BUCKET_GRID,
+     * worlds above DENSE_GRID_MAX_CELLS cells get a SparseSpatialGrid.
+     */
     public void setWorldDimension(DoubleVector worldDim) {
         if (worldDim == null || worldDim.x <= 0 || worldDim.y <= 0) {
             throw new IllegalArgumentException("Invalid world dimension");
@@ -780,9 +1072,7 @@ public class Model implements BodyEventProcessor {
         this.worldWidth = worldDim.x;
         this.worldHeight = worldDim.y;
 
-        this.spatialGrid = new SpatialGrid(
-                worldDim.x, worldDim.y,
-                SPATIAL_GRID_CELL_SIZE, MAX_CELLS_PER_BODY);
+        this.broadphase = this.newBroadphase(worldDim.x, worldDim.y);
     }
     // endregion
 
@@ -791,27 +1081,8 @@ public class Model implements BodyEventProcessor {
     // region BodyEventProcessor
     @Override
     public void processBodyEvents(AbstractBody checkBody,
-            PhysicsValuesDTO checkBodyNewPhyValues, PhysicsValuesDTO checkBodyOldPhyValues) {
-
-        if (this.state == ModelState.PAUSED && checkBody != null && checkBody.getBodyState() == BodyState.ALIVE) {
-            // Keep physics clock in sync while paused to avoid large dt spikes on resume.
-            // Preserve body state (position, velocity, angle), update only timestamp.
-            checkBodyOldPhyValues.update(
-                    nanoTime(),
-                    checkBodyOldPhyValues.posX,
-                    checkBodyOldPhyValues.posY,
-                    checkBodyOldPhyValues.angle,
-                    checkBodyOldPhyValues.size,
-                    checkBodyOldPhyValues.speedX,
-                    checkBodyOldPhyValues.speedY,
-                    checkBodyOldPhyValues.accX,
-                    checkBodyOldPhyValues.accY,
-                    checkBodyOldPhyValues.angularSpeed,
-                    checkBodyOldPhyValues.angularAcc,
-                    checkBodyOldPhyValues.thrust);
-            checkBody.doMovement(checkBodyOldPhyValues);
-            return;
-        }
+            PhysicsValuesDTO checkBodyNewPhyValues, PhysicsValuesDTO checkBodyOldPhyValues,
+            WorkerScratch scratch) {
 
         if (!isProcessable(checkBody)) {
             return; // To avoid duplicate or unnecesary event processing ======>
@@ -822,9 +1093,9 @@ public class Model implements BodyEventProcessor {
 
         try {
             // 1 => Detect events -------------------
-            List<DomainEvent> domainEvents = checkBody.getScratchClearEvents();
+            List<DomainEvent> domainEvents = scratch.getClearEvents();
             long detectStart = this.bodyProfiler.startInterval();
-            this.detectEvents(checkBody, checkBodyNewPhyValues, checkBodyOldPhyValues, domainEvents);
+            this.detectEvents(checkBody, checkBodyNewPhyValues, checkBodyOldPhyValues, domainEvents, scratch);
             this.bodyProfiler.stopInterval("EVENTS_DETECT", detectStart);
 
             // 2 => Decide actions ------------------
@@ -837,7 +1108,7 @@ public class Model implements BodyEventProcessor {
 
             // 3 => Execute actions -----------------
             long executeStart = this.bodyProfiler.startInterval();
-            this.executeActionList(checkBody.getBodyId(), actions, checkBodyNewPhyValues);
+            this.executeActionList(checkBody.getBodyHandle(), actions, checkBodyNewPhyValues, scratch);
             this.bodyProfiler.stopInterval("EVENTS_EXECUTE", executeStart);
 
         } catch (Exception e) { // Fallback anti-zombi
@@ -851,13 +1122,223 @@ public class Model implements BodyEventProcessor {
             }
         }
     }
+
+    /**
+     * Log the failure and despawn the body at the next tick boundary, like a
+     * DIE action.
+     */
+    @Override
+    public void processBodyFailure(AbstractBody body, Exception failure, WorkerScratch scratch) {
+        System.err.println("[ERROR] Body " + body.getBodyId() + " failed its tick and is removed: " + failure);
+        failure.printStackTrace();
+
+        this.despawnBody(body, scratch);
+    }
+    // endregion
+
+    // region Phased tick (phase***) - called by PhasedWorldTick
+    /**
+     * Apply the structural commands recorded during the tick, every worker
+     * buffer in one batch: deaths first, then spawns, then equips (skipped
+     * for bodies that died). Called once per tick: by PhasedWorldTick after
+     * the phases, by the clock tick boundary hook in RUNNERS mode.
+     */
+    void applyStructuralCommands() {
+        StructuralCommandBuffer buffer;
+        while ((buffer = this.pendingCommandBuffers.poll()) != null) {
+            this.applyingCommandBuffers.add(buffer);
+        }
+        if (this.applyingCommandBuffers.isEmpty()) {
+            return; // ===== Nothing recorded this tick =====>
+        }
+
+        long applyStart = this.bodyProfiler.startInterval();
+        int buffers = this.applyingCommandBuffers.size();
+        int[] counts = this.applyingCommandCounts(buffers);
+
+        for (int b = 0; b < buffers; b++) {
+            StructuralCommandBuffer commands = this.applyingCommandBuffers.get(b);
+            for (int i = 0; i < counts[b]; i++) {
+                StructuralCommandBuffer.Command command = commands.get(i);
+                if (command.kind == StructuralCommandBuffer.Kind.DESPAWN) {
+                    this.removeBody(command.body);
+                }
+            }
+        }
+
+        for (int b = 0; b < buffers; b++) {
+            StructuralCommandBuffer commands = this.applyingCommandBuffers.get(b);
+            for (int i = 0; i < counts[b]; i++) {
+                StructuralCommandBuffer.Command command = commands.get(i);
+                if (command.kind == StructuralCommandBuffer.Kind.SPAWN) {
+                    this.applySpawn(command);
+                }
+            }
+        }
+
+        for (int b = 0; b < buffers; b++) {
+            StructuralCommandBuffer commands = this.applyingCommandBuffers.get(b);
+            for (int i = 0; i < counts[b]; i++) {
+                StructuralCommandBuffer.Command command = commands.get(i);
+                if (command.kind != StructuralCommandBuffer.Kind.DESPAWN
+                        && command.kind != StructuralCommandBuffer.Kind.SPAWN) {
+                    this.applyEquip(command);
+                }
+            }
+            commands.clearApplied();
+        }
+
+        this.applyingCommandBuffers.clear();
+        this.bodyProfiler.stopInterval("STRUCTURAL_COMMANDS", applyStart);
+    }
+
+    /**
+     * Copy the dynamic bodies into the oldest of the three world snapshot
+     * frames and publish it, stamped with the clock tick boundary (render
+     * interpolation). Called once per tick, by one thread at a time, right
+     * after applyStructuralCommands(): by PhasedWorldTick, by the clock tick
+     * boundary hook in RUNNERS mode.
+     */
+    void publishWorldSnapshot() {
+        long publishStart = this.bodyProfiler.startInterval();
+        this.worldSnapshotPublisher.publish(this.dynamicBodies.values(),
+                this.tickSource.getAsLong(),
+                this.simulationClock.getTickBoundaryNanos(),
+                this.simulationClock.getStepNanos());
+        this.bodyProfiler.stopInterval("WORLD_SNAPSHOT", publishStart);
+    }
+
+    /**
+     * Process the static bodies whose life is over (life over events and
+     * their actions). Called once per tick: by PhasedWorldTick before the
+     * phases, by the clock tick boundary hook in RUNNERS mode.
+     */
+    void expireStaticBodies() {
+        AbstractBody body;
+        while ((body = this.expiredStatics.poll()) != null) {
+            PhysicsValuesDTO phyValues = body.getPhysicsValues();
+            this.processBodyEvents(body, phyValues, phyValues, this.expireScratch);
+        }
+    }
+
+    /**
+     * GRID: upsert the integrated (not yet committed) AABB.
+     */
+    void phaseGrid(AbstractBody body, PhysicsValuesDTO newPhyValues, WorkerScratch scratch) {
+        if (newPhyValues == null || body.getSpatialGrid() == null) {
+            return;
+        }
+
+        body.spatialGridUpsert(newPhyValues, scratch);
+    }
+
+    /**
+     * GRID (end): publish the memberships staged during GRID. Only does work
+     * for indexes rebuilt per tick.
+     */
+    void phaseGridRebuild(ForkJoinPool pool) {
+        this.broadphase.rebuild(pool);
+    }
+
+    /**
+     * INPUT: apply the queued input of a player before the integration (the
+     * phased tick thread is the owner of every player).
+     */
+    void phaseInput(PlayerBody player) {
+        if (player.getBodyState() != BodyState.ALIVE) {
+            return;
+        }
+
+        player.applyInput();
+    }
+
+    /**
+     * INPUT: apply the steering queued for a dynamic body (game AI) before
+     * the integration.
+     */
+    void phaseSteering(AbstractBody body) {
+        if (body.getBodyState() != BodyState.ALIVE || !(body instanceof DynamicBody dynamicBody)) {
+            return;
+        }
+
+        dynamicBody.applySteering();
+    }
+
+    /**
+     * INTEGRATE (start): integrate every enrolled body of the BodyStateStore
+     * in bulk. phaseIntegrate() then only picks the results up.
+     */
+    void phaseIntegrateAll(ForkJoinPool pool, double dtSeconds) {
+        this.stateStore.integrate(pool, dtSeconds, this.worldWidth, this.worldHeight);
+    }
+
+    /**
+     * INTEGRATE: compute next physics values without committing them.
+     */
+    PhysicsValuesDTO phaseIntegrate(AbstractBody body, double dtSeconds) {
+        return body.integrate(dtSeconds);
+    }
+
+    /**
+     * NARROWPHASE: gather the collision candidates from the (fully updated)
+     * grid and detect all domain events of the body. Collision pairs are
+     * tested against the integrated values of the other bodies, so every body
+     * sees the same world state.
+     *
+     * @param domainEvents receives the events (appended: the list holds the
+     *                     events of every body the worker handled this tick)
+     */
+    void phaseNarrowphase(AbstractBody body, PhysicsValuesDTO newPhyValues,
+            List<DomainEvent> domainEvents, WorkerScratch scratch) {
+
+        if (!this.isPhaseEventSource(body) || newPhyValues == null) {
+            return;
+        }
+
+        this.detectEvents(body, newPhyValues, body.getPhysicsValues(), domainEvents, scratch, true);
+    }
+
+    /**
+     * RULES: decide and execute actions from the events of the narrowphase.
+     *
+     * @param domainEvents events of this body (read only)
+     */
+    void phaseRules(AbstractBody body, PhysicsValuesDTO newPhyValues,
+            List<DomainEvent> domainEvents, WorkerScratch scratch) {
+        if (!this.isPhaseEventSource(body) || newPhyValues == null) {
+            return; // To avoid duplicate or unnecesary event processing ======>
+        }
+
+        BodyState previousState = body.getBodyState();
+        body.setState(BodyState.HANDS_OFF);
+
+        try {
+            List<ActionDTO> actions = body.getActionsQueue();
+            this.provideActions(body, domainEvents, actions);
+            this.executeActionList(body.getBodyHandle(), actions, newPhyValues, scratch);
+
+        } catch (Exception e) { // Fallback anti-zombi
+            if (body.getBodyState() == BodyState.HANDS_OFF) {
+                body.setState(previousState);
+            }
+
+        } finally {
+            if (body.getBodyState() == BodyState.HANDS_OFF) {
+                body.setState(BodyState.ALIVE);
+            }
+        }
+    }
     // endregion
 
     // *** PRIVATE ***
 
     // region Check methods (check***)
+    /**
+     * @param useIntegratedValues test against the other bodies' integrated
+     *                            values (phased tick) instead of committed ones
+     */
     private void checkCollisions(AbstractBody checkBody, PhysicsValuesDTO newPhyValues,
-            List<DomainEvent> domainEvents) {
+            List<DomainEvent> domainEvents, WorkerScratch scratch, boolean useIntegratedValues) {
 
         if (checkBody == null)
             throw new IllegalArgumentException("checkCollisions() -> checkBody is null");
@@ -869,30 +1350,63 @@ public class Model implements BodyEventProcessor {
         if (!this.isCollidable(checkBody))
             return; // =========== Non-collidable body ============>
 
-        ArrayList<String> candidates = checkBody.getScratchClearCandidateIds();
+        if (this.collidingTypes[checkBody.getBodyType().ordinal()] == 0)
+            return; // =========== Layers: collides with nothing, no query ============>
+
+        IntArrayList candidates = scratch.getClearCandidateHandles();
         if (!this.checkCollisionCandidates(checkBody, candidates))
             return; // =========== No candidates -> No collision ============>
 
-        HashSet<String> seen = checkBody.getScratchClearSeenCandidateIds();
-        for (String otherBodyId : candidates) {
-            AbstractBody otherBody = this.getBody(otherBodyId);
+        this.checkCollisionPairs(checkBody, newPhyValues, candidates, useIntegratedValues, domainEvents, scratch);
+    }
 
-            // Dedupe multiple references in differents cells
-            if (!seen.add(otherBodyId))
-                continue;
+    /**
+     * Narrowphase over already gathered candidates.
+     *
+     * @param useIntegratedValues test against the other bodies' integrated
+     *                            values (phased tick) instead of committed ones
+     */
+    private void checkCollisionPairs(AbstractBody checkBody, PhysicsValuesDTO newPhyValues,
+            IntArrayList candidates, boolean useIntegratedValues, List<DomainEvent> domainEvents,
+            WorkerScratch scratch) {
+
+        if (candidates == null || candidates.isEmpty())
+            return; // =========== No candidates -> No collision ============>
+
+        // Dedupe multiple references in differents cells (epoch stamps, no
+        // sort, no hashing)
+        scratch.beginDedupe();
+
+        final int collidingTypes = this.collidingTypes[checkBody.getBodyType().ordinal()];
+        final int checkBodyHandle = checkBody.getBodyHandle();
+        for (int i = 0; i < candidates.size(); i++) {
+            final int otherBodyHandle = candidates.get(i);
+            AbstractBody otherBody = this.getBody(otherBodyHandle);
+            if (otherBody == null)
+                continue; // Dead since the grid query (stale handle)
+
+            if ((collidingTypes & (1 << otherBody.getBodyType().ordinal())) == 0)
+                continue; // Layers: pair switched off
+
+            if (!scratch.firstSeen(otherBodyHandle))
+                continue; // Already found in another cell
 
             // Dedupe by symetry only if otherBody type is not GRAVITY!!!
             // Gravity bodies do not move, so they not do check collisions
             // So symetric dedupe in gravity bodies is NEVER necessary
             if (otherBody.getBodyType() != BodyType.GRAVITY)
-                if (checkBody.getBodyId().compareTo(otherBodyId) >= 0)
+                if (checkBodyHandle >= otherBodyHandle)
                     continue; // ======== Symetric dedupe ON =========>
 
             if (!this.isCollidable(otherBody)) {
                 continue;
             }
 
-            final PhysicsValuesDTO otherPhyValues = otherBody.getPhysicsValues();
+            // Integrated values are stable between phase barriers; the
+            // committed ones of a body ticked by another runner are copied
+            final PhysicsValuesDTO otherPhyValues = useIntegratedValues
+                    ? otherBody.getPhysicsIntegratedValues()
+                    : otherBody.getPhysicsSnapshot(scratch.getPeerPhyValues());
             if (!intersectCircles(newPhyValues, otherPhyValues))
                 continue;
 
@@ -900,16 +1414,14 @@ public class Model implements BodyEventProcessor {
             boolean haveInmunity = this.checkCollisionImmunity(checkBody, otherBody);
 
             // Create collision event ALSO when inmunity is active!!!!
-            CollisionPayload payload = new CollisionPayload(haveInmunity);
-            CollisionEvent collisionEvent = new CollisionEvent(
-                    checkBody.getBodyRef(), otherBody.getBodyRef(), payload);
-            domainEvents.add(collisionEvent);
+            domainEvents.add(scratch.getEventPool().collision(
+                    checkBody.getBodyRef(), otherBody.getBodyRef(), haveInmunity));
         }
     }
 
-    private boolean checkCollisionCandidates(AbstractBody checkBody, ArrayList<String> candidates) {
-        final String checkBodyId = checkBody.getBodyId();
-        this.spatialGrid.queryCollisionCandidates(checkBodyId, candidates);
+    private boolean checkCollisionCandidates(AbstractBody checkBody, IntArrayList candidates) {
+        this.broadphase.queryCollisionCandidates(
+                checkBody.getBodyHandle(), checkBody.getSpatialCells(), candidates);
 
         if (candidates.isEmpty())
             return false; // ------ No collision candidates ------>
@@ -917,6 +1429,33 @@ public class Model implements BodyEventProcessor {
         return true;
     }
 
+    /**
+     * One collision event against the tile layer (first solid tile touched),
+     * with the tile as a GRAVITY wall. O(1): only the tiles under the body.
+     */
+    private void checkTileCollisions(AbstractBody checkBody, PhysicsValuesDTO newPhyValues,
+            List<DomainEvent> domainEvents, DomainEventPool eventPool) {
+
+        TileCollisionLayer tiles = this.tileLayer;
+        if (tiles == null || !this.isCollidable(checkBody))
+            return; // =========== No tiles or non-collidable body ============>
+
+        if (checkBody.getBodyType() == BodyType.GRAVITY)
+            return; // =========== Walls do not collide with walls ============>
+
+        if ((this.collidingTypes[checkBody.getBodyType().ordinal()] & (1 << BodyType.GRAVITY.ordinal())) == 0)
+            return; // =========== Layers: tiles are GRAVITY walls ============>
+
+        // Same 90% radius as intersectCircles()
+        int tileHandle = tiles.findOverlappingTile(
+                newPhyValues.posX, newPhyValues.posY, newPhyValues.size * 0.5 * 0.9);
+        if (tileHandle == TileCollisionLayer.NO_TILE)
+            return;
+
+        domainEvents.add(eventPool.collision(
+                checkBody.getBodyRef(), tiles.getTileRef(tileHandle), false));
+    }
+
     private boolean checkCollisionImmunity(AbstractBody checkBody, AbstractBody otherBody) {
         AbstractBody projectile = null;
         AbstractBody nonProjectile = null;
@@ -938,20 +1477,16 @@ public class Model implements BodyEventProcessor {
         return false;
     }
 
-    private AbstractBody getBody(String bodyId) {
-        if (bodyId == null || bodyId.isEmpty())
-            throw new IllegalArgumentException("loadBody() -> bodyId is null or empty");
-
-        // Pay attention to gravity bodies
-        AbstractBody body = this.dynamicBodies.get(bodyId);
-        if (body == null)
-            body = this.gravityBodies.get(bodyId);
-
-        return body;
+    /**
+     * O(1) handle lookup (array index + generation check). Returns null for
+     * dead bodies.
+     */
+    private AbstractBody getBody(int bodyHandle) {
+        return AbstractBody.getRegistry().get(bodyHandle);
     }
 
     private void checkEmissionEvents(AbstractBody checkBody, PhysicsValuesDTO newPhyValues,
-            PhysicsValuesDTO oldPhyValues, List<DomainEvent> domainEvents) {
+            PhysicsValuesDTO oldPhyValues, List<DomainEvent> domainEvents, DomainEventPool eventPool) {
 
         BodyRefDTO primaryBodyRef = checkBody.getBodyRef();
 
@@ -967,19 +1502,16 @@ public class Model implements BodyEventProcessor {
 
         for (BasicEmitter emitter : checkBody.emittersList()) {
             if (emitter.mustEmitNow(dtSeconds)) {
-                EmitPayloadDTO payload = new EmitPayloadDTO(primaryBodyRef,
-                        emitter.getBodyToEmitConfig());
-
-                domainEvents.add(new EmitEvent(
+                domainEvents.add(eventPool.emit(
                         DomainEventType.EMIT_REQUESTED,
                         primaryBodyRef,
-                        payload));
+                        emitter.getBodyToEmitConfig()));
             }
         }
     }
 
     private void checkFireEvents(AbstractBody checkBody,
-            PhysicsValuesDTO newPhyValues, List<DomainEvent> domainEvents) {
+            PhysicsValuesDTO newPhyValues, List<DomainEvent> domainEvents, DomainEventPool eventPool) {
 
         BodyType bodyType = checkBody.getBodyType();
         BodyRefDTO primaryBodyRef = checkBody.getBodyRef();
@@ -991,39 +1523,50 @@ public class Model implements BodyEventProcessor {
         PlayerBody pBody = (PlayerBody) checkBody;
 
         if (pBody.mustFireNow(newPhyValues)) {
-            EmitPayloadDTO payload = new EmitPayloadDTO(
-                    primaryBodyRef, pBody.getProjectileConfig());
-
-            EmitEvent fireEvent = new EmitEvent(DomainEventType.FIRE_REQUESTED,
-                    primaryBodyRef, payload);
-
-            domainEvents.add(fireEvent);
+            domainEvents.add(eventPool.emit(DomainEventType.FIRE_REQUESTED,
+                    primaryBodyRef, pBody.getProjectileConfig()));
         }
     }
 
-    private void checkLifeOverEvents(AbstractBody checkBody, List<DomainEvent> domainEvents) {
+    private void checkLifeOverEvents(AbstractBody checkBody, List<DomainEvent> domainEvents,
+            DomainEventPool eventPool) {
         if (checkBody.isLifeOver()) {
-            domainEvents.add(new LifeOver(checkBody.getBodyRef()));
+            domainEvents.add(eventPool.lifeOver(checkBody.getBodyRef()));
         }
     }
 
     private void checkLimitEvents(AbstractBody body, PhysicsValuesDTO phyValues,
-            List<DomainEvent> domainEvents) {
+            List<DomainEvent> domainEvents, DomainEventPool eventPool) {
+
+        // Flags of the bulk pass when the body was integrated by it
+        int flags = this.stateStore != null
+                ? this.stateStore.getLimitFlags(body.getBodyHandle())
+                : BodyStateStore.NO_LIMIT_FLAGS;
+        if (flags == 0) {
+            return; // ===== Inside the world =====>
+        }
 
-        if (phyValues.posX < 0) {
-            domainEvents.add(new LimitEvent(DomainEventType.REACHED_EAST_LIMIT, body.getBodyRef()));
+        if (flags == BodyStateStore.NO_LIMIT_FLAGS) {
+            flags = (phyValues.posX < 0 ? BodyStateStore.LIMIT_EAST : 0)
+                    | (phyValues.posX >= this.worldWidth ? BodyStateStore.LIMIT_WEST : 0)
+                    | (phyValues.posY < 0 ? BodyStateStore.LIMIT_NORTH : 0)
+                    | (phyValues.posY >= this.worldHeight ? BodyStateStore.LIMIT_SOUTH : 0);
         }
 
-        if (phyValues.posX >= this.worldWidth) {
-            domainEvents.add(new LimitEvent(DomainEventType.REACHED_WEST_LIMIT, body.getBodyRef()));
+        if ((flags & BodyStateStore.LIMIT_EAST) != 0) {
+            domainEvents.add(eventPool.limit(DomainEventType.REACHED_EAST_LIMIT, body.getBodyRef()));
         }
 
-        if (phyValues.posY < 0) {
-            domainEvents.add(new LimitEvent(DomainEventType.REACHED_NORTH_LIMIT, body.getBodyRef()));
+        if ((flags & BodyStateStore.LIMIT_WEST) != 0) {
+            domainEvents.add(eventPool.limit(DomainEventType.REACHED_WEST_LIMIT, body.getBodyRef()));
         }
 
-        if (phyValues.posY >= this.worldHeight) {
-            domainEvents.add(new LimitEvent(DomainEventType.REACHED_SOUTH_LIMIT, body.getBodyRef()));
+        if ((flags & BodyStateStore.LIMIT_NORTH) != 0) {
+            domainEvents.add(eventPool.limit(DomainEventType.REACHED_NORTH_LIMIT, body.getBodyRef()));
+        }
+
+        if ((flags & BodyStateStore.LIMIT_SOUTH) != 0) {
+            domainEvents.add(eventPool.limit(DomainEventType.REACHED_SOUTH_LIMIT, body.getBodyRef()));
         }
     }
     // endregion
@@ -1052,7 +1595,7 @@ public class Model implements BodyEventProcessor {
 
     // region Execute actions (executeAction***)
     private void executeAction(ActionDTO action, AbstractBody body,
-            PhysicsValuesDTO newPhyValues) {
+            PhysicsValuesDTO newPhyValues, WorkerScratch scratch) {
 
         if (body == null) {
             throw new IllegalArgumentException("doModelAction() -> body is null");
@@ -1067,31 +1610,31 @@ public class Model implements BodyEventProcessor {
         switch (action.type) {
             case MOVE:
                 body.doMovement(newPhyValues);
-                spatialGridUpsert((AbstractBody) body);
+                spatialGridUpsert(body, scratch);
                 break;
 
             case MOVE_REBOUND_IN_EAST:
                 body.reboundInEast(newPhyValues, this.worldWidth, this.worldHeight);
-                spatialGridUpsert((AbstractBody) body);
+                spatialGridUpsert(body, scratch);
                 break;
 
             case MOVE_REBOUND_IN_WEST:
                 body.reboundInWest(newPhyValues, this.worldWidth, this.worldHeight);
-                spatialGridUpsert((AbstractBody) body);
+                spatialGridUpsert(body, scratch);
                 break;
 
             case MOVE_REBOUND_IN_NORTH:
                 body.reboundInNorth(newPhyValues, this.worldWidth, this.worldHeight);
-                spatialGridUpsert((AbstractBody) body);
+                spatialGridUpsert(body, scratch);
                 break;
 
             case MOVE_REBOUND_IN_SOUTH:
                 body.reboundInSouth(newPhyValues, this.worldWidth, this.worldHeight);
-                spatialGridUpsert((AbstractBody) body);
+                spatialGridUpsert(body, scratch);
                 break;
 
             case MOVE_TO_CENTER:
-                PhysicsValuesDTO frozenInCenter = new PhysicsValuesDTO(
+                body.doMovement(
                         newPhyValues.timeStamp,
                         this.worldWidth / 2, this.worldHeight / 2,
                         newPhyValues.angle,
@@ -1101,191 +1644,152 @@ public class Model implements BodyEventProcessor {
                         newPhyValues.angularSpeed,
                         newPhyValues.angularAcc,
                         0D);
-                body.doMovement(frozenInCenter);
-                spatialGridUpsert((AbstractBody) body);
+                spatialGridUpsert(body, scratch);
 
                 break;
 
             case NO_MOVE: {
+                long wallContactStart = this.bodyProfiler.startInterval();
                 PhysicsValuesDTO oldPhyValues = body.getPhysicsValues();
                 boolean isPlayerBody = body.getBodyType() == BodyType.PLAYER;
+                double[] contact = scratch.getContact();
 
                 // Defaults: clamp to world and apply tiny inverse speed (fallback path)
-                double safeX = this.clampX(oldPhyValues.posX);
-                double safeY = this.clampY(oldPhyValues.posY);
+                double outPosX = this.clampX(oldPhyValues.posX);
+                double outPosY = this.clampY(oldPhyValues.posY);
                 double outSpeedX = -oldPhyValues.speedX * 0.12;
                 double outSpeedY = -oldPhyValues.speedY * 0.12;
+                double outAccX = oldPhyValues.accX;
+                double outAccY = oldPhyValues.accY;
 
-                // Prefer wall-normal response for maze GRAVITY walls when collision event is available
+                // Prefer wall-normal response for maze walls (GRAVITY bodies or
+                // tiles) when collision event is available
                 if (action.relatedEvent instanceof CollisionEvent collEvent) {
-                    String wallId = collEvent.primaryBodyRef.type() == BodyType.GRAVITY
-                            ? collEvent.primaryBodyRef.id()
-                            : collEvent.secondaryBodyRef.id();
-
-                    AbstractBody wallBody = this.gravityBodies.get(wallId);
-                    if (wallBody != null) {
-                        PhysicsValuesDTO wallPhy = wallBody.getPhysicsValues();
-
-                        double dx = oldPhyValues.posX - wallPhy.posX;
-                        double dy = oldPhyValues.posY - wallPhy.posY;
-                        double dist = Math.sqrt(dx * dx + dy * dy);
-
-                        if (dist > 0.001) {
-                            double nx = dx / dist;
-                            double ny = dy / dist;
-
-                            // Keep a tiny separation so player doesn't stay interpenetrating the wall
-                            double combinedRadius = (oldPhyValues.size + wallPhy.size) * 0.5;
-                            double minSeparation = 0.05;
-                            double targetDist = combinedRadius + minSeparation;
-
-                            if (dist < targetDist) {
-                                safeX = wallPhy.posX + nx * targetDist;
-                                safeY = wallPhy.posY + ny * targetDist;
-                            }
-
-                            // Player keeps previous rebound feel; enemies use slide to reduce center-wall sticking.
-                            double vDotN = oldPhyValues.speedX * nx + oldPhyValues.speedY * ny;
-                            if (vDotN < 0) {
-                                if (isPlayerBody) {
-                                    double bounceFactor = 0.20;
-                                    outSpeedX = oldPhyValues.speedX - (1.0 + bounceFactor) * vDotN * nx;
-                                    outSpeedY = oldPhyValues.speedY - (1.0 + bounceFactor) * vDotN * ny;
-                                } else {
-                                    outSpeedX = oldPhyValues.speedX - vDotN * nx;
-                                    outSpeedY = oldPhyValues.speedY - vDotN * ny;
-                                }
+                    int wallHandle = collEvent.primaryBodyRef.type() == BodyType.GRAVITY
+                            ? collEvent.primaryBodyRef.handle()
+                            : collEvent.secondaryBodyRef.handle();
+
+                    // Keep a tiny separation so player doesn't stay interpenetrating the wall
+                    if (this.wallContact(wallHandle, oldPhyValues, 0.05, contact)) {
+                        outPosX = contact[0];
+                        outPosY = contact[1];
+                        double nx = contact[2];
+                        double ny = contact[3];
+
+                        // Player keeps previous rebound feel; enemies use slide to reduce center-wall sticking.
+                        double vDotN = oldPhyValues.speedX * nx + oldPhyValues.speedY * ny;
+                        if (vDotN < 0) {
+                            if (isPlayerBody) {
+                                double bounceFactor = 0.20;
+                                outSpeedX = oldPhyValues.speedX - (1.0 + bounceFactor) * vDotN * nx;
+                                outSpeedY = oldPhyValues.speedY - (1.0 + bounceFactor) * vDotN * ny;
+                            } else {
+                                outSpeedX = oldPhyValues.speedX - vDotN * nx;
+                                outSpeedY = oldPhyValues.speedY - vDotN * ny;
                             }
                         }
                     }
                 }
 
-                PhysicsValuesDTO wallSeparated = new PhysicsValuesDTO(
+                // Resolve possible multi-wall overlap (common in dense center areas)
+                // Keep previous player behavior unchanged.
+                if (!isPlayerBody
+                        && this.resolveWallOverlap(body, outPosX, outPosY, newPhyValues.size, 4, contact, scratch)) {
+                    outPosX = contact[0];
+                    outPosY = contact[1];
+                }
+
+                // If still overlapping a wall, try to relocate to nearest free position
+                if (this.isOverlappingAnyWall(body, outPosX, outPosY, newPhyValues.size, scratch)
+                        && this.findNearestFreePosition(body, outPosX, outPosY, newPhyValues.size, 300, contact,
+                                scratch)) {
+                    outPosX = contact[0];
+                    outPosY = contact[1];
+                    outSpeedX *= 0.5;
+                    outSpeedY *= 0.5;
+                    outAccX = 0D;
+                    outAccY = 0D;
+                }
+
+                // One commit with the final position, into the engine's next DTO
+                body.doMovement(
                         newPhyValues.timeStamp,
-                        safeX, safeY, newPhyValues.angle,
+                        outPosX, outPosY, newPhyValues.angle,
                         newPhyValues.size,
                         outSpeedX, outSpeedY,
-                        oldPhyValues.accX, oldPhyValues.accY,
+                        outAccX, outAccY,
                         newPhyValues.angularSpeed,
                         newPhyValues.angularAcc,
                         oldPhyValues.thrust);
-                body.doMovement(wallSeparated);
-                spatialGridUpsert((AbstractBody) body);
+                spatialGridUpsert(body, scratch);
 
-                // Resolve possible multi-wall overlap (common in dense center areas)
-                // Keep previous player behavior unchanged.
-                if (!isPlayerBody) {
-                    PhysicsValuesDTO resolvedOverlap = resolveGravityOverlap(wallSeparated, 4);
-                    if (resolvedOverlap != null) {
-                        body.doMovement(resolvedOverlap);
-                        spatialGridUpsert((AbstractBody) body);
-                    }
-                }
-
-                // If still overlapping a wall, try to relocate to nearest free position
-                if (isOverlappingAnyGravity(body)) {
-                    DoubleVector free = findNearestFreePosition(body, 300);
-                    if (free != null) {
-                        PhysicsValuesDTO relocated = new PhysicsValuesDTO(
-                                newPhyValues.timeStamp,
-                                free.x, free.y,
-                                newPhyValues.angle,
-                                newPhyValues.size,
-                            outSpeedX * 0.5, outSpeedY * 0.5,
-                                0D, 0D,
-                                newPhyValues.angularSpeed, newPhyValues.angularAcc,
-                            oldPhyValues.thrust);
-                        body.doMovement(relocated);
-                        spatialGridUpsert((AbstractBody) body);
-                    }
-                }
+                this.bodyProfiler.stopInterval("WALL_CONTACT", wallContactStart);
                 break;
             }
 
             case WALL_STOP: {
                 // Stop at wall surface like original rebounds but for GRAVITY bodies
+                long wallContactStart = this.bodyProfiler.startInterval();
                 PhysicsValuesDTO playerPhy = body.getPhysicsValues();
-                
+                double[] contact = scratch.getContact();
+
                 double outPosX = playerPhy.posX;
                 double outPosY = playerPhy.posY;
                 double outSpeedX = playerPhy.speedX;
                 double outSpeedY = playerPhy.speedY;
                 double outAccX = playerPhy.accX; // preserve acceleration like original rebounds
                 double outAccY = playerPhy.accY;
-                
+                double outThrust = playerPhy.thrust; // keep thrust too
+
                 if (action.relatedEvent instanceof CollisionEvent collEvent) {
-                    // Get the wall body from the collision event
-                    String wallId = collEvent.primaryBodyRef.type() == BodyType.GRAVITY
-                            ? collEvent.primaryBodyRef.id()
-                            : collEvent.secondaryBodyRef.id();
-
-                    AbstractBody wallBody = this.gravityBodies.get(wallId);
-                    if (wallBody != null) {
-                        PhysicsValuesDTO wallPhy = wallBody.getPhysicsValues();
-                        
-                        // Calculate distance vector from wall to player
-                        double dx = playerPhy.posX - wallPhy.posX;
-                        double dy = playerPhy.posY - wallPhy.posY;
-                        double dist = Math.sqrt(dx * dx + dy * dy);
-                        
-                        if (dist > 0.001) { // avoid division by zero
-                            // Normal vector pointing away from wall
-                            double nx = dx / dist;
-                            double ny = dy / dist;
-                            
-                            // Only minimal separation to prevent penetration (like original rebounds)
-                            double combinedRadius = (playerPhy.size + wallPhy.size) * 0.5;
-                            double minSeparation = 0.0001; // tiny gap like original rebounds
-                            double targetDist = combinedRadius + minSeparation;
-                            
-                            // Only adjust position if too close
-                            if (dist < targetDist) {
-                                outPosX = wallPhy.posX + nx * targetDist;
-                                outPosY = wallPhy.posY + ny * targetDist;
-                            }
-                            
-                            // Reflect velocity component heading into wall (like original rebounds)
-                            double vDotN = playerPhy.speedX * nx + playerPhy.speedY * ny;
-                            if (vDotN < 0) { // only if moving toward wall
-                                outSpeedX = playerPhy.speedX - 2.0 * vDotN * nx; // perfect reflection
-                                outSpeedY = playerPhy.speedY - 2.0 * vDotN * ny;
-                            }
-                            
-                            // Keep all acceleration (like original rebounds)
-                            // No cancellation - player keeps full control
+                    // Get the wall (body or tile) from the collision event
+                    int wallHandle = collEvent.primaryBodyRef.type() == BodyType.GRAVITY
+                            ? collEvent.primaryBodyRef.handle()
+                            : collEvent.secondaryBodyRef.handle();
+
+                    // Only minimal separation to prevent penetration (like original rebounds)
+                    if (this.wallContact(wallHandle, playerPhy, 0.0001, contact)) {
+                        outPosX = contact[0];
+                        outPosY = contact[1];
+                        double nx = contact[2];
+                        double ny = contact[3];
+
+                        // Reflect velocity component heading into wall (like original rebounds)
+                        double vDotN = playerPhy.speedX * nx + playerPhy.speedY * ny;
+                        if (vDotN < 0) { // only if moving toward wall
+                            outSpeedX = playerPhy.speedX - 2.0 * vDotN * nx; // perfect reflection
+                            outSpeedY = playerPhy.speedY - 2.0 * vDotN * ny;
                         }
+
+                        // Keep all acceleration (like original rebounds)
+                        // No cancellation - player keeps full control
                     }
                 }
-                
-                PhysicsValuesDTO bounced = new PhysicsValuesDTO(
+
+                // If still overlapping a wall after WALL_STOP, relocate to nearest free position
+                if (this.isOverlappingAnyWall(body, outPosX, outPosY, newPhyValues.size, scratch)
+                        && this.findNearestFreePosition(body, outPosX, outPosY, newPhyValues.size, 300, contact,
+                                scratch)) {
+                    outPosX = contact[0];
+                    outPosY = contact[1];
+                    outSpeedX = 0D;
+                    outSpeedY = 0D;
+                    outAccX = 0D;
+                    outAccY = 0D;
+                    outThrust = 0D;
+                }
+
+                body.doMovement(
                         newPhyValues.timeStamp,
                         outPosX, outPosY,
                         newPhyValues.angle, newPhyValues.size,
                         outSpeedX, outSpeedY,
-                        outAccX, outAccY, // full acceleration preserved
+                        outAccX, outAccY,
                         newPhyValues.angularSpeed, newPhyValues.angularAcc,
-                        playerPhy.thrust); // keep thrust too
-                
-                body.doMovement(bounced);
-                spatialGridUpsert((AbstractBody) body);
+                        outThrust);
+                spatialGridUpsert(body, scratch);
 
-                // If still overlapping a wall after WALL_STOP, relocate to nearest free position
-                if (isOverlappingAnyGravity(body)) {
-                    DoubleVector free = findNearestFreePosition(body, 300);
-                    if (free != null) {
-                        PhysicsValuesDTO relocated = new PhysicsValuesDTO(
-                                newPhyValues.timeStamp,
-                                free.x, free.y,
-                                newPhyValues.angle,
-                                newPhyValues.size,
-                                0D, 0D,
-                                0D, 0D,
-                                newPhyValues.angularSpeed, newPhyValues.angularAcc,
-                                0D);
-                        body.doMovement(relocated);
-                        spatialGridUpsert((AbstractBody) body);
-                    }
-                }
+                this.bodyProfiler.stopInterval("WALL_CONTACT", wallContactStart);
                 break;
             }
 
@@ -1302,11 +1806,11 @@ public class Model implements BodyEventProcessor {
                 if (payload == null || payload.bodyConfig == null)
                     break;
 
-                this.spawnBody(body, payload.bodyConfig, newPhyValues);
+                this.spawnBody(body, payload.bodyConfig, newPhyValues, scratch);
                 break;
 
             case DIE:
-                this.removeBody(body);
+                this.despawnBody(body, scratch);
                 break;
 
             case EXPLODE_IN_FRAGMENTS:
@@ -1317,57 +1821,93 @@ public class Model implements BodyEventProcessor {
         }
     }
 
-    private void executeActionList(
-            String primaryBodyId, List<ActionDTO> actions, PhysicsValuesDTO primaryBodyNewPhyValues) {
+    private void executeActionList(int primaryBodyHandle, List<ActionDTO> actions,
+            PhysicsValuesDTO primaryBodyNewPhyValues, WorkerScratch scratch) {
 
         if (actions == null || actions.isEmpty()) {
             return; // ===== No actions to execute ======>
         }
 
         boolean isPrimaryBody = false;
-        for (ActionDTO action : actions) {
-            if (action == null || action.type == null) {
-                throw new IllegalArgumentException("executeActionList() -> action is null");
-            }
+        boolean isPrimaryBodyDying = false; // DIE recorded: stays in the world until the tick boundary
+        try {
+            for (int i = 0; i < actions.size(); i++) {
+                ActionDTO action = actions.get(i);
+                if (action == null || action.type == null) {
+                    throw new IllegalArgumentException("executeActionList() -> action is null");
+                }
 
-            isPrimaryBody = (primaryBodyId.compareTo(action.bodyId) == 0);
+                isPrimaryBody = (primaryBodyHandle == action.bodyHandle);
 
-            AbstractBody targetBody = this.getBody(action.bodyId, action.bodyType);
-            if (targetBody == null) {
-                continue; // Body already removed, skip this action
+                AbstractBody targetBody = this.getBody(action.bodyHandle);
+                if (targetBody == null) {
+                    continue; // Body already removed, skip this action
+                }
+
+                if (isPrimaryBody) {
+                    if (isPrimaryBodyDying) {
+                        continue; // Nothing else happens to a dying body
+                    }
+                    this.executeAction(action, targetBody, primaryBodyNewPhyValues, scratch);
+                    isPrimaryBodyDying = action.type == ActionType.DIE;
+                } else if (action.type == ActionType.DIE) {
+                    // Deferred to the tick boundary: no need to relay
+                    this.despawnBody(targetBody, scratch);
+                } else {
+                    // If not primary body, relay action to body itself
+                    // Every body action will be processed in their body thread
+                    // The event goes back to the worker pool before that:
+                    // relay a copy
+                    action.relatedEvent = DomainEventPool.detachedCopy(action.relatedEvent);
+                    actions.set(i, null); // Owned by the target body now
+                    targetBody.enqueueExternalAction(action);
+                }
             }
 
-            if (isPrimaryBody) {
-                this.executeAction(action, targetBody, primaryBodyNewPhyValues);
-            } else {
-                // If not primary body, relay action to body itself
-                // Every body action will be processed in their body thread
-                targetBody.enqueueExternalAction(action);
+        } finally {
+            // All actions executed (or dropped on failure) -> back to the pool
+            for (int i = 0; i < actions.size(); i++) {
+                ActionPool.release(actions.get(i));
             }
+            actions.clear();
         }
 
-        actions.clear(); // All actions executed -> clear the list
-
     }
     // endregion
 
     private void detectEvents(AbstractBody checkBody,
-            PhysicsValuesDTO newPhyValues, PhysicsValuesDTO oldPhyValues, List<DomainEvent> domainEvents) {
+            PhysicsValuesDTO newPhyValues, PhysicsValuesDTO oldPhyValues, List<DomainEvent> domainEvents,
+            WorkerScratch scratch) {
+
+        this.detectEvents(checkBody, newPhyValues, oldPhyValues, domainEvents, scratch, false);
+    }
+
+    /**
+     * @param useIntegratedValues collide against the integrated values of the
+     *                            other bodies (phased tick)
+     */
+    private void detectEvents(AbstractBody checkBody,
+            PhysicsValuesDTO newPhyValues, PhysicsValuesDTO oldPhyValues, List<DomainEvent> domainEvents,
+            WorkerScratch scratch, boolean useIntegratedValues) {
+
+        // Events come from the worker pool (released with the event list)
+        DomainEventPool eventPool = scratch.getEventPool();
 
         // 1 => Limits (all bodies) -----------------------
-        this.checkLimitEvents(checkBody, newPhyValues, domainEvents);
+        this.checkLimitEvents(checkBody, newPhyValues, domainEvents, eventPool);
 
         // 2 => Collisions (all bodies) -------------------
-        this.checkCollisions(checkBody, newPhyValues, domainEvents);
+        this.checkCollisions(checkBody, newPhyValues, domainEvents, scratch, useIntegratedValues);
+        this.checkTileCollisions(checkBody, newPhyValues, domainEvents, eventPool);
 
         // 3 => Emission on (dynamics and players) ----------
-        this.checkEmissionEvents(checkBody, newPhyValues, oldPhyValues, domainEvents);
+        this.checkEmissionEvents(checkBody, newPhyValues, oldPhyValues, domainEvents, eventPool);
 
         // 4 => Fire (only players) -----------------------
-        this.checkFireEvents(checkBody, newPhyValues, domainEvents);
+        this.checkFireEvents(checkBody, newPhyValues, domainEvents, eventPool);
 
         // 5 => Life over (all body types) -------------------
-        this.checkLifeOverEvents(checkBody, domainEvents);
+        this.checkLifeOverEvents(checkBody, domainEvents, eventPool);
     }
 
     // region getters private (get***)
@@ -1408,62 +1948,183 @@ public class Model implements BodyEventProcessor {
 
         return bodyMap;
     }
+
+    /**
+     * BodyData copies of the bodies of a world snapshot, all of them or only
+     * those of the given type.
+     */
+    private ArrayList<BodyData> getSnapshotBodiesData(WorldSnapshot snapshot, BodyType type) {
+        final int count = snapshot.getCount();
+        ArrayList<BodyData> bodyInfos = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            if (type != null && snapshot.getType(i) != type) {
+                continue;
+            }
+            PhysicsValuesDTO phyValues = new PhysicsValuesDTO(
+                    snapshot.getTimeStamp(i),
+                    snapshot.getPosX(i), snapshot.getPosY(i), snapshot.getAngle(i),
+                    snapshot.getSize(i),
+                    snapshot.getSpeedX(i), snapshot.getSpeedY(i),
+                    snapshot.getAccX(i), snapshot.getAccY(i),
+                    0.0d, 0.0d, 0.0d);
+            bodyInfos.add(new BodyData(snapshot.getEntityId(i), snapshot.getType(i), phyValues));
+        }
+
+        return bodyInfos;
+    }
     // endregion
 
     private boolean intersectCircles(PhysicsValuesDTO a, PhysicsValuesDTO b) {
+        return intersectCircles(a.posX, a.posY, a.size, b);
+    }
+
+    private boolean intersectCircles(double posX, double posY, double size, PhysicsValuesDTO b) {
         // OJO: asumo size = diámetro
         // Recortamos a un 90% el radio para evitar colisiones falsas por margenes
 
-        final double ra = a.size * 0.5 * 0.9;
+        final double ra = size * 0.5 * 0.9;
         final double rb = b.size * 0.5 * 0.9;
 
-        final double dx = a.posX - b.posX;
-        final double dy = a.posY - b.posY;
+        final double dx = posX - b.posX;
+        final double dy = posY - b.posY;
         final double r = ra + rb;
 
         return (dx * dx + dy * dy) <= (r * r);
     }
 
     /**
-     * Returns true if the given body is overlapping any gravity (wall) body.
+     * Contact of a body with a wall: a GRAVITY body (circle) or a solid tile
+     * of the tile layer (box, analytic push-out).
+     *
+     * @param out receives { safeX, safeY, nx, ny }: position separated from
+     *            the wall by minSeparation (the body's own position if not
+     *            overlapping) and the unit normal pointing away from the
+     *            wall. Length >= 4.
+     * @return false if the wall is gone or the normal is undefined
      */
-    private boolean isOverlappingAnyGravity(AbstractBody body) {
-        if (body == null) return false;
-        PhysicsValuesDTO p = body.getPhysicsValues();
-        if (p == null) return false;
+    private boolean wallContact(int wallHandle, PhysicsValuesDTO phy, double minSeparation, double[] out) {
+        if (TileCollisionLayer.isTileHandle(wallHandle)) {
+            TileCollisionLayer tiles = this.tileLayer;
+            if (tiles == null) {
+                return false; // ===== Tile layer replaced =====>
+            }
 
-        for (AbstractBody wall : this.gravityBodies.values()) {
-            PhysicsValuesDTO w = wall.getPhysicsValues();
-            if (w == null) continue;
-            if (intersectCircles(p, w)) return true;
+            boolean pushed = tiles.pushOut(phy.posX, phy.posY, phy.size * 0.5 + minSeparation, 4, out);
+            if (!pushed) {
+                // Not overlapping at this position: only the normal is needed
+                tiles.getTileNormal(wallHandle, phy.posX, phy.posY, out);
+                out[2] = out[0];
+                out[3] = out[1];
+                out[0] = phy.posX;
+                out[1] = phy.posY;
+            }
+            return true;
         }
 
-        return false;
+        PhysicsValuesDTO wallPhy = this.wallPhysicsValues(wallHandle);
+        if (wallPhy == null) {
+            return false;
+        }
+
+        double dx = phy.posX - wallPhy.posX;
+        double dy = phy.posY - wallPhy.posY;
+        double dist = Math.sqrt(dx * dx + dy * dy);
+        if (dist <= 0.001) {
+            return false; // ===== Avoid division by zero =====>
+        }
+
+        // Normal vector pointing away from wall
+        double nx = dx / dist;
+        double ny = dy / dist;
+
+        // Only adjust position if too close
+        double targetDist = (phy.size + wallPhy.size) * 0.5 + minSeparation;
+        if (dist < targetDist) {
+            out[0] = wallPhy.posX + nx * targetDist;
+            out[1] = wallPhy.posY + ny * targetDist;
+        } else {
+            out[0] = phy.posX;
+            out[1] = phy.posY;
+        }
+        out[2] = nx;
+        out[3] = ny;
+        return true;
     }
 
     /**
-     * Iteratively separates a body position from all overlapping gravity walls.
-     * Returns a corrected PhysicsValuesDTO or null when no correction is needed.
+     * Returns true if a body of the given size placed at (posX, posY) would
+     * overlap any gravity (wall) body or solid tile. Only the walls indexed
+     * around that position are tested.
      */
-    private PhysicsValuesDTO resolveGravityOverlap(PhysicsValuesDTO source, int maxIterations) {
-        if (source == null || maxIterations <= 0) return null;
+    private boolean isOverlappingAnyWall(AbstractBody body, double posX, double posY, double size,
+            WorkerScratch scratch) {
+
+        IntArrayList nearby = this.queryNearbyWalls(body, posX, posY, size * 0.5, scratch);
+        if (nearby != null) {
+            for (int i = 0; i < nearby.size(); i++) {
+                PhysicsValuesDTO w = this.wallPhysicsValues(nearby.get(i));
+                if (w != null && intersectCircles(posX, posY, size, w)) return true;
+            }
+        }
+
+        return this.isOverlappingAnyTile(posX, posY, size);
+    }
 
-        double outX = source.posX;
-        double outY = source.posY;
+    private boolean isOverlappingAnyTile(double posX, double posY, double size) {
+        TileCollisionLayer tiles = this.tileLayer;
+        return tiles != null && tiles.overlaps(posX, posY, size * 0.5 * 0.9);
+    }
+
+    /**
+     * Handles indexed in the broadphase around (posX, posY), padded so every
+     * wall body that can touch a circle of the given radius there is included.
+     * May hold other bodies and duplicates: callers filter with
+     * wallPhysicsValues(). Fills the candidate buffer of the worker scratch.
+     *
+     * @return the candidates, or null if the body is not in the broadphase
+     */
+    private IntArrayList queryNearbyWalls(AbstractBody body, double posX, double posY, double radius,
+            WorkerScratch scratch) {
+        if (body.getSpatialGrid() == null) {
+            return null;
+        }
+
+        final double reach = radius + this.maxWallRadius;
+        return this.broadphase.queryRegion(
+                posX - reach, posX + reach, posY - reach, posY + reach,
+                scratch.getIdxs(this.broadphase.getMaxCellsPerBody()), scratch.getClearCandidateHandles());
+    }
+
+    /**
+     * Iteratively separates a body position from all overlapping walls
+     * (gravity bodies and solid tiles), re-querying the nearby walls on each
+     * pass.
+     *
+     * @param out receives the corrected position in out[0], out[1] (the
+     *            rest is scratch). Length >= 4.
+     * @return true if the position was corrected
+     */
+    private boolean resolveWallOverlap(AbstractBody body, double posX, double posY, double size,
+            int maxIterations, double[] out, WorkerScratch scratch) {
+
+        final double bodyRadius = size * 0.5 * 0.9;
+        double outX = posX;
+        double outY = posY;
         boolean corrected = false;
 
         for (int iteration = 0; iteration < maxIterations; iteration++) {
             boolean overlappedThisPass = false;
 
-            for (AbstractBody wall : this.gravityBodies.values()) {
-                PhysicsValuesDTO wallPhy = wall.getPhysicsValues();
+            IntArrayList nearby = this.queryNearbyWalls(body, outX, outY, bodyRadius + 0.02, scratch);
+            for (int i = 0; nearby != null && i < nearby.size(); i++) {
+                PhysicsValuesDTO wallPhy = this.wallPhysicsValues(nearby.get(i));
                 if (wallPhy == null) continue;
 
                 double dx = outX - wallPhy.posX;
                 double dy = outY - wallPhy.posY;
                 double distSq = dx * dx + dy * dy;
 
-                double bodyRadius = source.size * 0.5 * 0.9;
                 double wallRadius = wallPhy.size * 0.5 * 0.9;
                 double targetDist = bodyRadius + wallRadius + 0.02;
                 double targetDistSq = targetDist * targetDist;
@@ -1486,80 +2147,73 @@ public class Model implements BodyEventProcessor {
                 corrected = true;
             }
 
+            TileCollisionLayer tiles = this.tileLayer;
+            if (tiles != null && tiles.pushOut(outX, outY, bodyRadius + 0.02, 1, out)) {
+                outX = this.clampX(out[0] + out[2] * 0.01);
+                outY = this.clampY(out[1] + out[3] * 0.01);
+                overlappedThisPass = true;
+                corrected = true;
+            }
+
             if (!overlappedThisPass) {
                 break;
             }
         }
 
-        if (!corrected) return null;
-
-        return new PhysicsValuesDTO(
-                source.timeStamp,
-                outX,
-                outY,
-                source.angle,
-                source.size,
-                source.speedX,
-                source.speedY,
-                source.accX,
-                source.accY,
-                source.angularSpeed,
-                source.angularAcc,
-                source.thrust);
+        out[0] = outX;
+        out[1] = outY;
+        return corrected;
     }
 
     /**
-     * Find nearest non-overlapping position for the body by sampling
-     * in expanding shells around the current position. Returns null
-     * if no free position found within maxRadius.
+     * Find nearest non-overlapping position for a body of the given size by
+     * sampling in expanding shells around (posX, posY). Each sample only
+     * tests the walls indexed around it.
+     *
+     * @param out receives the free position in out[0], out[1]
+     * @return false if no free position found within maxRadius
      */
-    private DoubleVector findNearestFreePosition(AbstractBody body, double maxRadius) {
-        if (body == null) return null;
-        PhysicsValuesDTO p = body.getPhysicsValues();
-        if (p == null) return null;
-
-        final double step = Math.max(2.0, p.size * 0.25);
-        double cx = p.posX;
-        double cy = p.posY;
+    private boolean findNearestFreePosition(AbstractBody body, double posX, double posY, double size,
+            double maxRadius, double[] out, WorkerScratch scratch) {
 
-        // If current position is already free, return it
-        if (!isOverlappingAnyGravity(body)) {
-            return new DoubleVector(cx, cy);
-        }
+        final double step = Math.max(2.0, size * 0.25);
 
         for (double r = step; r <= maxRadius; r += step) {
             // sample 16 directions
-            int samples = 16;
-            for (int i = 0; i < samples; i++) {
-                double ang = (2.0 * Math.PI * i) / samples;
-                double tx = cx + Math.cos(ang) * r;
-                double ty = cy + Math.sin(ang) * r;
-
+            for (int i = 0; i < RING_SAMPLES; i++) {
                 // clamp to world
-                tx = this.clampX(tx);
-                ty = this.clampY(ty);
-
-                // create a transient PhysicsValuesDTO to test intersection
-                PhysicsValuesDTO test = new PhysicsValuesDTO(p.timeStamp, tx, ty, p.angle, p.size,
-                        0D, 0D, 0D, 0D, p.angularSpeed, p.angularAcc, 0D);
-
-                boolean collision = false;
-                for (AbstractBody wall : this.gravityBodies.values()) {
-                    PhysicsValuesDTO w = wall.getPhysicsValues();
-                    if (w == null) continue;
-                    if (intersectCircles(test, w)) {
-                        collision = true;
-                        break;
-                    }
-                }
+                double tx = this.clampX(posX + RING_COS[i] * r);
+                double ty = this.clampY(posY + RING_SIN[i] * r);
 
-                if (!collision) {
-                    return new DoubleVector(tx, ty);
+                if (!this.isOverlappingAnyWall(body, tx, ty, size, scratch)) {
+                    out[0] = tx;
+                    out[1] = ty;
+                    return true;
                 }
             }
         }
 
-        return null;
+        return false;
+    }
+
+    private void trackWallRadius(double radius) {
+        synchronized (this.gravityBodies) {
+            if (radius > this.maxWallRadius) {
+                this.maxWallRadius = radius;
+            }
+        }
+    }
+
+    /**
+     * Current physics values of the wall body behind the handle, or null if
+     * it is dead or not a GRAVITY body.
+     */
+    private PhysicsValuesDTO wallPhysicsValues(int handle) {
+        AbstractBody wall = this.getBody(handle);
+        if (wall == null || wall.getBodyType() != BodyType.GRAVITY) {
+            return null;
+        }
+        return wall.getPhysicsValues();
     }
 
     // region boolean checks (is***)
@@ -1570,6 +2224,23 @@ public class Model implements BodyEventProcessor {
                 && (body.getSpatialGrid() != null);
     }
 
+    /**
+     * Static bodies (decorators, gravity) only take part in the event phases
+     * once their life is over, exactly like StaticBody.onTick() in runner mode.
+     */
+    private boolean isPhaseEventSource(AbstractBody body) {
+        if (!this.isProcessable(body)) {
+            return false;
+        }
+
+        BodyType type = body.getBodyType();
+        if (type == BodyType.DECORATOR || type == BodyType.GRAVITY) {
+            return body.isLifeOver();
+        }
+
+        return true;
+    }
+
     private boolean isProcessable(AbstractBody entity) {
         return entity != null
                 && this.state == ModelState.ALIVE
@@ -1577,20 +2248,148 @@ public class Model implements BodyEventProcessor {
     }
     // endregion
 
+    // region Structural commands (apply***, despawn***, submit***)
+    private void applyEquip(StructuralCommandBuffer.Command command) {
+        AbstractBody body = command.body;
+        if (body.getBodyState() == BodyState.DEAD) {
+            return; // ===== Died before the equip was applied =====>
+        }
+
+        switch (command.kind) {
+            case EQUIP_EMITTER:
+                body.emitterEquip(command.emitter);
+                break;
+
+            case EQUIP_TRAIL:
+                ((DynamicBody) body).trailEquip(command.emitter);
+                break;
+
+            case EQUIP_WEAPON:
+                ((PlayerBody) body).addWeapon(body.emitterEquip(command.emitter));
+                break;
+
+            default:
+                // Nada
+        }
+    }
+
+    /**
+     * Command counts taken from every applying buffer (swapped first, so
+     * commands recorded while applying wait for the next tick).
+     */
+    private int[] applyingCommandCounts(int buffers) {
+        if (this.applyingCommandCountsBuffer.length < buffers) {
+            this.applyingCommandCountsBuffer = new int[Math.max(buffers, this.applyingCommandCountsBuffer.length * 2)];
+        }
+
+        for (int b = 0; b < buffers; b++) {
+            this.applyingCommandCountsBuffer[b] = this.applyingCommandBuffers.get(b).swap();
+        }
+        return this.applyingCommandCountsBuffer;
+    }
+
+    private void applySpawn(StructuralCommandBuffer.Command command) {
+        String entityId = this.addBody(command.type,
+                command.size, command.posX, command.posY,
+                command.speedX, command.speedY, command.accX, command.accY,
+                command.angle, 0, 0,
+                0, command.maxLifeTime, command.shooterId);
+
+        if (entityId == null || entityId.isEmpty()) {
+            return; // ======= Max entity quantity reached =======>
+        }
+
+        if (command.type == BodyType.DECORATOR ||
+                command.type == BodyType.GRAVITY) {
+
+            this.domainEventProcessor.notifyNewStatic(entityId, command.assetId);
+            return;
+        }
+
+        this.domainEventProcessor.notifyNewDynamic(entityId, command.assetId);
+    }
+
+    private void despawnBody(AbstractBody body, WorkerScratch scratch) {
+        StructuralCommandBuffer commands = scratch.getCommandBuffer();
+        if (commands.despawn(body)) {
+            this.pendingCommandBuffers.add(commands);
+        }
+    }
+
+    /**
+     * Equip now while the model is starting (no tick running), at the next
+     * tick boundary otherwise.
+     */
+    private void submitEquip(StructuralCommandBuffer.Kind kind, AbstractBody body, BasicEmitter emitter) {
+        StructuralCommandBuffer commands = WorkerScratch.forCurrentThread().getCommandBuffer();
+        if (commands.equip(kind, body, emitter)) {
+            this.pendingCommandBuffers.add(commands);
+        }
+
+        if (this.state == ModelState.STARTING) {
+            this.applyStructuralCommands();
+        }
+    }
+    // endregion
+
+    /**
+     * Emitter ready to equip: created (and its id fixed) right away, equipped
+     * when its command is applied.
+     */
+    private BasicEmitter newEmitter(EmitterConfigDto emitterConfig) {
+        BasicEmitter emitter = new BasicEmitter(emitterConfig);
+        emitter.setTickSource(this.tickSource, this.simulationClock.getTickRateHz());
+        return emitter;
+    }
+
+    private Broadphase newBroadphase(double worldWidth, double worldHeight) {
+        if (this.broadphaseType == BroadphaseType.BUCKET_GRID) {
+            long denseCells = (long) Math.ceil(worldWidth / SPATIAL_GRID_CELL_SIZE)
+                    * (long) Math.ceil(worldHeight / SPATIAL_GRID_CELL_SIZE);
+
+            if (denseCells > DENSE_GRID_MAX_CELLS) {
+                // Open-map sized world: do not preallocate millions of buckets
+                return new SparseSpatialGrid(worldWidth, worldHeight,
+                        SPATIAL_GRID_CELL_SIZE, MAX_CELLS_PER_BODY);
+            }
+        }
+
+        return BroadphaseFactory.create(this.broadphaseType, worldWidth, worldHeight,
+                SPATIAL_GRID_CELL_SIZE, MAX_CELLS_PER_BODY);
+    }
+
     private void provideActions(AbstractBody body, List<DomainEvent> domainEvents, List<ActionDTO> actions) {
         if (!domainEvents.isEmpty())
             this.domainEventProcessor.provideActions(domainEvents, actions);
 
-        boolean actionWithMovementImplicit = actions.stream()
-                .anyMatch(a -> a.type != null && a.type.name().contains("MOVE"));
+        for (int i = 0; i < actions.size(); i++) {
+            ActionType type = actions.get(i).type;
+            if (type != null && type.isMovement())
+                return; // ===== Movement already decided (rebound, no move...) =====>
+        }
 
-        if (!actionWithMovementImplicit)
-            // Always add MOVE action except if body rebounded
-            actions.add(new ActionDTO(
-                    body.getBodyId(), body.getBodyType(), ActionType.MOVE, null));
+        // Always add MOVE action except if body rebounded
+        actions.add(ActionPool.acquire(
+                body.getBodyHandle(), body.getBodyType(), ActionType.MOVE, null));
     }
 
-    private void spawnBody(AbstractBody body, BodyToEmitDTO bodyConfig, PhysicsValuesDTO newPhyValues) {
+    /**
+     * Trim the physics DTO pool every POOL_SHRINK_SECONDS (simulation time),
+     * so it gives back what a spawn peak left idle.
+     */
+    private void schedulePoolShrink() {
+        this.simulationClock.getTimerWheel().scheduleSeconds(POOL_SHRINK_SECONDS, () -> {
+            this.physicsValuesPool.shrink();
+            this.schedulePoolShrink();
+        });
+    }
+
+    /**
+     * Resolve the pose of the new body now (emitter values of this tick) and
+     * record the spawn; the body is created at the tick boundary.
+     */
+    private void spawnBody(AbstractBody body, BodyToEmitDTO bodyConfig, PhysicsValuesDTO newPhyValues,
+            WorkerScratch scratch) {
         if (body == null) {
             throw new IllegalArgumentException("Spawner body is null");
         }
@@ -1639,45 +2438,55 @@ public class Model implements BodyEventProcessor {
         double maxLifeTime = bodyConfig.maxLifeTime;
         maxLifeTime = maxLifeTime * (0.5 + 2 * Math.random());
 
-        String entityId = this.addBody(bodyConfig.type,
+        StructuralCommandBuffer commands = scratch.getCommandBuffer();
+        if (commands.spawn(bodyConfig.type,
                 size, posX, posY, speedX, speedY, accX, accY,
-                angleDeg, 0, 0,
-                0, maxLifeTime, body.getBodyId());
-
-        if (entityId == null || entityId.isEmpty()) {
-            return; // ======= Max entity quantity reached =======>
-        }
-
-        if (bodyConfig.type == BodyType.DECORATOR ||
-                bodyConfig.type == BodyType.GRAVITY) {
-
-            this.domainEventProcessor.notifyNewStatic(
-                    entityId, bodyConfig.assetId);
-            return;
+                angleDeg, maxLifeTime, body.getBodyId(), bodyConfig.assetId)) {
+            this.pendingCommandBuffers.add(commands);
         }
-
-        this.domainEventProcessor.notifyNewDynamic(
-                entityId, bodyConfig.assetId);
     }
 
-    private void spatialGridUpsert(AbstractBody body) {
+    private void spatialGridUpsert(AbstractBody body, WorkerScratch scratch) {
         if (body == null)
             return;
 
         long spatialGridStart = this.bodyProfiler.startInterval();
-        body.spatialGridUpsert();
+        body.spatialGridUpsert(scratch);
         this.bodyProfiler.stopInterval("SPATIAL_GRID", spatialGridStart);
     }
 
+    private void submitPlayerInput(String playerId, PlayerInput input) {
+        if (this.dynamicBodies.get(playerId) instanceof PlayerBody pBody) {
+            pBody.submitInput(input);
+        }
+    }
+
+    // *** PRIVATE STATIC ***
+
+    /**
+     * Colliding types bit set per BodyType ordinal: one array read and one
+     * AND per candidate pair.
+     */
+    private static int[] collidingTypesOf(CollisionLayers collisionLayers) {
+        BodyType[] types = BodyType.values();
+        int[] collidingTypes = new int[types.length];
+        for (BodyType type : types) {
+            collidingTypes[type.ordinal()] = collisionLayers.collidingTypes(type);
+        }
+        return collidingTypes;
+    }
+
     // *** SHUTDOWN ***
 
     /**
      * Gracefully shutdown the model and all managed resources.
      * 
-     * Stops all running threads and runners in the batch manager.
+     * Stops all running threads and runners in the batch manager, then the
+     * simulation clock (runners need its ticks to observe the stop request).
      */
     public void shutdown() {
         this.state = ModelState.STOPPED;
         this.bodyBatchManager.shutdown();
+        this.simulationClock.stop();
     }
 }
\ No newline at end of file
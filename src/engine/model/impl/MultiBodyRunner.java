@@ -1,54 +1,123 @@
 package engine.model.impl;
 
 import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.WorkerScratch;
 import engine.model.bodies.ports.BodyState;
+import engine.utils.profiling.impl.BodyProfiler;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Executes multiple bodies sequentially on one thread.
- * 
+ *
  * Batches N bodies per runner to reduce thread count from O(bodies) to O(bodies/N).
  * Runner persists when empty for reuse when new bodies are added.
+ *
+ * Runners are paced by the shared SimulationClock: each published tick
+ * advances every body of the batch with the same fixed dt.
+ *
+ * Body ownership
+ * --------------
+ * The body array is owned by the runner thread. Other threads never touch
+ * it: new and migrated bodies go through a lock-free inbox that is drained
+ * at the start of every tick, and dead bodies are swap-removed in place
+ * (no copy-on-write array, no per-tick allocation).
+ *
+ * Each slot remembers the last tick its body was advanced, so a body
+ * migrated from another runner is never advanced twice for the same tick.
+ *
+ * Tick completion
+ * ---------------
+ * Once a published tick is done (bodies advanced, shed bodies handed over)
+ * the runner reports it in getCompletedTick(). The clock tick boundary hook
+ * waits for every runner to report the last published tick before it
+ * changes the world (BodyBatchManager.awaitRunnersTick()). A body whose
+ * tick throws is reported (AbstractBody.processBodyFailure()) and dropped
+ * from the batch, the others go on; a runner that exits anyway is marked
+ * terminated, so the hook never waits for it.
+ *
+ * Load
+ * ----
+ * The runner keeps an EWMA of its tick cost, measured in thread CPU time
+ * when the JVM supports it (wall time would charge preemption by other
+ * threads to the runner and trigger needless migrations), wall time
+ * otherwise. BodyBatchManager reads it to
+ * size batches and may ask the runner to shed bodies; the runner hands them
+ * back between ticks, never while they are being processed.
  */
 public class MultiBodyRunner implements Runnable {
 
     // region Constants
-    private static final int SLEEP_TIME_MS = 12;
+    private static final int EWMA_SHIFT = 3; // alpha = 1/8
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long NO_TICK = -1L;
+    private static final int REBALANCE_INTERVAL_TICKS = 60;
     // endregion
 
     // region Fields
-    private final List<AbstractBody> bodies;
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final AtomicInteger assignedBodies = new AtomicInteger();
+    private AbstractBody[] bodies = new AbstractBody[INITIAL_CAPACITY];
+    private int bodyCount = 0;
+    private long[] bodyLastTick = new long[INITIAL_CAPACITY];
+    private final SimulationClock clock;
+    private final boolean dedicated;
+    private volatile boolean isDraining = false;
+    private final Queue<IncomingBody> incomingBodies = new ConcurrentLinkedQueue<>();
     private volatile boolean isAcceptingBodies = true;
-    private final int maxBodiesPerRunner;
+    private volatile int maxBodiesPerRunner;
     private final BodyBatchManager ownerManager;
+    private final BodyProfiler profiler;
+    private final WorkerScratch scratch = new WorkerScratch(); // Shared by the bodies of this runner
+    private final AtomicInteger shedRequest = new AtomicInteger();
     private volatile boolean isTerminated = false;
     private volatile boolean shouldStop = false;
+    private volatile long tickCostEwmaNanos = 0L;
+    private volatile long completedTick;
     // endregion
 
     // region Constructors
     /**
      * Create a runner for batch execution.
-     * 
-     * @param maxBodiesPerRunner max bodies per cycle (must be > 0)
+     *
+     * @param maxBodiesPerRunner initial max bodies per cycle (must be > 0)
+     * @param dedicated true for runners that are never resized nor rebalanced (players)
      * @param ownerManager manager reference for self-removal when terminated
+     * @param clock shared simulation clock that paces this runner
+     * @param profiler profiler receiving the RUNNER_TICK metric
      * @throws IllegalArgumentException if maxBodiesPerRunner <= 0
-     * @throws NullPointerException if ownerManager is null
+     * @throws NullPointerException if ownerManager, clock or profiler is null
      */
-    public MultiBodyRunner(int maxBodiesPerRunner, BodyBatchManager ownerManager) {
+    public MultiBodyRunner(int maxBodiesPerRunner, boolean dedicated, BodyBatchManager ownerManager,
+            SimulationClock clock, BodyProfiler profiler) {
+
         if (maxBodiesPerRunner <= 0) {
             throw new IllegalArgumentException("maxBodiesPerRunner must be > 0, got: " + maxBodiesPerRunner);
         }
         if (ownerManager == null) {
             throw new NullPointerException("ownerManager cannot be null");
         }
-        this.bodies = new CopyOnWriteArrayList<>();
+        if (clock == null) {
+            throw new NullPointerException("clock cannot be null");
+        }
+        if (profiler == null) {
+            throw new NullPointerException("profiler cannot be null");
+        }
+        this.clock = clock;
+        this.dedicated = dedicated;
         this.isAcceptingBodies = true;
         this.maxBodiesPerRunner = maxBodiesPerRunner;
         this.ownerManager = ownerManager;
+        this.profiler = profiler;
         this.isTerminated = false;
         this.shouldStop = false;
+        this.completedTick = clock.getTickCount(); // Nothing to do until the next tick
     }
     // endregion
 
@@ -56,19 +125,10 @@ public class MultiBodyRunner implements Runnable {
 
     /**
      * Add body to this runner. Returns false if full or terminated (early fail validates parameters).
+     * The body is admitted by the runner thread at the start of its next tick.
      */
-    public synchronized boolean addBody(AbstractBody body) {
-        if (body == null) {
-            throw new NullPointerException("Body cannot be null");
-        }
-        if (!this.isAcceptingBodies || this.isTerminated) {
-            return false;
-        }
-        if (this.bodies.size() >= this.maxBodiesPerRunner) {
-            return false;
-        }
-        this.bodies.add(body);
-        return true;
+    public boolean addBody(AbstractBody body) {
+        return this.offerBody(body, NO_TICK, false);
     }
 
     /**
@@ -77,19 +137,47 @@ public class MultiBodyRunner implements Runnable {
     public int getBatchSize() {
         return this.maxBodiesPerRunner;
     }
-    
+
     /**
-     * Get current body count in this runner.
+     * Get current body count in this runner (including bodies not yet admitted).
      */
     public int getBodyCount() {
-        return this.bodies.size();
+        return this.assignedBodies.get();
+    }
+
+    /**
+     * Last published tick this runner has finished with.
+     */
+    public long getCompletedTick() {
+        return this.completedTick;
+    }
+
+    /**
+     * Smoothed cost of one tick of this runner, in nanoseconds.
+     */
+    public long getTickCostNanos() {
+        return this.tickCostEwmaNanos;
+    }
+
+    /**
+     * Dedicated runners (players) keep their batch size and are never rebalanced.
+     */
+    public boolean isDedicated() {
+        return this.dedicated;
+    }
+
+    /**
+     * Draining runners hand back all their bodies and stop once empty.
+     */
+    public boolean isDraining() {
+        return this.isDraining;
     }
 
     /**
      * Check if runner has reached max capacity.
      */
     public boolean isFull() {
-        return this.bodies.size() >= this.maxBodiesPerRunner;
+        return this.assignedBodies.get() >= this.maxBodiesPerRunner;
     }
 
     /**
@@ -99,6 +187,23 @@ public class MultiBodyRunner implements Runnable {
         return this.isTerminated;
     }
 
+    /**
+     * Ask the runner to hand back up to count bodies at its next tick boundary.
+     */
+    public void requestShed(int count) {
+        if (count > 0) {
+            this.shedRequest.set(count);
+        }
+    }
+
+    /**
+     * Retire this runner: it sheds every body at its next tick boundary and
+     * stops once empty. The manager must not assign it new bodies afterwards.
+     */
+    public void requestDrain() {
+        this.isDraining = true;
+    }
+
     /**
      * Signal runner to stop gracefully.
      */
@@ -106,42 +211,215 @@ public class MultiBodyRunner implements Runnable {
         this.shouldStop = true;
     }
 
+    /**
+     * Resize the batch. Bodies above the new size are not evicted; use
+     * requestShed() for that.
+     */
+    public void setBatchSize(int maxBodiesPerRunner) {
+        if (maxBodiesPerRunner <= 0) {
+            throw new IllegalArgumentException("maxBodiesPerRunner must be > 0, got: " + maxBodiesPerRunner);
+        }
+        this.maxBodiesPerRunner = maxBodiesPerRunner;
+    }
+
     // *** INTERFACE IMPLEMENTATIONS ***
 
     /**
-     * Execute bodies in loop until stopped. Removes dead bodies each cycle.
+     * Execute bodies once per clock tick until stopped. Removes dead bodies
+     * each cycle. Every tick of a batch is replayed, so every body keeps the
+     * same fixed dt and sees every tick the clock produced (the tick barrier
+     * bounds a batch to SimulationClock.MAX_TICKS_PER_ADVANCE).
      */
     @Override
     public void run() {
-        while (!this.shouldStop) {
-            for (AbstractBody body : this.bodies) {
-                if (body.getBodyState() == BodyState.DEAD) {
-                    continue;
+        final double dt = this.clock.getDtSeconds();
+        long lastTick = this.clock.getTickCount();
+        this.completedTick = lastTick;
+
+        try {
+            while (!this.shouldStop) {
+                long tick;
+                try {
+                    tick = this.clock.awaitTick(lastTick);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (tick <= lastTick) {
+                    break; // ===== Clock stopped =====>
+                }
+
+                long publishedNanos = this.clock.getLastTickNanos();
+                for (long t = lastTick + 1; t <= tick; t++) {
+                    this.admitIncomingBodies();
+
+                    long start = this.costNanos();
+                    this.tickBodies(t, dt);
+                    this.updateTickCost(this.costNanos() - start);
                 }
-                if (body.getBodyState() == BodyState.ALIVE) {
-                    try {
-                        body.onTick();
-                    } catch (Exception ex) {
-                        throw new RuntimeException("MultiBodyRunner: Error processing body " + body.getBodyId(), ex);
-                    }
+                lastTick = tick;
+
+                // Lag between tick publication and completion of this batch
+                this.profiler.stopInterval("RUNNER_TICK", publishedNanos);
+                this.ownerManager.getTickLagHistogram().record(System.nanoTime() - publishedNanos, this.bodyCount);
+
+                this.shedBodies(lastTick);
+
+                if (this.isDraining && this.assignedBodies.get() == 0) {
+                    break; // ===== Retired and empty =====>
+                }
+
+                if (tick % REBALANCE_INTERVAL_TICKS == 0) {
+                    this.ownerManager.rebalance();
+                }
+
+                this.completedTick = lastTick; // Releases the tick boundary hook
+            }
+
+        } finally {
+            // Also on an unexpected exit: the tick barrier must stop waiting for it
+            this.isAcceptingBodies = false;
+            this.isTerminated = true;
+
+            if (this.ownerManager != null) {
+                this.ownerManager.removeRunner(this);
+            }
+        }
+    }
+
+    // *** PRIVATE ***
+
+    /**
+     * Hand over a body migrated from another runner. lastTick is the last
+     * tick it was advanced; the body is skipped until a newer tick arrives.
+     * Accepted even above capacity (only the manager decides migrations).
+     */
+    boolean acceptMigrated(AbstractBody body, long lastTick) {
+        return this.offerBody(body, lastTick, true);
+    }
+
+    private long costNanos() {
+        long cpuNanos = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+                : -1L;
+        return cpuNanos >= 0L ? cpuNanos : System.nanoTime(); // -1: not supported (e.g. virtual threads)
+    }
+
+    private void admitIncomingBodies() {
+        IncomingBody incoming;
+        while ((incoming = this.incomingBodies.poll()) != null) {
+            if (this.bodyCount == this.bodies.length) {
+                int capacity = this.bodies.length * 2;
+                this.bodies = Arrays.copyOf(this.bodies, capacity);
+                this.bodyLastTick = Arrays.copyOf(this.bodyLastTick, capacity);
+            }
+            this.bodies[this.bodyCount] = incoming.body;
+            this.bodyLastTick[this.bodyCount] = incoming.lastTick;
+            this.bodyCount++;
+        }
+    }
+
+    private boolean offerBody(AbstractBody body, long lastTick, boolean ignoreCapacity) {
+        if (body == null) {
+            throw new NullPointerException("Body cannot be null");
+        }
+        if (!this.isAcceptingBodies || this.isTerminated) {
+            return false;
+        }
+
+        if (ignoreCapacity) {
+            this.assignedBodies.incrementAndGet();
+        } else {
+            int assigned;
+            do {
+                assigned = this.assignedBodies.get();
+                if (assigned >= this.maxBodiesPerRunner) {
+                    return false;
                 }
+            } while (!this.assignedBodies.compareAndSet(assigned, assigned + 1));
+        }
+
+        this.incomingBodies.add(new IncomingBody(body, lastTick));
+        return true;
+    }
+
+    private void removeAt(int index) {
+        int last = this.bodyCount - 1;
+        this.bodies[index] = this.bodies[last];
+        this.bodyLastTick[index] = this.bodyLastTick[last];
+        this.bodies[last] = null;
+        this.bodyCount = last;
+        this.assignedBodies.decrementAndGet();
+    }
+
+    private void shedBodies(long lastTick) {
+        int requested = this.shedRequest.getAndSet(0);
+        if (this.isDraining) {
+            this.admitIncomingBodies();
+            requested = this.bodyCount;
+        }
+        if (requested <= 0) {
+            return;
+        }
+
+        // Shed from the tail: O(1) per body, order inside the batch is irrelevant
+        int shed = Math.min(requested, this.bodyCount);
+        for (int i = 0; i < shed; i++) {
+            int index = this.bodyCount - 1;
+            AbstractBody body = this.bodies[index];
+            long bodyTick = this.bodyLastTick[index];
+            this.removeAt(index);
+
+            if (body.getBodyState() != BodyState.DEAD) {
+                this.ownerManager.migrateBody(body, Math.max(bodyTick, lastTick), this);
             }
+        }
+    }
 
-            this.bodies.removeIf(body -> body.getBodyState() == BodyState.DEAD);
+    private void tickBodies(long tick, double dt) {
+        int i = 0;
+        while (i < this.bodyCount) {
+            AbstractBody body = this.bodies[i];
+            BodyState state = body.getBodyState();
 
-            try {
-                Thread.sleep(SLEEP_TIME_MS);
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                break;
+            if (state == BodyState.DEAD) {
+                this.removeAt(i); // Swapped-in body is processed in this same slot
+                continue;
             }
+
+            if (state == BodyState.ALIVE && this.bodyLastTick[i] < tick) {
+                this.bodyLastTick[i] = tick;
+                try {
+                    body.onTick(dt, this.scratch);
+                } catch (Exception ex) {
+                    // One failing body never stops its batch (nor the tick barrier)
+                    body.processBodyFailure(ex, this.scratch);
+                    this.removeAt(i);
+                    continue;
+                }
+            }
+            i++;
         }
+    }
+
+    private void updateTickCost(long elapsedNanos) {
+        long previous = this.tickCostEwmaNanos;
+        this.tickCostEwmaNanos = previous == 0L
+                ? elapsedNanos
+                : previous + ((elapsedNanos - previous) >> EWMA_SHIFT);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static final class IncomingBody {
 
-        this.isAcceptingBodies = false;
-        this.isTerminated = true;
+        private final AbstractBody body;
+        private final long lastTick;
 
-        if (this.ownerManager != null) {
-            this.ownerManager.removeRunner(this);
+        private IncomingBody(AbstractBody body, long lastTick) {
+            this.body = body;
+            this.lastTick = lastTick;
         }
     }
 }
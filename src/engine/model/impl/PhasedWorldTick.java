@@ -0,0 +1,456 @@
+package engine.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import engine.events.domain.ports.eventtype.DomainEvent;
+import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.WorkerScratch;
+import engine.model.bodies.impl.PlayerBody;
+import engine.model.bodies.ports.BodyState;
+import engine.model.physics.ports.PhysicsValuesDTO;
+import engine.utils.profiling.impl.BodyProfiler;
+
+/**
+ * PhasedWorldTick
+ * ---------------
+ *
+ * Alternative to MultiBodyRunner batching (TickExecutionMode.PHASED). On each
+ * SimulationClock tick the whole world goes through four phases, each one a
+ * parallel ForkJoin pass over all bodies with a barrier before the next:
+ *
+ * 1) INTEGRATE   - the BodyStateStore integrates every body in one linear
+ *                  pass over its arrays; each body then takes its next
+ *                  physics values (not committed)
+ * 2) GRID        - every body upserts its next AABB into the SpatialIndex
+ *                  (indexes rebuilt per tick are rebuilt in parallel at the
+ *                  end of this phase)
+ * 3) NARROWPHASE - collision candidates are gathered from the complete grid;
+ *                  limits, collisions, emissions and life over are detected
+ * 4) RULES       - actions are decided and executed (commit, spawn, die)
+ *
+ * Because the grid is fully updated before any query, the broadphase sees a
+ * consistent snapshot and the grid buckets are never written and read at the
+ * same time. Parallelism is bounded by the number of cores instead of one
+ * pool thread per batch of bodies.
+ *
+ * Worker scratch
+ * --------------
+ * Every ForkJoin worker owns a WorkerScratch (the tick thread too, in case it
+ * runs tasks itself). NARROWPHASE appends the events of each body to the
+ * event list of the worker that handled it and records the range per slot;
+ * RULES reads that range, whatever worker it runs on. The event lists are
+ * only cleared at the start of the next NARROWPHASE, which also gives their
+ * events back to the worker's event pool.
+ *
+ * Spawns, deaths and equips decided during the tick (RULES phase, expired
+ * statics) are recorded in the worker command buffers and applied by
+ * Model.applyStructuralCommands() once every phase is done, so no phase sees
+ * the body set change under it. Spawned bodies join the phases on the next
+ * tick; dead bodies are compacted out at its start. The resulting body set
+ * is then published as the tick's WorldSnapshot
+ * (Model.publishWorldSnapshot()).
+ *
+ * Player input queued from the input threads, and the steering queued by the
+ * game AI for dynamic bodies, are applied by the tick thread, the owner of
+ * every body, before INTEGRATE (Model.phaseInput(), Model.phaseSteering()).
+ *
+ * Static bodies never join the phases: expired ones are processed by
+ * Model.expireStaticBodies() before each tick.
+ *
+ * Catch-up
+ * --------
+ * When the clock publishes several ticks at once, every one of them is
+ * simulated with the fixed dt. The clock tick boundary hook waits for
+ * getCompletedTick() before publishing the next batch, so the tick thread
+ * is never more than one batch (SimulationClock.MAX_TICKS_PER_ADVANCE)
+ * behind and no tick is skipped.
+ */
+public class PhasedWorldTick implements Runnable {
+
+    // region Constants
+    private static final int MIN_LEAF_SIZE = 16;
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 5;
+    // endregion
+
+    // region Fields
+    private final ArrayList<AbstractBody> bodies = new ArrayList<>(1024);
+    private final SimulationClock clock;
+    private final ForkJoinPool forkJoinPool;
+    private final Model model;
+    private final Queue<AbstractBody> pendingBodies = new ConcurrentLinkedQueue<>();
+    private final ArrayList<PlayerBody> players = new ArrayList<>(4); // also in bodies
+    private final BodyProfiler profiler;
+    private volatile long completedTick; // Last clock tick fully simulated
+    private volatile boolean shouldStop = false;
+    private volatile long simulatedTick; // Clock tick being simulated (commit stamp)
+    private Thread thread = null;
+    private PhysicsValuesDTO[] tickValues = new PhysicsValuesDTO[1024];
+
+    private final WorkerScratch tickScratch = new WorkerScratch();
+    private final Queue<WorkerScratch> workerScratches = new ConcurrentLinkedQueue<>();
+    private WorkerScratch[] eventScratch = new WorkerScratch[1024]; // per slot: list holding its events
+    private int[] eventFrom = new int[1024];
+    private int[] eventTo = new int[1024];
+    // endregion
+
+    // region Constructors
+    /**
+     * @param model model whose phase methods are executed
+     * @param clock shared simulation clock that paces the ticks
+     * @param profiler profiler receiving one interval per phase and tick
+     * @param parallelism ForkJoin parallelism (<= 0 means available cores)
+     */
+    public PhasedWorldTick(Model model, SimulationClock clock, BodyProfiler profiler, int parallelism) {
+        if (model == null) {
+            throw new NullPointerException("model cannot be null");
+        }
+        if (clock == null) {
+            throw new NullPointerException("clock cannot be null");
+        }
+        if (profiler == null) {
+            throw new NullPointerException("profiler cannot be null");
+        }
+
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+
+        this.model = model;
+        this.clock = clock;
+        this.simulatedTick = clock.getTickCount();
+        this.completedTick = this.simulatedTick; // Nothing to do until the next tick
+        this.profiler = profiler;
+        this.workerScratches.add(this.tickScratch);
+        this.forkJoinPool = new ForkJoinPool(parallelism, this::newWorker, null, false);
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Queue a body; it takes part in the world from the next tick on.
+     */
+    public void addBody(AbstractBody body) {
+        if (body == null) {
+            throw new NullPointerException("Body cannot be null");
+        }
+
+        this.pendingBodies.add(body);
+    }
+
+    public int getBodyCount() {
+        return this.bodies.size() + this.pendingBodies.size();
+    }
+
+    /**
+     * Last clock tick whose batch is fully simulated, read by the clock tick
+     * boundary hook (BodyBatchManager.awaitRunnersTick()). Long.MAX_VALUE
+     * once the tick thread has exited, so the hook never waits for it.
+     */
+    public long getCompletedTick() {
+        return this.completedTick;
+    }
+
+    public int getParallelism() {
+        return this.forkJoinPool.getParallelism();
+    }
+
+    /**
+     * Clock tick being simulated (the last one once it is done). The clock's
+     * tick count is already the last tick of the batch while the earlier
+     * ones are replayed, so commits are stamped with this instead.
+     */
+    public long getSimulatedTick() {
+        return this.simulatedTick;
+    }
+
+    public synchronized void start() {
+        if (this.thread != null) {
+            return;
+        }
+
+        this.thread = new Thread(this, "PhasedWorldTick");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public synchronized boolean shutdown() {
+        this.shouldStop = true;
+
+        try {
+            // Let the current tick finish before the pool goes away
+            if (this.thread != null) {
+                this.thread.interrupt();
+                this.thread.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+                this.thread = null;
+            }
+
+            this.forkJoinPool.shutdown();
+            return this.forkJoinPool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // *** INTERFACE IMPLEMENTATIONS ***
+
+    // region Runnable
+    @Override
+    public void run() {
+        final double dt = this.clock.getDtSeconds();
+        long lastTick = this.clock.getTickCount();
+
+        try {
+            while (!this.shouldStop) {
+                long tick;
+                try {
+                    tick = this.clock.awaitTick(lastTick);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (tick <= lastTick) {
+                    break; // ===== Clock stopped =====>
+                }
+
+                // Every tick of the batch is simulated: the clock waits for
+                // completedTick before the next batch, so a batch never holds
+                // more than SimulationClock.MAX_TICKS_PER_ADVANCE ticks
+                for (long t = lastTick + 1; t <= tick && !this.shouldStop; t++) {
+                    this.simulatedTick = t;
+                    this.tick(dt);
+                }
+                lastTick = tick;
+                this.completedTick = lastTick; // Releases the tick boundary hook
+            }
+        } finally {
+            this.completedTick = Long.MAX_VALUE;
+        }
+    }
+    // endregion
+
+    // *** PRIVATE ***
+
+    private void compactBodies() {
+        // Drop dead bodies (swap-remove, order is irrelevant)
+        int count = this.bodies.size();
+        for (int i = count - 1; i >= 0; i--) {
+            if (this.bodies.get(i).getBodyState() == BodyState.DEAD) {
+                int last = this.bodies.size() - 1;
+                this.bodies.set(i, this.bodies.get(last));
+                this.bodies.remove(last);
+            }
+        }
+        this.players.removeIf(player -> player.getBodyState() == BodyState.DEAD);
+
+        // Admit bodies activated during the previous tick
+        AbstractBody body;
+        while ((body = this.pendingBodies.poll()) != null) {
+            if (body.getBodyState() != BodyState.DEAD) {
+                this.bodies.add(body);
+                this.model.getStateStore().enroll(body.getBodyHandle());
+                if (body instanceof PlayerBody player) {
+                    this.players.add(player);
+                }
+            }
+        }
+
+        if (this.tickValues.length < this.bodies.size()) {
+            int capacity = Math.max(this.bodies.size(), this.tickValues.length * 2);
+            this.tickValues = new PhysicsValuesDTO[capacity];
+            this.eventScratch = new WorkerScratch[capacity];
+            this.eventFrom = new int[capacity];
+            this.eventTo = new int[capacity];
+        }
+    }
+
+    private ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        return new ScratchWorkerThread(pool, this.workerScratches);
+    }
+
+    private WorkerScratch currentScratch() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ScratchWorkerThread worker ? worker.scratch : this.tickScratch;
+    }
+
+    /**
+     * Events of the slot, copied into the slice buffer of the calling
+     * worker (no subList view per body).
+     */
+    private List<DomainEvent> eventsOf(int index, WorkerScratch scratch) {
+        WorkerScratch owner = this.eventScratch[index];
+        if (owner == null || this.eventFrom[index] == this.eventTo[index]) {
+            return Collections.emptyList();
+        }
+        return scratch.getEventSlice(owner.getEvents(), this.eventFrom[index], this.eventTo[index]);
+    }
+
+    private void runPhase(TickPhase phase, double dt, int count) {
+        long start = this.profiler.startInterval();
+        if (phase == TickPhase.INTEGRATE) {
+            // One linear pass over the SoA store; bodies then pick up their values
+            this.model.phaseIntegrateAll(this.forkJoinPool, dt);
+        } else if (phase == TickPhase.NARROWPHASE) {
+            // Workers are idle (barrier): recycle the events of the previous tick
+            for (WorkerScratch scratch : this.workerScratches) {
+                scratch.getClearEvents();
+            }
+        }
+
+        int leafSize = Math.max(MIN_LEAF_SIZE, count / (this.forkJoinPool.getParallelism() * 4));
+        this.forkJoinPool.invoke(new PhaseTask(phase, dt, 0, count, leafSize));
+        this.profiler.stopInterval(phase.metricKey, start);
+    }
+
+    private void runPhaseOn(TickPhase phase, double dt, int index) {
+        AbstractBody body = this.bodies.get(index);
+        if (phase == TickPhase.NARROWPHASE) {
+            this.eventScratch[index] = null; // No events unless detected below
+        }
+        if (body.getBodyState() != BodyState.ALIVE) {
+            return;
+        }
+
+        switch (phase) {
+            case INTEGRATE:
+                this.tickValues[index] = this.model.phaseIntegrate(body, dt);
+                break;
+            case GRID:
+                this.model.phaseGrid(body, this.tickValues[index], this.currentScratch());
+                break;
+            case NARROWPHASE: {
+                WorkerScratch scratch = this.currentScratch();
+                List<DomainEvent> events = scratch.getEvents();
+                this.eventFrom[index] = events.size();
+                this.model.phaseNarrowphase(body, this.tickValues[index], events, scratch);
+                this.eventTo[index] = events.size();
+                this.eventScratch[index] = scratch;
+                break;
+            }
+            case RULES: {
+                WorkerScratch scratch = this.currentScratch();
+                this.model.phaseRules(body, this.tickValues[index], this.eventsOf(index, scratch), scratch);
+                break;
+            }
+        }
+    }
+
+    private void tick(double dt) {
+        this.model.expireStaticBodies();
+        this.compactBodies();
+
+        int count = this.bodies.size();
+        if (count == 0) {
+            this.model.applyStructuralCommands();
+            this.model.publishWorldSnapshot();
+            return; // ===== Empty world =====>
+        }
+
+        // Input before the bulk integration reads the players' state
+        for (int i = 0; i < this.players.size(); i++) {
+            this.model.phaseInput(this.players.get(i));
+        }
+        for (int i = 0; i < count; i++) {
+            this.model.phaseSteering(this.bodies.get(i));
+        }
+
+        for (TickPhase phase : TickPhase.values()) {
+            this.runPhase(phase, dt, count);
+
+            if (phase == TickPhase.GRID) {
+                long start = this.profiler.startInterval();
+                this.model.phaseGridRebuild(this.forkJoinPool);
+                this.profiler.stopInterval("PHASE_GRID_REBUILD", start);
+            }
+        }
+
+        // Release references to physics buffers owned by the engines
+        for (int i = 0; i < count; i++) {
+            this.tickValues[i] = null;
+            this.eventScratch[i] = null;
+        }
+
+        this.model.applyStructuralCommands();
+        this.model.publishWorldSnapshot();
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private enum TickPhase {
+        INTEGRATE("PHASE_INTEGRATE"),
+        GRID("PHASE_GRID"),
+        NARROWPHASE("PHASE_NARROWPHASE"),
+        RULES("PHASE_RULES");
+
+        private final String metricKey;
+
+        TickPhase(String metricKey) {
+            this.metricKey = metricKey;
+        }
+    }
+
+    /**
+     * ForkJoin worker owning the scratch buffers of the bodies it processes.
+     * Registered in the tick's scratch list while alive (idle workers are
+     * retired by the pool).
+     */
+    private static final class ScratchWorkerThread extends ForkJoinWorkerThread {
+
+        private final WorkerScratch scratch = new WorkerScratch();
+        private final Queue<WorkerScratch> registry;
+
+        private ScratchWorkerThread(ForkJoinPool pool, Queue<WorkerScratch> registry) {
+            super(pool);
+            this.registry = registry;
+            registry.add(this.scratch);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            this.registry.remove(this.scratch);
+            super.onTermination(exception);
+        }
+    }
+
+    private final class PhaseTask extends RecursiveAction {
+
+        private final TickPhase phase;
+        private final double dt;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private PhaseTask(TickPhase phase, double dt, int from, int to, int leafSize) {
+            this.phase = phase;
+            this.dt = dt;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.leafSize) {
+                for (int i = this.from; i < this.to; i++) {
+                    runPhaseOn(this.phase, this.dt, i);
+                }
+                return;
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new PhaseTask(this.phase, this.dt, this.from, mid, this.leafSize),
+                    new PhaseTask(this.phase, this.dt, mid, this.to, this.leafSize));
+        }
+    }
+}
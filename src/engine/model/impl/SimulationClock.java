@@ -0,0 +1,286 @@
+package engine.model.impl;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import engine.utils.timing.TimerWheel;
+
+/**
+ * SimulationClock
+ * ---------------
+ *
+ * Fixed-timestep clock shared by every body runner of a Model.
+ *
+ * A single clock thread accumulates real elapsed time and converts it into
+ * discrete simulation ticks of exactly {@code 1 / tickRateHz} seconds. Runners
+ * block in {@link #awaitTick(long)} and, once woken, advance all their bodies
+ * with the same tick index and the same dt. This keeps every body in phase
+ * and makes the per-tick cost independent of scheduling jitter.
+ *
+ * Accumulator
+ * -----------
+ * Elapsed wall time is added to an accumulator and consumed in whole steps.
+ * The remainder is carried to the next advance, so the long-term tick rate
+ * matches the configured one. When the host cannot keep up, at most
+ * MAX_TICKS_PER_ADVANCE ticks are produced per advance and the excess is
+ * dropped (avoids the "spiral of death"). Dropping happens here only: the
+ * tick paths (MultiBodyRunner, PhasedWorldTick) replay every tick of a
+ * batch, and the tick boundary hook keeps them at most one batch behind.
+ *
+ * The remainder also tells when the last tick boundary was actually due:
+ * getTickBoundaryNanos() moves in exact steps, unlike the advance time
+ * (getLastTickNanos()), so render interpolation can derive its alpha from
+ * it without the clock thread's wake-up jitter.
+ *
+ * Pause
+ * -----
+ * While paused no ticks are produced and the accumulator is discarded on
+ * resume, so bodies never see a large dt after a pause.
+ *
+ * Timers
+ * ------
+ * The clock drives a TimerWheel measured in its own ticks: before each
+ * batch of ticks is published the wheel is advanced to the new tick count,
+ * so timers (body life, immunity, game countdown) expire on the tick they
+ * are due and stop while the clock is paused.
+ *
+ * Tick boundary hook
+ * ------------------
+ * An optional hook runs on the clock thread right before each batch of ticks
+ * is published (e.g. to rebuild a per-tick spatial index). It must be short:
+ * runners wait for it. It may itself wait for the runners to finish the
+ * previous tick (Model in RUNNERS mode): the clock then falls behind and
+ * the accumulator catches up on the next advance.
+ *
+ * Waiting uses a ReentrantLock/Condition pair instead of a monitor so that
+ * runners backed by virtual threads unmount from their carrier while they
+ * wait for the next tick.
+ */
+public final class SimulationClock implements Runnable {
+
+    // region Constants
+    public static final int DEFAULT_TICK_RATE_HZ = 120;
+    private static final int MAX_TICK_RATE_HZ = 1000;
+    public static final int MAX_TICKS_PER_ADVANCE = 5;
+    private static final long MIN_PARK_NANOS = 100_000L; // 0.1 ms
+    // endregion
+
+    // region Fields
+    private final double dtSeconds;
+    private final long stepNanos;
+    private final int tickRateHz;
+    private final ReentrantLock tickLock = new ReentrantLock();
+    private final Condition tickPublished = this.tickLock.newCondition();
+
+    private long accumulatorNanos = 0L;
+    private long lastAdvanceNanos = 0L;
+    private volatile long lastTickNanos = 0L;
+    private volatile long tickBoundaryNanos = 0L;
+    private volatile boolean paused = false;
+    private volatile boolean running = false;
+    private volatile long tickCount = 0L;
+    private volatile Runnable tickBoundaryHook = null;
+    private final TimerWheel timerWheel;
+    private Thread thread = null;
+    // endregion
+
+    // region Constructors
+    public SimulationClock() {
+        this(DEFAULT_TICK_RATE_HZ);
+    }
+
+    public SimulationClock(int tickRateHz) {
+        if (tickRateHz <= 0 || tickRateHz > MAX_TICK_RATE_HZ) {
+            throw new IllegalArgumentException(
+                    "SimulationClock() -> tickRateHz must be in (0, " + MAX_TICK_RATE_HZ + "], got: " + tickRateHz);
+        }
+
+        this.tickRateHz = tickRateHz;
+        this.stepNanos = 1_000_000_000L / tickRateHz;
+        this.dtSeconds = this.stepNanos / 1_000_000_000.0d;
+        this.timerWheel = new TimerWheel(tickRateHz);
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Consume elapsed time and publish the resulting ticks.
+     *
+     * @param nowNanos current System.nanoTime()
+     * @return number of ticks produced by this call
+     */
+    public int advance(long nowNanos) {
+        if (this.paused) {
+            this.lastAdvanceNanos = nowNanos;
+            return 0; // ===== Paused -> no ticks =====>
+        }
+
+        this.accumulatorNanos += nowNanos - this.lastAdvanceNanos;
+        this.lastAdvanceNanos = nowNanos;
+
+        int produced = 0;
+        while (this.accumulatorNanos >= this.stepNanos && produced < MAX_TICKS_PER_ADVANCE) {
+            this.accumulatorNanos -= this.stepNanos;
+            produced++;
+        }
+
+        if (this.accumulatorNanos >= this.stepNanos) {
+            // Host is too slow: drop the backlog instead of trying to catch up
+            this.accumulatorNanos %= this.stepNanos;
+        }
+
+        if (produced > 0) {
+            this.tickBoundaryNanos = nowNanos - this.accumulatorNanos; // Before the hook publishes
+            this.timerWheel.advanceTo(this.tickCount + produced);
+
+            Runnable hook = this.tickBoundaryHook;
+            if (hook != null) {
+                hook.run();
+            }
+
+            this.tickLock.lock();
+            try {
+                this.tickCount += produced;
+                this.lastTickNanos = nowNanos;
+                this.tickPublished.signalAll();
+            } finally {
+                this.tickLock.unlock();
+            }
+        }
+
+        return produced;
+    }
+
+    /**
+     * Block until a tick newer than lastSeenTick is published or the clock
+     * stops.
+     *
+     * @return current tick index (equals lastSeenTick only if the clock stopped)
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public long awaitTick(long lastSeenTick) throws InterruptedException {
+        this.tickLock.lock();
+        try {
+            while (this.tickCount <= lastSeenTick && this.running) {
+                this.tickPublished.await();
+            }
+            return this.tickCount;
+        } finally {
+            this.tickLock.unlock();
+        }
+    }
+
+    // region Getters (get***)
+    public double getDtSeconds() {
+        return this.dtSeconds;
+    }
+
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+
+    public long getStepNanos() {
+        return this.stepNanos;
+    }
+
+    /**
+     * System.nanoTime() at which the last produced tick was due (advance
+     * time minus the carried remainder).
+     */
+    public long getTickBoundaryNanos() {
+        return this.tickBoundaryNanos;
+    }
+
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    public int getTickRateHz() {
+        return this.tickRateHz;
+    }
+
+    public TimerWheel getTimerWheel() {
+        return this.timerWheel;
+    }
+    // endregion
+
+    // region boolean checks (is***)
+    public boolean isPaused() {
+        return this.paused;
+    }
+
+    public boolean isRunning() {
+        return this.running;
+    }
+    // endregion
+
+    public void pause() {
+        this.paused = true;
+    }
+
+    public void resume() {
+        this.paused = false;
+    }
+
+    /**
+     * @param hook runnable executed before each tick publication (null = none)
+     */
+    public void setTickBoundaryHook(Runnable hook) {
+        this.tickBoundaryHook = hook;
+    }
+
+    public synchronized void start() {
+        if (this.running) {
+            return;
+        }
+
+        this.running = true;
+        this.lastAdvanceNanos = System.nanoTime();
+        this.accumulatorNanos = 0L;
+
+        this.thread = new Thread(this, "SimulationClock");
+        this.thread.setDaemon(true);
+        this.thread.setPriority(Thread.NORM_PRIORITY + 1);
+        this.thread.start();
+    }
+
+    public synchronized void stop() {
+        if (!this.running) {
+            return;
+        }
+
+        this.running = false;
+        this.tickLock.lock();
+        try {
+            this.tickPublished.signalAll(); // Release runners waiting for a tick
+        } finally {
+            this.tickLock.unlock();
+        }
+
+        if (this.thread != null) {
+            this.thread.interrupt();
+            this.thread = null;
+        }
+    }
+
+    // *** INTERFACE IMPLEMENTATIONS ***
+
+    // region Runnable
+    @Override
+    public void run() {
+        while (this.running) {
+            this.advance(System.nanoTime());
+
+            // Sleep until the next step boundary
+            long remaining = this.stepNanos - this.accumulatorNanos;
+            LockSupport.parkNanos(Math.max(MIN_PARK_NANOS, remaining));
+
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+    }
+    // endregion
+}
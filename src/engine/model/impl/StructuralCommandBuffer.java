@@ -0,0 +1,197 @@
+package engine.model.impl;
+
+import java.util.Arrays;
+
+import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.ports.BodyType;
+import engine.model.emitter.impl.BasicEmitter;
+
+/**
+ * StructuralCommandBuffer
+ * -----------------------
+ *
+ * Structural changes requested while a tick is running: spawns, despawns
+ * and emitter equips. Instead of touching the body maps, the spatial index,
+ * the physics DTO pool and the view notifications in the middle of the
+ * tick, workers record commands here and the Model applies every buffer in
+ * one batched step at the tick boundary (Model.applyStructuralCommands()).
+ *
+ * One buffer per worker (WorkerScratch): MultiBodyRunner, phased tick
+ * ForkJoin worker, or any other thread through WorkerScratch.forCurrentThread().
+ *
+ * Commands are pooled objects in two arrays: the worker appends to the front
+ * one while the Model applies the back one (swap()). Appending and swapping
+ * take the buffer monitor, which only the owner and the Model ever compete
+ * for (once per tick), so it is uncontended in practice.
+ */
+public final class StructuralCommandBuffer {
+
+    // region Constants
+    private static final int INITIAL_CAPACITY = 16;
+    // endregion
+
+    // region Fields
+    private Command[] front = newCommands(INITIAL_CAPACITY);
+    private int frontCount = 0;
+    private Command[] back = newCommands(INITIAL_CAPACITY);
+    private int backCount = 0;
+    private boolean queued = false; // In the Model pending queue
+    // endregion
+
+    // *** PUBLICS ***
+
+    public synchronized boolean isEmpty() {
+        return this.frontCount == 0;
+    }
+
+    /**
+     * @return true if the buffer must be queued for the next apply step (it
+     *         had no pending commands)
+     */
+    synchronized boolean despawn(AbstractBody body) {
+        Command command = this.append(Kind.DESPAWN);
+        command.body = body;
+        return this.markQueued();
+    }
+
+    /**
+     * @return true if the buffer must be queued for the next apply step
+     */
+    synchronized boolean equip(Kind kind, AbstractBody body, BasicEmitter emitter) {
+        if (kind == Kind.DESPAWN || kind == Kind.SPAWN) {
+            throw new IllegalArgumentException("equip() -> not an equip command: " + kind);
+        }
+
+        Command command = this.append(kind);
+        command.body = body;
+        command.emitter = emitter;
+        return this.markQueued();
+    }
+
+    /**
+     * Spawn with every value already resolved (the emitter pose is not read
+     * again when applying).
+     *
+     * @return true if the buffer must be queued for the next apply step
+     */
+    synchronized boolean spawn(BodyType type, double size,
+            double posX, double posY, double speedX, double speedY,
+            double accX, double accY, double angle, double maxLifeTime,
+            String shooterId, String assetId) {
+
+        Command command = this.append(Kind.SPAWN);
+        command.type = type;
+        command.size = size;
+        command.posX = posX;
+        command.posY = posY;
+        command.speedX = speedX;
+        command.speedY = speedY;
+        command.accX = accX;
+        command.accY = accY;
+        command.angle = angle;
+        command.maxLifeTime = maxLifeTime;
+        command.shooterId = shooterId;
+        command.assetId = assetId;
+        return this.markQueued();
+    }
+
+    /**
+     * Apply side (one thread at a time): take the pending commands. They are
+     * read with get() until clearApplied().
+     *
+     * @return number of commands taken
+     */
+    synchronized int swap() {
+        Command[] commands = this.back;
+        this.back = this.front;
+        this.backCount = this.frontCount;
+        this.front = commands;
+        this.frontCount = 0;
+        this.queued = false;
+        return this.backCount;
+    }
+
+    Command get(int index) {
+        return this.back[index];
+    }
+
+    /**
+     * Drop the references of the applied commands (bodies, emitters).
+     */
+    void clearApplied() {
+        for (int i = 0; i < this.backCount; i++) {
+            this.back[i].reset();
+        }
+        this.backCount = 0;
+    }
+
+    // *** PRIVATE ***
+
+    private Command append(Kind kind) {
+        if (this.frontCount == this.front.length) {
+            int capacity = this.front.length * 2;
+            Command[] grown = Arrays.copyOf(this.front, capacity);
+            for (int i = this.front.length; i < capacity; i++) {
+                grown[i] = new Command();
+            }
+            this.front = grown;
+        }
+
+        Command command = this.front[this.frontCount++];
+        command.kind = kind;
+        return command;
+    }
+
+    private boolean markQueued() {
+        if (this.queued) {
+            return false;
+        }
+        this.queued = true;
+        return true;
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static Command[] newCommands(int capacity) {
+        Command[] commands = new Command[capacity];
+        for (int i = 0; i < capacity; i++) {
+            commands[i] = new Command();
+        }
+        return commands;
+    }
+
+    enum Kind {
+        DESPAWN,
+        SPAWN,
+        EQUIP_EMITTER,
+        EQUIP_TRAIL,
+        EQUIP_WEAPON
+    }
+
+    static final class Command {
+        Kind kind;
+        AbstractBody body; // DESPAWN, EQUIP_*
+        BasicEmitter emitter; // EQUIP_*
+        BodyType type; // SPAWN
+        double size;
+        double posX;
+        double posY;
+        double speedX;
+        double speedY;
+        double accX;
+        double accY;
+        double angle;
+        double maxLifeTime;
+        String shooterId;
+        String assetId;
+
+        private void reset() {
+            this.kind = null;
+            this.body = null;
+            this.emitter = null;
+            this.type = null;
+            this.shooterId = null;
+            this.assetId = null;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package engine.model.impl;
+
+import engine.events.domain.ports.BodyRefDTO;
+import engine.model.bodies.ports.BodyType;
+
+/**
+ * TileCollisionLayer
+ * ------------------
+ *
+ * Static collision layer for tile maps (maze walls). Solid tiles live in a
+ * flat boolean grid instead of one GRAVITY body per tile, so a wall costs no
+ * physics engine, pooled DTOs, spatial grid entry or runner slot.
+ *
+ * Queries
+ * -------
+ * - A circle only looks at the tiles under its AABB: O(1) for bodies up to
+ * a few tiles wide, whatever the size of the maze.
+ * - Push-out is analytic: each overlapping solid box pushes the circle along
+ * the normal from its closest point (or along the shortest exit axis when
+ * the center is inside the box).
+ *
+ * Collision events
+ * ----------------
+ * Solid tiles appear in collision events as GRAVITY body refs with a
+ * negative handle (see tileHandle()), so game rules treat them exactly like
+ * wall bodies. Negative handles never resolve in the BodyRegistry. The refs
+ * are built once per solid tile (getTileRef()), not per collision.
+ *
+ * Thread-safety
+ * -------------
+ * Immutable after construction: every runner can read it without locks.
+ */
+public final class TileCollisionLayer {
+
+    // region Constants
+    public static final int NO_TILE = 0;
+    private static final double INSIDE_EPSILON = 1.0e-9;
+    // endregion
+
+    // region Fields
+    private final double offsetX;
+    private final double offsetY;
+    private final double tileSize;
+    private final double invTileSize;
+    private final int cols;
+    private final int rows;
+    private final boolean[] solid;
+    private final int[] solidTiles; // tile indexes, row-major
+    private final BodyRefDTO[] tileRefs; // by tile index, solid tiles only
+    // endregion
+
+    // region Constructors
+    /**
+     * @param grid       tile map as grid[row][col]
+     * @param solidValue value of the solid (wall) tiles in the grid
+     * @param offsetX    world position of the left edge of column 0
+     * @param offsetY    world position of the top edge of row 0
+     * @param tileSize   tile side in world units
+     */
+    public TileCollisionLayer(int[][] grid, int solidValue, double offsetX, double offsetY, double tileSize) {
+        if (grid == null || grid.length == 0 || grid[0] == null || grid[0].length == 0)
+            throw new IllegalArgumentException("grid is null or empty");
+        if (tileSize <= 0)
+            throw new IllegalArgumentException("tileSize must be > 0");
+
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.tileSize = tileSize;
+        this.invTileSize = 1.0d / tileSize;
+        this.solid = new boolean[this.rows * this.cols];
+
+        int solidCount = 0;
+        for (int r = 0; r < this.rows; r++) {
+            if (grid[r] == null || grid[r].length != this.cols)
+                throw new IllegalArgumentException("grid row " + r + " has not " + this.cols + " columns");
+
+            for (int c = 0; c < this.cols; c++) {
+                if (grid[r][c] == solidValue) {
+                    this.solid[r * this.cols + c] = true;
+                    solidCount++;
+                }
+            }
+        }
+
+        this.solidTiles = new int[solidCount];
+        this.tileRefs = new BodyRefDTO[this.solid.length];
+        int next = 0;
+        for (int i = 0; i < this.solid.length; i++) {
+            if (this.solid[i]) {
+                this.solidTiles[next++] = i;
+                this.tileRefs[i] = new BodyRefDTO(tileHandle(i), BodyType.GRAVITY);
+            }
+        }
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    // region getters (get***)
+    public int getSolidTileCount() {
+        return this.solidTiles.length;
+    }
+
+    /**
+     * Handle of the i-th solid tile (0 <= i < getSolidTileCount()).
+     */
+    public int getSolidTileHandle(int i) {
+        return tileHandle(this.solidTiles[i]);
+    }
+
+    public double getTileCenterX(int tileHandle) {
+        return this.offsetX + (tileIndex(tileHandle) % this.cols + 0.5d) * this.tileSize;
+    }
+
+    public double getTileCenterY(int tileHandle) {
+        return this.offsetY + (tileIndex(tileHandle) / this.cols + 0.5d) * this.tileSize;
+    }
+
+    /**
+     * Unit normal of the tile surface closest to (x, y), pointing away from
+     * the tile. If the point is inside the tile, the normal of the nearest
+     * side.
+     *
+     * @param out receives { nx, ny }. Length >= 2.
+     */
+    public void getTileNormal(int tileHandle, double x, double y, double[] out) {
+        final int index = tileIndex(tileHandle);
+        final double boxMinX = this.offsetX + (index % this.cols) * this.tileSize;
+        final double boxMinY = this.offsetY + (index / this.cols) * this.tileSize;
+        final double boxMaxX = boxMinX + this.tileSize;
+        final double boxMaxY = boxMinY + this.tileSize;
+
+        final double dx = x - clamp(x, boxMinX, boxMaxX);
+        final double dy = y - clamp(y, boxMinY, boxMaxY);
+        final double distSq = dx * dx + dy * dy;
+
+        if (distSq > INSIDE_EPSILON) {
+            final double dist = Math.sqrt(distSq);
+            out[0] = dx / dist;
+            out[1] = dy / dist;
+            return;
+        }
+
+        final double left = x - boxMinX;
+        final double right = boxMaxX - x;
+        final double top = y - boxMinY;
+        final double bottom = boxMaxY - y;
+        final double minSide = Math.min(Math.min(left, right), Math.min(top, bottom));
+
+        out[0] = (minSide == left) ? -1.0d : (minSide == right) ? 1.0d : 0.0d;
+        out[1] = (minSide == left || minSide == right) ? 0.0d : (minSide == top) ? -1.0d : 1.0d;
+    }
+
+    /**
+     * Collision event ref of a solid tile (GRAVITY, negative handle). Shared
+     * instance: BodyRefDTO is immutable.
+     */
+    public BodyRefDTO getTileRef(int tileHandle) {
+        return this.tileRefs[tileIndex(tileHandle)];
+    }
+
+    public double getTileSize() {
+        return this.tileSize;
+    }
+    // endregion
+
+    /**
+     * Handle of the first solid tile overlapping the circle, or NO_TILE.
+     */
+    public int findOverlappingTile(double x, double y, double radius) {
+        final int minCol = this.colOf(x - radius);
+        final int maxCol = this.colOf(x + radius);
+        final int minRow = this.rowOf(y - radius);
+        final int maxRow = this.rowOf(y + radius);
+        final double radiusSq = radius * radius;
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                final int index = r * this.cols + c;
+                if (this.solid[index] && this.distanceSqToTile(x, y, r, c) < radiusSq) {
+                    return tileHandle(index);
+                }
+            }
+        }
+
+        return NO_TILE;
+    }
+
+    public boolean overlaps(double x, double y, double radius) {
+        return this.findOverlappingTile(x, y, radius) != NO_TILE;
+    }
+
+    /**
+     * Move the circle out of every solid tile it overlaps.
+     *
+     * @param out receives { x, y, nx, ny }: the separated position and the
+     *            unit push direction (0, 0 if not moved). Length >= 4.
+     * @return true if the circle was moved
+     */
+    public boolean pushOut(double x, double y, double radius, int maxIterations, double[] out) {
+        if (out == null || out.length < 4)
+            throw new IllegalArgumentException("out must have length >= 4");
+
+        double outX = x;
+        double outY = y;
+        final double radiusSq = radius * radius;
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            boolean moved = false;
+
+            final int minCol = this.colOf(outX - radius);
+            final int maxCol = this.colOf(outX + radius);
+            final int minRow = this.rowOf(outY - radius);
+            final int maxRow = this.rowOf(outY + radius);
+
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minCol; c <= maxCol; c++) {
+                    if (!this.solid[r * this.cols + c]) {
+                        continue;
+                    }
+
+                    final double boxMinX = this.offsetX + c * this.tileSize;
+                    final double boxMinY = this.offsetY + r * this.tileSize;
+                    final double boxMaxX = boxMinX + this.tileSize;
+                    final double boxMaxY = boxMinY + this.tileSize;
+
+                    final double dx = outX - clamp(outX, boxMinX, boxMaxX);
+                    final double dy = outY - clamp(outY, boxMinY, boxMaxY);
+                    final double distSq = dx * dx + dy * dy;
+                    if (distSq >= radiusSq) {
+                        continue;
+                    }
+
+                    if (distSq > INSIDE_EPSILON) {
+                        // Center outside the box: push along closest point normal
+                        final double dist = Math.sqrt(distSq);
+                        final double penetration = radius - dist;
+                        outX += dx / dist * penetration;
+                        outY += dy / dist * penetration;
+                    } else {
+                        // Center inside the box: leave through the nearest side
+                        final double left = outX - boxMinX;
+                        final double right = boxMaxX - outX;
+                        final double top = outY - boxMinY;
+                        final double bottom = boxMaxY - outY;
+                        final double minSide = Math.min(Math.min(left, right), Math.min(top, bottom));
+
+                        if (minSide == left) {
+                            outX = boxMinX - radius;
+                        } else if (minSide == right) {
+                            outX = boxMaxX + radius;
+                        } else if (minSide == top) {
+                            outY = boxMinY - radius;
+                        } else {
+                            outY = boxMaxY + radius;
+                        }
+                    }
+                    moved = true;
+                }
+            }
+
+            if (!moved) {
+                break;
+            }
+        }
+
+        final double pushX = outX - x;
+        final double pushY = outY - y;
+        final double pushLen = Math.sqrt(pushX * pushX + pushY * pushY);
+
+        out[0] = outX;
+        out[1] = outY;
+        out[2] = pushLen > 0 ? pushX / pushLen : 0.0d;
+        out[3] = pushLen > 0 ? pushY / pushLen : 0.0d;
+        return pushLen > 0;
+    }
+
+    // region static
+    public static boolean isTileHandle(int handle) {
+        return handle < 0;
+    }
+
+    public static int tileHandle(int tileIndex) {
+        return -(tileIndex + 1);
+    }
+    // endregion
+
+    // *** PRIVATE ***
+
+    private int colOf(double x) {
+        final int col = (int) Math.floor((x - this.offsetX) * this.invTileSize);
+        return (col < 0) ? 0 : (col >= this.cols) ? this.cols - 1 : col;
+    }
+
+    private double distanceSqToTile(double x, double y, int row, int col) {
+        final double boxMinX = this.offsetX + col * this.tileSize;
+        final double boxMinY = this.offsetY + row * this.tileSize;
+
+        final double dx = x - clamp(x, boxMinX, boxMinX + this.tileSize);
+        final double dy = y - clamp(y, boxMinY, boxMinY + this.tileSize);
+        return dx * dx + dy * dy;
+    }
+
+    private int rowOf(double y) {
+        final int row = (int) Math.floor((y - this.offsetY) * this.invTileSize);
+        return (row < 0) ? 0 : (row >= this.rows) ? this.rows - 1 : row;
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static double clamp(double value, double min, double max) {
+        return (value < min) ? min : (value > max) ? max : value;
+    }
+
+    private static int tileIndex(int tileHandle) {
+        return -tileHandle - 1;
+    }
+}
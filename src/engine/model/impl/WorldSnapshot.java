@@ -0,0 +1,265 @@
+package engine.model.impl;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import engine.model.bodies.ports.BodyType;
+import engine.model.physics.ports.PhysicsValuesDTO;
+
+/**
+ * WorldSnapshot
+ * -------------
+ *
+ * Compact copy of the dynamic bodies (dynamics, players, projectiles) at the
+ * end of one simulation tick: one primitive array per field (handle, type,
+ * position, angle, size, speed, acceleration), indexed 0..getCount()-1 in no
+ * particular order. Published by the Model once per tick
+ * (Model.getWorldSnapshot()), so the Renderer, the AI and the HUD read the
+ * latest frame with a single volatile read instead of walking the live body
+ * maps.
+ *
+ * Frames are tick-consistent: PHASED publishes after the last phase and
+ * RUNNERS from the tick boundary hook, once every runner is done with the
+ * tick (BodyBatchManager.awaitRunnersTick()), so no body commits while the
+ * frame is copied. getBodyTick(i) is the simulation tick of the body's last
+ * commit (PhysicsValuesDTO.tick): the frame's tick for every ticked body,
+ * older for one that has not been ticked yet (spawned in this tick).
+ *
+ * Each body also carries its position and angle one simulation tick before
+ * its current state (see WorldSnapshotPublisher), so the render path can
+ * interpolate between the last two simulation states without matching
+ * frames: getAlpha(now) tells how far the render time is past this frame's
+ * tick (from the SimulationClock tick boundary, in steps) and
+ * getInterpolated***() blend previous -> current with it. Past 1.0 the
+ * blend extrapolates along the last step, up to MAX_ALPHA, to cover a late
+ * frame. Bodies new in this frame have previous == current.
+ *
+ * Read only for consumers. The Model rotates three frames (triple buffer):
+ * the one being written is never the latest nor the previous one, so a
+ * published frame stays intact for at least one full tick after a newer one
+ * replaces it. Consumers that may hold a frame longer check it with
+ * isIntact(tick) after reading: getTick() is NOT_PUBLISHED while the frame
+ * is being rewritten.
+ */
+public final class WorldSnapshot {
+
+    // region Constants
+    public static final long NOT_PUBLISHED = -1L;
+    public static final double MAX_ALPHA = 2.0d;
+    private static final BodyType[] TYPES = BodyType.values();
+    private static final int INITIAL_CAPACITY = 256;
+    // endregion
+
+    // region Fields
+    private volatile long tick = NOT_PUBLISHED;
+    private int count = 0;
+    private long tickNanos = 0L;
+    private long stepNanos = 1L;
+    private String[] entityIds = new String[INITIAL_CAPACITY];
+    private int[] handles = new int[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private double[] posX = new double[INITIAL_CAPACITY];
+    private double[] posY = new double[INITIAL_CAPACITY];
+    private double[] angle = new double[INITIAL_CAPACITY];
+    private double[] size = new double[INITIAL_CAPACITY];
+    private double[] speedX = new double[INITIAL_CAPACITY];
+    private double[] speedY = new double[INITIAL_CAPACITY];
+    private double[] accX = new double[INITIAL_CAPACITY];
+    private double[] accY = new double[INITIAL_CAPACITY];
+    private long[] timeStamps = new long[INITIAL_CAPACITY];
+    private long[] bodyTicks = new long[INITIAL_CAPACITY];
+    private double[] prevPosX = new double[INITIAL_CAPACITY];
+    private double[] prevPosY = new double[INITIAL_CAPACITY];
+    private double[] prevAngle = new double[INITIAL_CAPACITY];
+    // endregion
+
+    // *** PUBLICS ***
+
+    // region getters (get***)
+    public double getAccX(int index) {
+        return this.accX[index];
+    }
+
+    public double getAccY(int index) {
+        return this.accY[index];
+    }
+
+    /**
+     * Interpolation factor for a render at nowNanos (System.nanoTime()):
+     * steps elapsed since this frame's tick boundary, in [0, MAX_ALPHA].
+     */
+    public double getAlpha(long nowNanos) {
+        double alpha = (nowNanos - this.tickNanos) / (double) this.stepNanos;
+        return Math.max(0.0d, Math.min(MAX_ALPHA, alpha));
+    }
+
+    public double getAngle(int index) {
+        return this.angle[index];
+    }
+
+    /**
+     * Simulation tick of the body's last commit (PhysicsValuesDTO.tick).
+     */
+    public long getBodyTick(int index) {
+        return this.bodyTicks[index];
+    }
+
+    public int getCount() {
+        return this.count;
+    }
+
+    public String getEntityId(int index) {
+        return this.entityIds[index];
+    }
+
+    public int getHandle(int index) {
+        return this.handles[index];
+    }
+
+    /**
+     * Angle blended along the shortest arc (degrees, not normalized).
+     */
+    public double getInterpolatedAngle(int index, double alpha) {
+        double delta = this.angle[index] - this.prevAngle[index];
+        delta -= 360.0d * Math.floor((delta + 180.0d) / 360.0d);
+        return this.prevAngle[index] + delta * alpha;
+    }
+
+    public double getInterpolatedPosX(int index, double alpha) {
+        return this.prevPosX[index] + (this.posX[index] - this.prevPosX[index]) * alpha;
+    }
+
+    public double getInterpolatedPosY(int index, double alpha) {
+        return this.prevPosY[index] + (this.posY[index] - this.prevPosY[index]) * alpha;
+    }
+
+    public double getPosX(int index) {
+        return this.posX[index];
+    }
+
+    public double getPosY(int index) {
+        return this.posY[index];
+    }
+
+    public double getSize(int index) {
+        return this.size[index];
+    }
+
+    public double getSpeedX(int index) {
+        return this.speedX[index];
+    }
+
+    public double getSpeedY(int index) {
+        return this.speedY[index];
+    }
+
+    public long getStepNanos() {
+        return this.stepNanos;
+    }
+
+    /**
+     * Frame number, NOT_PUBLISHED while the frame is being written. Strictly
+     * increasing: the simulation tick count at publication, or one past the
+     * previous frame when a catch-up publishes several at the same count.
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * System.nanoTime() of the clock tick boundary this frame belongs to.
+     */
+    public long getTickNanos() {
+        return this.tickNanos;
+    }
+
+    public long getTimeStamp(int index) {
+        return this.timeStamps[index];
+    }
+
+    public BodyType getType(int index) {
+        return TYPES[this.types[index]];
+    }
+    // endregion
+
+    /**
+     * True if the frame still holds the given tick: everything read from it
+     * since getTick() returned that tick is consistent.
+     */
+    public boolean isIntact(long tick) {
+        VarHandle.acquireFence(); // Reads done before validating
+        return tick != NOT_PUBLISHED && this.tick == tick;
+    }
+
+    // *** PRIVATE ***
+
+    /**
+     * Writer (Model, one thread at a time): start rewriting the frame.
+     */
+    void begin() {
+        this.tick = NOT_PUBLISHED;
+        VarHandle.storeStoreFence(); // Invalidate before overwriting
+        this.count = 0;
+    }
+
+    void add(String entityId, int handle, BodyType type, PhysicsValuesDTO phyValues,
+            double prevPosX, double prevPosY, double prevAngle) {
+
+        if (this.count == this.handles.length) {
+            this.grow();
+        }
+
+        final int i = this.count++;
+        this.entityIds[i] = entityId;
+        this.handles[i] = handle;
+        this.types[i] = (byte) type.ordinal();
+        this.posX[i] = phyValues.posX;
+        this.posY[i] = phyValues.posY;
+        this.angle[i] = phyValues.angle;
+        this.size[i] = phyValues.size;
+        this.speedX[i] = phyValues.speedX;
+        this.speedY[i] = phyValues.speedY;
+        this.accX[i] = phyValues.accX;
+        this.accY[i] = phyValues.accY;
+        this.timeStamps[i] = phyValues.timeStamp;
+        this.bodyTicks[i] = phyValues.tick;
+        this.prevPosX[i] = prevPosX;
+        this.prevPosY[i] = prevPosY;
+        this.prevAngle[i] = prevAngle;
+    }
+
+    /**
+     * Writer: frame complete. Drops the ids left over from a bigger frame.
+     */
+    void publish(long tick, long tickNanos, long stepNanos, int previousCount) {
+        if (previousCount > this.count) {
+            Arrays.fill(this.entityIds, this.count, previousCount, null);
+        }
+        this.tickNanos = tickNanos;
+        this.stepNanos = stepNanos;
+        this.tick = tick;
+    }
+
+    /**
+     * Arrays only grow, so a stale reader never indexes past their end.
+     */
+    private void grow() {
+        final int capacity = this.handles.length * 2;
+        this.entityIds = Arrays.copyOf(this.entityIds, capacity);
+        this.handles = Arrays.copyOf(this.handles, capacity);
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.posX = Arrays.copyOf(this.posX, capacity);
+        this.posY = Arrays.copyOf(this.posY, capacity);
+        this.angle = Arrays.copyOf(this.angle, capacity);
+        this.size = Arrays.copyOf(this.size, capacity);
+        this.speedX = Arrays.copyOf(this.speedX, capacity);
+        this.speedY = Arrays.copyOf(this.speedY, capacity);
+        this.accX = Arrays.copyOf(this.accX, capacity);
+        this.accY = Arrays.copyOf(this.accY, capacity);
+        this.timeStamps = Arrays.copyOf(this.timeStamps, capacity);
+        this.bodyTicks = Arrays.copyOf(this.bodyTicks, capacity);
+        this.prevPosX = Arrays.copyOf(this.prevPosX, capacity);
+        this.prevPosY = Arrays.copyOf(this.prevPosY, capacity);
+        this.prevAngle = Arrays.copyOf(this.prevAngle, capacity);
+    }
+}
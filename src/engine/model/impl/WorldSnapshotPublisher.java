@@ -0,0 +1,148 @@
+package engine.model.impl;
+
+import java.util.Arrays;
+
+import engine.model.bodies.core.AbstractBody;
+import engine.model.bodies.core.BodyRegistry;
+import engine.model.bodies.ports.BodyState;
+import engine.model.physics.ports.PhysicsValuesDTO;
+
+/**
+ * WorldSnapshotPublisher
+ * ----------------------
+ *
+ * Writer side of the WorldSnapshot triple buffer (Model.publishWorldSnapshot()).
+ * Rotates three frames: the one rewritten is always the oldest, never the
+ * latest nor the previous one, and the latest is published with a single
+ * volatile write.
+ *
+ * It also remembers, by registry slot, the last state of every body and the
+ * simulation tick it belongs to (PhysicsValuesDTO.tick), so each frame
+ * carries the state of its bodies one tick earlier for render
+ * interpolation. Previous only moves forward when the body's tick changes:
+ * a body not ticked since the last frame keeps both states. When its tick
+ * advanced by more than one (several ticks simulated between two frames),
+ * previous is scaled back to one tick before current along the same
+ * displacement. The slot entry keeps the full handle: a slot reused by a
+ * new body starts with previous == current.
+ *
+ * Single writer: one thread at a time calls publish() (phased tick thread,
+ * or the clock thread in RUNNERS mode).
+ */
+final class WorldSnapshotPublisher {
+
+    // region Constants
+    private static final int INITIAL_SLOTS = 1024;
+    private static final int NO_HANDLE = -1;
+    // endregion
+
+    // region Fields
+    private final WorldSnapshot[] frames = {
+            new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot() };
+    private int writeIndex = 0;
+    private long lastTick = WorldSnapshot.NOT_PUBLISHED;
+    private final PhysicsValuesDTO values = new PhysicsValuesDTO(0L, 0.0d, 0.0d, 0.0d, 0.0d);
+    private int[] slotHandles = newSlotHandles(INITIAL_SLOTS);
+    private long[] slotTicks = new long[INITIAL_SLOTS]; // tick of the slot's current state
+    private double[] slotPosX = new double[INITIAL_SLOTS];
+    private double[] slotPosY = new double[INITIAL_SLOTS];
+    private double[] slotAngle = new double[INITIAL_SLOTS];
+    private double[] slotPrevPosX = new double[INITIAL_SLOTS];
+    private double[] slotPrevPosY = new double[INITIAL_SLOTS];
+    private double[] slotPrevAngle = new double[INITIAL_SLOTS];
+    private volatile WorldSnapshot latest = this.frames[this.frames.length - 1];
+    // endregion
+
+    // *** PUBLICS ***
+
+    WorldSnapshot getLatest() {
+        return this.latest;
+    }
+
+    /**
+     * Copy the bodies that are not dead into the oldest frame and publish it.
+     *
+     * @param clockTick  simulation tick count at publication
+     * @param tickNanos  clock tick boundary of the frame (System.nanoTime())
+     * @param stepNanos  clock step
+     */
+    void publish(Iterable<AbstractBody> bodies, long clockTick, long tickNanos, long stepNanos) {
+        WorldSnapshot frame = this.frames[this.writeIndex];
+        int previousCount = frame.getCount();
+
+        frame.begin();
+        for (AbstractBody body : bodies) {
+            if (body.getBodyState() == BodyState.DEAD) {
+                continue;
+            }
+            this.add(frame, body);
+        }
+
+        // Strictly increasing, so a recycled frame never shows a stale tick
+        this.lastTick = Math.max(clockTick, this.lastTick + 1);
+        frame.publish(this.lastTick, tickNanos, stepNanos, previousCount);
+        this.latest = frame;
+        this.writeIndex = (this.writeIndex + 1) % this.frames.length;
+    }
+
+    // *** PRIVATE ***
+
+    private void add(WorldSnapshot frame, AbstractBody body) {
+        final int handle = body.getBodyHandle();
+        final int slot = BodyRegistry.indexOf(handle);
+        if (slot >= this.slotHandles.length) {
+            this.growSlots(slot + 1);
+        }
+
+        PhysicsValuesDTO phyValues = body.getPhysicsSnapshot(this.values);
+        if (this.slotHandles[slot] != handle) {
+            // First frame of the body: nothing to interpolate from
+            this.slotHandles[slot] = handle;
+            this.slotTicks[slot] = phyValues.tick;
+            this.slotPrevPosX[slot] = phyValues.posX;
+            this.slotPrevPosY[slot] = phyValues.posY;
+            this.slotPrevAngle[slot] = phyValues.angle;
+
+        } else if (phyValues.tick > this.slotTicks[slot]) {
+            // New state: previous is the state one tick before it
+            final double ticks = phyValues.tick - this.slotTicks[slot];
+            double deltaAngle = phyValues.angle - this.slotAngle[slot];
+            deltaAngle -= 360.0d * Math.floor((deltaAngle + 180.0d) / 360.0d); // Shortest arc
+
+            this.slotTicks[slot] = phyValues.tick;
+            this.slotPrevPosX[slot] = phyValues.posX - (phyValues.posX - this.slotPosX[slot]) / ticks;
+            this.slotPrevPosY[slot] = phyValues.posY - (phyValues.posY - this.slotPosY[slot]) / ticks;
+            this.slotPrevAngle[slot] = phyValues.angle - deltaAngle / ticks;
+        }
+        // Same tick: not ticked since the last frame, both states kept
+
+        this.slotPosX[slot] = phyValues.posX;
+        this.slotPosY[slot] = phyValues.posY;
+        this.slotAngle[slot] = phyValues.angle;
+
+        frame.add(body.getBodyId(), handle, body.getBodyType(), phyValues,
+                this.slotPrevPosX[slot], this.slotPrevPosY[slot], this.slotPrevAngle[slot]);
+    }
+
+    private void growSlots(int minSlots) {
+        final int oldLength = this.slotHandles.length;
+        final int capacity = Math.max(minSlots, oldLength * 2);
+        this.slotHandles = Arrays.copyOf(this.slotHandles, capacity);
+        Arrays.fill(this.slotHandles, oldLength, capacity, NO_HANDLE);
+        this.slotTicks = Arrays.copyOf(this.slotTicks, capacity);
+        this.slotPosX = Arrays.copyOf(this.slotPosX, capacity);
+        this.slotPosY = Arrays.copyOf(this.slotPosY, capacity);
+        this.slotAngle = Arrays.copyOf(this.slotAngle, capacity);
+        this.slotPrevPosX = Arrays.copyOf(this.slotPrevPosX, capacity);
+        this.slotPrevPosY = Arrays.copyOf(this.slotPrevPosY, capacity);
+        this.slotPrevAngle = Arrays.copyOf(this.slotPrevAngle, capacity);
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static int[] newSlotHandles(int slots) {
+        int[] handles = new int[slots];
+        Arrays.fill(handles, NO_HANDLE);
+        return handles;
+    }
+}
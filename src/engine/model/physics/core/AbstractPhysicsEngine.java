@@ -2,29 +2,67 @@ package engine.model.physics.core;
 
 import static java.lang.System.nanoTime;
 
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
+import engine.model.bodies.core.BodyStateStore;
 import engine.model.physics.ports.PhysicsEngine;
 import engine.model.physics.ports.PhysicsValuesDTO;
 
+/**
+ * Base physics engine: owns three DTOs (current, next, render snapshot) and
+ * commits by swapping current and next, so the values being written are never
+ * the published ones.
+ *
+ * Versioned commits (seqlock)
+ * ---------------------------
+ * The DTO that stops being current on a commit becomes next and is
+ * overwritten in place afterwards, so a thread that still holds it can read
+ * a half-written state. Every commit therefore bumps a version after
+ * publishing the new values, and snapshot() copies the current values
+ * between two reads of the version, retrying when they differ: readers get a
+ * consistent copy without locks and the writer never waits. Commits also
+ * stamp the values with the simulation tick, read from the tick source
+ * given at construction (the SimulationClock of the body's Model).
+ *
+ * Single writer: only the thread that ticks the body commits (input and AI
+ * steering from other threads are queued, see PlayerInputQueue and
+ * SteeringMailbox). getPhysicsValues() returns
+ * the live DTO and is only safe for that thread or between phase barriers;
+ * anything else uses snapshot().
+ */
 public abstract class AbstractPhysicsEngine implements PhysicsEngine {
 
+        private static final LongSupplier NO_TICK_SOURCE = () -> 0L;
+
+        private final LongSupplier tickSource; // Simulation tick stamped on commits
         private final AtomicReference<PhysicsValuesDTO> phyValues; // Current values (DTO#1)
         protected PhysicsValuesDTO nextPhyValues; // Next frame values (DTO#2)
         protected PhysicsValuesDTO snapshotDTO; // Snapshot for rendering (DTO#3)
+        private volatile BodyStateStore stateStore = null; // SoA mirror of committed values
+        private int stateHandle;
+        private volatile long version = 0L; // Bumped after every commit
 
         // region Constructors
-        public AbstractPhysicsEngine(PhysicsValuesDTO dto1, PhysicsValuesDTO dto2, PhysicsValuesDTO dto3) {
+        public AbstractPhysicsEngine(PhysicsValuesDTO dto1, PhysicsValuesDTO dto2, PhysicsValuesDTO dto3,
+                        LongSupplier tickSource) {
+
                 if (dto1 == null || dto2 == null || dto3 == null) {
                         throw new IllegalArgumentException("PhysicsValuesDTO cannot be null");
                 }
+                if (tickSource == null) {
+                        throw new IllegalArgumentException("tickSource is null");
+                }
 
+                this.tickSource = tickSource;
                 this.phyValues = new AtomicReference<>(dto1);
                 this.nextPhyValues = dto2;
                 this.snapshotDTO = dto3;
         }
 
         public AbstractPhysicsEngine(double size, double posX, double posY, double angle) {
+                this.tickSource = NO_TICK_SOURCE;
                 this.phyValues = new AtomicReference<>(
                                 new PhysicsValuesDTO(nanoTime(), size, posX, posY, angle));
                 this.nextPhyValues = new PhysicsValuesDTO(nanoTime(), size, posX, posY, angle);
@@ -34,14 +72,32 @@ public abstract class AbstractPhysicsEngine implements PhysicsEngine {
 
         // *** PUBLIC ***
 
-        public abstract PhysicsValuesDTO calcNewPhysicsValues();
+        public abstract PhysicsValuesDTO calcNewPhysicsValues(double dtSeconds);
 
         public abstract void angularAccelerationInc(double angularAcc);
 
+        /**
+         * Mirror every commit of this engine into the slot of the body handle
+         * in the store (see BodyStateStore). Call once, with the current values
+         * already bound in the store.
+         */
+        public final void bindStateStore(BodyStateStore stateStore, int bodyHandle) {
+                if (stateStore == null) {
+                        throw new IllegalArgumentException("stateStore is null");
+                }
+
+                this.stateHandle = bodyHandle;
+                this.stateStore = stateStore;
+        }
+
         public final PhysicsValuesDTO getPhysicsValues() {
                 return this.phyValues.get();
         }
 
+        public final long getPhysicsVersion() {
+                return this.version;
+        }
+
         // region Rebound (reboundIn***)
         public abstract void reboundInEast(
                         PhysicsValuesDTO phyValues, double worldDim_x, double worldDim_y);
@@ -98,10 +154,44 @@ public abstract class AbstractPhysicsEngine implements PhysicsEngine {
                         throw new IllegalArgumentException("PhysicsValuesDTO cannot be null");
                 }
 
+                phyValues.tick = this.tickSource.getAsLong();
+
                 // Doble buffer swap: phyValues becomes nextPhyValues
                 this.nextPhyValues = this.phyValues.getAndSet(phyValues);
+
+                // Seqlock: readers that picked the old DTO before this point
+                // see a new version and retry. The fence keeps the writes into
+                // the old DTO (now next) from becoming visible before the bump
+                this.version = this.version + 1; // Single writer
+                VarHandle.storeStoreFence();
+
+                BodyStateStore store = this.stateStore;
+                if (store != null) {
+                        store.write(this.stateHandle, phyValues);
+                }
         }
         
+        public final void setPhysicsValues(long timeStamp,
+                        double posX, double posY, double angle,
+                        double size,
+                        double speedX, double speedY,
+                        double accX, double accY,
+                        double angularSpeed, double angularAcc,
+                        double thrust) {
+
+                // Arguments are already evaluated: they may come from nextPhyValues
+                nextPhyValues.update(
+                                timeStamp,
+                                posX, posY, angle,
+                                size,
+                                speedX, speedY,
+                                accX, accY,
+                                angularSpeed, angularAcc,
+                                thrust);
+
+                this.setPhysicsValues(nextPhyValues);
+        }
+
         public final PhysicsValuesDTO getNextPhyValues() {
                 return this.nextPhyValues;
         }
@@ -110,6 +200,24 @@ public abstract class AbstractPhysicsEngine implements PhysicsEngine {
                 return this.snapshotDTO;
         }
 
+        @Override
+        public final PhysicsValuesDTO snapshot(PhysicsValuesDTO out) {
+                if (out == null) {
+                        throw new IllegalArgumentException("out is null");
+                }
+
+                while (true) {
+                        final long version = this.version;
+                        out.updateFrom(this.phyValues.get());
+
+                        VarHandle.acquireFence(); // Copy done before validating
+                        if (this.version == version) {
+                                return out; // ===== Consistent copy =====>
+                        }
+                        Thread.onSpinWait(); // A commit landed while copying
+                }
+        }
+
         public final void setThrust(double thrust) {
                 PhysicsValuesDTO old = this.getPhysicsValues();
                 
@@ -144,6 +252,23 @@ public abstract class AbstractPhysicsEngine implements PhysicsEngine {
                 this.setPhysicsValues(nextPhyValues);
         }
         
+        public final void setVelocity(double speedX, double speedY) {
+                PhysicsValuesDTO old = this.getPhysicsValues();
+
+                // Update nextPhyValues with the new speed and no linear acceleration
+                nextPhyValues.update(
+                                old.timeStamp,
+                                old.posX, old.posY, old.angle,
+                                old.size,
+                                speedX, speedY, // Direct velocity
+                                0.0d, 0.0d,
+                                old.angularSpeed,
+                                old.angularAcc,
+                                old.thrust);
+
+                this.setPhysicsValues(nextPhyValues);
+        }
+
         public final void setAngle(double angleDegrees) {
                 PhysicsValuesDTO old = this.getPhysicsValues();
                 
@@ -184,4 +309,17 @@ public abstract class AbstractPhysicsEngine implements PhysicsEngine {
                 
                 this.setPhysicsValues(nextPhyValues);
         }
+
+        // *** PROTECTED ***
+
+        /**
+         * Load the values integrated for this body by the last bulk pass of the
+         * store (BodyStateStore.integrate()) into nextPhyValues.
+         *
+         * @return false if there are none: the engine must integrate itself
+         */
+        protected final boolean takeBulkIntegrated() {
+                BodyStateStore store = this.stateStore;
+                return store != null && store.takeIntegrated(this.stateHandle, this.nextPhyValues);
+        }
 }
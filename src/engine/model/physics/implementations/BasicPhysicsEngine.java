@@ -1,6 +1,6 @@
 package engine.model.physics.implementations;
 
-import static java.lang.System.nanoTime;
+import java.util.function.LongSupplier;
 
 import engine.model.bodies.ports.BodyType;
 import engine.model.physics.core.AbstractPhysicsEngine;
@@ -16,8 +16,8 @@ public class BasicPhysicsEngine extends AbstractPhysicsEngine {
 
     // region Constructors
     public BasicPhysicsEngine(PhysicsValuesDTO dto1, PhysicsValuesDTO dto2, PhysicsValuesDTO dto3, 
-                              BodyType bodyType, BodyProfiler profiler) {
-        super(dto1, dto2, dto3);
+                              BodyType bodyType, BodyProfiler profiler, LongSupplier tickSource) {
+        super(dto1, dto2, dto3, tickSource);
         this.profiler = profiler;
         this.bodyType = bodyType;
     }
@@ -43,25 +43,24 @@ public class BasicPhysicsEngine extends AbstractPhysicsEngine {
         this.setPhysicsValues(nextPhyValues);
     }
 
+    /**
+     * Integrate one fixed simulation step. In the phased tick the step was
+     * already computed for every body by BodyStateStore.integrate() (same
+     * math); this only picks the result up.
+     *
+     * @param dtSeconds step length provided by the SimulationClock (must be > 0)
+     */
     @Override
-    public PhysicsValuesDTO calcNewPhysicsValues() {
-        long dtStart = this.profiler.startInterval();
-        PhysicsValuesDTO phyVals = this.getPhysicsValues();
-        long now = nanoTime();
-        long elapsedNanos = now - phyVals.timeStamp;
-        double dt = ((double) elapsedNanos) / 1_000_000_000.0d; // Nanos to seconds
-
-        // ✅ Protección contra valores anómalos
-        if (dt <= 0.0) {
-            System.err.println("WARNING: Negative dt detected:  " + dt + "s.  Using 0.001s");
-            dt = 0.001d;
-        } else if (dt > 0.5) {
-            System.err.println("WARNING: Large dt detected: " + dt + "s. Clamping to 0.5s");
-            dt = 0.5d;
+    public PhysicsValuesDTO calcNewPhysicsValues(double dtSeconds) {
+        if (dtSeconds <= 0.0d) {
+            throw new IllegalArgumentException("calcNewPhysicsValues() -> dtSeconds must be > 0");
         }
-        this.profiler.stopInterval("PHYSICS_DT", dtStart);
 
-        return integrateMRUA(phyVals, dt);
+        if (this.takeBulkIntegrated()) {
+            return this.nextPhyValues; // ===== Already integrated in bulk (phased tick) =====>
+        }
+
+        return integrateMRUA(this.getPhysicsValues(), dtSeconds);
     }
 
     @Override
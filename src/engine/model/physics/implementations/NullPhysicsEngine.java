@@ -1,13 +1,16 @@
 package engine.model.physics.implementations;
 
+import java.util.function.LongSupplier;
+
 import engine.model.physics.core.AbstractPhysicsEngine;
 import engine.model.physics.ports.PhysicsValuesDTO;
 
 public class NullPhysicsEngine extends AbstractPhysicsEngine {
 
     // region Constructors
-    public NullPhysicsEngine(PhysicsValuesDTO dto1, PhysicsValuesDTO dto2, PhysicsValuesDTO dto3) {
-        super(dto1, dto2, dto3);
+    public NullPhysicsEngine(PhysicsValuesDTO dto1, PhysicsValuesDTO dto2, PhysicsValuesDTO dto3,
+            LongSupplier tickSource) {
+        super(dto1, dto2, dto3, tickSource);
     }
 
     public NullPhysicsEngine(double size, double posX, double posY, double angle) {
@@ -22,7 +25,7 @@ public class NullPhysicsEngine extends AbstractPhysicsEngine {
     }
 
     @Override
-    public PhysicsValuesDTO calcNewPhysicsValues() {
+    public PhysicsValuesDTO calcNewPhysicsValues(double dtSeconds) {
         return this.getPhysicsValues();
     }
 
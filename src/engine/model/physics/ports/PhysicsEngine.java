@@ -4,10 +4,15 @@ public interface PhysicsEngine {
 
         public void angularAccelerationInc(double angularAcc);
 
-        public PhysicsValuesDTO calcNewPhysicsValues();
+        public PhysicsValuesDTO calcNewPhysicsValues(double dtSeconds);
 
         public PhysicsValuesDTO getPhysicsValues();
 
+        /**
+         * Version of the committed values: bumped by every commit.
+         */
+        public long getPhysicsVersion();
+
         public boolean isThrusting();
 
         public void reboundInEast(
@@ -30,11 +35,38 @@ public interface PhysicsEngine {
 
         public void setPhysicsValues(PhysicsValuesDTO phyValues);
 
+        /**
+         * Commit the given values through the engine's own next DTO: nothing
+         * is allocated (collision and wall resolution).
+         */
+        public void setPhysicsValues(long timeStamp,
+                        double posX, double posY, double angle,
+                        double size,
+                        double speedX, double speedY,
+                        double accX, double accY,
+                        double angularSpeed, double angularAcc,
+                        double thrust);
+
         public void setThrust(double thrust);
 
         public void setDirectAcceleration(double accX, double accY);
 
         public void setAngle(double angleDegrees);
 
+        /**
+         * Direct velocity (steering): linear acceleration dropped.
+         */
+        public void setVelocity(double speedX, double speedY);
+
+        /**
+         * Consistent copy of the committed values, for threads other than the
+         * one that owns the body. Lock-free: retried if a commit lands while
+         * copying.
+         *
+         * @param out receives the copy
+         * @return out
+         */
+        public PhysicsValuesDTO snapshot(PhysicsValuesDTO out);
+
         public void stopPushing();
 }
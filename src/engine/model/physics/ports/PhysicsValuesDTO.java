@@ -14,6 +14,10 @@ import engine.utils.pooling.PoolableMDTO;
  *
  * Poolable: This DTO is reused from a pool to reduce allocation pressure during
  * physics calculations. It is mutable to support efficient updates via updateFrom().
+ *
+ * tick: simulation tick in which the values were committed (stamped by the
+ * physics engine on commit; 0 for values never committed). Snapshots taken
+ * with PhysicsEngine.snapshot() keep it, so readers know which tick they see.
  */
 public class PhysicsValuesDTO implements Serializable, PoolableMDTO {
 
@@ -27,6 +31,8 @@ public class PhysicsValuesDTO implements Serializable, PoolableMDTO {
     public double angularSpeed;
     public double angularAcc;
     public double thrust;
+    public long tick;
+    private transient volatile boolean pooled = false; // PoolMDTO bookkeeping
 
     public PhysicsValuesDTO(
             long timeStamp,
@@ -64,6 +70,11 @@ public class PhysicsValuesDTO implements Serializable, PoolableMDTO {
                 0.0);
     }
 
+    @Override
+    public boolean isPooled() {
+        return this.pooled;
+    }
+
     /**
      * Update all fields from another DTO instance (bulk copy for snapshots)
      */
@@ -90,6 +101,25 @@ public class PhysicsValuesDTO implements Serializable, PoolableMDTO {
         this.thrust = thrust;
     }
 
+    /**
+     * Copy every field of another DTO, tick included (snapshots)
+     */
+    public void updateFrom(PhysicsValuesDTO other) {
+        this.timeStamp = other.timeStamp;
+        this.posX = other.posX;
+        this.posY = other.posY;
+        this.angle = other.angle;
+        this.size = other.size;
+        this.speedX = other.speedX;
+        this.speedY = other.speedY;
+        this.accX = other.accX;
+        this.accY = other.accY;
+        this.angularSpeed = other.angularSpeed;
+        this.angularAcc = other.angularAcc;
+        this.thrust = other.thrust;
+        this.tick = other.tick;
+    }
+
     /**
      * Reset all fields to zero (for pool cleanup)
      */
@@ -107,5 +137,11 @@ public class PhysicsValuesDTO implements Serializable, PoolableMDTO {
         this.angularSpeed = 0;
         this.angularAcc = 0;
         this.thrust = 0;
+        this.tick = 0L;
+    }
+
+    @Override
+    public void setPooled(boolean pooled) {
+        this.pooled = pooled;
     }
 }
@@ -0,0 +1,118 @@
+package engine.model.ports;
+
+import engine.model.bodies.ports.BodyType;
+
+/**
+ * CollisionLayers
+ * ---------------
+ *
+ * Which body types can collide, as category / mask bits per BodyType:
+ * - category: the layer bits the type belongs to (default: one bit per
+ * type, 1 << ordinal)
+ * - mask: the layer bits the type collides with (default: all)
+ *
+ * A pair collides only if each type's category is in the other's mask, so
+ * either side can switch the pair off. Pairs that do not collide are dropped
+ * by the Model right after the broadphase: no narrowphase test and no
+ * CollisionEvent. DECORATOR bodies never collide, whatever the bits say.
+ *
+ * Configured by the game rules (ActionsGenerator.configureCollisionLayers)
+ * or a level generator (WorldManager.setCollisionLayers). The Model keeps
+ * its own copy, so changing this object afterwards has no effect.
+ */
+public final class CollisionLayers {
+
+    // region Constants
+    public static final int ALL = -1;
+    private static final BodyType[] TYPES = BodyType.values();
+    // endregion
+
+    // region Fields
+    private final int[] categories = new int[TYPES.length];
+    private final int[] masks = new int[TYPES.length];
+    // endregion
+
+    // region Constructors
+    /**
+     * Every type in its own layer, colliding with every type.
+     */
+    public CollisionLayers() {
+        for (BodyType type : TYPES) {
+            this.categories[type.ordinal()] = 1 << type.ordinal();
+            this.masks[type.ordinal()] = ALL;
+        }
+    }
+
+    public CollisionLayers(CollisionLayers other) {
+        if (other == null) {
+            throw new IllegalArgumentException("other is null");
+        }
+
+        System.arraycopy(other.categories, 0, this.categories, 0, TYPES.length);
+        System.arraycopy(other.masks, 0, this.masks, 0, TYPES.length);
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public boolean collides(BodyType a, BodyType b) {
+        return (this.categories[a.ordinal()] & this.masks[b.ordinal()]) != 0
+                && (this.categories[b.ordinal()] & this.masks[a.ordinal()]) != 0;
+    }
+
+    /**
+     * Bit set of the types (1 << ordinal) the given type collides with.
+     */
+    public int collidingTypes(BodyType type) {
+        int collidingTypes = 0;
+        for (BodyType other : TYPES) {
+            if (this.collides(type, other)) {
+                collidingTypes |= 1 << other.ordinal();
+            }
+        }
+        return collidingTypes;
+    }
+
+    // region getters (get***)
+    public int getCategory(BodyType type) {
+        return this.categories[type.ordinal()];
+    }
+
+    public int getMask(BodyType type) {
+        return this.masks[type.ordinal()];
+    }
+    // endregion
+
+    // region setters (set***)
+    public void setCategory(BodyType type, int category) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+        this.categories[type.ordinal()] = category;
+    }
+
+    /**
+     * Switch a pair on or off (both masks, using the current categories).
+     */
+    public void setCollides(BodyType a, BodyType b, boolean collides) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+
+        if (collides) {
+            this.masks[a.ordinal()] |= this.categories[b.ordinal()];
+            this.masks[b.ordinal()] |= this.categories[a.ordinal()];
+        } else {
+            this.masks[a.ordinal()] &= ~this.categories[b.ordinal()];
+            this.masks[b.ordinal()] &= ~this.categories[a.ordinal()];
+        }
+    }
+
+    public void setMask(BodyType type, int mask) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+        this.masks[type.ordinal()] = mask;
+    }
+    // endregion
+}
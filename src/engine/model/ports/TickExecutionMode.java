@@ -0,0 +1,15 @@
+package engine.model.ports;
+
+/**
+ * How the Model advances its bodies on each simulation tick.
+ *
+ * RUNNERS: bodies are batched into MultiBodyRunners; each runner integrates,
+ * updates the grid, detects and executes events body by body.
+ *
+ * PHASED: one ForkJoin pass per phase over all bodies (integrate → grid →
+ * narrowphase → rules) with a barrier between phases.
+ */
+public enum TickExecutionMode {
+    RUNNERS,
+    PHASED
+}
@@ -0,0 +1,76 @@
+package engine.utils.helpers;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive ints (no boxing).
+ *
+ * Used as a reusable scratch buffer in hot paths (collision candidates,
+ * region queries). Not thread-safe: each owner keeps its own instance.
+ */
+public final class IntArrayList {
+
+    // region Fields
+    private int[] values;
+    private int size = 0;
+    // endregion
+
+    // region Constructors
+    public IntArrayList() {
+        this(16);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be > 0, got: " + initialCapacity);
+        }
+        this.values = new int[initialCapacity];
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public void add(int value) {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.values.length * 2);
+        }
+        this.values[this.size++] = value;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + this.size);
+        }
+        return this.values[index];
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Sort ascending and drop repeated values (in place).
+     */
+    public void sortUnique() {
+        if (this.size < 2) {
+            return;
+        }
+
+        Arrays.sort(this.values, 0, this.size);
+        int unique = 1;
+        for (int i = 1; i < this.size; i++) {
+            if (this.values[i] != this.values[unique - 1]) {
+                this.values[unique++] = this.values[i];
+            }
+        }
+        this.size = unique;
+    }
+}
@@ -1,40 +1,109 @@
 package engine.utils.pooling;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import engine.utils.profiling.core.AbstractProfiler;
+
 /**
  * Generic object pool for reusing DTOs.
- * 
+ *
  * This pool manages poolable & mutables DTO instances to reduce allocation
  * pressure.
  * When a MDTO (mutable DTO) is requested via acquire(), it either returns one
  * from
  * the pool or creates a new one using the provided factory if the pool is
  * empty.
- * 
+ *
  * When a MDTO is no longer needed, it can be returned via release(), which
  * resets the MDTO and adds it back to the pool for reuse.
- * 
+ *
+ * Concurrency
+ * -----------
+ * Any thread may acquire and release. Idle MDTOs live in:
+ * - Stripes: small per-thread caches (STRIPE_CAPACITY each), picked by
+ * thread id. A stripe is taken with a try-lock; a busy stripe is skipped,
+ * never waited for.
+ * - Overflow: array stack shared by every thread behind a spin lock (a few
+ * instructions held), used when the stripe of the caller is full, empty or
+ * busy. Its array only grows (doubling, up to maxIdle), so releases in a
+ * steady state allocate nothing.
+ *
+ * Size
+ * ----
+ * The overflow holds at most maxIdle MDTOs; releases beyond it are dropped
+ * for the GC. shrink() drops half of the overflow MDTOs that stayed idle
+ * since the previous call (low-water mark), so the pool follows the demand
+ * down after a peak.
+ *
+ * Statistics
+ * ----------
+ * Acquires, releases, misses (factory calls), double releases (MDTO already
+ * idle: ignored) and drops are counted. With setProfiler() each event is
+ * also recorded as a sample of the metric prefix + "_ACQUIRE" / "_RELEASE" /
+ * "_MISS" / "_DOUBLE_RELEASE" / "_DROP".
+ *
  * @param <T> the type of MDTO managed by this pool (must implement
  *            PoolableMDTO)
  */
 public class PoolMDTO<T extends PoolableMDTO> {
 
+    // region Constants
+    public static final int DEFAULT_MAX_IDLE = 4096;
+    private static final int STRIPE_CAPACITY = 32;
+    // endregion Constants
+
     // region Fields
     private final Supplier<T> factory;
-    private final Deque<T> pool = new ArrayDeque<>();
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final Overflow overflow = new Overflow();
+    private volatile int overflowLowWater = 0; // min overflow size since last shrink()
+    private volatile int maxIdle;
+
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder doubleReleases = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+
+    private volatile AbstractProfiler profiler = null;
+    private String acquireKey;
+    private String releaseKey;
+    private String missKey;
+    private String doubleReleaseKey;
+    private String dropKey;
     // endregion Fields
 
     // region Constructors
 
     // Creates a new Pool with a factory for creating new instances when needed.
     public PoolMDTO(Supplier<T> factory) {
+        this(factory, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * @param factory creates MDTOs on misses
+     * @param maxIdle max MDTOs kept in the shared overflow
+     */
+    public PoolMDTO(Supplier<T> factory, int maxIdle) {
         if (factory == null) {
             throw new IllegalArgumentException("Factory cannot be null");
         }
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("maxIdle must be >= 0");
+        }
         this.factory = factory;
+        this.maxIdle = maxIdle;
+
+        int stripeCount = Integer.highestOneBit(Math.max(2, 2 * Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripeCount - 1;
     }
     // endregion Constructors
 
@@ -44,48 +113,322 @@ public class PoolMDTO<T extends PoolableMDTO> {
      * Acquires a MDTO from the pool.
      * If empty, a new is created using the factory.
      */
+    @SuppressWarnings("unchecked")
     public T acquire() {
-        T mdto = this.pool.pollFirst();
+        this.acquires.increment();
+        this.record(this.acquireKey);
+
+        T mdto = (T) this.stripeFor().poll();
         if (mdto == null) {
-            mdto = this.factory.get();
+            mdto = this.overflowPop();
         }
+        if (mdto == null) {
+            this.misses.increment();
+            this.record(this.missKey);
+            return this.factory.get();
+        }
+
+        mdto.setPooled(false);
         return mdto;
     }
 
     public void clear() {
-        this.pool.clear();
+        for (Stripe stripe : this.stripes) {
+            stripe.clear();
+        }
+        while (this.overflowPop() != null) {
+            // Drain
+        }
+        this.overflowLowWater = 0;
+    }
+
+    // region getters (get***)
+    public long getAcquireCount() {
+        return this.acquires.sum();
+    }
+
+    public long getDoubleReleaseCount() {
+        return this.doubleReleases.sum();
+    }
+
+    public long getDropCount() {
+        return this.drops.sum();
+    }
+
+    public int getMaxIdle() {
+        return this.maxIdle;
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
     }
 
     /**
      * Returns the current number of available DTOs in the pool.
      */
     public int getPoolSize() {
-        return this.pool.size();
+        int size = this.overflow.size;
+        for (Stripe stripe : this.stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    public long getReleaseCount() {
+        return this.releases.sum();
     }
+    // endregion
 
     /**
      * Preallocates the specified number of MDTOs in the pool.
      * Creates new instances using the factory and adds them to the pool.
      * This is useful for warming up the pool during initialization to avoid
-     * allocation overhead during runtime.
+     * allocation overhead during runtime. Bounded by maxIdle.
      */
     public void preallocate(int count) {
         if (count <= 0) {
             return;
         }
         for (int i = 0; i < count; i++) {
-            this.pool.addLast(this.factory.get());
+            T mdto = this.factory.get();
+            mdto.setPooled(true);
+            if (!this.overflowPush(mdto)) {
+                mdto.setPooled(false);
+                return; // ===== Overflow full =====>
+            }
         }
     }
 
     /**
      * Releases a MDTO back to the pool.
-     * The DTO is reset before being added to the pool.
+     * The DTO is reset before being added to the pool. A MDTO already idle in
+     * the pool is counted as a double release and ignored (sequential double
+     * releases only: two threads releasing the same MDTO at once is not
+     * detected).
      */
     public void release(T mdto) {
-        if (mdto != null) {
-            mdto.reset();
-            this.pool.addLast(mdto);
+        if (mdto == null) {
+            return;
+        }
+
+        if (mdto.isPooled()) {
+            this.doubleReleases.increment();
+            this.record(this.doubleReleaseKey);
+            return; // ===== Already idle =====>
+        }
+
+        this.releases.increment();
+        this.record(this.releaseKey);
+
+        mdto.reset();
+        mdto.setPooled(true);
+        if (this.stripeFor().offer(mdto) || this.overflowPush(mdto)) {
+            return;
+        }
+
+        mdto.setPooled(false);
+        this.drops.increment();
+        this.record(this.dropKey);
+    }
+
+    // region setters (set***)
+    /**
+     * Bound the overflow. A lower bound takes effect on the next shrink().
+     */
+    public void setMaxIdle(int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("maxIdle must be >= 0");
+        }
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Record the pool events as samples of metricPrefix + "_ACQUIRE",
+     * "_RELEASE", "_MISS", "_DOUBLE_RELEASE" and "_DROP" (null = stop).
+     */
+    public void setProfiler(AbstractProfiler profiler, String metricPrefix) {
+        if (profiler != null && (metricPrefix == null || metricPrefix.isEmpty())) {
+            throw new IllegalArgumentException("metricPrefix is null or empty");
+        }
+
+        if (profiler != null) {
+            this.acquireKey = metricPrefix + "_ACQUIRE";
+            this.releaseKey = metricPrefix + "_RELEASE";
+            this.missKey = metricPrefix + "_MISS";
+            this.doubleReleaseKey = metricPrefix + "_DOUBLE_RELEASE";
+            this.dropKey = metricPrefix + "_DROP";
+        }
+        this.profiler = profiler; // volatile write publishes the keys
+    }
+    // endregion
+
+    /**
+     * Drop half of the overflow MDTOs that stayed idle since the previous
+     * call, and everything above maxIdle. Meant to be called periodically.
+     *
+     * @return number of MDTOs dropped
+     */
+    public int shrink() {
+        int surplus = Math.max(this.overflowLowWater / 2, this.overflow.size - this.maxIdle);
+
+        int dropped = 0;
+        while (dropped < surplus) {
+            T mdto = this.overflowPop();
+            if (mdto == null) {
+                break;
+            }
+            mdto.setPooled(false);
+            this.record(this.dropKey);
+            dropped++;
+        }
+
+        if (dropped > 0) {
+            this.drops.add(dropped);
+        }
+        this.overflowLowWater = this.overflow.size;
+        return dropped;
+    }
+
+    // *** PRIVATE ***
+
+    @SuppressWarnings("unchecked")
+    private T overflowPop() {
+        Object mdto = this.overflow.pop();
+        if (mdto == null) {
+            return null;
+        }
+
+        int size = this.overflow.size;
+        if (size < this.overflowLowWater) {
+            this.overflowLowWater = size; // racy min: good enough for shrink()
+        }
+        return (T) mdto;
+    }
+
+    private boolean overflowPush(T mdto) {
+        return this.overflow.push(mdto, this.maxIdle);
+    }
+
+    private void record(String key) {
+        AbstractProfiler profiler = this.profiler;
+        if (profiler != null) {
+            profiler.addValue(key, 0L);
+        }
+    }
+
+    private Stripe stripeFor() {
+        long id = Thread.currentThread().threadId();
+        return this.stripes[(int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & this.stripeMask];
+    }
+
+    // *** PRIVATE STATIC ***
+
+    /**
+     * Shared array stack behind a spin lock. Grows by doubling up to the
+     * bound passed to push(), never shrinks its array.
+     */
+    private static final class Overflow {
+        private static final int INITIAL_CAPACITY = 256;
+
+        private final AtomicBoolean busy = new AtomicBoolean(false);
+        private Object[] items = new Object[0];
+        private volatile int size = 0;
+
+        private Object pop() {
+            if (this.size == 0) {
+                return null;
+            }
+            this.lock();
+            try {
+                if (this.size == 0) {
+                    return null;
+                }
+                Object mdto = this.items[this.size - 1];
+                this.items[this.size - 1] = null;
+                this.size--;
+                return mdto;
+            } finally {
+                this.busy.set(false);
+            }
+        }
+
+        private boolean push(Object mdto, int maxIdle) {
+            this.lock();
+            try {
+                if (this.size >= maxIdle) {
+                    return false; // ===== Full =====>
+                }
+                if (this.size == this.items.length) {
+                    int capacity = Math.min(maxIdle, Math.max(INITIAL_CAPACITY, this.items.length * 2));
+                    this.items = Arrays.copyOf(this.items, capacity);
+                }
+                this.items[this.size] = mdto;
+                this.size++;
+                return true;
+            } finally {
+                this.busy.set(false);
+            }
+        }
+
+        private void lock() {
+            while (!this.busy.compareAndSet(false, true)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Bounded array stack behind a try-lock.
+     */
+    private static final class Stripe {
+        private final AtomicBoolean busy = new AtomicBoolean(false);
+        private final Object[] items = new Object[STRIPE_CAPACITY];
+        private volatile int size = 0;
+
+        private void clear() {
+            // Blocking: clear() is not on a hot path
+            while (!this.busy.compareAndSet(false, true)) {
+                Thread.onSpinWait();
+            }
+            try {
+                for (int i = 0; i < this.size; i++) {
+                    this.items[i] = null;
+                }
+                this.size = 0;
+            } finally {
+                this.busy.set(false);
+            }
+        }
+
+        private boolean offer(Object mdto) {
+            if (!this.busy.compareAndSet(false, true)) {
+                return false; // ===== Contended: use the overflow =====>
+            }
+            try {
+                if (this.size == STRIPE_CAPACITY) {
+                    return false;
+                }
+                this.items[this.size++] = mdto;
+                return true;
+            } finally {
+                this.busy.set(false);
+            }
+        }
+
+        private Object poll() {
+            if (this.size == 0 || !this.busy.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                if (this.size == 0) {
+                    return null;
+                }
+                Object mdto = this.items[--this.size];
+                this.items[this.size] = null;
+                return mdto;
+            } finally {
+                this.busy.set(false);
+            }
         }
     }
 }
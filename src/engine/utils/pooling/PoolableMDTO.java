@@ -11,4 +11,12 @@ public interface PoolableMDTO {
      * Called by the pool before the MDTO is made available for reacquisition.
      */
     void reset();
+
+    /**
+     * Pool bookkeeping (PoolMDTO only): true while the MDTO is idle in a
+     * pool. Lets the pool detect double releases.
+     */
+    boolean isPooled();
+
+    void setPooled(boolean pooled);
 }
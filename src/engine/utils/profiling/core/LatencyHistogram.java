@@ -0,0 +1,91 @@
+package engine.utils.profiling.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free fixed-resolution latency histogram.
+ *
+ * Complements ProfileMetric (avg/max only) when percentiles matter, e.g.
+ * p99 tick lag. Values are counted in buckets of bucketNanos; anything
+ * above the last bucket is counted in it. Recording is a single atomic
+ * increment, safe from any number of threads.
+ */
+public final class LatencyHistogram {
+
+    // region Fields
+    private final long bucketNanos;
+    private final AtomicLongArray buckets;
+    // endregion
+
+    // region Constructors
+    /**
+     * @param bucketNanos resolution of each bucket (must be > 0)
+     * @param bucketCount number of buckets (must be > 0)
+     */
+    public LatencyHistogram(long bucketNanos, int bucketCount) {
+        if (bucketNanos <= 0) {
+            throw new IllegalArgumentException("bucketNanos must be > 0, got: " + bucketNanos);
+        }
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketCount must be > 0, got: " + bucketCount);
+        }
+
+        this.bucketNanos = bucketNanos;
+        this.buckets = new AtomicLongArray(bucketCount);
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    public long getCount() {
+        long count = 0L;
+        for (int i = 0; i < this.buckets.length(); i++) {
+            count += this.buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Upper bound of the bucket holding the given percentile, in nanoseconds
+     * (0 if nothing was recorded).
+     *
+     * @param percentile value in (0, 100]
+     */
+    public long getPercentileNanos(double percentile) {
+        long count = this.getCount();
+        if (count == 0L) {
+            return 0L;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100.0d * count);
+        long seen = 0L;
+        for (int i = 0; i < this.buckets.length(); i++) {
+            seen += this.buckets.get(i);
+            if (seen >= rank) {
+                return (i + 1) * this.bucketNanos;
+            }
+        }
+        return this.buckets.length() * this.bucketNanos;
+    }
+
+    public void record(long nanos) {
+        this.record(nanos, 1L);
+    }
+
+    /**
+     * Record the same latency for count samples (e.g. every body of a batch).
+     */
+    public void record(long nanos, long count) {
+        if (count <= 0L) {
+            return;
+        }
+        int index = (int) Math.min(this.buckets.length() - 1, Math.max(0L, nanos / this.bucketNanos));
+        this.buckets.addAndGet(index, count);
+    }
+
+    public void reset() {
+        for (int i = 0; i < this.buckets.length(); i++) {
+            this.buckets.set(i, 0L);
+        }
+    }
+}
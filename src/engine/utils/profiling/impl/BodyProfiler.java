@@ -9,8 +9,14 @@ import engine.utils.profiling.core.ProfileSnapshot;
  * Specialized profiler for DynamicBody update operations.
  * 
  * Extends AbstractProfiler to provide body physics profiling with these metrics:
- * - PHYSICS_DT, PHYSICS_THRUST, PHYSICS_LINEAR, PHYSICS_ANGULAR, PHYSICS_DTO
+ * - PHYSICS_THRUST, PHYSICS_LINEAR, PHYSICS_ANGULAR, PHYSICS_DTO
  * - SPATIAL_GRID, EVENTS_DETECT, EVENTS_DECIDE, EVENTS_EXECUTE, EMITTERS
+ * - PHASE_INTEGRATE, PHASE_GRID, PHASE_GRID_REBUILD, PHASE_NARROWPHASE,
+ *   PHASE_RULES (phased tick execution mode only)
+ * - RUNNER_TICK: lag from tick publication to runner completion (runners mode)
+ * - WALL_CONTACT: one NO_MOVE / WALL_STOP wall resolution (nested in EVENTS_EXECUTE)
+ * - DTO_POOL_ACQUIRE, DTO_POOL_RELEASE, DTO_POOL_MISS, DTO_POOL_DOUBLE_RELEASE,
+ *   DTO_POOL_DROP: physics DTO pool events (counts: samples per period)
  * 
  * This is an instantiable class. Can be used as singleton or created per-session.
  * 
@@ -63,8 +69,8 @@ public class BodyProfiler extends AbstractProfiler {
             return values;
         }
 
-        // Calculations (DT + THRUST + LINEAR + ANGULAR combined)
-        double calcTotal = sumMetrics("PHYSICS_DT", "PHYSICS_THRUST", "PHYSICS_LINEAR", "PHYSICS_ANGULAR");
+        // Calculations (THRUST + LINEAR + ANGULAR combined)
+        double calcTotal = sumMetrics("PHYSICS_THRUST", "PHYSICS_LINEAR", "PHYSICS_ANGULAR");
         values[0] = calcTotal > 0 ? String.format("%.0f", calcTotal / fps) : "N/A";
 
         // DTO creation - show as ms/frame
@@ -88,7 +94,6 @@ public class BodyProfiler extends AbstractProfiler {
     @Override
     protected void configureMetrics() {
         // Physics metrics
-        addMetric("PHYSICS_DT", MetricType.INTERVAL);
         addMetric("PHYSICS_THRUST", MetricType.INTERVAL);
         addMetric("PHYSICS_LINEAR", MetricType.INTERVAL);
         addMetric("PHYSICS_ANGULAR", MetricType.INTERVAL);
@@ -104,12 +109,31 @@ public class BodyProfiler extends AbstractProfiler {
 
         // Emitters
         addMetric("EMITTERS", MetricType.INTERVAL);
+
+        // Phased tick (one interval per phase and tick)
+        addMetric("PHASE_INTEGRATE", MetricType.INTERVAL);
+        addMetric("PHASE_GRID", MetricType.INTERVAL);
+        addMetric("PHASE_GRID_REBUILD", MetricType.INTERVAL);
+        addMetric("PHASE_NARROWPHASE", MetricType.INTERVAL);
+        addMetric("PHASE_RULES", MetricType.INTERVAL);
+
+        // Runner tick lag (one interval per runner and tick)
+        addMetric("RUNNER_TICK", MetricType.INTERVAL);
+
+        // Wall contact resolution (one interval per NO_MOVE / WALL_STOP action)
+        addMetric("WALL_CONTACT", MetricType.INTERVAL);
+
+        // Physics DTO pool events (samples only, no time)
+        addMetric("DTO_POOL_ACQUIRE", MetricType.TOTAL_PERIOD);
+        addMetric("DTO_POOL_RELEASE", MetricType.TOTAL_PERIOD);
+        addMetric("DTO_POOL_MISS", MetricType.TOTAL_PERIOD);
+        addMetric("DTO_POOL_DOUBLE_RELEASE", MetricType.TOTAL_PERIOD);
+        addMetric("DTO_POOL_DROP", MetricType.TOTAL_PERIOD);
     }
 
     @Override
     protected void customReport() {
         System.out.println("=== DynamicBody Profile ===");
-        reportMetric("PHYSICS_DT", "  physics.dt");
         reportMetric("PHYSICS_THRUST", "  physics.thrust");
         reportMetric("PHYSICS_LINEAR", "  physics.linear");
         reportMetric("PHYSICS_ANGULAR", "  physics.angular");
@@ -119,6 +143,18 @@ public class BodyProfiler extends AbstractProfiler {
         reportMetric("EVENTS_DECIDE", "  events.decide");
         reportMetric("EVENTS_EXECUTE", "  events.execute");
         reportMetric("EMITTERS", "  emitters");
+        reportMetric("PHASE_INTEGRATE", "  phase.integrate");
+        reportMetric("PHASE_GRID", "  phase.grid");
+        reportMetric("PHASE_GRID_REBUILD", "  phase.grid.rebuild");
+        reportMetric("PHASE_NARROWPHASE", "  phase.narrowphase");
+        reportMetric("PHASE_RULES", "  phase.rules");
+        reportMetric("RUNNER_TICK", "  runner.tick");
+        reportMetric("WALL_CONTACT", "  wall.contact");
+        reportMetric("DTO_POOL_ACQUIRE", "  dtoPool.acquire");
+        reportMetric("DTO_POOL_RELEASE", "  dtoPool.release");
+        reportMetric("DTO_POOL_MISS", "  dtoPool.miss");
+        reportMetric("DTO_POOL_DOUBLE_RELEASE", "  dtoPool.doubleRelease");
+        reportMetric("DTO_POOL_DROP", "  dtoPool.drop");
     }
 
     @Override
@@ -0,0 +1,99 @@
+package engine.utils.spatial.core;
+
+import java.util.Arrays;
+
+import engine.utils.helpers.IntArrayList;
+
+/**
+ * Set of entity ids stored in one loose grid cell, each with its AABB.
+ *
+ * Same layout as IntBucket (unordered, swap-remove, own monitor) plus a
+ * parallel double[] with minX, maxX, minY, maxY per entry. Queries return
+ * only the entries whose AABB overlaps the query box, so the looseness of
+ * the cell does not leak into the candidate list.
+ */
+final class AabbBucket {
+
+    // region Constants
+    private static final int INITIAL_CAPACITY = 8;
+    // endregion
+
+    // region Fields
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private double[] bounds = new double[INITIAL_CAPACITY * 4];
+    private int count = 0;
+    // endregion
+
+    // *** PUBLIC ***
+
+    synchronized void add(int id, double minX, double maxX, double minY, double maxY) {
+        if (this.count == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, this.ids.length * 2);
+            this.bounds = Arrays.copyOf(this.bounds, this.bounds.length * 2);
+        }
+        this.ids[this.count] = id;
+        this.writeBounds(this.count, minX, maxX, minY, maxY);
+        this.count++;
+    }
+
+    /**
+     * Append every id except excludeId whose AABB overlaps the query box.
+     */
+    synchronized void copyOverlapping(IntArrayList out, int excludeId,
+            double minX, double maxX, double minY, double maxY) {
+
+        for (int i = 0; i < this.count; i++) {
+            final int b = i * 4;
+            if (this.bounds[b] <= maxX && this.bounds[b + 1] >= minX
+                    && this.bounds[b + 2] <= maxY && this.bounds[b + 3] >= minY
+                    && this.ids[i] != excludeId) {
+                out.add(this.ids[i]);
+            }
+        }
+    }
+
+    /**
+     * Unsynchronized emptiness check to skip empty cells without taking the
+     * monitor. May be stale, like any weakly consistent query.
+     */
+    boolean isEmptyRelaxed() {
+        return this.count == 0;
+    }
+
+    synchronized void remove(int id) {
+        for (int i = 0; i < this.count; i++) {
+            if (this.ids[i] == id) {
+                final int last = --this.count;
+                this.ids[i] = this.ids[last];
+                System.arraycopy(this.bounds, last * 4, this.bounds, i * 4, 4);
+                return;
+            }
+        }
+    }
+
+    synchronized int size() {
+        return this.count;
+    }
+
+    /**
+     * Refresh the AABB of an entity that stays in this cell.
+     */
+    synchronized void update(int id, double minX, double maxX, double minY, double maxY) {
+        for (int i = 0; i < this.count; i++) {
+            if (this.ids[i] == id) {
+                this.writeBounds(i, minX, maxX, minY, maxY);
+                return;
+            }
+        }
+    }
+
+    // *** PRIVATE ***
+
+    private void writeBounds(int index, double minX, double maxX, double minY, double maxY) {
+        final int b = index * 4;
+        this.bounds[b] = minX;
+        this.bounds[b + 1] = maxX;
+        this.bounds[b + 2] = minY;
+        this.bounds[b + 3] = maxY;
+    }
+}
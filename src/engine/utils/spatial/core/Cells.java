@@ -2,14 +2,33 @@ package engine.utils.spatial.core;
 
 public class Cells {
 
+    // region Constants
+    private static final int INITIAL_CAPACITY = 4; // Bodies smaller than a cell touch <= 4 cells
+    // endregion
+
     // region Fields
-    final int[] idxs;
+    int[] idxs; // Grown on demand up to maxCells (most bodies never need it)
     int count;
+    private final int maxCells;
+
+    // Registration in a rebuilt per tick broadphase (slot < 0 -> not registered)
+    int entityId = -1;
+    int slot = -1;
+
+    // Sort-and-sweep: listed in the sweep order; AABB tree: leaf node index
+    int proxy = -1;
+
+    // Last upserted AABB (hierarchical grid, sort-and-sweep, AABB tree)
+    double minX;
+    double maxX;
+    double minY;
+    double maxY;
     // endregion
 
     // region Constructors
     Cells(int maxCellsPerBody) {
-        this.idxs = new int[maxCellsPerBody];
+        this.maxCells = maxCellsPerBody;
+        this.idxs = new int[Math.min(INITIAL_CAPACITY, maxCellsPerBody)];
         this.count = 0;
     }
     // endregion
@@ -20,15 +39,20 @@ public class Cells {
         if (src == null) {
             throw new IllegalArgumentException("src is null");
         }
-        if (newCount < 0 || newCount > idxs.length) {
+        if (newCount < 0 || newCount > this.maxCells) {
             throw new IllegalArgumentException(
-                    "Invalid newCount=" + newCount + ", capacity=" + idxs.length);
+                    "Invalid newCount=" + newCount + ", capacity=" + this.maxCells);
         }
         if (newCount > src.length) {
             throw new IllegalArgumentException(
                     "src.length (" + src.length + ") < newCount (" + newCount + ")");
         }
 
+        if (newCount > this.idxs.length) {
+            // Content is overwritten below: no copy
+            this.idxs = new int[Math.min(this.maxCells, Math.max(newCount, this.idxs.length * 2))];
+        }
+
         this.count = newCount;
         for (int i = 0; i < newCount; i++) {
             this.idxs[i] = src[i];
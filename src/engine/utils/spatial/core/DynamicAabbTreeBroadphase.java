@@ -0,0 +1,613 @@
+package engine.utils.spatial.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.ports.Broadphase;
+
+/**
+ * DynamicAabbTreeBroadphase (ÁRBOL DINÁMICO DE AABBs ENGORDADOS)
+ *
+ * Árbol binario balanceado (estilo Box2D): cada hoja es una entidad con su
+ * AABB "fat" (AABB real + margen) y cada nodo interno guarda la unión de sus
+ * hijos. Una query baja solo por los nodos que solapan.
+ *
+ * Estructuras:
+ * - Nodos en arrays paralelos (bounds, parent, child1, child2, height,
+ * entityId, Cells de la hoja) con free list -> sin objetos por nodo.
+ * - members[slot] = Cells registrado (AABB "staged" de cada entidad).
+ * Cells.proxy = índice de su hoja (-1 = aún no insertada).
+ *
+ * Ciclo por tick:
+ * 1) upsert solo actualiza el AABB en Cells.
+ * 2) rebuild() inserta las entidades nuevas y reinserta solo las que se
+ * salieron de su AABB fat. Las que se mueven poco dentro del margen no
+ * tocan el árbol. Al reinsertar, el AABB fat se estira en la dirección del
+ * desplazamiento del último tick (predicción, x DISPLACEMENT_MULTIPLIER), así
+ * un body rápido no se reinserta cada tick.
+ * 3) Las queries recorren el árbol con el read lock; rebuild y remove toman
+ * el write lock (remove quita la hoja inmediatamente).
+ *
+ * Inserción: se baja eligiendo el hijo con menor incremento de perímetro y
+ * se rebalancea con rotaciones al subir (la altura se mantiene O(log n)).
+ *
+ * Nota:
+ * - El árbol se recorre con los AABB fat, pero cada hoja se filtra con el
+ * AABB "staged" de su Cells: los candidatos solapan de verdad y no hay
+ * duplicados.
+ * - Funciona bien con tamaños muy dispares y mundos sin límites (no depende
+ * de una topología de celdas). Con muchos bodies rápidos se reinsertan
+ * casi todos cada tick y un grid suele ser más barato.
+ * - El rebuild es secuencial; el pool se ignora.
+ */
+public final class DynamicAabbTreeBroadphase implements Broadphase {
+
+    // region Constants
+    private static final double DEFAULT_FAT_MARGIN = 8.0d;
+    private static final double DISPLACEMENT_MULTIPLIER = 4.0d; // ticks of motion predicted
+    private static final int INITIAL_MEMBER_CAPACITY = 1024;
+    private static final int INITIAL_NODE_CAPACITY = 2048;
+    private static final int NULL_NODE = -1;
+    // endregion
+
+    // region Fields
+    private final double fatMargin;
+
+    // Staged memberships (guarded by this)
+    private Cells[] members = new Cells[INITIAL_MEMBER_CAPACITY];
+    private int membersHighWater = 0;
+    private int[] freeSlots = new int[INITIAL_MEMBER_CAPACITY];
+    private int freeSlotCount = 0;
+
+    // Tree (guarded by treeLock)
+    private final ReentrantReadWriteLock treeLock = new ReentrantReadWriteLock();
+    private double[] bounds = new double[INITIAL_NODE_CAPACITY * 4]; // minX, maxX, minY, maxY
+    private int[] parent = new int[INITIAL_NODE_CAPACITY];
+    private int[] child1 = new int[INITIAL_NODE_CAPACITY];
+    private int[] child2 = new int[INITIAL_NODE_CAPACITY];
+    private int[] height = new int[INITIAL_NODE_CAPACITY];
+    private int[] nodeEntityId = new int[INITIAL_NODE_CAPACITY];
+    private Cells[] leafCells = new Cells[INITIAL_NODE_CAPACITY];
+    private double[] leafCenter = new double[INITIAL_NODE_CAPACITY * 2]; // x, y at last rebuild
+    private int nodesHighWater = 0;
+    private int freeNode = NULL_NODE; // free list linked through parent[]
+    private int root = NULL_NODE;
+    private int leafCount = 0;
+    // endregion
+
+    // region Constructors
+    public DynamicAabbTreeBroadphase() {
+        this(DEFAULT_FAT_MARGIN);
+    }
+
+    public DynamicAabbTreeBroadphase(double fatMargin) {
+        if (fatMargin < 0)
+            throw new IllegalArgumentException("fatMargin must be >= 0");
+
+        this.fatMargin = fatMargin;
+    }
+    // endregion
+
+    // *** PUBLIC ***
+
+    // region getters (get***)
+    public int getHeight() {
+        this.treeLock.readLock().lock();
+        try {
+            return this.root == NULL_NODE ? 0 : this.height[this.root];
+        } finally {
+            this.treeLock.readLock().unlock();
+        }
+    }
+
+    public int getLeafCount() {
+        this.treeLock.readLock().lock();
+        try {
+            return this.leafCount;
+        } finally {
+            this.treeLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int getMaxCellsPerBody() {
+        return 1;
+    }
+    // endregion
+
+    @Override
+    public boolean isRebuiltPerTick() {
+        return true;
+    }
+
+    @Override
+    public Cells newCells() {
+        return new Cells(1);
+    }
+
+    // region queries (query***)
+    /**
+     * Entities whose staged AABB overlaps the entity's staged AABB.
+     *
+     * @return the candidates (possibly empty, no duplicates) or null if the
+     *         entity is not registered
+     */
+    @Override
+    public IntArrayList queryCollisionCandidates(int entityId, Cells cells, IntArrayList scratchCandidateIds) {
+        if (cells == null || cells.slot < 0)
+            return null;
+
+        scratchCandidateIds.clear();
+        this.query(cells.minX, cells.maxX, cells.minY, cells.maxY, scratchCandidateIds, entityId);
+
+        return scratchCandidateIds;
+    }
+
+    @Override
+    public IntArrayList queryRegion(
+            double minX, double maxX, double minY, double maxY,
+            int[] scratchIdxs, IntArrayList scratchCandidates) {
+
+        scratchCandidates.clear();
+        this.query(minX, maxX, minY, maxY, scratchCandidates, -1);
+
+        return scratchCandidates;
+    }
+    // endregion
+
+    /**
+     * Insert new entities and reinsert the ones whose staged AABB left their
+     * fat AABB.
+     */
+    @Override
+    public void rebuild(ForkJoinPool pool) {
+        final Cells[] snapshotMembers;
+        final int snapshotCount;
+        synchronized (this) {
+            snapshotMembers = this.members;
+            snapshotCount = this.membersHighWater;
+        }
+
+        this.treeLock.writeLock().lock();
+        try {
+            for (int slot = 0; slot < snapshotCount; slot++) {
+                final Cells cells = snapshotMembers[slot];
+                if (cells == null || cells.slot != slot) {
+                    continue; // Removed after the snapshot
+                }
+
+                final double minX = cells.minX;
+                final double maxX = cells.maxX;
+                final double minY = cells.minY;
+                final double maxY = cells.maxY;
+
+                final double centerX = (minX + maxX) * 0.5d;
+                final double centerY = (minY + maxY) * 0.5d;
+
+                double fatMinX = minX - this.fatMargin;
+                double fatMaxX = maxX + this.fatMargin;
+                double fatMinY = minY - this.fatMargin;
+                double fatMaxY = maxY + this.fatMargin;
+
+                int leaf = cells.proxy;
+                if (leaf != NULL_NODE) {
+                    // Displacement since the previous rebuild (~ one tick)
+                    final double dx = centerX - this.leafCenter[leaf * 2];
+                    final double dy = centerY - this.leafCenter[leaf * 2 + 1];
+                    this.leafCenter[leaf * 2] = centerX;
+                    this.leafCenter[leaf * 2 + 1] = centerY;
+
+                    final int b = leaf * 4;
+                    if (this.bounds[b] <= minX && this.bounds[b + 1] >= maxX
+                            && this.bounds[b + 2] <= minY && this.bounds[b + 3] >= maxY) {
+                        continue; // Still inside its fat AABB
+                    }
+
+                    // Predict: stretch the fat AABB along the motion, so fast
+                    // bodies keep it for several ticks
+                    if (dx < 0) {
+                        fatMinX += DISPLACEMENT_MULTIPLIER * dx;
+                    } else {
+                        fatMaxX += DISPLACEMENT_MULTIPLIER * dx;
+                    }
+                    if (dy < 0) {
+                        fatMinY += DISPLACEMENT_MULTIPLIER * dy;
+                    } else {
+                        fatMaxY += DISPLACEMENT_MULTIPLIER * dy;
+                    }
+
+                    this.removeLeaf(leaf);
+                } else {
+                    leaf = this.allocateNode();
+                    this.nodeEntityId[leaf] = cells.entityId;
+                    this.leafCells[leaf] = cells;
+                    this.leafCenter[leaf * 2] = centerX;
+                    this.leafCenter[leaf * 2 + 1] = centerY;
+                    cells.proxy = leaf;
+                    this.leafCount++;
+                }
+
+                this.writeBounds(leaf, fatMinX, fatMaxX, fatMinY, fatMaxY);
+                this.insertLeaf(leaf);
+            }
+        } finally {
+            this.treeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the entity's leaf immediately. Unregistered first, so a
+     * concurrent rebuild cannot insert it again.
+     */
+    @Override
+    public void remove(int entityId, Cells cells) {
+        if (cells == null)
+            return;
+
+        this.unregister(cells);
+
+        this.treeLock.writeLock().lock();
+        try {
+            final int leaf = cells.proxy;
+            if (leaf != NULL_NODE) {
+                this.removeLeaf(leaf);
+                this.freeNode(leaf);
+                cells.proxy = NULL_NODE;
+                this.leafCount--;
+            }
+        } finally {
+            this.treeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stage the entity's AABB. Registers the entity on first call. Assumes no
+     * two threads upsert the same entity at the same time.
+     */
+    @Override
+    public void upsert(
+            int entityId, Cells cells,
+            double minX, double maxX, double minY, double maxY, int[] scratchIdxs) {
+
+        if (cells == null) {
+            throw new IllegalArgumentException("upsert: cells is null");
+        }
+
+        cells.minX = minX;
+        cells.maxX = maxX;
+        cells.minY = minY;
+        cells.maxY = maxY;
+
+        if (cells.slot < 0) {
+            this.register(entityId, cells);
+        }
+    }
+
+    // *** PRIVATE ***
+
+    private int allocateNode() {
+        final int node;
+        if (this.freeNode != NULL_NODE) {
+            node = this.freeNode;
+            this.freeNode = this.parent[node];
+        } else {
+            if (this.nodesHighWater == this.parent.length) {
+                final int capacity = this.parent.length * 2;
+                this.bounds = Arrays.copyOf(this.bounds, capacity * 4);
+                this.parent = Arrays.copyOf(this.parent, capacity);
+                this.child1 = Arrays.copyOf(this.child1, capacity);
+                this.child2 = Arrays.copyOf(this.child2, capacity);
+                this.height = Arrays.copyOf(this.height, capacity);
+                this.nodeEntityId = Arrays.copyOf(this.nodeEntityId, capacity);
+                this.leafCells = Arrays.copyOf(this.leafCells, capacity);
+                this.leafCenter = Arrays.copyOf(this.leafCenter, capacity * 2);
+            }
+            node = this.nodesHighWater++;
+        }
+
+        this.parent[node] = NULL_NODE;
+        this.child1[node] = NULL_NODE;
+        this.child2[node] = NULL_NODE;
+        this.height[node] = 0;
+        this.nodeEntityId[node] = -1;
+        this.leafCells[node] = null;
+        return node;
+    }
+
+    /**
+     * AVL style rotation: if one child of iA is two levels taller than the
+     * other, promote it. Returns the new root of the subtree.
+     */
+    private int balance(int iA) {
+        if (this.child1[iA] == NULL_NODE || this.height[iA] < 2) {
+            return iA;
+        }
+
+        final int iB = this.child1[iA];
+        final int iC = this.child2[iA];
+        final int skew = this.height[iC] - this.height[iB];
+
+        if (skew > 1) {
+            // Rotate C up
+            final int iF = this.child1[iC];
+            final int iG = this.child2[iC];
+
+            this.child1[iC] = iA;
+            this.parent[iC] = this.parent[iA];
+            this.parent[iA] = iC;
+            this.replaceChild(this.parent[iC], iA, iC);
+
+            if (this.height[iF] > this.height[iG]) {
+                this.child2[iC] = iF;
+                this.child2[iA] = iG;
+                this.parent[iG] = iA;
+            } else {
+                this.child2[iC] = iG;
+                this.child2[iA] = iF;
+                this.parent[iF] = iA;
+            }
+            this.refit(iA);
+            this.refit(iC);
+            return iC;
+        }
+
+        if (skew < -1) {
+            // Rotate B up
+            final int iD = this.child1[iB];
+            final int iE = this.child2[iB];
+
+            this.child1[iB] = iA;
+            this.parent[iB] = this.parent[iA];
+            this.parent[iA] = iB;
+            this.replaceChild(this.parent[iB], iA, iB);
+
+            if (this.height[iD] > this.height[iE]) {
+                this.child2[iB] = iD;
+                this.child1[iA] = iE;
+                this.parent[iE] = iA;
+            } else {
+                this.child2[iB] = iE;
+                this.child1[iA] = iD;
+                this.parent[iD] = iA;
+            }
+            this.refit(iA);
+            this.refit(iB);
+            return iB;
+        }
+
+        return iA;
+    }
+
+    private void collect(int node, double minX, double maxX, double minY, double maxY,
+            IntArrayList out, int excludeId) {
+
+        final int b = node * 4;
+        if (this.bounds[b] > maxX || this.bounds[b + 1] < minX
+                || this.bounds[b + 2] > maxY || this.bounds[b + 3] < minY) {
+            return;
+        }
+
+        if (this.child1[node] == NULL_NODE) {
+            // Exact filter with the staged AABB (the fat one is only a bound)
+            final Cells cells = this.leafCells[node];
+            final int id = this.nodeEntityId[node];
+            if (id != excludeId && cells.minX <= maxX && cells.maxX >= minX
+                    && cells.minY <= maxY && cells.maxY >= minY) {
+                out.add(id);
+            }
+            return;
+        }
+
+        this.collect(this.child1[node], minX, maxX, minY, maxY, out, excludeId);
+        this.collect(this.child2[node], minX, maxX, minY, maxY, out, excludeId);
+    }
+
+    private void freeNode(int node) {
+        this.leafCells[node] = null;
+        this.parent[node] = this.freeNode;
+        this.height[node] = -1;
+        this.freeNode = node;
+    }
+
+    /**
+     * Perimeter of the union of nodes a and b (surface area heuristic in 2D).
+     */
+    private double unionPerimeter(int a, int b) {
+        final int ba = a * 4;
+        final int bb = b * 4;
+        final double w = Math.max(this.bounds[ba + 1], this.bounds[bb + 1])
+                - Math.min(this.bounds[ba], this.bounds[bb]);
+        final double h = Math.max(this.bounds[ba + 3], this.bounds[bb + 3])
+                - Math.min(this.bounds[ba + 2], this.bounds[bb + 2]);
+        return 2.0d * (w + h);
+    }
+
+    private void insertLeaf(int leaf) {
+        if (this.root == NULL_NODE) {
+            this.root = leaf;
+            this.parent[leaf] = NULL_NODE;
+            return;
+        }
+
+        // Find the best sibling
+        int index = this.root;
+        while (this.child1[index] != NULL_NODE) {
+            final int c1 = this.child1[index];
+            final int c2 = this.child2[index];
+
+            final double area = this.perimeter(index);
+            final double combinedArea = this.unionPerimeter(index, leaf);
+
+            // Cost of making a new parent for this node and the new leaf
+            final double cost = 2.0d * combinedArea;
+
+            // Minimum cost of pushing the leaf further down the tree
+            final double inheritanceCost = 2.0d * (combinedArea - area);
+
+            final double cost1 = this.descendCost(c1, leaf) + inheritanceCost;
+            final double cost2 = this.descendCost(c2, leaf) + inheritanceCost;
+
+            if (cost < cost1 && cost < cost2) {
+                break;
+            }
+
+            index = (cost1 < cost2) ? c1 : c2;
+        }
+
+        final int sibling = index;
+
+        // Create a new parent
+        final int oldParent = this.parent[sibling];
+        final int newParent = this.allocateNode();
+        this.parent[newParent] = oldParent;
+        this.child1[newParent] = sibling;
+        this.child2[newParent] = leaf;
+        this.parent[sibling] = newParent;
+        this.parent[leaf] = newParent;
+        this.refit(newParent);
+
+        if (oldParent == NULL_NODE) {
+            this.root = newParent;
+        } else {
+            this.replaceChild(oldParent, sibling, newParent);
+        }
+
+        // Walk back up fixing heights and bounds
+        this.refitAncestors(this.parent[leaf]);
+    }
+
+    private double descendCost(int child, int leaf) {
+        if (this.child1[child] == NULL_NODE) {
+            return this.unionPerimeter(child, leaf);
+        }
+        return this.unionPerimeter(child, leaf) - this.perimeter(child);
+    }
+
+    private double perimeter(int node) {
+        final int b = node * 4;
+        return 2.0d * ((this.bounds[b + 1] - this.bounds[b]) + (this.bounds[b + 3] - this.bounds[b + 2]));
+    }
+
+    private void query(double minX, double maxX, double minY, double maxY, IntArrayList out, int excludeId) {
+        this.treeLock.readLock().lock();
+        try {
+            if (this.root != NULL_NODE) {
+                this.collect(this.root, minX, maxX, minY, maxY, out, excludeId);
+            }
+        } finally {
+            this.treeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recompute height and bounds of an internal node from its children.
+     */
+    private void refit(int node) {
+        final int c1 = this.child1[node];
+        final int c2 = this.child2[node];
+        final int b1 = c1 * 4;
+        final int b2 = c2 * 4;
+
+        this.height[node] = 1 + Math.max(this.height[c1], this.height[c2]);
+        this.writeBounds(node,
+                Math.min(this.bounds[b1], this.bounds[b2]),
+                Math.max(this.bounds[b1 + 1], this.bounds[b2 + 1]),
+                Math.min(this.bounds[b1 + 2], this.bounds[b2 + 2]),
+                Math.max(this.bounds[b1 + 3], this.bounds[b2 + 3]));
+    }
+
+    private void refitAncestors(int node) {
+        int index = node;
+        while (index != NULL_NODE) {
+            index = this.balance(index);
+            this.refit(index);
+            index = this.parent[index];
+        }
+    }
+
+    private synchronized void register(int entityId, Cells cells) {
+        final int slot;
+        if (this.freeSlotCount > 0) {
+            slot = this.freeSlots[--this.freeSlotCount];
+        } else {
+            if (this.membersHighWater == this.members.length) {
+                // New array: a rebuild in progress keeps reading its snapshot
+                this.members = Arrays.copyOf(this.members, this.members.length * 2);
+            }
+            slot = this.membersHighWater++;
+        }
+
+        cells.entityId = entityId;
+        cells.slot = slot;
+        this.members[slot] = cells;
+    }
+
+    /**
+     * Detach a leaf from the tree (the node itself is kept for reinsertion).
+     */
+    private void removeLeaf(int leaf) {
+        if (leaf == this.root) {
+            this.root = NULL_NODE;
+            return;
+        }
+
+        final int parentNode = this.parent[leaf];
+        final int grandParent = this.parent[parentNode];
+        final int sibling = (this.child1[parentNode] == leaf)
+                ? this.child2[parentNode]
+                : this.child1[parentNode];
+
+        if (grandParent == NULL_NODE) {
+            this.root = sibling;
+            this.parent[sibling] = NULL_NODE;
+            this.freeNode(parentNode);
+            return;
+        }
+
+        // Replace the parent by the sibling
+        this.replaceChild(grandParent, parentNode, sibling);
+        this.parent[sibling] = grandParent;
+        this.freeNode(parentNode);
+
+        this.refitAncestors(grandParent);
+    }
+
+    /**
+     * Point parentNode's link to oldChild at newChild (root if parentNode is
+     * null).
+     */
+    private void replaceChild(int parentNode, int oldChild, int newChild) {
+        if (parentNode == NULL_NODE) {
+            this.root = newChild;
+        } else if (this.child1[parentNode] == oldChild) {
+            this.child1[parentNode] = newChild;
+        } else {
+            this.child2[parentNode] = newChild;
+        }
+    }
+
+    private synchronized void unregister(Cells cells) {
+        final int slot = cells.slot;
+        if (slot < 0) {
+            return;
+        }
+
+        this.members[slot] = null;
+        cells.slot = -1;
+
+        if (this.freeSlotCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeSlots.length * 2);
+        }
+        this.freeSlots[this.freeSlotCount++] = slot;
+    }
+
+    private void writeBounds(int node, double minX, double maxX, double minY, double maxY) {
+        final int b = node * 4;
+        this.bounds[b] = minX;
+        this.bounds[b + 1] = maxX;
+        this.bounds[b + 2] = minY;
+        this.bounds[b + 3] = maxY;
+    }
+}
@@ -0,0 +1,564 @@
+package engine.utils.spatial.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
+import engine.utils.spatial.ports.SpatialIndex;
+
+/**
+ * FlatSpatialGrid (TOPOLOGÍA FIJA + ARRAYS PLANOS + REBUILD POR TICK)
+ *
+ * Misma topología que SpatialGrid, pero sin buckets: todos los ids viven en
+ * un único int[] ordenado por celda (counting sort) y cellStart[c] ..
+ * cellStart[c + 1] delimita los ids de la celda c.
+ *
+ * Estructuras:
+ * - members[slot] = Cells registrado (membresía "staged" de cada entidad).
+ * - Layout = { cellStart[], ids[] } publicado por el último rebuild.
+ *
+ * Ciclo por tick:
+ * 1) upsert/remove solo actualizan la membresía (Cells) -> sin locks por
+ * celda, sin escrituras compartidas salvo alta/baja de entidades.
+ * 2) rebuild() recorre todos los miembros, cuenta ids por celda, calcula los
+ * offsets y dispersa los ids. Con un ForkJoinPool cada chunk de miembros
+ * tiene su histograma y las dos pasadas se ejecutan en paralelo.
+ * 3) Las queries leen el Layout publicado: lectura secuencial, sin locks y
+ * sin allocations.
+ *
+ * Si ningún miembro cambió de celdas desde el último rebuild, el rebuild no
+ * hace nada (mundos mayormente estáticos no pagan el coste).
+ *
+ * Nota:
+ * - Las queries ven las posiciones del último rebuild. En modo PHASED el
+ * rebuild ocurre entre GRID y NARROWPHASE, así que el resultado es exacto.
+ * - Dos layouts se alternan (double buffer). Un lector más lento que dos
+ * rebuilds puede ver ids de otro tick, pero nunca sale de los arrays.
+ */
+public final class FlatSpatialGrid implements SpatialIndex {
+
+    // region Constants
+    private static final int INITIAL_MEMBER_CAPACITY = 1024;
+    private static final int MIN_MEMBERS_PER_CHUNK = 2048;
+    // endregion
+
+    // region Fields
+    private final double cellSize;
+    private final double invCellSize;
+    private final int cellsX;
+    private final int cellsY;
+    private final int totalCells;
+    private final int maxCellsPerBody;
+
+    // Staged memberships (guarded by this)
+    private Cells[] members = new Cells[INITIAL_MEMBER_CAPACITY];
+    private int membersHighWater = 0;
+    private int[] freeSlots = new int[INITIAL_MEMBER_CAPACITY];
+    private int freeSlotCount = 0;
+    private volatile boolean dirty = false;
+
+    // Rebuild state (guarded by rebuildLock)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Chunk[] chunks = new Chunk[0];
+    private Layout back;
+    private volatile Layout front;
+    // endregion
+
+    // region Constructors
+    public FlatSpatialGrid(double worldWidth, double worldHeight, int cellSize, int maxCellsPerBody) {
+        if (cellSize <= 0)
+            throw new IllegalArgumentException("cellSizePx must be > 0");
+        if (worldWidth <= 0 || worldHeight <= 0)
+            throw new IllegalArgumentException("world size must be > 0");
+        if (maxCellsPerBody <= 0)
+            throw new IllegalArgumentException("maxCellsPerBody must be > 0");
+
+        this.cellSize = cellSize;
+        this.invCellSize = 1.0d / cellSize;
+        this.maxCellsPerBody = maxCellsPerBody;
+
+        // Ceil div
+        this.cellsX = (int) ((worldWidth + cellSize - 1) / cellSize);
+        this.cellsY = (int) ((worldHeight + cellSize - 1) / cellSize);
+        this.totalCells = this.cellsX * this.cellsY;
+
+        this.front = new Layout(this.totalCells, INITIAL_MEMBER_CAPACITY);
+        this.back = new Layout(this.totalCells, INITIAL_MEMBER_CAPACITY);
+    }
+    // endregion
+
+    // *** PUBLIC ***
+
+    // region getters (get***)
+    @Override
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    @Override
+    public int getMaxCellsPerBody() {
+        return this.maxCellsPerBody;
+    }
+
+    /**
+     * Same metrics as SpatialGrid.getStatistics(), computed over the last
+     * published layout. O(cellsX * cellsY), no allocations besides the DTO.
+     */
+    @Override
+    public SpatialGridStatisticsDTO getStatistics() {
+        final Layout layout = this.front;
+        final int[] cellStart = layout.cellStart;
+
+        int nonEmptyBuckets = 0;
+        int emptyBuckets = 0;
+        int maxBucketKeys = 0;
+        long totalKeys = 0;
+        long sumPairs = 0;
+
+        for (int c = 0; c < this.totalCells; c++) {
+            final int bucketSize = cellStart[c + 1] - cellStart[c];
+            if (bucketSize <= 0) {
+                emptyBuckets++;
+                continue;
+            }
+
+            nonEmptyBuckets++;
+            totalKeys += bucketSize;
+            if (bucketSize > maxBucketKeys)
+                maxBucketKeys = bucketSize;
+
+            sumPairs += (long) bucketSize * (bucketSize - 1) / 2;
+        }
+
+        final double avgKeysPerBucketNotEmpty = (nonEmptyBuckets == 0) ? 0.0
+                : ((double) totalKeys / (double) nonEmptyBuckets);
+
+        return new SpatialGridStatisticsDTO(
+                nonEmptyBuckets, emptyBuckets, avgKeysPerBucketNotEmpty, maxBucketKeys, sumPairs,
+                cellSize, cellsX, cellsY, maxCellsPerBody);
+    }
+    // endregion
+
+    @Override
+    public boolean isRebuiltPerTick() {
+        return true;
+    }
+
+    @Override
+    public Cells newCells() {
+        return new Cells(this.maxCellsPerBody);
+    }
+
+    // region queries (query***)
+    /**
+     * Collision candidates for the given entity, read from the last published
+     * layout. The entity's current membership selects the cells.
+     *
+     * @return the candidates (possibly empty, may contain duplicates) or null
+     *         if the entity occupies no cells
+     */
+    @Override
+    public IntArrayList queryCollisionCandidates(int entityId, Cells cells, IntArrayList scratchCandidateIds) {
+        if (cells == null || cells.count <= 0)
+            return null;
+
+        scratchCandidateIds.clear();
+
+        final Layout layout = this.front;
+        final int count = Math.min(cells.count, cells.idxs.length);
+        for (int i = 0; i < count; i++) {
+            this.copyCell(layout, cells.idxs[i], scratchCandidateIds, entityId);
+        }
+
+        return scratchCandidateIds;
+    }
+
+    @Override
+    public IntArrayList queryRegion(
+            double minX, double maxX, double minY, double maxY,
+            int[] scratchIdxs, IntArrayList scratchCandidates) {
+
+        this.requireBuffer(scratchIdxs);
+        scratchCandidates.clear();
+
+        final int cellCount = this.computeCellIdxsClamped(minX, maxX, minY, maxY, scratchIdxs);
+
+        final Layout layout = this.front;
+        for (int i = 0; i < cellCount; i++) {
+            this.copyCell(layout, scratchIdxs[i], scratchCandidates, -1);
+        }
+
+        return scratchCandidates;
+    }
+    // endregion
+
+    /**
+     * Counting sort of every staged membership into the back layout, then
+     * publish it.
+     *
+     * Pass 1 (per chunk): snapshot each member's cells into the chunk buffers
+     * and build the chunk histogram. Snapshotting keeps both passes consistent
+     * even if runners keep upserting while the rebuild runs.
+     * Prefix: cellStart[c] and the per chunk write cursors.
+     * Pass 2 (per chunk): scatter the snapshotted ids.
+     *
+     * Only one rebuild runs at a time; concurrent calls are skipped.
+     */
+    @Override
+    public void rebuild(ForkJoinPool pool) {
+        if (!this.dirty) {
+            return; // ===== Nothing moved since last rebuild =====>
+        }
+
+        if (!this.rebuildLock.tryLock()) {
+            return; // ===== Another thread is rebuilding =====>
+        }
+
+        try {
+            this.dirty = false;
+
+            final Cells[] snapshotMembers;
+            final int snapshotCount;
+            synchronized (this) {
+                snapshotMembers = this.members;
+                snapshotCount = this.membersHighWater;
+            }
+
+            final int chunkCount = this.chunkCount(pool, snapshotCount);
+            final int chunkSize = (snapshotCount + chunkCount - 1) / Math.max(1, chunkCount);
+            this.ensureChunks(chunkCount);
+
+            for (int k = 0; k < chunkCount; k++) {
+                final int from = Math.min(snapshotCount, k * chunkSize);
+                this.chunks[k].reset(snapshotMembers, from, Math.min(snapshotCount, from + chunkSize));
+            }
+
+            // Pass 1: stage + histogram
+            this.runChunks(pool, chunkCount, false);
+
+            // Prefix sums (cell major, chunk minor -> ids keep member order)
+            int total = 0;
+            for (int k = 0; k < chunkCount; k++) {
+                total += this.chunks[k].staged;
+            }
+
+            Layout layout = this.back;
+            if (layout.ids.length < total) {
+                layout = new Layout(this.totalCells, Math.max(total, layout.ids.length * 2));
+            }
+
+            int running = 0;
+            for (int c = 0; c < this.totalCells; c++) {
+                layout.cellStart[c] = running;
+                for (int k = 0; k < chunkCount; k++) {
+                    final int[] counts = this.chunks[k].counts;
+                    final int n = counts[c];
+                    counts[c] = running; // histogram becomes write cursor
+                    running += n;
+                }
+            }
+            layout.cellStart[this.totalCells] = running;
+
+            // Pass 2: scatter
+            for (int k = 0; k < chunkCount; k++) {
+                this.chunks[k].target = layout.ids;
+            }
+            this.runChunks(pool, chunkCount, true);
+
+            // Publish
+            this.back = this.front;
+            this.front = layout;
+        } finally {
+            this.rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the entity's membership. Its id disappears from queries after the
+     * next rebuild.
+     */
+    @Override
+    public void remove(int entityId, Cells cells) {
+        if (cells == null)
+            return;
+
+        this.unregister(cells);
+        cells.count = 0;
+        this.dirty = true;
+    }
+
+    /**
+     * Stage the cells overlapped by the AABB as the entity's membership.
+     * Registers the entity on first call. Assumes no two threads upsert the
+     * same entity at the same time.
+     */
+    @Override
+    public void upsert(
+            int entityId, Cells cells,
+            double minX, double maxX, double minY, double maxY, int[] scratchIdxs) {
+
+        this.requireBuffer(scratchIdxs);
+
+        if (cells == null) {
+            throw new IllegalArgumentException("upsert: cells is null");
+        }
+
+        final int newCount = this.computeCellIdxsClamped(minX, maxX, minY, maxY, scratchIdxs);
+
+        if (cells.slot < 0) {
+            cells.updateFrom(scratchIdxs, newCount);
+            this.register(entityId, cells);
+            this.dirty = true;
+            return;
+        }
+
+        if (this.sameCells(cells, newCount, scratchIdxs))
+            return;
+
+        cells.updateFrom(scratchIdxs, newCount);
+        this.dirty = true;
+    }
+
+    // *** PRIVATE ***
+
+    private int chunkCount(ForkJoinPool pool, int memberCount) {
+        if (pool == null || memberCount < 2 * MIN_MEMBERS_PER_CHUNK) {
+            return 1;
+        }
+
+        return Math.max(1, Math.min(pool.getParallelism(), memberCount / MIN_MEMBERS_PER_CHUNK));
+    }
+
+    private int computeCellIdxsClamped(
+            double minX, double maxX, double minY, double maxY, int[] outIdxs) {
+
+        int minCx = this.clamp0ToHi((int) (minX * this.invCellSize), this.cellsX - 1);
+        int maxCx = this.clamp0ToHi((int) (maxX * this.invCellSize), this.cellsX - 1);
+        int minCy = this.clamp0ToHi((int) (minY * this.invCellSize), this.cellsY - 1);
+        int maxCy = this.clamp0ToHi((int) (maxY * this.invCellSize), this.cellsY - 1);
+
+        int cellCountNeeded = (maxCx - minCx + 1) * (maxCy - minCy + 1);
+        if (cellCountNeeded > outIdxs.length) {
+            throw new IllegalArgumentException(
+                    "Query region requires " + cellCountNeeded + " cells, but buffer only has " + outIdxs.length);
+        }
+
+        int idx = 0;
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                outIdxs[idx++] = cy * this.cellsX + cx;
+            }
+        }
+        return idx;
+    }
+
+    private int clamp0ToHi(int value, int highLimit) {
+        return (value < 0) ? 0 : (value > highLimit) ? highLimit : value;
+    }
+
+    private void copyCell(Layout layout, int cellIdx, IntArrayList out, int excludeId) {
+        final int[] ids = layout.ids;
+        final int from = layout.cellStart[cellIdx];
+        final int to = Math.min(layout.cellStart[cellIdx + 1], ids.length);
+
+        for (int i = from; i < to; i++) {
+            final int id = ids[i];
+            if (id != excludeId) {
+                out.add(id);
+            }
+        }
+    }
+
+    private void ensureChunks(int chunkCount) {
+        if (this.chunks.length >= chunkCount) {
+            return;
+        }
+
+        Chunk[] grown = Arrays.copyOf(this.chunks, chunkCount);
+        for (int k = this.chunks.length; k < chunkCount; k++) {
+            grown[k] = new Chunk(this.totalCells);
+        }
+        this.chunks = grown;
+    }
+
+    private synchronized void register(int entityId, Cells cells) {
+        final int slot;
+        if (this.freeSlotCount > 0) {
+            slot = this.freeSlots[--this.freeSlotCount];
+        } else {
+            if (this.membersHighWater == this.members.length) {
+                // New array: a rebuild in progress keeps reading its snapshot
+                this.members = Arrays.copyOf(this.members, this.members.length * 2);
+            }
+            slot = this.membersHighWater++;
+        }
+
+        cells.entityId = entityId;
+        cells.slot = slot;
+        this.members[slot] = cells;
+    }
+
+    private void requireBuffer(int[] buf) {
+        if (buf == null || buf.length < maxCellsPerBody)
+            throw new IllegalArgumentException(
+                    "idxsBuffer length must be >= maxCellsPerBody (" + maxCellsPerBody + ")");
+    }
+
+    private void runChunks(ForkJoinPool pool, int chunkCount, boolean scatter) {
+        if (chunkCount == 1 || pool == null) {
+            for (int k = 0; k < chunkCount; k++) {
+                this.chunks[k].run(scatter);
+            }
+            return;
+        }
+
+        ChunkTask[] tasks = new ChunkTask[chunkCount];
+        for (int k = 0; k < chunkCount; k++) {
+            tasks[k] = new ChunkTask(this.chunks[k], scatter);
+        }
+
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+    }
+
+    private boolean sameCells(Cells cells, int newCount, int[] newCellIdxs) {
+        if (cells.count != newCount)
+            return false;
+
+        for (int i = 0; i < newCount; i++) {
+            if (cells.idxs[i] != newCellIdxs[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private synchronized void unregister(Cells cells) {
+        final int slot = cells.slot;
+        if (slot < 0) {
+            return;
+        }
+
+        this.members[slot] = null;
+        cells.slot = -1;
+
+        if (this.freeSlotCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeSlots.length * 2);
+        }
+        this.freeSlots[this.freeSlotCount++] = slot;
+    }
+
+    // *** PRIVATE STATIC ***
+
+    /**
+     * Published broad-phase layout. Array lengths never change for a given
+     * instance, so a reader holding one can always index it safely.
+     */
+    private static final class Layout {
+        private final int[] cellStart;
+        private final int[] ids;
+
+        private Layout(int totalCells, int idsCapacity) {
+            this.cellStart = new int[totalCells + 1];
+            this.ids = new int[idsCapacity];
+        }
+    }
+
+    /**
+     * Range of member slots handled by one rebuild worker: its histogram and
+     * the snapshot of (cell, id) pairs it staged in pass 1.
+     */
+    private static final class Chunk {
+        private final int[] counts;
+        private int[] stagedCells = new int[INITIAL_MEMBER_CAPACITY];
+        private int[] stagedIds = new int[INITIAL_MEMBER_CAPACITY];
+        private int staged;
+
+        private Cells[] members;
+        private int from;
+        private int to;
+        private int[] target;
+
+        private Chunk(int totalCells) {
+            this.counts = new int[totalCells];
+        }
+
+        private void reset(Cells[] members, int from, int to) {
+            this.members = members;
+            this.from = from;
+            this.to = to;
+            this.staged = 0;
+            this.target = null;
+            Arrays.fill(this.counts, 0);
+        }
+
+        private void run(boolean scatter) {
+            if (scatter) {
+                this.scatter();
+            } else {
+                this.stage();
+            }
+        }
+
+        private void scatter() {
+            final int[] ids = this.target;
+            for (int i = 0; i < this.staged; i++) {
+                ids[this.counts[this.stagedCells[i]]++] = this.stagedIds[i];
+            }
+            this.members = null;
+            this.target = null;
+        }
+
+        private void stage() {
+            for (int slot = this.from; slot < this.to; slot++) {
+                final Cells cells = this.members[slot];
+                if (cells == null) {
+                    continue;
+                }
+
+                final int id = cells.entityId;
+                final int count = Math.min(cells.count, cells.idxs.length);
+                if (this.staged + count > this.stagedIds.length) {
+                    final int capacity = Math.max(this.staged + count, this.stagedIds.length * 2);
+                    this.stagedCells = Arrays.copyOf(this.stagedCells, capacity);
+                    this.stagedIds = Arrays.copyOf(this.stagedIds, capacity);
+                }
+
+                for (int i = 0; i < count; i++) {
+                    final int cellIdx = cells.idxs[i];
+                    this.stagedCells[this.staged] = cellIdx;
+                    this.stagedIds[this.staged] = id;
+                    this.staged++;
+                    this.counts[cellIdx]++;
+                }
+            }
+        }
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private final Chunk chunk;
+        private final boolean scatter;
+
+        private ChunkTask(Chunk chunk, boolean scatter) {
+            this.chunk = chunk;
+            this.scatter = scatter;
+        }
+
+        @Override
+        protected void compute() {
+            this.chunk.run(this.scatter);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package engine.utils.spatial.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
+import engine.utils.spatial.ports.SpatialIndex;
+
+/**
+ * HierarchicalSpatialGrid (LOOSE GRID MULTINIVEL)
+ *
+ * Varios grids superpuestos: el nivel L tiene celdas de baseCellSize << L,
+ * hasta que una celda cubre el mundo entero (último nivel = 1 celda).
+ *
+ * Cada entidad vive en UN solo bucket:
+ * - Nivel = el más pequeño cuyo tamaño de celda >= extensión del AABB.
+ * - Celda = la que contiene el centro del AABB.
+ * Por eso un planeta enorme se inserta en un bucket del nivel alto, no en
+ * cientos de celdas del nivel 0, y el buffer de membresía (Cells) y el
+ * scratch de cada body tienen tamaño 1 (getMaxCellsPerBody() == 1).
+ *
+ * Celdas "loose": una entidad de la celda k del nivel L (tamaño s) con
+ * semi-extensión h tiene su AABB dentro de [k*s - h, (k+1)*s + h], h <= s/2.
+ * Cada nivel guarda la mayor h insertada (máximo monótono, conservador) y
+ * una query con AABB Q recorre las celdas de [Q.min - hMax, Q.max + hMax];
+ * solo los niveles con alguna entidad (population > 0).
+ *
+ * Cada bucket (AabbBucket) guarda el AABB de sus entidades: la query solo
+ * devuelve las que solapan Q, así que la holgura de las celdas no infla la
+ * lista de candidatos. A cambio, cada upsert refresca el AABB en su bucket
+ * aunque la entidad no cambie de celda.
+ *
+ * Nota:
+ * - queryCollisionCandidates no devuelve duplicados (un bucket por entidad)
+ * y solo devuelve entidades cuyo AABB solapa.
+ * - Un body pequeño recorre pocas celdas en cada nivel; un body enorme que
+ * consulta recorre muchas celdas de los niveles bajos (los planetas no
+ * consultan: no son fuente de eventos de colisión).
+ */
+public final class HierarchicalSpatialGrid implements SpatialIndex {
+
+    // region Constants
+    private static final int LEVEL_SHIFT = 26; // key = level << 26 | cellIdx
+    private static final int CELL_IDX_MASK = (1 << LEVEL_SHIFT) - 1;
+    private static final int MAX_LEVELS = 16;
+    // endregion
+
+    // region Fields
+    private final double baseCellSize;
+    private final int levelCount;
+    private final double[] levelCellSize;
+    private final double[] levelInvCellSize;
+    private final int[] levelCellsX;
+    private final int[] levelCellsY;
+    private final AabbBucket[][] levels;
+    private final AtomicIntegerArray levelPopulation;
+    private final AtomicLongArray levelMaxHalfExtent; // double bits
+    // endregion
+
+    // region Constructors
+    public HierarchicalSpatialGrid(double worldWidth, double worldHeight, int baseCellSize) {
+        if (baseCellSize <= 0)
+            throw new IllegalArgumentException("cellSizePx must be > 0");
+        if (worldWidth <= 0 || worldHeight <= 0)
+            throw new IllegalArgumentException("world size must be > 0");
+
+        this.baseCellSize = baseCellSize;
+
+        // Levels until one cell covers the whole world
+        final double worldMax = Math.max(worldWidth, worldHeight);
+        int count = 1;
+        while (count < MAX_LEVELS && ((double) baseCellSize * (1L << (count - 1))) < worldMax) {
+            count++;
+        }
+        this.levelCount = count;
+
+        this.levelCellSize = new double[count];
+        this.levelInvCellSize = new double[count];
+        this.levelCellsX = new int[count];
+        this.levelCellsY = new int[count];
+        this.levels = new AabbBucket[count][];
+        this.levelPopulation = new AtomicIntegerArray(count);
+        this.levelMaxHalfExtent = new AtomicLongArray(count);
+
+        for (int level = 0; level < count; level++) {
+            final double size = (double) baseCellSize * (1L << level);
+            this.levelCellSize[level] = size;
+            this.levelInvCellSize[level] = 1.0d / size;
+            this.levelCellsX[level] = (int) Math.ceil(worldWidth / size);
+            this.levelCellsY[level] = (int) Math.ceil(worldHeight / size);
+
+            final int total = this.levelCellsX[level] * this.levelCellsY[level];
+            if (total > CELL_IDX_MASK) {
+                throw new IllegalArgumentException(
+                        "world too large for HierarchicalSpatialGrid: " + total + " cells at level " + level);
+            }
+
+            this.levels[level] = new AabbBucket[total];
+            for (int i = 0; i < total; i++) {
+                this.levels[level][i] = new AabbBucket();
+            }
+        }
+    }
+    // endregion
+
+    // *** PUBLIC ***
+
+    // region getters (get***)
+    @Override
+    public double getCellSize() {
+        return this.baseCellSize;
+    }
+
+    public int getLevelCount() {
+        return this.levelCount;
+    }
+
+    /**
+     * Each entity occupies exactly one bucket.
+     */
+    @Override
+    public int getMaxCellsPerBody() {
+        return 1;
+    }
+
+    /**
+     * Same metrics as SpatialGrid.getStatistics(), aggregated over every
+     * level. cellsX / cellsY describe level 0.
+     */
+    @Override
+    public SpatialGridStatisticsDTO getStatistics() {
+        int nonEmptyBuckets = 0;
+        int emptyBuckets = 0;
+        int maxBucketKeys = 0;
+        long totalKeys = 0;
+        long sumPairs = 0;
+
+        for (AabbBucket[] level : this.levels) {
+            for (AabbBucket bucket : level) {
+                final int bucketSize = bucket.size();
+                if (bucketSize <= 0) {
+                    emptyBuckets++;
+                    continue;
+                }
+
+                nonEmptyBuckets++;
+                totalKeys += bucketSize;
+                if (bucketSize > maxBucketKeys)
+                    maxBucketKeys = bucketSize;
+
+                sumPairs += (long) bucketSize * (bucketSize - 1) / 2;
+            }
+        }
+
+        final double avgKeysPerBucketNotEmpty = (nonEmptyBuckets == 0) ? 0.0
+                : ((double) totalKeys / (double) nonEmptyBuckets);
+
+        return new SpatialGridStatisticsDTO(
+                nonEmptyBuckets, emptyBuckets, avgKeysPerBucketNotEmpty, maxBucketKeys, sumPairs,
+                baseCellSize, levelCellsX[0], levelCellsY[0], 1);
+    }
+    // endregion
+
+    @Override
+    public boolean isRebuiltPerTick() {
+        return false;
+    }
+
+    @Override
+    public Cells newCells() {
+        return new Cells(1);
+    }
+
+    // region queries (query***)
+    /**
+     * Collision candidates for the entity's last upserted AABB, walking every
+     * populated level. No duplicates; only AABB-overlapping entities.
+     */
+    @Override
+    public IntArrayList queryCollisionCandidates(int entityId, Cells cells, IntArrayList scratchCandidateIds) {
+        if (cells == null || cells.count <= 0)
+            return null;
+
+        scratchCandidateIds.clear();
+        this.collect(cells.minX, cells.maxX, cells.minY, cells.maxY, scratchCandidateIds, entityId);
+        return scratchCandidateIds;
+    }
+
+    /**
+     * Entities whose AABB overlaps the region. scratchIdxs is not used
+     * (no cell list is materialized) but is validated for contract parity.
+     */
+    @Override
+    public IntArrayList queryRegion(
+            double minX, double maxX, double minY, double maxY,
+            int[] scratchIdxs, IntArrayList scratchCandidates) {
+
+        if (scratchIdxs == null)
+            throw new IllegalArgumentException("idxsBuffer length must be >= maxCellsPerBody (1)");
+
+        scratchCandidates.clear();
+        this.collect(minX, maxX, minY, maxY, scratchCandidates, -1);
+        return scratchCandidates;
+    }
+    // endregion
+
+    @Override
+    public void rebuild(ForkJoinPool pool) {
+        // Incremental index: buckets are always up to date
+    }
+
+    @Override
+    public void remove(int entityId, Cells cells) {
+        if (cells == null || cells.count <= 0)
+            return;
+
+        final int key = cells.idxs[0];
+        final int level = key >>> LEVEL_SHIFT;
+        this.levels[level][key & CELL_IDX_MASK].remove(entityId);
+        this.levelPopulation.decrementAndGet(level);
+        cells.count = 0;
+    }
+
+    /**
+     * Move the entity to the bucket matching its AABB (level by extent, cell
+     * by center), or refresh its AABB if the bucket is unchanged. Touches at
+     * most two buckets. Assumes no two threads upsert
+     * the same entity at the same time.
+     */
+    @Override
+    public void upsert(
+            int entityId, Cells cells,
+            double minX, double maxX, double minY, double maxY, int[] scratchIdxs) {
+
+        if (cells == null) {
+            throw new IllegalArgumentException("upsert: cells is null");
+        }
+        if (scratchIdxs == null || scratchIdxs.length < 1) {
+            throw new IllegalArgumentException("idxsBuffer length must be >= maxCellsPerBody (1)");
+        }
+
+        cells.minX = minX;
+        cells.maxX = maxX;
+        cells.minY = minY;
+        cells.maxY = maxY;
+
+        final double extent = Math.max(maxX - minX, maxY - minY);
+        final int level = this.levelFor(extent);
+        this.raiseMaxHalfExtent(level, extent * 0.5d);
+        final double inv = this.levelInvCellSize[level];
+        final int cx = clamp0ToHi((int) ((minX + maxX) * 0.5d * inv), this.levelCellsX[level] - 1);
+        final int cy = clamp0ToHi((int) ((minY + maxY) * 0.5d * inv), this.levelCellsY[level] - 1);
+        final int newKey = (level << LEVEL_SHIFT) | (cy * this.levelCellsX[level] + cx);
+
+        if (cells.count == 1) {
+            final int oldKey = cells.idxs[0];
+            if (oldKey == newKey) {
+                this.levels[level][newKey & CELL_IDX_MASK].update(entityId, minX, maxX, minY, maxY);
+                return;
+            }
+
+            final int oldLevel = oldKey >>> LEVEL_SHIFT;
+            this.levels[oldLevel][oldKey & CELL_IDX_MASK].remove(entityId);
+            this.levelPopulation.decrementAndGet(oldLevel);
+        }
+
+        this.levels[level][newKey & CELL_IDX_MASK].add(entityId, minX, maxX, minY, maxY);
+        this.levelPopulation.incrementAndGet(level);
+
+        scratchIdxs[0] = newKey;
+        cells.updateFrom(scratchIdxs, 1);
+    }
+
+    // *** PRIVATE ***
+
+    private void collect(double minX, double maxX, double minY, double maxY, IntArrayList out, int excludeId) {
+        for (int level = 0; level < this.levelCount; level++) {
+            if (this.levelPopulation.get(level) <= 0) {
+                continue; // Level not in use
+            }
+
+            final double half = Double.longBitsToDouble(this.levelMaxHalfExtent.get(level));
+            final double inv = this.levelInvCellSize[level];
+            final int cellsX = this.levelCellsX[level];
+            final int hiX = cellsX - 1;
+            final int hiY = this.levelCellsY[level] - 1;
+
+            // Truncation == floor here: negative values clamp to 0 anyway
+            final int minCx = clamp0ToHi((int) ((minX - half) * inv), hiX);
+            final int maxCx = clamp0ToHi((int) ((maxX + half) * inv), hiX);
+            final int minCy = clamp0ToHi((int) ((minY - half) * inv), hiY);
+            final int maxCy = clamp0ToHi((int) ((maxY + half) * inv), hiY);
+
+            final AabbBucket[] buckets = this.levels[level];
+            for (int cy = minCy; cy <= maxCy; cy++) {
+                final int row = cy * cellsX;
+                for (int cx = minCx; cx <= maxCx; cx++) {
+                    final AabbBucket bucket = buckets[row + cx];
+                    if (!bucket.isEmptyRelaxed()) {
+                        bucket.copyOverlapping(out, excludeId, minX, maxX, minY, maxY);
+                    }
+                }
+            }
+        }
+    }
+
+    private int levelFor(double extent) {
+        int level = 0;
+        while (level < this.levelCount - 1 && this.levelCellSize[level] < extent) {
+            level++;
+        }
+        return level;
+    }
+
+    private void raiseMaxHalfExtent(int level, double halfExtent) {
+        long current = this.levelMaxHalfExtent.get(level);
+        while (Double.longBitsToDouble(current) < halfExtent) {
+            if (this.levelMaxHalfExtent.compareAndSet(level, current, Double.doubleToLongBits(halfExtent))) {
+                return;
+            }
+            current = this.levelMaxHalfExtent.get(level);
+        }
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static int clamp0ToHi(int value, int highLimit) {
+        return (value < 0) ? 0 : (value > highLimit) ? highLimit : value;
+    }
+}
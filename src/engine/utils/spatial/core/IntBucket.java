@@ -0,0 +1,57 @@
+package engine.utils.spatial.core;
+
+import java.util.Arrays;
+
+import engine.utils.helpers.IntArrayList;
+
+/**
+ * Set of entity ids stored in one grid cell.
+ *
+ * Backed by a small int array (unordered, swap-remove). Cells hold a handful
+ * of ids, so a linear scan is cheaper than hashing. Each bucket is guarded
+ * by its own monitor: contention is limited to bodies sharing a cell.
+ */
+final class IntBucket {
+
+    // region Constants
+    private static final int INITIAL_CAPACITY = 8;
+    // endregion
+
+    // region Fields
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int count = 0;
+    // endregion
+
+    // *** PUBLIC ***
+
+    synchronized void add(int id) {
+        if (this.count == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, this.ids.length * 2);
+        }
+        this.ids[this.count++] = id;
+    }
+
+    /**
+     * Append every id except excludeId to out.
+     */
+    synchronized void copyTo(IntArrayList out, int excludeId) {
+        for (int i = 0; i < this.count; i++) {
+            if (this.ids[i] != excludeId) {
+                out.add(this.ids[i]);
+            }
+        }
+    }
+
+    synchronized void remove(int id) {
+        for (int i = 0; i < this.count; i++) {
+            if (this.ids[i] == id) {
+                this.ids[i] = this.ids[--this.count];
+                return;
+            }
+        }
+    }
+
+    synchronized int size() {
+        return this.count;
+    }
+}
@@ -0,0 +1,360 @@
+package engine.utils.spatial.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.ports.Broadphase;
+
+/**
+ * SortAndSweepBroadphase (SORT AND SWEEP EN EL EJE X + COHERENCIA TEMPORAL)
+ *
+ * Sin celdas: todas las entidades se ordenan por minX de su AABB y una query
+ * solo recorre el tramo de la lista cuyo minX cae en
+ * [Q.minX - maxWidth, Q.maxX], donde maxWidth es el mayor ancho publicado.
+ * Dentro del tramo se filtra por solape exacto en X e Y.
+ *
+ * Estructuras:
+ * - members[slot] = Cells registrado (AABB "staged" de cada entidad).
+ * - order = Cells en el orden del último rebuild (persistente entre ticks).
+ * - Layout = { ids, minX, maxX, minY, maxY } ordenado por minX, publicado
+ * por el último rebuild.
+ *
+ * Ciclo por tick:
+ * 1) upsert/remove solo actualizan el AABB en Cells -> sin locks salvo
+ * alta/baja de entidades.
+ * 2) rebuild() quita de order las entidades dadas de baja, añade las nuevas
+ * al final y reordena con insertion sort. Entre ticks los bodies apenas se
+ * mueven, así que el orden anterior ya está casi ordenado y el coste es
+ * O(n + intercambios) en lugar de O(n log n).
+ * 3) Las queries hacen búsqueda binaria + barrido secuencial sobre el Layout
+ * publicado: sin locks y sin allocations.
+ *
+ * Nota:
+ * - Funciona mejor con tamaños parecidos: un solo body muy ancho hace crecer
+ * maxWidth y alarga el barrido de todas las queries.
+ * - Mundos densos alineados en X (muchos bodies en la misma columna) degradan
+ * el barrido; ahí un grid es mejor.
+ * - Igual que FlatSpatialGrid: double buffer, las queries ven las posiciones
+ * del último rebuild y nunca salen de los arrays.
+ */
+public final class SortAndSweepBroadphase implements Broadphase {
+
+    // region Constants
+    private static final int INITIAL_MEMBER_CAPACITY = 1024;
+    // endregion
+
+    // region Fields
+    // Staged memberships (guarded by this)
+    private Cells[] members = new Cells[INITIAL_MEMBER_CAPACITY];
+    private int membersHighWater = 0;
+    private int[] freeSlots = new int[INITIAL_MEMBER_CAPACITY];
+    private int freeSlotCount = 0;
+    private volatile boolean dirty = false;
+
+    // Rebuild state (guarded by rebuildLock)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Cells[] order = new Cells[INITIAL_MEMBER_CAPACITY];
+    private double[] orderMinX = new double[INITIAL_MEMBER_CAPACITY];
+    private int orderCount = 0;
+    private Layout back = new Layout(INITIAL_MEMBER_CAPACITY);
+    private volatile Layout front = new Layout(INITIAL_MEMBER_CAPACITY);
+    // endregion
+
+    // *** PUBLIC ***
+
+    // region getters (get***)
+    @Override
+    public int getMaxCellsPerBody() {
+        return 1;
+    }
+    // endregion
+
+    @Override
+    public boolean isRebuiltPerTick() {
+        return true;
+    }
+
+    @Override
+    public Cells newCells() {
+        return new Cells(1);
+    }
+
+    // region queries (query***)
+    /**
+     * Entities whose published AABB overlaps the entity's staged AABB.
+     *
+     * @return the candidates (possibly empty, no duplicates) or null if the
+     *         entity is not registered
+     */
+    @Override
+    public IntArrayList queryCollisionCandidates(int entityId, Cells cells, IntArrayList scratchCandidateIds) {
+        if (cells == null || cells.slot < 0)
+            return null;
+
+        scratchCandidateIds.clear();
+        this.sweep(cells.minX, cells.maxX, cells.minY, cells.maxY, scratchCandidateIds, entityId);
+
+        return scratchCandidateIds;
+    }
+
+    @Override
+    public IntArrayList queryRegion(
+            double minX, double maxX, double minY, double maxY,
+            int[] scratchIdxs, IntArrayList scratchCandidates) {
+
+        scratchCandidates.clear();
+        this.sweep(minX, maxX, minY, maxY, scratchCandidates, -1);
+
+        return scratchCandidates;
+    }
+    // endregion
+
+    /**
+     * Refresh the sweep order with the staged AABBs and publish a new layout.
+     * Single threaded (insertion sort is sequential); the pool is ignored.
+     *
+     * Only one rebuild runs at a time; concurrent calls are skipped.
+     */
+    @Override
+    public void rebuild(ForkJoinPool pool) {
+        if (!this.dirty) {
+            return; // ===== Nothing moved since last rebuild =====>
+        }
+
+        if (!this.rebuildLock.tryLock()) {
+            return; // ===== Another thread is rebuilding =====>
+        }
+
+        try {
+            this.dirty = false;
+
+            final Cells[] snapshotMembers;
+            final int snapshotCount;
+            synchronized (this) {
+                snapshotMembers = this.members;
+                snapshotCount = this.membersHighWater;
+            }
+
+            // Drop unregistered entities, keeping the previous relative order
+            int kept = 0;
+            for (int i = 0; i < this.orderCount; i++) {
+                final Cells cells = this.order[i];
+                if (cells.slot < 0) {
+                    cells.proxy = -1;
+                    continue;
+                }
+                this.order[kept] = cells;
+                this.orderMinX[kept] = cells.minX;
+                kept++;
+            }
+            Arrays.fill(this.order, kept, this.orderCount, null);
+            this.orderCount = kept;
+
+            // Append new entities
+            for (int slot = 0; slot < snapshotCount; slot++) {
+                final Cells cells = snapshotMembers[slot];
+                if (cells == null || cells.proxy >= 0) {
+                    continue;
+                }
+                this.ensureOrderCapacity(this.orderCount + 1);
+                cells.proxy = 0;
+                this.order[this.orderCount] = cells;
+                this.orderMinX[this.orderCount] = cells.minX;
+                this.orderCount++;
+            }
+
+            this.insertionSort();
+
+            // Publish
+            Layout layout = this.back;
+            if (layout.ids.length < this.orderCount) {
+                layout = new Layout(Math.max(this.orderCount, layout.ids.length * 2));
+            }
+
+            double maxWidth = 0.0d;
+            for (int i = 0; i < this.orderCount; i++) {
+                final Cells cells = this.order[i];
+                final double minX = this.orderMinX[i]; // sort key, must not be re-read
+                final double maxX = Math.max(minX, cells.maxX);
+                layout.ids[i] = cells.entityId;
+                layout.minX[i] = minX;
+                layout.maxX[i] = maxX;
+                layout.minY[i] = cells.minY;
+                layout.maxY[i] = cells.maxY;
+                if (maxX - minX > maxWidth) {
+                    maxWidth = maxX - minX;
+                }
+            }
+            layout.count = this.orderCount;
+            layout.maxWidth = maxWidth;
+
+            this.back = this.front;
+            this.front = layout;
+        } finally {
+            this.rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the entity. Its id disappears from queries after the next
+     * rebuild.
+     */
+    @Override
+    public void remove(int entityId, Cells cells) {
+        if (cells == null)
+            return;
+
+        this.unregister(cells);
+        this.dirty = true;
+    }
+
+    /**
+     * Stage the entity's AABB. Registers the entity on first call. Assumes no
+     * two threads upsert the same entity at the same time.
+     */
+    @Override
+    public void upsert(
+            int entityId, Cells cells,
+            double minX, double maxX, double minY, double maxY, int[] scratchIdxs) {
+
+        if (cells == null) {
+            throw new IllegalArgumentException("upsert: cells is null");
+        }
+
+        if (cells.slot >= 0 && cells.minX == minX && cells.maxX == maxX
+                && cells.minY == minY && cells.maxY == maxY) {
+            return; // ===== Not moved =====>
+        }
+
+        cells.minX = minX;
+        cells.maxX = maxX;
+        cells.minY = minY;
+        cells.maxY = maxY;
+
+        if (cells.slot < 0) {
+            this.register(entityId, cells);
+        }
+        this.dirty = true;
+    }
+
+    // *** PRIVATE ***
+
+    private void ensureOrderCapacity(int capacity) {
+        if (this.order.length >= capacity) {
+            return;
+        }
+
+        final int grown = Math.max(capacity, this.order.length * 2);
+        this.order = Arrays.copyOf(this.order, grown);
+        this.orderMinX = Arrays.copyOf(this.orderMinX, grown);
+    }
+
+    /**
+     * Stable insertion sort of order by minX. Near linear when the order of
+     * the previous tick is almost sorted.
+     */
+    private void insertionSort() {
+        final Cells[] cellsOrder = this.order;
+        final double[] keys = this.orderMinX;
+
+        for (int i = 1; i < this.orderCount; i++) {
+            final double key = keys[i];
+            if (keys[i - 1] <= key) {
+                continue;
+            }
+
+            final Cells cells = cellsOrder[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                cellsOrder[j + 1] = cellsOrder[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            cellsOrder[j + 1] = cells;
+        }
+    }
+
+    private synchronized void register(int entityId, Cells cells) {
+        final int slot;
+        if (this.freeSlotCount > 0) {
+            slot = this.freeSlots[--this.freeSlotCount];
+        } else {
+            if (this.membersHighWater == this.members.length) {
+                // New array: a rebuild in progress keeps reading its snapshot
+                this.members = Arrays.copyOf(this.members, this.members.length * 2);
+            }
+            slot = this.membersHighWater++;
+        }
+
+        cells.entityId = entityId;
+        cells.slot = slot;
+        this.members[slot] = cells;
+    }
+
+    private void sweep(double minX, double maxX, double minY, double maxY, IntArrayList out, int excludeId) {
+        final Layout layout = this.front;
+        final int count = Math.min(layout.count, layout.ids.length);
+
+        // First entry whose minX >= minX - maxWidth (earlier ones end before minX)
+        final double from = minX - layout.maxWidth;
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (layout.minX[mid] < from) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        for (int i = lo; i < count && layout.minX[i] <= maxX; i++) {
+            if (layout.maxX[i] >= minX && layout.minY[i] <= maxY && layout.maxY[i] >= minY
+                    && layout.ids[i] != excludeId) {
+                out.add(layout.ids[i]);
+            }
+        }
+    }
+
+    private synchronized void unregister(Cells cells) {
+        final int slot = cells.slot;
+        if (slot < 0) {
+            return;
+        }
+
+        this.members[slot] = null;
+        cells.slot = -1;
+
+        if (this.freeSlotCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeSlots.length * 2);
+        }
+        this.freeSlots[this.freeSlotCount++] = slot;
+    }
+
+    // *** PRIVATE STATIC ***
+
+    /**
+     * Published sweep list sorted by minX. Array lengths never change for a
+     * given instance, so a reader holding one can always index it safely.
+     */
+    private static final class Layout {
+        private final int[] ids;
+        private final double[] minX;
+        private final double[] maxX;
+        private final double[] minY;
+        private final double[] maxY;
+        private int count;
+        private double maxWidth;
+
+        private Layout(int capacity) {
+            this.ids = new int[capacity];
+            this.minX = new double[capacity];
+            this.maxX = new double[capacity];
+            this.minY = new double[capacity];
+            this.maxY = new double[capacity];
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package engine.utils.spatial.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
+import engine.utils.spatial.ports.SpatialIndex;
+
+/**
+ * SparseSpatialGrid (SPATIAL HASH + CELDAS BAJO DEMANDA)
+ *
+ * Mismo contrato incremental que SpatialGrid, pero sin preasignar
+ * cellsX * cellsY buckets: solo existen las celdas ocupadas. La memoria
+ * escala con el número de bodies, no con el área del mundo.
+ *
+ * Estructuras:
+ * - Clave de celda = (cy, cx) empaquetado en un int:
+ * cy * 65536 + (cx + 32768). El orden de las claves es el de fila/columna,
+ * así que las listas de celdas salen ordenadas (merge diff en upsert).
+ * - STRIPE_COUNT stripes, cada uno con su tabla open addressing
+ * clave -> IntBucket y su propio monitor. Una celda siempre cae en el
+ * mismo stripe.
+ * - Un bucket que se queda vacío se quita de la tabla y vuelve al pool de
+ * su stripe para reutilizarse en la siguiente celda nueva.
+ *
+ * Límites:
+ * - Coordenadas de celda en [-32768, 32767] por eje (±4M px con celdas de
+ * 128). Fuera de ese rango se hace clamp: el mundo puede no tener bordes.
+ */
+public final class SparseSpatialGrid implements SpatialIndex {
+
+    // region Constants
+    private static final int CELL_COORD_MIN = -32768;
+    private static final int CELL_COORD_MAX = 32767;
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPE_COUNT = 1 << STRIPE_BITS;
+    // endregion
+
+    // region Fields
+    private final double cellSize;
+    private final double invCellSize;
+    private final int maxCellsPerBody;
+    private final double worldWidth;
+    private final double worldHeight;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    // endregion
+
+    // region Constructors
+    /**
+     * World size is informative (statistics): cells outside it are valid.
+     */
+    public SparseSpatialGrid(double worldWidth, double worldHeight, int cellSize, int maxCellsPerBody) {
+        if (cellSize <= 0)
+            throw new IllegalArgumentException("cellSizePx must be > 0");
+        if (worldWidth <= 0 || worldHeight <= 0)
+            throw new IllegalArgumentException("world size must be > 0");
+        if (maxCellsPerBody <= 0)
+            throw new IllegalArgumentException("maxCellsPerBody must be > 0");
+
+        this.cellSize = cellSize;
+        this.invCellSize = 1.0d / cellSize;
+        this.maxCellsPerBody = maxCellsPerBody;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+    // endregion
+
+    // *** PUBLIC ***
+
+    // region getters (get***)
+    @Override
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    @Override
+    public int getMaxCellsPerBody() {
+        return this.maxCellsPerBody;
+    }
+
+    /**
+     * Same metrics as SpatialGrid.getStatistics(). Only occupied cells are
+     * scanned; empty cells are derived from the nominal world size.
+     */
+    @Override
+    public SpatialGridStatisticsDTO getStatistics() {
+        int nonEmptyBuckets = 0;
+        int maxBucketKeys = 0;
+        long totalKeys = 0;
+        long sumPairs = 0;
+
+        for (Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                for (IntBucket bucket : stripe.buckets) {
+                    if (bucket == null) {
+                        continue;
+                    }
+
+                    final int bucketSize = bucket.size();
+                    nonEmptyBuckets++;
+                    totalKeys += bucketSize;
+                    if (bucketSize > maxBucketKeys)
+                        maxBucketKeys = bucketSize;
+
+                    sumPairs += (long) bucketSize * (bucketSize - 1) / 2;
+                }
+            }
+        }
+
+        final int cellsX = (int) Math.ceil(this.worldWidth * this.invCellSize);
+        final int cellsY = (int) Math.ceil(this.worldHeight * this.invCellSize);
+        final long nominalCells = (long) cellsX * cellsY;
+        final int emptyBuckets = (int) Math.min(Integer.MAX_VALUE, Math.max(0L, nominalCells - nonEmptyBuckets));
+
+        final double avgKeysPerBucketNotEmpty = (nonEmptyBuckets == 0) ? 0.0
+                : ((double) totalKeys / (double) nonEmptyBuckets);
+
+        return new SpatialGridStatisticsDTO(
+                nonEmptyBuckets, emptyBuckets, avgKeysPerBucketNotEmpty, maxBucketKeys, sumPairs,
+                cellSize, cellsX, cellsY, maxCellsPerBody);
+    }
+
+    /**
+     * Number of materialized (occupied) cells.
+     */
+    public int getOccupiedCellCount() {
+        int total = 0;
+        for (Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                total += stripe.size;
+            }
+        }
+        return total;
+    }
+    // endregion
+
+    @Override
+    public boolean isRebuiltPerTick() {
+        return false;
+    }
+
+    @Override
+    public Cells newCells() {
+        return new Cells(this.maxCellsPerBody);
+    }
+
+    // region queries (query***)
+    @Override
+    public IntArrayList queryCollisionCandidates(int entityId, Cells cells, IntArrayList scratchCandidateIds) {
+        if (cells == null || cells.count <= 0)
+            return null;
+
+        scratchCandidateIds.clear();
+        for (int i = 0; i < cells.count; i++) {
+            final int key = cells.idxs[i];
+            this.stripeOf(key).copyTo(key, scratchCandidateIds, entityId);
+        }
+
+        return scratchCandidateIds;
+    }
+
+    @Override
+    public IntArrayList queryRegion(
+            double minX, double maxX, double minY, double maxY,
+            int[] scratchIdxs, IntArrayList scratchCandidates) {
+
+        this.requireBuffer(scratchIdxs);
+        scratchCandidates.clear();
+
+        final int cellCount = this.computeCellKeys(minX, maxX, minY, maxY, scratchIdxs);
+        for (int i = 0; i < cellCount; i++) {
+            final int key = scratchIdxs[i];
+            this.stripeOf(key).copyTo(key, scratchCandidates, -1);
+        }
+
+        return scratchCandidates;
+    }
+    // endregion
+
+    @Override
+    public void rebuild(ForkJoinPool pool) {
+        // Incremental index: buckets are always up to date
+    }
+
+    @Override
+    public void remove(int entityId, Cells cells) {
+        if (cells == null)
+            return;
+
+        for (int i = 0; i < cells.count; i++) {
+            final int key = cells.idxs[i];
+            this.stripeOf(key).remove(key, entityId);
+        }
+        cells.count = 0;
+    }
+
+    /**
+     * Same semantics as SpatialGrid.upsert(): only the cells entered/left are
+     * touched (merge diff over the sorted old/new key lists).
+     */
+    @Override
+    public void upsert(
+            int entityId, Cells cells,
+            double minX, double maxX, double minY, double maxY, int[] scratchIdxs) {
+
+        this.requireBuffer(scratchIdxs);
+
+        if (cells == null) {
+            throw new IllegalArgumentException("upsert: cells is null");
+        }
+
+        final int[] newKeys = scratchIdxs;
+        final int newCount = this.computeCellKeys(minX, maxX, minY, maxY, newKeys);
+        final int oldCount = cells.count;
+        final int[] oldKeys = cells.idxs;
+
+        int i = 0;
+        int j = 0;
+        boolean changed = false;
+        while (i < oldCount && j < newCount) {
+            final int oldKey = oldKeys[i];
+            final int newKey = newKeys[j];
+
+            if (oldKey == newKey) {
+                i++;
+                j++;
+            } else if (oldKey < newKey) {
+                this.stripeOf(oldKey).remove(oldKey, entityId);
+                changed = true;
+                i++;
+            } else {
+                this.stripeOf(newKey).add(newKey, entityId);
+                changed = true;
+                j++;
+            }
+        }
+
+        while (i < oldCount) {
+            this.stripeOf(oldKeys[i]).remove(oldKeys[i], entityId);
+            changed = true;
+            i++;
+        }
+
+        while (j < newCount) {
+            this.stripeOf(newKeys[j]).add(newKeys[j], entityId);
+            changed = true;
+            j++;
+        }
+
+        if (changed) {
+            cells.updateFrom(newKeys, newCount);
+        }
+    }
+
+    // *** PRIVATE ***
+
+    private int computeCellKeys(
+            double minX, double maxX, double minY, double maxY, int[] outKeys) {
+
+        final int minCx = clampCellCoord(Math.floor(minX * this.invCellSize));
+        final int maxCx = clampCellCoord(Math.floor(maxX * this.invCellSize));
+        final int minCy = clampCellCoord(Math.floor(minY * this.invCellSize));
+        final int maxCy = clampCellCoord(Math.floor(maxY * this.invCellSize));
+
+        final long cellCountNeeded = (long) (maxCx - minCx + 1) * (maxCy - minCy + 1);
+        if (cellCountNeeded > outKeys.length) {
+            throw new IllegalArgumentException(
+                    "Query region requires " + cellCountNeeded + " cells, but buffer only has " + outKeys.length);
+        }
+
+        // Row-major: keys come out ascending
+        int idx = 0;
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                outKeys[idx++] = cellKey(cx, cy);
+            }
+        }
+        return idx;
+    }
+
+    private void requireBuffer(int[] buf) {
+        if (buf == null || buf.length < maxCellsPerBody)
+            throw new IllegalArgumentException(
+                    "idxsBuffer length must be >= maxCellsPerBody (" + maxCellsPerBody + ")");
+    }
+
+    private Stripe stripeOf(int key) {
+        return this.stripes[hash(key) >>> (32 - STRIPE_BITS)];
+    }
+
+    // *** PRIVATE STATIC ***
+
+    private static int cellKey(int cx, int cy) {
+        return cy * 65536 + (cx - CELL_COORD_MIN);
+    }
+
+    private static int clampCellCoord(double value) {
+        return (value < CELL_COORD_MIN) ? CELL_COORD_MIN
+                : (value > CELL_COORD_MAX) ? CELL_COORD_MAX : (int) value;
+    }
+
+    private static int hash(int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Open addressing (linear probing) table cell key -> bucket, plus the
+     * pool of recycled buckets. All access under the stripe monitor.
+     */
+    private static final class Stripe {
+        private static final int INITIAL_CAPACITY = 64;
+        private static final int MAX_POOLED_BUCKETS = 64;
+
+        private int[] keys = new int[INITIAL_CAPACITY];
+        private IntBucket[] buckets = new IntBucket[INITIAL_CAPACITY];
+        private int size = 0;
+
+        private final IntBucket[] pool = new IntBucket[MAX_POOLED_BUCKETS];
+        private int pooled = 0;
+
+        synchronized void add(int key, int id) {
+            int slot = this.find(key);
+            if (slot < 0) {
+                if ((this.size + 1) * 2 > this.keys.length) {
+                    this.resize(this.keys.length * 2);
+                }
+                slot = this.insert(key, this.pooled > 0 ? this.pool[--this.pooled] : new IntBucket());
+            }
+            this.buckets[slot].add(id);
+        }
+
+        synchronized void copyTo(int key, IntArrayList out, int excludeId) {
+            final int slot = this.find(key);
+            if (slot >= 0) {
+                this.buckets[slot].copyTo(out, excludeId);
+            }
+        }
+
+        synchronized void remove(int key, int id) {
+            final int slot = this.find(key);
+            if (slot < 0) {
+                return;
+            }
+
+            final IntBucket bucket = this.buckets[slot];
+            bucket.remove(id);
+            if (bucket.size() == 0) {
+                this.delete(slot);
+                if (this.pooled < MAX_POOLED_BUCKETS) {
+                    this.pool[this.pooled++] = bucket;
+                }
+            }
+        }
+
+        private void delete(int slot) {
+            // Backward shift deletion: keeps probe chains intact without tombstones
+            final int mask = this.keys.length - 1;
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (this.buckets[next] != null) {
+                final int home = hash(this.keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    this.keys[hole] = this.keys[next];
+                    this.buckets[hole] = this.buckets[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            this.buckets[hole] = null;
+            this.size--;
+        }
+
+        private int find(int key) {
+            final int mask = this.keys.length - 1;
+            int slot = hash(key) & mask;
+            while (this.buckets[slot] != null) {
+                if (this.keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int insert(int key, IntBucket bucket) {
+            final int mask = this.keys.length - 1;
+            int slot = hash(key) & mask;
+            while (this.buckets[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            this.keys[slot] = key;
+            this.buckets[slot] = bucket;
+            this.size++;
+            return slot;
+        }
+
+        private void resize(int capacity) {
+            final int[] oldKeys = this.keys;
+            final IntBucket[] oldBuckets = this.buckets;
+
+            this.keys = new int[capacity];
+            this.buckets = new IntBucket[capacity];
+            this.size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldBuckets[i] != null) {
+                    this.insert(oldKeys[i], oldBuckets[i]);
+                }
+            }
+        }
+    }
+}
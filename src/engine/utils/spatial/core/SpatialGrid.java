@@ -1,9 +1,10 @@
 package engine.utils.spatial.core;
 
-import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
+import engine.utils.helpers.IntArrayList;
 import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
+import engine.utils.spatial.ports.SpatialIndex;
 
 /**
  * SpatialGrid (NEUTRAL + TOPOLOGÍA FIJA + PREALLOC)
@@ -11,14 +12,20 @@ import engine.utils.spatial.ports.SpatialGridStatisticsDTO;
  * El caller aporta un buffer temporal (scratchIdxs) reutilizable.
  *
  * Estructuras:
- * - grid[idx] = ConcurrentHashMap<String, Boolean> (set de ids en esa celda)
- * - idToMembership[id] = celdas actuales del id (para remove/move O(1))
+ * - grid[idx] = IntBucket (set de ids int en esa celda, sin hashing)
+ * - Cells = celdas actuales de cada entidad (para remove/move O(1)). La
+ * entidad es dueña de su Cells y lo pasa en cada llamada: no hay mapa
+ * id -> celdas.
+ *
+ * Índice incremental: cada upsert/remove modifica los buckets al momento y
+ * las queries lo ven enseguida (rebuild() no hace nada).
  *
  * Nota:
  * - queryCandidates puede devolver duplicados (si un body ocupa varias celdas).
- * Solución barata en colisiones: procesar solo si myId.compareTo(otherId) < 0.
+ * Solución barata en colisiones: ordenar + unique y procesar solo si
+ * myId < otherId.
  */
-public final class SpatialGrid {
+public final class SpatialGrid implements SpatialIndex {
 
     // region Fields
     private final double cellSize;
@@ -27,12 +34,10 @@ public final class SpatialGrid {
     private final int cellsY;
     private final int maxCellsPerBody;
 
-    private final ConcurrentHashMap<String, Boolean>[] grid;
-    private final ConcurrentHashMap<String, Cells> cellsPerEntity = new ConcurrentHashMap<>();
+    private final IntBucket[] grid;
     // endregion
 
     // region Constructors
-    @SuppressWarnings("unchecked")
     public SpatialGrid(double worldWidth, double worldHeight, int cellSize, int maxCellsPerBody) {
         if (cellSize <= 0)
             throw new IllegalArgumentException("cellSizePx must be > 0");
@@ -52,9 +57,9 @@ public final class SpatialGrid {
         final int total = this.cellsX * this.cellsY;
 
         // Prealloc buckets (arranque más caro, runtime estable)
-        this.grid = (ConcurrentHashMap<String, Boolean>[]) new ConcurrentHashMap[total];
+        this.grid = new IntBucket[total];
         for (int i = 0; i < total; i++) {
-            this.grid[i] = new ConcurrentHashMap<>(64);
+            this.grid[i] = new IntBucket();
         }
     }
     // endregion
@@ -62,10 +67,12 @@ public final class SpatialGrid {
     // *** PUBLIC ***
 
     // region getters (get***)
+    @Override
     public int getMaxCellsPerBody() {
         return maxCellsPerBody;
     }
 
+    @Override
     public double getCellSize() {
         return cellSize;
     }
@@ -100,6 +107,7 @@ public final class SpatialGrid {
      *         grid
      *         statistics
      */
+    @Override
     public SpatialGridStatisticsDTO getStatistics() {
         int nonEmptyBuckets = 0; // buckets with >=1 keys
         int emptyBuckets = 0; // buckets with 0 keys
@@ -107,7 +115,7 @@ public final class SpatialGrid {
         long totalKeys = 0; // total keys in all buckets
         long sumPairs = 0; // sum of nC2 for each bucket
 
-        for (ConcurrentHashMap<String, Boolean> bucket : grid) {
+        for (IntBucket bucket : grid) {
             final int bucketSize = bucket.size();
             if (bucketSize <= 0) {
                 emptyBuckets++;
@@ -131,24 +139,39 @@ public final class SpatialGrid {
     }
     // endregion
 
+    @Override
+    public boolean isRebuiltPerTick() {
+        return false;
+    }
+
+    /**
+     * Membership buffer for a new entity. The entity keeps it for its whole
+     * life and passes it to upsert/remove/queryCollisionCandidates.
+     */
+    @Override
+    public Cells newCells() {
+        return new Cells(this.maxCellsPerBody);
+    }
+
     /**
      * Update cells useds by entityId according to posX,posY and size.
      * - Caller provides a reusable scratchIdxs buffer.
+     * - Caller provides the entity's membership (oldEntityCells), obtained
+     * from newCells().
      * - Assumes no two threads are moving the same entityId at the same time.
      * - If the center is out of bounds, the entity is removed from the grid
      */
+    @Override
     public void upsert(
-            String entityId, double minX, double maxX, double minY, double maxY, int[] scratchIdxs) {
+            int entityId, Cells oldEntityCells,
+            double minX, double maxX, double minY, double maxY, int[] scratchIdxs) {
 
         this.requireBuffer(scratchIdxs);
 
-        if (entityId == null || entityId.isEmpty()) {
-            throw new IllegalArgumentException("upsert: entityId is null or empty");
+        if (oldEntityCells == null) {
+            throw new IllegalArgumentException("upsert: oldEntityCells is null");
         }
 
-        // Get old cells of entityId (from reverse mapping), or create new if not exists
-        final Cells oldEntityCells = this.cellsPerEntity.computeIfAbsent(entityId, __ -> new Cells(maxCellsPerBody));
-
         // Contract: newCellIdxs[0..newCount) are valid, rest is garbage
         // alias for semantic clarity: scratch used as "new cells"
         final int[] newCellIdxs = scratchIdxs;
@@ -180,20 +203,20 @@ public final class SpatialGrid {
         return true;
     }
 
-    private void upsertSmall(String entityId, int newCount, Cells oldEntityCells, int[] newCellIdxs) {
+    private void upsertSmall(int entityId, int newCount, Cells oldEntityCells, int[] newCellIdxs) {
         // Remove
         for (int i = 0; i < oldEntityCells.count; i++)
             grid[oldEntityCells.idxs[i]].remove(entityId);
 
         // Insert
         for (int i = 0; i < newCount; i++)
-            grid[newCellIdxs[i]].put(entityId, Boolean.TRUE);
+            grid[newCellIdxs[i]].add(entityId);
 
         // New are now old
         oldEntityCells.updateFrom(newCellIdxs, newCount);
     }
 
-    private void upsertLarge(String entityId, int newCount, Cells oldEntityCells, int[] newCellIdxs) {
+    private void upsertLarge(int entityId, int newCount, Cells oldEntityCells, int[] newCellIdxs) {
         // Linear merge diff O(k) instead of O(k²) contains checks
         // Both oldEntityCells.idxs and newCellIdxs are ordered by computeCellIdxsClamped
         // Traverse both in parallel:
@@ -220,7 +243,7 @@ public final class SpatialGrid {
                 i++;
             } else {
                 // Cell is in new but not in old → add
-                grid[newIdx].put(entityId, Boolean.TRUE);
+                grid[newIdx].add(entityId);
                 j++;
             }
         }
@@ -233,7 +256,7 @@ public final class SpatialGrid {
 
         // Add remaining new cells
         while (j < newCount) {
-            grid[newCellIdxs[j]].put(entityId, Boolean.TRUE);
+            grid[newCellIdxs[j]].add(entityId);
             j++;
         }
 
@@ -241,12 +264,13 @@ public final class SpatialGrid {
         oldEntityCells.updateFrom(newCellIdxs, newCount);
     }
 
-    public void remove(String entityId) {
-        if (entityId == null || entityId.isEmpty())
-            return;
+    @Override
+    public void rebuild(ForkJoinPool pool) {
+        // Incremental index: buckets are always up to date
+    }
 
-        // Remove cells associated to entityId (from reverse mapping
-        final Cells cells = this.cellsPerEntity.remove(entityId);
+    @Override
+    public void remove(int entityId, Cells cells) {
         if (cells == null)
             return;
 
@@ -254,15 +278,16 @@ public final class SpatialGrid {
         for (int i = 0; i < cells.count; i++) {
             grid[cells.idxs[i]].remove(entityId);
         }
+        cells.count = 0;
     }
 
     // region queries (query***)
     /**
      * Returns collision candidates for the given entity.
      *
-     * This method uses the entityId to retrieve the current cell membership
-     * of the entity from the spatial grid (reverse mapping), and then iterates
-     * all grid buckets corresponding to those cells to collect nearby entityIds.
+     * This method uses the current cell membership of the entity (owned by the
+     * caller), and then iterates all grid buckets corresponding to those cells
+     * to collect nearby entityIds.
      *
      * Important notes
      * ---------------
@@ -277,24 +302,17 @@ public final class SpatialGrid {
      * entity and the number of entities in those cells.
      *
      * @param entityId the entity whose collision neighborhood is queried
+     * @param cells    membership of the entity
      * @return the list of collision candidate entityIds (possibly empty) or null
      */
-    public ArrayList<String> queryCollisionCandidates(String entityId, ArrayList<String> scratchCandidateIds) {
-        if (entityId == null || entityId.isEmpty())
-            return null;
-
-        final Cells cells = this.cellsPerEntity.get(entityId);
+    @Override
+    public IntArrayList queryCollisionCandidates(int entityId, Cells cells, IntArrayList scratchCandidateIds) {
         if (cells == null || cells.count <= 0)
             return null;
 
         scratchCandidateIds.clear();
         for (int i = 0; i < cells.count; i++) {
-            final int cellIndex = cells.idxs[i];
-            final ConcurrentHashMap<String, Boolean> bucket = this.grid[cellIndex];
-
-            for (String id : bucket.keySet())
-                if (!entityId.equals(id))
-                    scratchCandidateIds.add(id);
+            this.grid[cells.idxs[i]].copyTo(scratchCandidateIds, entityId);
         }
 
         return scratchCandidateIds;
@@ -314,9 +332,10 @@ public final class SpatialGrid {
      * @param scratchCandidates reusable list for results
      * @return list of entity IDs in region (may contain duplicates)
      */
-    public ArrayList<String> queryRegion(
+    @Override
+    public IntArrayList queryRegion(
             double minX, double maxX, double minY, double maxY,
-            int[] scratchIdxs, ArrayList<String> scratchCandidates) {
+            int[] scratchIdxs, IntArrayList scratchCandidates) {
 
         this.requireBuffer(scratchIdxs);
         scratchCandidates.clear();
@@ -326,12 +345,7 @@ public final class SpatialGrid {
 
         // Collect all entities in those cells
         for (int i = 0; i < cellCount; i++) {
-            final int cellIdx = scratchIdxs[i];
-            final ConcurrentHashMap<String, Boolean> bucket = this.grid[cellIdx];
-
-            for (String entityId : bucket.keySet()) {
-                scratchCandidates.add(entityId);
-            }
+            this.grid[scratchIdxs[i]].copyTo(scratchCandidates, -1);
         }
 
         return scratchCandidates;
@@ -390,10 +404,10 @@ public final class SpatialGrid {
                     "Query region requires " + cellCountNeeded + " cells, but buffer only has " + outIdxs.length);
         }
 
-        // Generate cell indices without bounds checks inside the loop
+        // Row-major: indices come out ascending (upsertLarge merges sorted lists)
         int idx = 0;
-        for (int cx = minCx; cx <= maxCx; cx++) {
-            for (int cy = minCy; cy <= maxCy; cy++) {
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
                 outIdxs[idx++] = cellIdx(cx, cy);
             }
         }
@@ -424,8 +438,8 @@ public final class SpatialGrid {
 
         // Iterar sin checkeos de límite en el loop
         int idx = 0;
-        for (int cx = minCx; cx <= maxCx; cx++) {
-            for (int cy = minCy; cy <= maxCy; cy++) {
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
                 outIdxs[idx++] = cellIdx(cx, cy);
             }
         }
@@ -0,0 +1,64 @@
+package engine.utils.spatial.ports;
+
+import java.util.concurrent.ForkJoinPool;
+
+import engine.utils.helpers.IntArrayList;
+import engine.utils.spatial.core.Cells;
+
+/**
+ * Broadphase
+ * ----------
+ *
+ * Collision broad-phase port used by the Model. Entities are identified by
+ * int handles and own an opaque proxy buffer (Cells), obtained from
+ * {@link #newCells()} and passed back on every call. Grids store the cells an
+ * entity occupies in it; sort-and-sweep and the AABB tree store their proxy.
+ *
+ * Two update models are supported behind the same contract:
+ * - Incremental: upsert/remove modify the structure immediately and queries
+ * observe them right away.
+ * - Rebuilt per tick ({@link #isRebuiltPerTick()}): upsert/remove only stage
+ * the new AABB; queries read the structure published by the last
+ * {@link #rebuild}. The owner must call rebuild once per tick, after every
+ * upsert of the tick.
+ *
+ * Queries never allocate: the caller provides the scratch buffers. Whether
+ * results contain duplicates or only AABB-overlapping entities depends on
+ * the implementation; callers must dedupe and run the narrow phase anyway.
+ */
+public interface Broadphase {
+
+    /**
+     * Minimum length of the scratchIdxs buffers passed to upsert/queryRegion.
+     */
+    int getMaxCellsPerBody();
+
+    /**
+     * True if queries only observe the changes published by {@link #rebuild}.
+     */
+    boolean isRebuiltPerTick();
+
+    /**
+     * Proxy buffer for a new entity. The entity keeps it for its whole life.
+     */
+    Cells newCells();
+
+    IntArrayList queryCollisionCandidates(int entityId, Cells cells, IntArrayList scratchCandidateIds);
+
+    IntArrayList queryRegion(
+            double minX, double maxX, double minY, double maxY,
+            int[] scratchIdxs, IntArrayList scratchCandidates);
+
+    /**
+     * Publish the staged changes. No-op for incremental implementations.
+     *
+     * @param pool pool used to parallelize the rebuild (null = caller thread)
+     */
+    void rebuild(ForkJoinPool pool);
+
+    void remove(int entityId, Cells cells);
+
+    void upsert(
+            int entityId, Cells cells,
+            double minX, double maxX, double minY, double maxY, int[] scratchIdxs);
+}
@@ -0,0 +1,51 @@
+package engine.utils.spatial.ports;
+
+import engine.utils.spatial.core.DynamicAabbTreeBroadphase;
+import engine.utils.spatial.core.FlatSpatialGrid;
+import engine.utils.spatial.core.HierarchicalSpatialGrid;
+import engine.utils.spatial.core.SortAndSweepBroadphase;
+import engine.utils.spatial.core.SparseSpatialGrid;
+import engine.utils.spatial.core.SpatialGrid;
+
+/**
+ * Factory for Broadphase implementations.
+ *
+ * cellSize and maxCellsPerBody only apply to grids (the hierarchical grid
+ * uses cellSize as its level 0 size); world size is informative for the
+ * sparse grid and unused by sort-and-sweep and the AABB tree.
+ */
+public class BroadphaseFactory {
+
+    public static Broadphase create(
+            BroadphaseType type,
+            double worldWidth,
+            double worldHeight,
+            int cellSize,
+            int maxCellsPerBody) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("Broadphase type is null");
+        }
+
+        switch (type) {
+            case SPARSE_GRID:
+                return new SparseSpatialGrid(worldWidth, worldHeight, cellSize, maxCellsPerBody);
+
+            case HIERARCHICAL_GRID:
+                return new HierarchicalSpatialGrid(worldWidth, worldHeight, cellSize);
+
+            case FLAT_GRID:
+                return new FlatSpatialGrid(worldWidth, worldHeight, cellSize, maxCellsPerBody);
+
+            case SORT_AND_SWEEP:
+                return new SortAndSweepBroadphase();
+
+            case AABB_TREE:
+                return new DynamicAabbTreeBroadphase();
+
+            case BUCKET_GRID:
+            default:
+                return new SpatialGrid(worldWidth, worldHeight, cellSize, maxCellsPerBody);
+        }
+    }
+}
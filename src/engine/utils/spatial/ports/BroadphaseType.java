@@ -0,0 +1,31 @@
+package engine.utils.spatial.ports;
+
+/**
+ * Broadphase implementation used by a Model.
+ *
+ * Grids (SpatialIndex):
+ * - BUCKET_GRID: SpatialGrid, one synchronized int bucket per cell, updated
+ * incrementally on every upsert.
+ * - SPARSE_GRID: SparseSpatialGrid, spatial hash that only materializes
+ * occupied cells (memory scales with bodies, not world area). The Model also
+ * uses it instead of BUCKET_GRID when the world is too large to preallocate.
+ * - HIERARCHICAL_GRID: HierarchicalSpatialGrid, loose multi-level grid where
+ * each body lives in one bucket at the level matching its size (mixed body
+ * sizes: big planets among small asteroids).
+ * - FLAT_GRID: FlatSpatialGrid, all handles in one flat array sorted by cell
+ * (counting sort), rebuilt once per tick.
+ *
+ * Non-grid:
+ * - SORT_AND_SWEEP: SortAndSweepBroadphase, bodies sorted by minX once per
+ * tick (insertion sort over last tick's order).
+ * - AABB_TREE: DynamicAabbTreeBroadphase, balanced tree of fattened AABBs;
+ * only bodies that leave their fat AABB are reinserted.
+ */
+public enum BroadphaseType {
+    BUCKET_GRID,
+    SPARSE_GRID,
+    HIERARCHICAL_GRID,
+    FLAT_GRID,
+    SORT_AND_SWEEP,
+    AABB_TREE
+}
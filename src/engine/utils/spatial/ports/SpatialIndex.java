@@ -0,0 +1,21 @@
+package engine.utils.spatial.ports;
+
+/**
+ * SpatialIndex
+ * ------------
+ *
+ * Grid-based Broadphase: entities are bucketed into cells of a fixed size,
+ * which allows grid statistics for monitoring and tuning.
+ *
+ * Implementations:
+ * - SpatialGrid: dense buckets, incremental.
+ * - SparseSpatialGrid: hashed buckets for occupied cells only, incremental.
+ * - HierarchicalSpatialGrid: loose multi-level grid, incremental.
+ * - FlatSpatialGrid: counting-sort layout rebuilt once per tick.
+ */
+public interface SpatialIndex extends Broadphase {
+
+    double getCellSize();
+
+    SpatialGridStatisticsDTO getStatistics();
+}
@@ -1,6 +1,7 @@
 package engine.utils.threading;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -14,6 +15,8 @@ import java.util.concurrent.RejectedExecutionHandler;
  * - No knowledge of specific task types (completely decoupled from domain logic).
  * - Reusable by any component needing threaded execution.
  * - Early fail: validates pool size at constructor.
+ * - Pluggable ThreadingStrategy: platform threads (fixed pool) or one virtual
+ *   thread per task on a carrier pool bounded to the core count.
  */
 public final class ThreadPoolManager {
 
@@ -23,7 +26,8 @@ public final class ThreadPoolManager {
     // endregion
 
     // region Fields
-    private final ThreadPoolExecutor executor;
+    private final ExecutorService executor;
+    private final ThreadingStrategy strategy;
     private volatile boolean isShutdown = false;
     // endregion
 
@@ -42,9 +46,30 @@ public final class ThreadPoolManager {
      * @throws IllegalArgumentException if poolSize <= 0 (early fail)
      */
     public ThreadPoolManager(int poolSize) {
+        this(poolSize, ThreadingStrategy.PLATFORM_THREADS);
+    }
+
+    /**
+     * Create pool with specified size and threading strategy.
+     * 
+     * @param poolSize number of core threads (must be > 0; ignored by virtual threads)
+     * @param strategy kind of threads backing submitted tasks (cannot be null)
+     * @throws IllegalArgumentException if poolSize <= 0 (early fail)
+     * @throws NullPointerException if strategy is null (early fail)
+     */
+    public ThreadPoolManager(int poolSize, ThreadingStrategy strategy) {
         if (poolSize <= 0) {
             throw new IllegalArgumentException("poolSize must be > 0, got: " + poolSize);
         }
+        if (strategy == null) {
+            throw new NullPointerException("strategy cannot be null");
+        }
+
+        this.strategy = strategy;
+        if (strategy == ThreadingStrategy.VIRTUAL_THREADS) {
+            this.executor = VirtualThreadExecutors.newExecutor("VirtualThread-");
+            return;
+        }
 
         BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
         RejectedExecutionHandler handler = (r, e) -> {
@@ -71,11 +96,18 @@ public final class ThreadPoolManager {
 
     // *** PUBLICS ***
 
+    public ThreadingStrategy getStrategy() {
+        return this.strategy;
+    }
+
     /**
      * Pre-create all core threads to avoid lazy startup.
+     * No-op for virtual threads (created on demand per task).
      */
     public void prestartAllCoreThreads() {
-        this.executor.prestartAllCoreThreads();
+        if (this.executor instanceof ThreadPoolExecutor pool) {
+            pool.prestartAllCoreThreads();
+        }
     }
 
     /**
@@ -0,0 +1,13 @@
+package engine.utils.threading;
+
+/**
+ * Kind of threads backing the tasks submitted to a ThreadPoolManager.
+ *
+ * PLATFORM_THREADS: fixed pool of OS threads (one per core thread slot).
+ * VIRTUAL_THREADS: one virtual thread per task, multiplexed on a carrier
+ * pool bounded to the number of cores.
+ */
+public enum ThreadingStrategy {
+    PLATFORM_THREADS,
+    VIRTUAL_THREADS
+}
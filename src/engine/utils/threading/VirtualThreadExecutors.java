@@ -0,0 +1,45 @@
+package engine.utils.threading;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory for virtual-thread-per-task executors (Java 21).
+ *
+ * Carrier parallelism is read by the JDK once, when the first virtual thread
+ * of the process is created. It is bounded here to the number of cores
+ * unless the user already set jdk.virtualThreadScheduler.parallelism on the
+ * command line.
+ */
+final class VirtualThreadExecutors {
+
+    // region Constants
+    private static final String PARALLELISM_PROPERTY = "jdk.virtualThreadScheduler.parallelism";
+    private static final String MAX_POOL_SIZE_PROPERTY = "jdk.virtualThreadScheduler.maxPoolSize";
+    // endregion
+
+    // region Constructors
+    private VirtualThreadExecutors() {
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    static ExecutorService newExecutor(String namePrefix) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (System.getProperty(PARALLELISM_PROPERTY) == null) {
+            System.setProperty(PARALLELISM_PROPERTY, Integer.toString(cores));
+        }
+        if (System.getProperty(MAX_POOL_SIZE_PROPERTY) == null) {
+            System.setProperty(MAX_POOL_SIZE_PROPERTY, Integer.toString(cores));
+        }
+
+        ThreadFactory factory = Thread.ofVirtual()
+                .name(namePrefix, 0)
+                .uncaughtExceptionHandler((thread, throwable) -> throwable.printStackTrace())
+                .factory();
+
+        return Executors.newThreadPerTaskExecutor(factory);
+    }
+}
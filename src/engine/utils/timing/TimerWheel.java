@@ -0,0 +1,352 @@
+package engine.utils.timing;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TimerWheel
+ * ----------
+ *
+ * Hierarchical hashed timer wheel measured in simulation ticks. Replaces
+ * "check System.nanoTime() on every tick" countdowns (body life, projectile
+ * immunity, game countdown) with one-shot timers that cost nothing until
+ * they expire. Deadlines that are only polled, never fired (emitter
+ * cooldowns), don't need a timer: comparing a stored end tick with the
+ * tick count is cheaper than a schedule/cancel pair under the wheel lock.
+ *
+ * Layout
+ * ------
+ * LEVELS wheels of SLOTS slots each. Level L holds the timers due in less
+ * than SLOTS^(L+1) ticks, hashed by the bits of their deadline tick for that
+ * level. Whenever the lower levels wrap, the current slot of the level above
+ * is cascaded: its timers are re-hashed one level down. Timers beyond the
+ * top level stay in it and are re-hashed each time their slot comes round.
+ *
+ * Cost
+ * ----
+ * - schedule() / cancel(): O(1)
+ * - advanceTo(): O(expiring + cascaded) per tick. Each timer is cascaded at
+ * most LEVELS - 1 times, so the amortized cost per timer is O(1) however
+ * many timers are pending.
+ *
+ * Timers live in parallel arrays linked by index (no node objects, no
+ * garbage per timer). A handle packs the slot index and a generation, so a
+ * stale handle never cancels a reused slot.
+ *
+ * Thread-safety
+ * -------------
+ * Any thread may schedule or cancel. advanceTo() is called by a single
+ * driver (the SimulationClock thread) and runs the expired tasks tick by
+ * tick while holding the wheel lock: a task may schedule or cancel timers,
+ * and cancel() returning false guarantees the task already ran or was never
+ * scheduled. Tasks must therefore be short and never block; heavy work must
+ * be handed to another thread.
+ */
+public final class TimerWheel {
+
+    // region Constants
+    public static final long NO_TIMER = -1L;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS; // 64
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // 64^4 ticks = ~38 h at 120 Hz
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int NIL = -1;
+    private static final int UNSCHEDULED = -1;
+    // endregion
+
+    // region Fields
+    private final int tickRateHz;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int[] bucketHeads = new int[LEVELS * SLOTS];
+    private volatile long currentTick = 0L;
+    private int scheduledCount = 0;
+
+    // Timer storage (guarded by lock)
+    private long[] deadlines = new long[INITIAL_CAPACITY];
+    private Runnable[] tasks = new Runnable[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private int[] prev = new int[INITIAL_CAPACITY];
+    private int[] buckets = new int[INITIAL_CAPACITY]; // bucket index or UNSCHEDULED
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int freeHead = NIL;
+    private int highWater = 0;
+    // endregion
+
+    // region Constructors
+    /**
+     * @param tickRateHz ticks per second of the driving clock (must be > 0)
+     */
+    public TimerWheel(int tickRateHz) {
+        if (tickRateHz <= 0) {
+            throw new IllegalArgumentException("tickRateHz must be > 0, got: " + tickRateHz);
+        }
+
+        this.tickRateHz = tickRateHz;
+        Arrays.fill(this.bucketHeads, NIL);
+    }
+    // endregion
+
+    // *** PUBLICS ***
+
+    /**
+     * Fire every timer due up to targetTick, one tick at a time. Single
+     * driver only.
+     *
+     * @return number of tasks run
+     */
+    public int advanceTo(long targetTick) {
+        if (targetTick <= this.currentTick) {
+            return 0; // ===== Nothing to advance =====>
+        }
+
+        int fired = 0;
+        this.lock.lock();
+        try {
+            while (this.currentTick < targetTick) {
+                final long tick = this.currentTick + 1;
+                this.currentTick = tick;
+
+                if (this.scheduledCount == 0) {
+                    continue; // Empty wheel: just move the hand
+                }
+
+                // Cascade upper levels whose lower bits wrapped on this tick
+                for (int level = 1; level < LEVELS; level++) {
+                    final int shift = level * SLOT_BITS;
+                    if ((tick & ((1L << shift) - 1)) != 0) {
+                        break;
+                    }
+                    this.cascade(level * SLOTS + (int) ((tick >>> shift) & SLOT_MASK));
+                }
+
+                fired += this.fireSlot(tick);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        return fired;
+    }
+
+    /**
+     * Cancel a pending timer.
+     *
+     * @return true if the timer was pending; false if it already ran, was
+     *         cancelled before or the handle is NO_TIMER
+     */
+    public boolean cancel(long handle) {
+        if (handle == NO_TIMER) {
+            return false;
+        }
+
+        this.lock.lock();
+        try {
+            final int index = this.indexOf(handle);
+            if (index == NIL) {
+                return false;
+            }
+
+            this.unlink(index);
+            this.release(index);
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // region getters (get***)
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * Ticks left before the timer fires, or -1 if it is not pending.
+     */
+    public long getRemainingTicks(long handle) {
+        if (handle == NO_TIMER) {
+            return -1L;
+        }
+
+        this.lock.lock();
+        try {
+            final int index = this.indexOf(handle);
+            return (index == NIL) ? -1L : Math.max(0L, this.deadlines[index] - this.currentTick);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getScheduledCount() {
+        this.lock.lock();
+        try {
+            return this.scheduledCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getTickRateHz() {
+        return this.tickRateHz;
+    }
+    // endregion
+
+    /**
+     * Run task once, delayTicks ticks after the current tick (at least one).
+     *
+     * @return handle for cancel() / getRemainingTicks()
+     */
+    public long schedule(long delayTicks, Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("task is null");
+        }
+
+        this.lock.lock();
+        try {
+            final int index = this.allocate();
+            this.deadlines[index] = this.currentTick + Math.max(1L, delayTicks);
+            this.tasks[index] = task;
+            this.place(index, this.currentTick);
+            this.scheduledCount++;
+            return ((long) this.generations[index] << 32) | index;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Run task once, after the given time in seconds (rounded up to whole
+     * ticks).
+     */
+    public long scheduleSeconds(double seconds, Runnable task) {
+        return this.schedule(this.ticksFor(seconds), task);
+    }
+
+    /**
+     * Whole ticks covering the given time (at least one).
+     */
+    public long ticksFor(double seconds) {
+        return Math.max(1L, (long) Math.ceil(seconds * this.tickRateHz));
+    }
+
+    // *** PRIVATE ***
+
+    private int allocate() {
+        if (this.freeHead != NIL) {
+            final int index = this.freeHead;
+            this.freeHead = this.next[index];
+            return index;
+        }
+
+        if (this.highWater == this.deadlines.length) {
+            final int grown = this.deadlines.length * 2;
+            this.deadlines = Arrays.copyOf(this.deadlines, grown);
+            this.tasks = Arrays.copyOf(this.tasks, grown);
+            this.next = Arrays.copyOf(this.next, grown);
+            this.prev = Arrays.copyOf(this.prev, grown);
+            this.buckets = Arrays.copyOf(this.buckets, grown);
+            this.generations = Arrays.copyOf(this.generations, grown);
+        }
+
+        return this.highWater++;
+    }
+
+    /**
+     * Re-hash every timer of the bucket relative to the current tick.
+     */
+    private void cascade(int bucket) {
+        int index = this.bucketHeads[bucket];
+        this.bucketHeads[bucket] = NIL;
+
+        while (index != NIL) {
+            final int following = this.next[index];
+            this.place(index, this.currentTick);
+            index = following;
+        }
+    }
+
+    private int fireSlot(long tick) {
+        final int bucket = (int) (tick & SLOT_MASK);
+
+        // Pop one timer at a time: a task may cancel other timers of this
+        // slot, and nothing can be hashed back into it during this tick
+        int fired = 0;
+        int index;
+        while ((index = this.bucketHeads[bucket]) != NIL) {
+            this.unlink(index);
+
+            if (this.deadlines[index] > tick) {
+                // Not due yet (only possible after a long idle wrap): re-hash
+                this.place(index, tick);
+            } else {
+                final Runnable task = this.tasks[index];
+                this.release(index);
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    ex.printStackTrace(); // A failing task must not stop the wheel
+                }
+                fired++;
+            }
+        }
+
+        return fired;
+    }
+
+    private int indexOf(long handle) {
+        final int index = (int) handle;
+        if (index < 0 || index >= this.highWater
+                || this.generations[index] != (int) (handle >>> 32)
+                || this.buckets[index] == UNSCHEDULED) {
+            return NIL;
+        }
+        return index;
+    }
+
+    /**
+     * Hash the timer into the lowest level that covers its remaining delay.
+     */
+    private void place(int index, long nowTick) {
+        final long delay = this.deadlines[index] - nowTick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << ((level + 1) * SLOT_BITS))) {
+            level++;
+        }
+
+        final long deadline = Math.max(this.deadlines[index], nowTick);
+        final int bucket = level * SLOTS + (int) ((deadline >>> (level * SLOT_BITS)) & SLOT_MASK);
+
+        this.buckets[index] = bucket;
+        this.prev[index] = NIL;
+        this.next[index] = this.bucketHeads[bucket];
+        if (this.bucketHeads[bucket] != NIL) {
+            this.prev[this.bucketHeads[bucket]] = index;
+        }
+        this.bucketHeads[bucket] = index;
+    }
+
+    private void release(int index) {
+        this.tasks[index] = null;
+        this.buckets[index] = UNSCHEDULED;
+        this.generations[index]++;
+        this.next[index] = this.freeHead;
+        this.freeHead = index;
+        this.scheduledCount--;
+    }
+
+    private void unlink(int index) {
+        final int bucket = this.buckets[index];
+        final int before = this.prev[index];
+        final int after = this.next[index];
+
+        if (before != NIL) {
+            this.next[before] = after;
+        } else {
+            this.bucketHeads[bucket] = after;
+        }
+        if (after != NIL) {
+            this.prev[after] = before;
+        }
+    }
+}
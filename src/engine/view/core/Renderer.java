@@ -107,7 +107,10 @@ import java.awt.Font;
  * 1) Background is rendered to a VolatileImage for fast blitting.
  * 2) Decorators are drawn.
  * 3) Static bodies are drawn.
- * 4) Dynamic bodies are updated and drawn.
+ * 4) Dynamic bodies are updated and drawn. Their snapshot is interpolated
+ * between the last two simulation states (alpha from the simulation
+ * clock), so motion stays smooth when the render rate is above the tick
+ * rate, and the camera follows the interpolated player.
  * 5) HUD elements (FPS) are rendered last.
  *
  * Alpha compositing is used to separate opaque background rendering from
@@ -651,6 +654,8 @@ public class Renderer extends Canvas implements Runnable {
             return; // ======== No player or data to follow =======>>
         }
 
+        // Interpolated position (same render time as every other body), not
+        // the last simulated one: following the tick steps makes it jitter
         RenderDTO playerData = localPlayerRenderable.getRenderData();
 
         // Center camera on player position
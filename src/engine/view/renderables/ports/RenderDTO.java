@@ -10,6 +10,7 @@ public class RenderDTO implements PoolableMDTO {
     public double angle;
     public double size;
     public long timestamp;
+    private volatile boolean pooled = false; // PoolMDTO bookkeeping
 
     public RenderDTO(
             String entityId, double posX, double posY, double angle, double size, long timestamp) {
@@ -22,6 +23,10 @@ public class RenderDTO implements PoolableMDTO {
         this.timestamp = timestamp;
     }
 
+    public boolean isPooled() {
+        return this.pooled;
+    }
+
     public void updateBase(
             String entityId, double posX, double posY, double angle, double size, long timestamp) {
         this.entityId = entityId;
@@ -40,4 +45,8 @@ public class RenderDTO implements PoolableMDTO {
         this.size = 0.0;
         this.timestamp = 0L;
     }
+
+    public void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
 }
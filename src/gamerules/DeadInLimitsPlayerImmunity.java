@@ -4,6 +4,7 @@ import java.util.List;
 
 import engine.actions.ActionType;
 import engine.actions.ActionDTO;
+import engine.actions.ActionPool;
 import engine.controller.ports.ActionsGenerator;
 import engine.events.domain.ports.BodyRefDTO;
 import engine.events.domain.ports.DomainEventType;
@@ -37,28 +38,28 @@ public class DeadInLimitsPlayerImmunity implements ActionsGenerator {
                 if (limitEvent.primaryBodyRef.type() == BodyType.PLAYER)
                     action = ActionType.NO_MOVE;
 
-                actions.add(new ActionDTO(
-                        limitEvent.primaryBodyRef.id(), limitEvent.primaryBodyRef.type(),
+                actions.add(ActionPool.acquire(
+                        limitEvent.primaryBodyRef.handle(), limitEvent.primaryBodyRef.type(),
                         action, event));
                 break;
             }
 
             case LifeOver lifeOver ->
-                actions.add(new ActionDTO(
-                        lifeOver.primaryBodyRef.id(), lifeOver.primaryBodyRef.type(),
+                actions.add(ActionPool.acquire(
+                        lifeOver.primaryBodyRef.handle(), lifeOver.primaryBodyRef.type(),
                         ActionType.DIE, event));
 
             case EmitEvent emitEvent -> {
                 if (emitEvent.type == DomainEventType.EMIT_REQUESTED) {
-                    actions.add(new ActionDTO(
-                            emitEvent.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            emitEvent.primaryBodyRef.handle(),
                             emitEvent.primaryBodyRef.type(),
                             ActionType.SPAWN_BODY,
                             event));
 
                 } else {
-                    actions.add(new ActionDTO(
-                            emitEvent.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            emitEvent.primaryBodyRef.handle(),
                             emitEvent.primaryBodyRef.type(),
                             ActionType.SPAWN_PROJECTILE,
                             event));
@@ -89,15 +90,15 @@ public class DeadInLimitsPlayerImmunity implements ActionsGenerator {
                 : secondaryType == BodyType.PLAYER ? event.secondaryBodyRef : null;
 
         if (player != null)
-            actions.add(new ActionDTO(player.id(), player.type(), ActionType.NO_MOVE, event));
+            actions.add(ActionPool.acquire(player.handle(), player.type(), ActionType.NO_MOVE, event));
             
 
         if (primaryDie)
-            actions.add(new ActionDTO(
-                    event.primaryBodyRef.id(), event.primaryBodyRef.type(), ActionType.DIE, event));
+            actions.add(ActionPool.acquire(
+                    event.primaryBodyRef.handle(), event.primaryBodyRef.type(), ActionType.DIE, event));
 
         if (secondaryDie)
-            actions.add(new ActionDTO(
-                    event.secondaryBodyRef.id(), event.secondaryBodyRef.type(), ActionType.DIE, event));
+            actions.add(ActionPool.acquire(
+                    event.secondaryBodyRef.handle(), event.secondaryBodyRef.type(), ActionType.DIE, event));
     }
 }
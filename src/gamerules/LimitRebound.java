@@ -4,6 +4,7 @@ import java.util.List;
 
 import engine.actions.ActionType;
 import engine.actions.ActionDTO;
+import engine.actions.ActionPool;
 import engine.controller.ports.ActionsGenerator;
 import engine.events.domain.ports.DomainEventType;
 import engine.events.domain.ports.eventtype.CollisionEvent;
@@ -51,29 +52,29 @@ public class LimitRebound implements ActionsGenerator {
                         break;
                 }
 
-                actions.add(new ActionDTO(
-                        limitEvent.primaryBodyRef.id(), limitEvent.primaryBodyRef.type(),
+                actions.add(ActionPool.acquire(
+                        limitEvent.primaryBodyRef.handle(), limitEvent.primaryBodyRef.type(),
                         action, event));
 
             }
 
             case LifeOver e ->
-                actions.add(new ActionDTO(
-                        e.primaryBodyRef.id(), e.primaryBodyRef.type(),
+                actions.add(ActionPool.acquire(
+                        e.primaryBodyRef.handle(), e.primaryBodyRef.type(),
                         ActionType.DIE, event));
 
             case EmitEvent e -> {
 
                 if (e.type == DomainEventType.EMIT_REQUESTED) {
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.SPAWN_BODY,
                             event));
 
                 } else {
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.SPAWN_PROJECTILE,
                             event));
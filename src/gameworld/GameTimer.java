@@ -1,53 +1,55 @@
 package gameworld;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
+import engine.utils.timing.TimerWheel;
+
+/**
+ * Round countdown. Runs as a one-shot timer on the model's TimerWheel, so it
+ * follows simulation time (stops while the engine is paused) and adding time
+ * is a cancel + schedule instead of rescheduling an executor future.
+ *
+ * onFinish runs on the GameTimer thread, never on the simulation clock.
+ */
 public final class GameTimer {
     private static final GameTimer INSTANCE = new GameTimer();
 
     public static GameTimer get() { return INSTANCE; }
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    private final Executor finisher = Executors.newSingleThreadExecutor(r -> {
         Thread t = new Thread(r, "GameTimer");
         t.setDaemon(true);
         return t;
     });
 
-    private ScheduledFuture<?> future = null;
-    private long endTimeMs = 0L;
+    private TimerWheel wheel = null;
+    private long timer = TimerWheel.NO_TIMER;
     private volatile boolean running = false;
     private Runnable onFinish = null;
 
     private GameTimer() {}
 
-    public synchronized void start(long durationMs, Runnable onFinish) {
+    /**
+     * @param wheel timer wheel of the running model (Model.getTimerWheel())
+     */
+    public synchronized void start(TimerWheel wheel, long durationMs, Runnable onFinish) {
         stop();
+        if (wheel == null) throw new IllegalArgumentException("wheel is null");
         if (durationMs <= 0) return;
-        this.endTimeMs = System.currentTimeMillis() + durationMs;
+        this.wheel = wheel;
         this.running = true;
         this.onFinish = onFinish;
-        this.future = scheduler.schedule(() -> {
-            this.running = false;
-            try {
-                if (this.onFinish != null) this.onFinish.run();
-            } catch (Throwable t) {
-                t.printStackTrace();
-            } finally {
-                this.onFinish = null;
-            }
-        }, durationMs, TimeUnit.MILLISECONDS);
+        this.schedule(durationMs);
     }
 
     public synchronized void stop() {
-        if (this.future != null) {
-            this.future.cancel(false);
-            this.future = null;
+        if (this.wheel != null) {
+            this.wheel.cancel(this.timer);
         }
+        this.timer = TimerWheel.NO_TIMER;
+        this.wheel = null;
         this.running = false;
-        this.endTimeMs = 0L;
         this.onFinish = null;
     }
 
@@ -57,36 +59,19 @@ public final class GameTimer {
     public synchronized void addTime(long millis) {
         if (!this.running) return;
         if (millis <= 0) return;
-        long now = System.currentTimeMillis();
-        long remaining = Math.max(0L, this.endTimeMs - now);
-        long newDuration = remaining + millis;
-        // update end time
-        this.endTimeMs = now + newDuration;
-        // reschedule future
-        if (this.future != null) {
-            this.future.cancel(false);
-        }
-        Runnable finish = this.onFinish; // may be null
-        this.future = scheduler.schedule(() -> {
-            this.running = false;
-            try {
-                if (finish != null) finish.run();
-            } catch (Throwable t) {
-                t.printStackTrace();
-            } finally {
-                this.onFinish = null;
-            }
-        }, newDuration, TimeUnit.MILLISECONDS);
+        long remaining = this.getRemainingMillis();
+        if (!this.wheel.cancel(this.timer)) return; // already finished
+        this.schedule(remaining + millis);
     }
 
     public boolean isRunning() {
         return this.running;
     }
 
-    public long getRemainingMillis() {
+    public synchronized long getRemainingMillis() {
         if (!this.running) return 0L;
-        long rem = this.endTimeMs - System.currentTimeMillis();
-        return Math.max(0L, rem);
+        long ticks = this.wheel.getRemainingTicks(this.timer);
+        return Math.max(0L, ticks * 1000L / this.wheel.getTickRateHz());
     }
 
     public int getRemainingSeconds() {
@@ -99,4 +84,31 @@ public final class GameTimer {
         int seconds = secs % 60;
         return String.format("%02d:%02d", minutes, seconds);
     }
+
+    // Runs on the GameTimer thread (the wheel task only hands it over, so the
+    // clock never waits for this monitor)
+    private void finish(long expiredTimer) {
+        Runnable finish;
+        synchronized (this) {
+            if (this.timer != expiredTimer) return; // cancelled or restarted meanwhile
+            this.running = false;
+            this.timer = TimerWheel.NO_TIMER;
+            finish = this.onFinish;
+            this.onFinish = null;
+        }
+
+        if (finish == null) return;
+        try {
+            finish.run();
+        } catch (Throwable t) {
+            t.printStackTrace();
+        }
+    }
+
+    private void schedule(long durationMs) {
+        long[] handle = new long[1];
+        handle[0] = this.wheel.schedule(this.wheel.ticksFor(durationMs / 1000.0d),
+                () -> this.finisher.execute(() -> this.finish(handle[0])));
+        this.timer = handle[0];
+    }
 }
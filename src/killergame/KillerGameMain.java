@@ -187,7 +187,7 @@ public class KillerGameMain {
 
         AtomicBoolean gameplayStarted = new AtomicBoolean(false);
 
-        Runnable startRoundTimer = () -> gameworld.GameTimer.get().start(120_000L, () -> {
+        Runnable startRoundTimer = () -> gameworld.GameTimer.get().start(model.getTimerWheel(), 120_000L, () -> {
             System.err.println("[TIMER] Time up! Game over.");
 
             // Determine final score from local player (if available) and set GameState
@@ -268,7 +268,7 @@ public class KillerGameMain {
                         new KillerEnemySpawner(newController, newWorldDef, maxEnemySpawnDelayRef, newMazeNavigator).activate();
 
                         // Restart timer
-                        gameworld.GameTimer.get().start(120_000L, () -> {
+                        gameworld.GameTimer.get().start(newModel.getTimerWheel(), 120_000L, () -> {
                             try {
                                 String localPlayerId = viewRef.getLocalPlayerId();
                                 int finalScore = 0;
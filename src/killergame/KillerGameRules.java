@@ -3,6 +3,7 @@ package killergame;
 import java.util.List;
 
 import engine.actions.ActionDTO;
+import engine.actions.ActionPool;
 import engine.actions.ActionType;
 import engine.controller.ports.ActionsGenerator;
 import engine.events.domain.ports.DomainEventType;
@@ -13,6 +14,7 @@ import engine.events.domain.ports.eventtype.LifeOver;
 import engine.events.domain.ports.eventtype.LimitEvent;
 import engine.model.bodies.ports.BodyType;
 import engine.model.impl.Model;
+import engine.model.ports.CollisionLayers;
 import gameworld.GameTimer;
 
 /**
@@ -35,6 +37,19 @@ public class KillerGameRules implements ActionsGenerator {
 
     // *** INTERFACE IMPLEMENTATIONS ***
 
+    /**
+     * Only projectile hits and wall contacts have rules: enemies, the player
+     * and projectiles pass through each other otherwise.
+     */
+    @Override
+    public void configureCollisionLayers(CollisionLayers collisionLayers) {
+        collisionLayers.setCollides(BodyType.DYNAMIC, BodyType.DYNAMIC, false);
+        collisionLayers.setCollides(BodyType.PLAYER, BodyType.DYNAMIC, false);
+        collisionLayers.setCollides(BodyType.PLAYER, BodyType.PLAYER, false);
+        collisionLayers.setCollides(BodyType.PROJECTILE, BodyType.PLAYER, false);
+        collisionLayers.setCollides(BodyType.PROJECTILE, BodyType.PROJECTILE, false);
+    }
+
     @Override
     public void provideActions(List<DomainEvent> domainEvents, List<ActionDTO> actions) {
         if (domainEvents != null) {
@@ -70,8 +85,8 @@ public class KillerGameRules implements ActionsGenerator {
                         break;
                 }
 
-                actions.add(new ActionDTO(
-                        limitEvent.primaryBodyRef.id(),
+                actions.add(ActionPool.acquire(
+                        limitEvent.primaryBodyRef.handle(),
                         limitEvent.primaryBodyRef.type(),
                         action,
                         event));
@@ -80,8 +95,8 @@ public class KillerGameRules implements ActionsGenerator {
             // Life over - entity dies when health reaches 0 (players are immortal)
             case LifeOver e -> {
                 if (e.primaryBodyRef.type() != BodyType.PLAYER) {
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.DIE,
                             event));
@@ -95,13 +110,13 @@ public class KillerGameRules implements ActionsGenerator {
 
                 // Projectile hits enemy - enemy dies, projectile dies, +10 score
                 if (primaryType == BodyType.PROJECTILE && secondaryType == BodyType.DYNAMIC) {
-                    actions.add(new ActionDTO(
-                            e.secondaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.secondaryBodyRef.handle(),
                             e.secondaryBodyRef.type(),
                             ActionType.DIE,
                             event));
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.DIE,
                             event));
@@ -114,13 +129,13 @@ public class KillerGameRules implements ActionsGenerator {
                 }
                 // Enemy hits projectile - enemy dies, projectile dies, +10 score
                 else if (primaryType == BodyType.DYNAMIC && secondaryType == BodyType.PROJECTILE) {
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.DIE,
                             event));
-                    actions.add(new ActionDTO(
-                            e.secondaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.secondaryBodyRef.handle(),
                             e.secondaryBodyRef.type(),
                             ActionType.DIE,
                             event));
@@ -133,53 +148,46 @@ public class KillerGameRules implements ActionsGenerator {
                 }
                 // Projectile hits wall (GRAVITY) - projectile dies
                 else if (primaryType == BodyType.PROJECTILE && secondaryType == BodyType.GRAVITY) {
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.DIE,
                             event));
                 }
                 // Wall hits projectile - projectile dies
                 else if (primaryType == BodyType.GRAVITY && secondaryType == BodyType.PROJECTILE) {
-                    actions.add(new ActionDTO(
-                            e.secondaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.secondaryBodyRef.handle(),
                             e.secondaryBodyRef.type(),
                             ActionType.DIE,
                             event));
                 }
                 // Player hits wall - use rebound system that works correctly
                 else if (primaryType == BodyType.PLAYER && secondaryType == BodyType.GRAVITY) {
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.NO_MOVE,
                             event));
                 }
                 // Wall hits player - use rebound system
                 else if (primaryType == BodyType.GRAVITY && secondaryType == BodyType.PLAYER) {
-                    actions.add(new ActionDTO(
-                            e.secondaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.secondaryBodyRef.handle(),
                             e.secondaryBodyRef.type(),
                             ActionType.NO_MOVE,
                             event));
                 }
-                // Player hits enemy - both bounce (no death)
-                else if ((primaryType == BodyType.PLAYER && secondaryType == BodyType.DYNAMIC) ||
-                         (primaryType == BodyType.DYNAMIC && secondaryType == BodyType.PLAYER)) {
-                    // Let physics handle the bounce
-                }
-                // Enemy hits enemy - both bounce
-                else if (primaryType == BodyType.DYNAMIC && secondaryType == BodyType.DYNAMIC) {
-                    // Let physics handle the bounce
-                }
+                // Player/enemy and enemy/enemy pairs never get here: switched
+                // off in configureCollisionLayers()
                 // Enemy hits wall - enemy bounces
                 else if ((primaryType == BodyType.DYNAMIC && secondaryType == BodyType.GRAVITY) ||
                          (primaryType == BodyType.GRAVITY && secondaryType == BodyType.DYNAMIC)) {
-                    String enemyId = (primaryType == BodyType.DYNAMIC)
-                        ? e.primaryBodyRef.id()
-                        : e.secondaryBodyRef.id();
-                    actions.add(new ActionDTO(
-                        enemyId,
+                    int enemyHandle = (primaryType == BodyType.DYNAMIC)
+                        ? e.primaryBodyRef.handle()
+                        : e.secondaryBodyRef.handle();
+                    actions.add(ActionPool.acquire(
+                        enemyHandle,
                         BodyType.DYNAMIC,
                         ActionType.NO_MOVE,
                         event));
@@ -189,14 +197,14 @@ public class KillerGameRules implements ActionsGenerator {
             // Emit events - handle weapon fire and other emissions
             case EmitEvent e -> {
                 if (e.type == DomainEventType.EMIT_REQUESTED) {
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.SPAWN_BODY,
                             event));
                 } else { // EMIT_PROJECTILE
-                    actions.add(new ActionDTO(
-                            e.primaryBodyRef.id(),
+                    actions.add(ActionPool.acquire(
+                            e.primaryBodyRef.handle(),
                             e.primaryBodyRef.type(),
                             ActionType.SPAWN_PROJECTILE,
                             event));
@@ -593,33 +593,12 @@ public class KillerLevelGenerator extends AbstractLevelGenerator {
     // *** UTILITY METHODS ***
     
     /**
-     * Renders a maze grid (int[][]) as physical walls in the game world.
+     * Renders a maze grid (int[][]) as the tile collision layer of the game
+     * world: one solid tile per WALL cell, no body per wall.
      */
     private void renderMazeGrid(int[][] maze, double offsetX, double offsetY, int cellSize, String assetId) {
-    int rows = maze.length;
-    int cols = maze[0].length;
-
-    for (int r = 0; r < rows; r++) {
-        for (int c = 0; c < cols; c++) {
-
-            if (maze[r][c] == WALL) {
-
-                double x = offsetX + c * cellSize + cellSize / 2.0;
-                double y = offsetY + r * cellSize + cellSize / 2.0;
-
-                // UNA sola pared grande
-                this.addStaticIntoTheGame(new DefItemDTO(
-                        assetId,
-                        cellSize,   // tamaño completo
-                        0.0,
-                        x,
-                        y,
-                        100.0
-                ));
-            }
-        }
+        this.addSolidTilesIntoTheGame(assetId, maze, WALL, offsetX, offsetY, cellSize);
     }
-}
     
     /**
      * Shuffles an array using Fisher-Yates algorithm.
@@ -1,19 +1,23 @@
 package killergame;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
-import engine.model.bodies.ports.BodyData;
 import engine.model.bodies.ports.BodyType;
 import engine.model.impl.Model;
-import engine.model.physics.ports.PhysicsValuesDTO;
+import engine.model.impl.WorldSnapshot;
 import killergame.MazeNavigator.Direction;
 import killergame.MazeNavigator.Velocity;
 
 /**
  * AI Controller for maze navigation.
  * Periodically updates enemy velocities based on grid-based pathfinding.
+ * Reads enemies and player from the latest world snapshot
+ * (Model.getWorldSnapshot()); a round stops early if the frame is recycled
+ * while it is being read. The frame is only used to decide: the new
+ * velocity is queued with Model.bodySteerVelocity() and applied to the live
+ * state by the thread that ticks the enemy, which keeps its own position.
+ * This thread never commits physics values.
  */
 public class MazeAIController implements Runnable {
 
@@ -67,21 +71,28 @@ public class MazeAIController implements Runnable {
     }
     
     private void updateEnemyDirections() {
-        // Get only DYNAMIC enemy bodies via thread-safe snapshot
-        // (avoids corrupting the shared scratchDynamicsBuffer used by the Renderer)
-        ArrayList<BodyData> bodiesCopy = model.snapshotDynamicEnemies();
-        MazeNavigator.GridPosition playerGrid = getNearestPlayerGridPosition();
+        // Latest published frame: no live body map is walked
+        WorldSnapshot snapshot = model.getWorldSnapshot();
+        long tick = snapshot.getTick();
+        int count = snapshot.getCount();
+        MazeNavigator.GridPosition playerGrid = getNearestPlayerGridPosition(snapshot, tick);
 
-        if (bodiesCopy == null || bodiesCopy.isEmpty()) {
+        if (count == 0) {
             return; // No enemies to update
         }
 
         // Silent: detailed enemy update log removed
 
-        // Update each enemy
+        // Update each DYNAMIC enemy
         int updatedCount = 0;
-        for (BodyData bodyData : bodiesCopy) {
-            if (updateSingleEnemy(bodyData, playerGrid)) {
+        for (int i = 0; i < count; i++) {
+            if (!snapshot.isIntact(tick)) {
+                break; // Frame recycled: next round reads a newer one
+            }
+            if (snapshot.getType(i) != BodyType.DYNAMIC) {
+                continue;
+            }
+            if (updateSingleEnemy(snapshot, i, tick, playerGrid)) {
                 updatedCount++;
             }
         }
@@ -92,18 +103,18 @@ public class MazeAIController implements Runnable {
         }
     }
     
-    private boolean updateSingleEnemy(BodyData bodyData, MazeNavigator.GridPosition playerGrid) {
-        PhysicsValuesDTO phyValues = bodyData.getPhysicsValues();
-        if (phyValues == null) {
-            System.err.println("[MAZE-AI] Enemy has null physics values");
-            return false;
+    private boolean updateSingleEnemy(WorldSnapshot snapshot, int index, long tick,
+            MazeNavigator.GridPosition playerGrid) {
+
+        String entityId = snapshot.getEntityId(index);
+        double posX = snapshot.getPosX(index);
+        double posY = snapshot.getPosY(index);
+        double speedX = snapshot.getSpeedX(index);
+        double speedY = snapshot.getSpeedY(index);
+        if (!snapshot.isIntact(tick)) {
+            return false; // Frame recycled while reading
         }
         
-        double posX = phyValues.posX;
-        double posY = phyValues.posY;
-        double speedX = phyValues.speedX;
-        double speedY = phyValues.speedY;
-        
         // Get current direction based on velocity
         Direction currentDir = navigator.getCurrentDirection(speedX, speedY);
         MazeNavigator.GridPosition enemyGrid = navigator.worldToGrid(posX, posY);
@@ -119,7 +130,7 @@ public class MazeAIController implements Runnable {
                     : navigator.chooseNextDirection(posX, posY, currentDir);
 
             // Enforce a small cooldown per enemy to avoid rapid oscillation at corners
-            Object eid = bodyData.entityId;
+            Object eid = entityId;
             long now = System.currentTimeMillis();
             Long last = lastTurnTime.get(eid);
             if (candidate != null && candidate != currentDir) {
@@ -149,12 +160,6 @@ public class MazeAIController implements Runnable {
         Velocity newVelocity;
         MazeNavigator.WorldPosition center = navigator.getCellCenterForWorld(posX, posY);
 
-        // If we decided to change direction exactly at the center, snap to center to avoid accumulating offsets
-        if (navigator.isAtCellCenter(posX, posY) && nextDir != currentDir) {
-            posX = center.x;
-            posY = center.y;
-        }
-
         if (!blocked) {
             // Base velocity for chosen direction
             Velocity base = navigator.getVelocityForDirection(nextDir, enemySpeed);
@@ -196,53 +201,26 @@ public class MazeAIController implements Runnable {
             }
         }
         
-        // Always update velocity to maintain movement (even if not changing position)
-        PhysicsValuesDTO newPhyValues = new PhysicsValuesDTO(
-            phyValues.timeStamp,
-            posX,
-            posY,
-            phyValues.angle,
-            phyValues.size,
-            newVelocity.vx,  // New velocity X
-            newVelocity.vy,  // New velocity Y
-            0.0,  // No acceleration
-            0.0,  // No acceleration
-            phyValues.angularSpeed,
-            phyValues.angularAcc,
-            phyValues.thrust
-        );
-        
-        // Apply new physics values to the body
-        var body = model.getBody(bodyData.entityId, bodyData.type);
-        if (body != null) {
-            body.doMovement(newPhyValues);
-            return true;
-        } else {
-            System.err.println("[MAZE-AI] Could not find body for enemy " + bodyData.entityId);
-        }
-        return false;
+        // Always update velocity to maintain movement. Queued: the thread that
+        // ticks the enemy applies it (false if it died since the frame)
+        return model.bodySteerVelocity(entityId, newVelocity.vx, newVelocity.vy);
     }
 
-    private MazeNavigator.GridPosition getNearestPlayerGridPosition() {
-        ArrayList<BodyData> allDynamics = model.snapshotRenderData();
-        if (allDynamics == null || allDynamics.isEmpty()) {
-            return null;
-        }
+    private MazeNavigator.GridPosition getNearestPlayerGridPosition(WorldSnapshot snapshot, long tick) {
+        int count = snapshot.getCount();
 
-        for (BodyData bodyData : allDynamics) {
-            if (bodyData == null) {
-                continue;
-            }
-            if (bodyData.type != BodyType.PLAYER) {
+        for (int i = 0; i < count; i++) {
+            if (snapshot.getType(i) != BodyType.PLAYER) {
                 continue;
             }
 
-            PhysicsValuesDTO playerPhy = bodyData.getPhysicsValues();
-            if (playerPhy == null) {
-                continue;
+            double playerX = snapshot.getPosX(i);
+            double playerY = snapshot.getPosY(i);
+            if (!snapshot.isIntact(tick)) {
+                return null;
             }
 
-            return navigator.worldToGrid(playerPhy.posX, playerPhy.posY);
+            return navigator.worldToGrid(playerX, playerY);
         }
 
         return null;